@@ -0,0 +1,75 @@
+package io.reading_tracker.aop;
+
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.service.BookServiceImpl;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 분산락 키 SpEL 평가 비용, addBookToUserLibrary의 키 식을 그대로 쓴다
+ *
+ * <p>legacy는 변경 전 구현(호출마다 파서, 컨텍스트 생성 후 파싱)이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomSpringELParserBenchmark {
+
+  private static final String KEY = "'addBook:' + #user.id.toString() + ':' + #request.isbn";
+  private static final String LEGACY_KEY = "'addBook:' + #user.id + ':' + #request.isbn";
+  private static final String[] PARAMETER_NAMES = {"user", "request"};
+
+  private Object[] args;
+  private Method method;
+
+  @Setup
+  public void setUp() throws Exception {
+    method =
+        BookServiceImpl.class.getMethod(
+            "addBookToUserLibrary", User.class, AddUserBookRequest.class);
+
+    User user = new User("tester", "tester@example.com");
+    ReflectionTestUtils.setField(user, "id", 1L);
+
+    args =
+        new Object[] {
+          user, new AddUserBookRequest("9788966262472", "리팩토링 2판", "마틴 파울러", "한빛미디어", 550)
+        };
+  }
+
+  @Benchmark
+  public Object getDynamicValue() {
+    return CustomSpringELParser.getDynamicValue(method, PARAMETER_NAMES, args, KEY);
+  }
+
+  /** 변경 전 키 식, 문자열 + 숫자 연결이라 컴파일되지 않는다 */
+  @Benchmark
+  public Object interpretedKey() {
+    return CustomSpringELParser.getDynamicValue(method, PARAMETER_NAMES, args, LEGACY_KEY);
+  }
+
+  @Benchmark
+  public Object legacy() {
+    ExpressionParser parser = new SpelExpressionParser();
+    EvaluationContext context = new StandardEvaluationContext();
+
+    for (int i = 0; i < PARAMETER_NAMES.length; i++) {
+      context.setVariable(PARAMETER_NAMES[i], args[i]);
+    }
+
+    return parser.parseExpression(LEGACY_KEY).getValue(context, Object.class);
+  }
+}
@@ -0,0 +1,172 @@
+package io.reading_tracker.aop;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reading_tracker.annotation.DistributedLock;
+import io.reading_tracker.annotation.LockMode;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+/**
+ * 같은 키에 8개 스레드가 몰릴 때 잠금 방식별 처리량
+ *
+ * <p>Redis는 왕복마다 NETWORK_RTT만큼 지연되는 메모리 락으로 흉내 낸다. 락을 기다리는 동안에도 왕복마다 지연되어 Redisson의 재시도와 비슷한 비용을
+ * 낸다. redisCalls / operations가 작업 1건당 Redis 왕복 수다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class DistributedLockBenchmark {
+
+  private static final long NETWORK_RTT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  /** 락 호출은 호출한 스레드에서 실행되므로 스레드별로 센다 */
+  private static final ThreadLocal<long[]> ROUND_TRIPS = ThreadLocal.withInitial(() -> new long[1]);
+
+  private Target target;
+
+  @Setup
+  public void setUp() {
+    DistributedLockAop aop =
+        new DistributedLockAop(
+            fakeRedisson(), new RedisLockHealth(Duration.ofSeconds(10)), new SimpleMeterRegistry());
+
+    AspectJProxyFactory factory = new AspectJProxyFactory(new Target());
+    factory.addAspect(aop);
+    target = factory.getProxy();
+  }
+
+  @Benchmark
+  public void distributed(Calls calls) {
+    target.distributed();
+    calls.record();
+  }
+
+  @Benchmark
+  public void local(Calls calls) {
+    target.local();
+    calls.record();
+  }
+
+  @Benchmark
+  public void hybrid(Calls calls) {
+    target.hybrid();
+    calls.record();
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Calls {
+
+    public long redisCalls;
+    public long operations;
+
+    private long seen;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      redisCalls = 0;
+      operations = 0;
+    }
+
+    void record() {
+      long now = ROUND_TRIPS.get()[0];
+      redisCalls += now - seen;
+      seen = now;
+      operations++;
+    }
+  }
+
+  public static class Target {
+
+    @DistributedLock(key = "'hot-key'", mode = LockMode.DISTRIBUTED)
+    public void distributed() {
+      work();
+    }
+
+    @DistributedLock(key = "'hot-key'", mode = LockMode.LOCAL)
+    public void local() {
+      work();
+    }
+
+    @DistributedLock(key = "'hot-key'", mode = LockMode.HYBRID)
+    public void hybrid() {
+      work();
+    }
+
+    private static void work() {
+      Blackhole.consumeCPU(1_000);
+    }
+  }
+
+  private RedissonClient fakeRedisson() {
+    Map<String, RLock> locks = new ConcurrentHashMap<>();
+
+    return (RedissonClient)
+        Proxy.newProxyInstance(
+            RedissonClient.class.getClassLoader(),
+            new Class<?>[] {RedissonClient.class},
+            (proxy, method, args) -> {
+              if (!method.getName().equals("getLock")) {
+                throw new UnsupportedOperationException(method.getName());
+              }
+              return locks.computeIfAbsent((String) args[0], key -> fakeLock());
+            });
+  }
+
+  private RLock fakeLock() {
+    ReentrantLock lock = new ReentrantLock();
+
+    return (RLock)
+        Proxy.newProxyInstance(
+            RLock.class.getClassLoader(),
+            new Class<?>[] {RLock.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "tryLock" -> {
+                    long deadline =
+                        System.nanoTime() + ((TimeUnit) args[2]).toNanos((Long) args[0]);
+                    while (true) {
+                      roundTrip();
+                      if (lock.tryLock()) {
+                        yield true;
+                      }
+                      if (System.nanoTime() - deadline >= 0) {
+                        yield false;
+                      }
+                    }
+                  }
+                  case "isHeldByCurrentThread" -> lock.isHeldByCurrentThread();
+                  case "unlock" -> {
+                    roundTrip();
+                    lock.unlock();
+                    yield null;
+                  }
+                  default -> throw new UnsupportedOperationException(method.getName());
+                });
+  }
+
+  private void roundTrip() {
+    ROUND_TRIPS.get()[0]++;
+    LockSupport.parkNanos(NETWORK_RTT_NANOS);
+  }
+}
@@ -0,0 +1,124 @@
+package io.reading_tracker.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reading_tracker.auth.PrincipalDetails;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.repository.UserRepository;
+import jakarta.servlet.http.Cookie;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 요청 1건당 JwtAuthenticationFilter 비용
+ *
+ * <ul>
+ *   <li>legacy: 변경 전 필터 (요청마다 파서를 만들어 두 번 파싱 + 유저 조회)
+ *   <li>databaseLookup: stateless를 끈 현재 필터 (한 번 파싱 + 유저 조회)
+ *   <li>stateless: 클레임으로 인증 정보 생성 (한 번 파싱, 조회 없음)
+ * </ul>
+ *
+ * <p>UserRepository는 메모리 스텁이라 DB 왕복 시간은 포함하지 않는다. 실제 차이는 여기에 MySQL 왕복 1회가 더해진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final String SECRET_KEY =
+      "cmVhZGluZy10cmFja2VyLWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1qd3Qtc2lnbmluZw==";
+
+  private final User user = new User("tester", "tester@example.com");
+
+  private SecretKey key;
+  private UserRepository userRepository;
+  private JwtAuthenticationFilter statelessFilter;
+  private JwtAuthenticationFilter databaseLookupFilter;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    ReflectionTestUtils.setField(user, "id", 1L);
+
+    key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    userRepository = stubUserRepository(user);
+
+    JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3_600_000L);
+    token = jwtTokenProvider.createToken(user.getId(), user.getNickname(), user.getEmail());
+
+    statelessFilter =
+        new JwtAuthenticationFilter(jwtTokenProvider, userRepository, new SimpleMeterRegistry());
+    databaseLookupFilter =
+        new JwtAuthenticationFilter(jwtTokenProvider, userRepository, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(databaseLookupFilter, "stateless", false);
+  }
+
+  @Benchmark
+  public Object legacy() {
+    MockHttpServletRequest request = request();
+
+    String cookieToken = request.getCookies()[0].getValue();
+    Jwts.parser().verifyWith(key).build().parseSignedClaims(cookieToken); // validateToken
+    Claims claims =
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(cookieToken).getPayload();
+    Long userId = Long.parseLong(claims.getSubject()); // getUserId
+    User found = userRepository.findById(userId).orElseThrow();
+
+    return new PrincipalDetails(found, null);
+  }
+
+  @Benchmark
+  public Object databaseLookup() throws Exception {
+    return filter(databaseLookupFilter);
+  }
+
+  @Benchmark
+  public Object stateless() throws Exception {
+    return filter(statelessFilter);
+  }
+
+  private Object filter(JwtAuthenticationFilter filter) throws Exception {
+    filter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+    Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    SecurityContextHolder.clearContext();
+
+    return principal;
+  }
+
+  private MockHttpServletRequest request() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books");
+    request.setCookies(new Cookie("rt_token", token));
+
+    return request;
+  }
+
+  private static UserRepository stubUserRepository(User user) {
+    return (UserRepository)
+        Proxy.newProxyInstance(
+            UserRepository.class.getClassLoader(),
+            new Class<?>[] {UserRepository.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "findById" -> Optional.of(user);
+                  case "getReferenceById" -> user;
+                  default -> throw new UnsupportedOperationException(method.getName());
+                });
+  }
+}
@@ -0,0 +1,45 @@
+package io.reading_tracker.auth.jwt;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 로그인 시 토큰 발급, 요청마다 토큰 검증 비용 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+  private static final String SECRET_KEY =
+      "cmVhZGluZy10cmFja2VyLWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1qd3Qtc2lnbmluZw==";
+
+  private JwtTokenProvider jwtTokenProvider;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3_600_000L);
+    token = jwtTokenProvider.createToken(1L, "tester", "tester@example.com");
+  }
+
+  @Benchmark
+  public String createToken() {
+    return jwtTokenProvider.createToken(1L, "tester", "tester@example.com");
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return jwtTokenProvider.validateToken(token);
+  }
+
+  @Benchmark
+  public Optional<JwtClaims> parse() {
+    return jwtTokenProvider.parse(token);
+  }
+}
@@ -0,0 +1,64 @@
+package io.reading_tracker.cache;
+
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.response.SearchBookResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/** Redis 캐시 값 직렬화 → 역직렬화 왕복 비용, RedisConfig와 같은 직렬화기를 쓴다 */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisSerializerBenchmark {
+
+  @Param({"20", "1000"})
+  private int size;
+
+  private final GenericJackson2JsonRedisSerializer serializer =
+      new GenericJackson2JsonRedisSerializer();
+
+  private GetBookListResponse bookList;
+  private SearchBookResponse searchResult;
+
+  @Setup
+  public void setUp() {
+    List<GetBookListResponse.BookItem> books = new ArrayList<>(size);
+    List<SearchBookResponse.BookItem> items = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      books.add(
+          new GetBookListResponse.BookItem(
+              (long) i, "책 " + i, "저자 " + i, "출판사", i % 300, 300, i % 100, State.IN_PROGRESS));
+      items.add(
+          new SearchBookResponse.BookItem(
+              "isbn-" + i,
+              "책 " + i,
+              "저자 " + i,
+              "출판사",
+              "https://search.shopping.naver.com/book/" + i));
+    }
+
+    bookList = new GetBookListResponse(new GetBookListResponse.Summary(size, 0, 0), books);
+    searchResult = SearchBookResponse.of(size, 1, items);
+  }
+
+  @Benchmark
+  public Object bookListRoundTrip() {
+    return serializer.deserialize(serializer.serialize(bookList));
+  }
+
+  @Benchmark
+  public Object searchResultRoundTrip() {
+    return serializer.deserialize(serializer.serialize(searchResult));
+  }
+}
@@ -0,0 +1,110 @@
+package io.reading_tracker.search;
+
+import io.reading_tracker.repository.BookCatalogRow;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 도서 100만 권 색인 생성 시간과 검색 지연 시간 */
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class BookSearchIndexBenchmark {
+
+  private static final int BOOK_COUNT = 1_000_000;
+
+  private static final String[] WORDS = {
+    "해리", "포터", "마법사", "돌", "비밀", "방", "바다", "여행", "고양이", "정원", "시간", "기억", "도시", "겨울", "편지", "나무",
+    "그림자", "노래", "별", "섬", "역사", "철학", "경제", "과학", "우주", "자바", "스프링", "알고리즘", "데이터", "설계", "객체",
+    "함수", "리팩터링", "클린", "코드", "테스트", "아키텍처", "네트워크", "보안", "운영", "요리", "여름", "소년", "소녀", "왕", "마을",
+    "강", "산", "밤", "아침"
+  };
+
+  private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+
+  private static final String[] GIVEN_NAME_SYLLABLES = {
+    "민", "서", "준", "지", "하", "윤", "도", "현", "우", "은", "수", "영", "진", "호", "연", "주"
+  };
+
+  static List<BookCatalogRow> catalog() {
+    Random random = new Random(42);
+    List<BookCatalogRow> rows = new ArrayList<>(BOOK_COUNT);
+
+    for (int i = 1; i <= BOOK_COUNT; i++) {
+      String title =
+          WORDS[random.nextInt(WORDS.length)]
+              + " "
+              + WORDS[random.nextInt(WORDS.length)]
+              + " "
+              + WORDS[random.nextInt(WORDS.length)]
+              + " "
+              + (1 + random.nextInt(20));
+      String author =
+          FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)]
+              + GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)]
+              + GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)];
+      String publisher = "출판사" + random.nextInt(300);
+
+      rows.add(new BookCatalogRow(i, "isbn-" + i, title, author, publisher));
+    }
+
+    return rows;
+  }
+
+  static BookSearchIndex newIndex() {
+    // rebuild(source)만 쓰므로 저장소는 필요 없다
+    return new BookSearchIndex(null, new LocalSearchProperties(true, 0.8, 5, 10));
+  }
+
+  @State(Scope.Benchmark)
+  public static class CatalogState {
+
+    List<BookCatalogRow> rows;
+
+    @Setup
+    public void setUp() {
+      rows = catalog();
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class IndexState {
+
+    /** 제목 단어 조합(후보가 많음), 제목 전체(후보가 적음), 저자 이름 */
+    @Param({"해리포터", "리팩터링 클린 코드", "김민준"})
+    String query;
+
+    BookSearchIndex index;
+
+    @Setup
+    public void setUp() {
+      List<BookCatalogRow> rows = catalog();
+      index = newIndex();
+      index.rebuild(rows::forEach);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public BookSearchIndex build(CatalogState state) {
+    BookSearchIndex index = newIndex();
+    index.rebuild(state.rows::forEach);
+    return index;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public BookSearchIndex.Result search(IndexState state) {
+    return state.index.search(state.query, 0.8, 10);
+  }
+}
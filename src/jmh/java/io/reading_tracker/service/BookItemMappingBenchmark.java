@@ -0,0 +1,62 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.domain.userbook.UserBook;
+import io.reading_tracker.response.GetBookListResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/** 도서 목록 응답 변환(UserBook → BookItem) 비용 */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookItemMappingBenchmark {
+
+  @Param({"20", "10000"})
+  private int size;
+
+  private BookServiceImpl bookService;
+  private List<UserBook> userBooks;
+
+  @Setup
+  public void setUp() {
+    bookService = new BookServiceImpl(null, null, null, null, null, null);
+
+    User user = new User("tester", "tester@example.com");
+    ReflectionTestUtils.setField(user, "id", 1L);
+
+    userBooks = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      Book book = new Book("책 " + i, "저자 " + i, "출판사", "isbn-" + i);
+      UserBook userBook = new UserBook(user, book, State.IN_PROGRESS, 300 + i % 200, 1 + i % 300);
+      ReflectionTestUtils.setField(userBook, "id", (long) i);
+      userBooks.add(userBook);
+    }
+  }
+
+  @Benchmark
+  public List<GetBookListResponse.BookItem> toBookItems() {
+    return userBooks.stream().map(bookService::toBookItem).toList();
+  }
+
+  @Benchmark
+  public void calculateProgress(Blackhole blackhole) {
+    for (UserBook userBook : userBooks) {
+      blackhole.consume(
+          BookServiceImpl.calculateProgress(userBook.getCurrentPage(), userBook.getTotalPages()));
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package io.reading_tracker.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 현재 AES256Util(풀링된 GCM)과 변경 전 구현(호출마다 CBC Cipher 생성)의 처리량, 할당량 비교
+ *
+ * <p>할당량은 gc 프로파일러의 gc.alloc.rate.norm(bytes/op)으로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class AES256UtilBenchmark {
+
+  private static final String SECRET_KEY = "01234567890123456789012345678901";
+
+  /** 네이버 refresh token과 비슷한 길이 */
+  private static final String REFRESH_TOKEN = "AAAAOqkKuBPLj0Wx8pN-7Df3vR5mZcQaT2sYbHgEuJ1nLw4X";
+
+  private AES256Util aes256Util;
+  private LegacyAes256 legacy;
+  private String encrypted;
+  private String legacyEncrypted;
+
+  @Setup
+  public void setUp() throws Exception {
+    aes256Util = new AES256Util();
+    ReflectionTestUtils.setField(aes256Util, "secretKey", SECRET_KEY);
+    aes256Util.init();
+
+    legacy = new LegacyAes256(SECRET_KEY);
+
+    encrypted = aes256Util.encrypt(REFRESH_TOKEN);
+    legacyEncrypted = legacy.encrypt(REFRESH_TOKEN);
+  }
+
+  @Benchmark
+  public String encrypt() {
+    return aes256Util.encrypt(REFRESH_TOKEN);
+  }
+
+  @Benchmark
+  public String decrypt() {
+    return aes256Util.decrypt(encrypted);
+  }
+
+  /** 이전 형식 값을 현재 구현으로 읽는 경우 */
+  @Benchmark
+  public String decryptLegacyFormat() {
+    return aes256Util.decrypt(legacyEncrypted);
+  }
+
+  @Benchmark
+  public String legacyEncrypt() throws Exception {
+    return legacy.encrypt(REFRESH_TOKEN);
+  }
+
+  @Benchmark
+  public String legacyDecrypt() throws Exception {
+    return legacy.decrypt(legacyEncrypted);
+  }
+
+  /** 변경 전 AES256Util 구현 */
+  static class LegacyAes256 {
+
+    private static final String ALGORITHM = "AES/CBC/PKCS5Padding";
+
+    private final SecretKeySpec secretKeySpec;
+    private final IvParameterSpec ivParameterSpec;
+
+    LegacyAes256(String secretKey) {
+      byte[] keyBytes = new byte[32];
+      byte[] b = secretKey.getBytes(StandardCharsets.UTF_8);
+      System.arraycopy(b, 0, keyBytes, 0, Math.min(b.length, keyBytes.length));
+      secretKeySpec = new SecretKeySpec(keyBytes, "AES");
+      ivParameterSpec = new IvParameterSpec(keyBytes, 0, 16);
+    }
+
+    String encrypt(String plainText) throws Exception {
+      Cipher cipher = Cipher.getInstance(ALGORITHM);
+      cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, ivParameterSpec);
+      byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+      return Base64.getEncoder().encodeToString(encrypted);
+    }
+
+    String decrypt(String cipherText) throws Exception {
+      Cipher cipher = Cipher.getInstance(ALGORITHM);
+      cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, ivParameterSpec);
+      byte[] decoded = Base64.getDecoder().decode(cipherText);
+
+      return new String(cipher.doFinal(decoded), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package io.reading_tracker.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code keyGenerator = "spelKeyGenerator"}로 지정한 캐시의 키 식
+ *
+ * <p>메서드 인자는 {@code #이름}, 빈은 {@code @이름}으로 참조한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheKey {
+
+  String value();
+}
@@ -17,4 +17,6 @@ public @interface DistributedLock {
   long leaseTime() default 3L;
 
   TimeUnit timeUtil() default TimeUnit.SECONDS;
+
+  LockMode mode() default LockMode.DISTRIBUTED;
 }
@@ -0,0 +1,14 @@
+package io.reading_tracker.annotation;
+
+/** {@link DistributedLock} 잠금 방식 */
+public enum LockMode {
+
+  /** Redis 락만 사용, Redis를 쓸 수 없으면 노드 내부 락으로 대신한다 */
+  DISTRIBUTED,
+
+  /** 노드 내부 락만 사용, 단일 노드에서만 직렬화가 보장된다 */
+  LOCAL,
+
+  /** 노드 내부 락을 먼저 잡은 스레드만 Redis 락을 시도한다. 같은 노드의 경합이 Redis까지 가지 않고, Redis를 쓸 수 없으면 노드 내부 락만으로 동작한다 */
+  HYBRID
+}
@@ -0,0 +1,97 @@
+package io.reading_tracker.aop;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.Expression;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * 락, 캐시 키 SpEL 평가
+ *
+ * <p>식은 메서드별로 한 번만 파싱해 보관하고, 첫 평가 이후 바이트코드로 컴파일해 쓴다. 컴파일할 수 없거나 컴파일된 식이 실패하면(인자 타입이 바뀐 경우 등) 해석 모드로
+ * 바꿔 계속 쓴다.
+ *
+ * <p>문자열과 숫자를 + 로 잇는 식, 빈 참조(@이름)가 있는 식은 컴파일되지 않는다. 숫자는 {@code #id.toString()}처럼 문자열로 바꿔 이으면 컴파일된다.
+ */
+@Slf4j
+public final class CustomSpringELParser {
+
+  private static final SpelExpressionParser COMPILING_PARSER =
+      new SpelExpressionParser(
+          new SpelParserConfiguration(
+              SpelCompilerMode.IMMEDIATE, CustomSpringELParser.class.getClassLoader()));
+
+  private static final SpelExpressionParser INTERPRETING_PARSER = new SpelExpressionParser();
+
+  private static final Map<ExpressionKey, Expression> EXPRESSIONS = new ConcurrentHashMap<>();
+
+  /** 컨텍스트마다 새로 만들면 getter 탐색 캐시가 매번 비므로 공유한다, 내부 캐시는 스레드 안전 */
+  private static final List<PropertyAccessor> PROPERTY_ACCESSORS =
+      List.of(new ReflectivePropertyAccessor());
+
+  private CustomSpringELParser() {}
+
+  /** 메서드 정보 없이 평가, 식 문자열로 캐시한다 */
+  public static Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
+    return getDynamicValue(null, parameterNames, args, key, null);
+  }
+
+  public static Object getDynamicValue(
+      Method method, String[] parameterNames, Object[] args, String key) {
+    return getDynamicValue(method, parameterNames, args, key, null);
+  }
+
+  /**
+   * @param beanResolver {@code @beanName} 참조를 쓰는 식이면 필요, 없으면 null
+   */
+  public static Object getDynamicValue(
+      Method method,
+      String[] parameterNames,
+      Object[] args,
+      String key,
+      BeanResolver beanResolver) {
+    StandardEvaluationContext context = new StandardEvaluationContext();
+    context.setPropertyAccessors(PROPERTY_ACCESSORS);
+
+    for (int i = 0; i < parameterNames.length; i++) {
+      context.setVariable(parameterNames[i], args[i]);
+    }
+
+    if (beanResolver != null) {
+      context.setBeanResolver(beanResolver);
+    }
+
+    ExpressionKey expressionKey = new ExpressionKey(method, key);
+    Expression expression =
+        EXPRESSIONS.computeIfAbsent(expressionKey, k -> COMPILING_PARSER.parseExpression(key));
+
+    try {
+      return expression.getValue(context, Object.class);
+    } catch (SpelEvaluationException e) {
+      if (e.getMessageCode() != SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION) {
+        throw e;
+      }
+
+      log.debug("컴파일된 SpEL 평가 실패, 해석 모드로 전환합니다. key: {}, Error: {}", key, e.getMessage());
+
+      Expression interpreted = INTERPRETING_PARSER.parseExpression(key);
+      EXPRESSIONS.put(expressionKey, interpreted);
+
+      return interpreted.getValue(context, Object.class);
+    }
+  }
+
+  /** method가 null이면 식 문자열만으로 구분 */
+  private record ExpressionKey(Method method, String expression) {}
+}
@@ -1,7 +1,13 @@
 package io.reading_tracker.aop;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.reading_tracker.annotation.DistributedLock;
+import io.reading_tracker.util.LocalLockStripes;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -11,12 +17,14 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
+/**
+ * {@link DistributedLock} 메서드를 락을 잡고 실행한다
+ *
+ * <p>락을 기다린 시간은 lock.wait{method, type, result}, 잡고 있던 시간은 lock.held{method, type}로 남긴다. method는
+ * 어노테이션을 단 메서드(클래스명.메서드명), type은 local/redis, result는 acquired/timeout/error다.
+ */
 @Aspect
 @Component
 @Slf4j
@@ -25,7 +33,23 @@ import org.springframework.stereotype.Component;
 public class DistributedLockAop {
 
   private static final String REDISSON_LOCK_PREFIX = "LOCK:";
+  private static final int LOCAL_LOCK_STRIPES = 1024;
+
+  private static final String LOCAL = "local";
+  private static final String REDIS = "redis";
+  private static final Duration[] LOCK_SLO = {
+    Duration.ofMillis(10),
+    Duration.ofMillis(50),
+    Duration.ofMillis(100),
+    Duration.ofMillis(500),
+    Duration.ofSeconds(1),
+    Duration.ofSeconds(3)
+  };
+
   private final RedissonClient redissonClient;
+  private final RedisLockHealth redisLockHealth;
+  private final MeterRegistry meterRegistry;
+  private final LocalLockStripes localLocks = new LocalLockStripes(LOCAL_LOCK_STRIPES);
 
   @Around("@annotation(io.reading_tracker.annotation.DistributedLock)")
   public Object lock(ProceedingJoinPoint joinPoint) throws Throwable {
@@ -33,29 +57,113 @@ public class DistributedLockAop {
     Method method = signature.getMethod();
     DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
 
+    String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
     String key =
         REDISSON_LOCK_PREFIX
             + CustomSpringELParser.getDynamicValue(
-                signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key());
+                method, signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key());
+
+    // HYBRID는 두 락을 합쳐 waitTime 안에 잡아야 한다
+    long deadline =
+        System.nanoTime() + distributedLock.timeUtil().toNanos(distributedLock.waitTime());
+
+    return switch (distributedLock.mode()) {
+      case LOCAL -> withLocalLock(name, key, deadline, joinPoint::proceed);
+      case DISTRIBUTED ->
+          withRedisLock(
+              name,
+              key,
+              distributedLock,
+              deadline,
+              joinPoint,
+              () -> withLocalLock(name, key, deadline, joinPoint::proceed));
+      case HYBRID ->
+          withLocalLock(
+              name,
+              key,
+              deadline,
+              () ->
+                  withRedisLock(
+                      name, key, distributedLock, deadline, joinPoint, joinPoint::proceed));
+    };
+  }
+
+  /** Redis 락을 잡고 실행, Redis를 쓸 수 없으면 fallback으로 실행한다 */
+  private Object withRedisLock(
+      String name,
+      String key,
+      DistributedLock distributedLock,
+      long deadline,
+      ProceedingJoinPoint joinPoint,
+      LockedCall fallback)
+      throws Throwable {
+    if (!redisLockHealth.isAvailable()) {
+      return fallback.call();
+    }
 
     RLock rLock = redissonClient.getLock(key);
 
-    boolean isLocked = tryToLock(rLock, distributedLock, key);
+    boolean isLocked = tryToLock(name, rLock, distributedLock, deadline, key);
+
+    if (!isLocked) {
+      return fallback.call();
+    }
+
+    long acquiredAt = System.nanoTime();
 
     try {
       return joinPoint.proceed();
     } finally {
-      if (isLocked) {
-        safeUnlock(rLock, key);
-      }
+      safeUnlock(rLock, key);
+      recordHeld(name, REDIS, acquiredAt);
     }
   }
 
-  private boolean tryToLock(RLock rLock, DistributedLock distributedLock, String key) {
+  private Object withLocalLock(String name, String key, long deadline, LockedCall call)
+      throws Throwable {
+    ReentrantLock lock = localLocks.lockFor(key);
+    long waitStart = System.nanoTime();
+    boolean locked;
+
+    try {
+      locked = lock.tryLock(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      recordWait(name, LOCAL, "error", waitStart);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("로컬 락 획득 중 인터럽트 발생: ", e);
+    }
+
+    recordWait(name, LOCAL, locked ? "acquired" : "timeout", waitStart);
+
+    if (!locked) {
+      log.warn("로컬 락 획득 실패 - key: {}", key);
+      throw new IllegalArgumentException("현재 처리 중인 요청으로 잠시 후 다시 시도하세요");
+    }
+
+    long acquiredAt = System.nanoTime();
+
+    try {
+      return call.call();
+    } finally {
+      lock.unlock();
+      recordHeld(name, LOCAL, acquiredAt);
+    }
+  }
+
+  /** Redis 오류로 락을 잡지 못하면 false, 다른 요청이 락을 잡고 있으면 예외 */
+  private boolean tryToLock(
+      String name, RLock rLock, DistributedLock distributedLock, long deadline, String key) {
+    long waitStart = System.nanoTime();
+
     try {
       boolean available =
           rLock.tryLock(
-              distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUtil());
+              TimeUnit.NANOSECONDS.toMillis(remainingNanos(deadline)),
+              distributedLock.timeUtil().toMillis(distributedLock.leaseTime()),
+              TimeUnit.MILLISECONDS);
+
+      redisLockHealth.recordSuccess();
+      recordWait(name, REDIS, available ? "acquired" : "timeout", waitStart);
 
       if (!available) {
         log.warn("락 획득 실패 - key: {}", key);
@@ -64,12 +172,15 @@ public class DistributedLockAop {
 
       return true;
     } catch (InterruptedException e) {
+      recordWait(name, REDIS, "error", waitStart);
       Thread.currentThread().interrupt();
       throw new IllegalStateException("Redisson 락 획득 중 인터럽트 발생: ", e);
     } catch (IllegalArgumentException e) {
       throw e;
     } catch (Exception e) {
+      recordWait(name, REDIS, "error", waitStart);
       log.error("Redis 분산락 획득 실패. key: {}, error: {}", key, e.getMessage());
+      redisLockHealth.recordFailure(key, e);
 
       return false;
     }
@@ -86,17 +197,31 @@ public class DistributedLockAop {
       log.warn("락 해제 중 오류가 발생했습니다. key: {}, error: {}", key, e.getMessage());
     }
   }
-}
 
-class CustomSpringELParser {
-  public static Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
-    ExpressionParser parser = new SpelExpressionParser();
-    EvaluationContext context = new StandardEvaluationContext();
+  private void recordWait(String name, String type, String result, long waitStart) {
+    Timer.builder("lock.wait")
+        .tags("method", name, "type", type, "result", result)
+        .serviceLevelObjectives(LOCK_SLO)
+        .description("락을 얻기까지 기다린 시간")
+        .register(meterRegistry)
+        .record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+  }
 
-    for (int i = 0; i < parameterNames.length; i++) {
-      context.setVariable(parameterNames[i], args[i]);
-    }
+  private void recordHeld(String name, String type, long acquiredAt) {
+    Timer.builder("lock.held")
+        .tags("method", name, "type", type)
+        .serviceLevelObjectives(LOCK_SLO)
+        .description("락을 잡고 있던 시간")
+        .register(meterRegistry)
+        .record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+  }
+
+  private static long remainingNanos(long deadline) {
+    return Math.max(0, deadline - System.nanoTime());
+  }
 
-    return parser.parseExpression(key).getValue(context, Object.class);
+  @FunctionalInterface
+  private interface LockedCall {
+    Object call() throws Throwable;
   }
 }
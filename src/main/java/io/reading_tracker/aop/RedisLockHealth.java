@@ -0,0 +1,81 @@
+package io.reading_tracker.aop;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 락 사용 가능 여부
+ *
+ * <p>Redis 락 획득 중 오류가 나면 retryInterval 동안 Redis 락을 시도하지 않고 노드 내부 락만 쓴다. 그 뒤 첫 호출이 다시 Redis를 시도해서
+ * 성공하면 복구된다. 장애 중에 호출마다 waitTime만큼 기다리지 않기 위함이다.
+ */
+@Slf4j
+@Component("redisLock")
+public class RedisLockHealth implements HealthIndicator {
+
+  private final long retryIntervalNanos;
+
+  private final AtomicLong consecutiveFailures = new AtomicLong();
+  private volatile long retryAtNanos;
+  private volatile Instant degradedSince;
+  private volatile String lastError;
+
+  public RedisLockHealth(@Value("${lock.redis.retry-interval:10s}") Duration retryInterval) {
+    this.retryIntervalNanos = retryInterval.toNanos();
+  }
+
+  /** Redis 락을 시도해도 되는지, 장애 중이면 retryInterval마다 한 번씩 허용한다 */
+  public boolean isAvailable() {
+    return degradedSince == null || System.nanoTime() - retryAtNanos >= 0;
+  }
+
+  public boolean isDegraded() {
+    return degradedSince != null;
+  }
+
+  void recordSuccess() {
+    if (degradedSince == null) {
+      return;
+    }
+
+    log.info("Redis 분산락 복구. 장애 시작: {}, 연속 실패: {}", degradedSince, consecutiveFailures.get());
+
+    consecutiveFailures.set(0);
+    lastError = null;
+    degradedSince = null;
+  }
+
+  void recordFailure(String key, Exception e) {
+    retryAtNanos = System.nanoTime() + retryIntervalNanos;
+    lastError = e.getMessage();
+    consecutiveFailures.incrementAndGet();
+
+    if (degradedSince == null) {
+      degradedSince = Instant.now();
+      log.warn("Redis 분산락 사용 불가, 노드 내부 락으로 대체합니다. key: {}, error: {}", key, e.getMessage());
+    }
+  }
+
+  @Override
+  public Health health() {
+    Instant since = degradedSince;
+
+    if (since == null) {
+      return Health.up().withDetail("mode", "DISTRIBUTED").build();
+    }
+
+    // 노드 내부 락으로 계속 동작하므로 DOWN으로 내리지 않고 상세 정보로 알린다
+    return Health.up()
+        .withDetail("mode", "LOCAL_ONLY")
+        .withDetail("degradedSince", since.toString())
+        .withDetail("consecutiveFailures", consecutiveFailures.get())
+        .withDetail("lastError", String.valueOf(lastError))
+        .build();
+  }
+}
@@ -4,6 +4,8 @@ import io.reading_tracker.domain.user.User;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Function;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -13,17 +15,24 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 @Getter
 public class PrincipalDetails implements OAuth2User, UserDetails {
 
-  private final User user;
+  private final Long userId;
+  private final String email;
+  private final String nickname;
   private final Map<String, Object> attributes;
 
+  @Getter(AccessLevel.NONE)
+  private final Function<Long, User> userResolver;
+
+  @Getter(AccessLevel.NONE)
+  private User user;
+
   /**
    * 일반 로그인
    *
    * @param user
    */
   public PrincipalDetails(User user) {
-    this.user = user;
-    this.attributes = null;
+    this(user, null);
   }
 
   /**
@@ -33,8 +42,40 @@ public class PrincipalDetails implements OAuth2User, UserDetails {
    * @param attributes
    */
   public PrincipalDetails(User user, Map<String, Object> attributes) {
-    this.user = user;
+    this.userId = user.getId();
+    this.email = user.getEmail();
+    this.nickname = user.getNickname();
     this.attributes = attributes;
+    this.userResolver = null;
+    this.user = user;
+  }
+
+  /**
+   * JWT 클레임으로 만든 인증 정보, User 엔티티는 {@link #getUser()}를 처음 호출할 때 얻는다
+   *
+   * @param userResolver 사용자 id로 User를 얻는 함수, 보통 {@code UserRepository::getReferenceById}
+   */
+  public PrincipalDetails(
+      Long userId, String email, String nickname, Function<Long, User> userResolver) {
+    this.userId = userId;
+    this.email = email;
+    this.nickname = nickname;
+    this.attributes = null;
+    this.userResolver = userResolver;
+  }
+
+  /**
+   * 연관관계 설정 등 엔티티가 필요한 쓰기 작업용 User
+   *
+   * <p>JWT로 인증한 요청이면 지연 로딩 참조를 돌려주므로 id 외의 값을 읽을 때 조회가 일어난다. 필터는 영속성 컨텍스트 밖에서 실행되므로 참조는 컨트롤러에서 처음
+   * 호출할 때 만든다.
+   */
+  public User getUser() {
+    if (user == null) {
+      user = userResolver.apply(userId);
+    }
+
+    return user;
   }
 
   @Override
@@ -54,7 +95,7 @@ public class PrincipalDetails implements OAuth2User, UserDetails {
 
   @Override
   public String getUsername() {
-    return user.getEmail();
+    return email;
   }
 
   @Override
@@ -79,14 +120,6 @@ public class PrincipalDetails implements OAuth2User, UserDetails {
 
   @Override
   public String getName() {
-    return user.getNickname();
-  }
-
-  public Long getUserId() {
-    return user.getId();
-  }
-
-  public String getEmail() {
-    return user.getEmail();
+    return nickname;
   }
 }
@@ -1,7 +1,8 @@
 package io.reading_tracker.auth.jwt;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.reading_tracker.auth.PrincipalDetails;
-import io.reading_tracker.domain.user.User;
 import io.reading_tracker.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -12,12 +13,19 @@ import java.io.IOException;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * rt_token 쿠키의 JWT로 인증 정보를 만든다
+ *
+ * <p>요청마다 결과를 auth.jwt.requests{outcome, source}로 센다. outcome은
+ * authenticated/missing/invalid/user_not_found, source는 인증 정보를 만든 곳(claims/database, 없으면 none)이다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -25,6 +33,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider jwtTokenProvider;
   private final UserRepository userRepository;
+  private final MeterRegistry meterRegistry;
+
+  /** true면 닉네임, 이메일 클레임이 있는 토큰은 DB 조회 없이 인증한다 */
+  @Value("${jwt.stateless:true}")
+  private boolean stateless = true;
 
   @Override
   protected void doFilterInternal(
@@ -35,37 +48,64 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     String token = resolveTokenFromCookie(request);
 
-    if (token != null && jwtTokenProvider.validateToken(token)) {
-      log.debug("--> 토큰 발견! 검증 시작. Token: {}...", token.substring(0, Math.min(token.length(), 10)));
-
-      Long userId = jwtTokenProvider.getUserId(token);
-      log.debug("--> 토큰 유효함! User ID: {}", userId);
+    JwtClaims claims = token == null ? null : jwtTokenProvider.parse(token).orElse(null);
 
-      User user = userRepository.findById(userId).orElse(null);
+    if (claims != null) {
+      log.debug("--> 토큰 유효함! User ID: {}", claims.userId());
 
-      if (user != null) {
+      String source = fromClaims(claims) ? "claims" : "database";
+      PrincipalDetails principalDetails = loadPrincipal(claims);
 
-        PrincipalDetails principalDetails = new PrincipalDetails(user, null);
+      if (principalDetails != null) {
         Authentication authentication =
             new UsernamePasswordAuthenticationToken(
                 principalDetails, null, principalDetails.getAuthorities());
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        log.debug("Security Context에 '{}' 인증 정보 저장", user.getEmail());
+        log.debug("Security Context에 '{}' 인증 정보 저장", principalDetails.getEmail());
+        count("authenticated", source);
       } else {
-        log.warn("--> 토큰은 유효하지만 DB에 유저가 없습니다. ID: {}", userId);
+        log.warn("--> 토큰은 유효하지만 DB에 유저가 없습니다. ID: {}", claims.userId());
+        count("user_not_found", source);
       }
     } else {
       if (token == null) {
         log.debug("--> 쿠키에 'rt_token'이 없습니다.");
+        count("missing", "none");
       } else {
         log.warn("--> token이 유효하지 않습니다.");
+        count("invalid", "none");
       }
     }
 
     filterChain.doFilter(request, response);
   }
 
+  /** 클레임만으로 인증 정보를 만들 수 없는 토큰(이전 형식)이거나 stateless가 꺼져 있으면 DB에서 조회 */
+  private PrincipalDetails loadPrincipal(JwtClaims claims) {
+    if (fromClaims(claims)) {
+      return new PrincipalDetails(
+          claims.userId(), claims.email(), claims.nickname(), userRepository::getReferenceById);
+    }
+
+    return userRepository
+        .findById(claims.userId())
+        .map(user -> new PrincipalDetails(user, null))
+        .orElse(null);
+  }
+
+  private boolean fromClaims(JwtClaims claims) {
+    return stateless && claims.hasProfile();
+  }
+
+  private void count(String outcome, String source) {
+    Counter.builder("auth.jwt.requests")
+        .tags("outcome", outcome, "source", source)
+        .description("JWT 인증 결과별 요청 수")
+        .register(meterRegistry)
+        .increment();
+  }
+
   private String resolveTokenFromCookie(HttpServletRequest request) {
     Cookie[] cookies = request.getCookies();
 
@@ -0,0 +1,14 @@
+package io.reading_tracker.auth.jwt;
+
+/**
+ * 서명 검증을 마친 JWT 클레임
+ *
+ * <p>nickname, email 클레임이 추가되기 전에 발급된 토큰은 두 값이 null이다.
+ */
+public record JwtClaims(Long userId, String nickname, String email) {
+
+  /** DB 조회 없이 인증 정보를 만들 수 있는 토큰인지 */
+  public boolean hasProfile() {
+    return nickname != null && email != null;
+  }
+}
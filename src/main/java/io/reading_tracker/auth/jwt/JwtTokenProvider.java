@@ -2,12 +2,14 @@ package io.reading_tracker.auth.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.util.Date;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,7 +19,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtTokenProvider {
 
+  static final String NICKNAME_CLAIM = "nickname";
+  static final String EMAIL_CLAIM = "email";
+
   private final SecretKey key;
+  private final JwtParser parser; // 불변이고 스레드 안전하므로 재사용
   private final Long validityInSeconds;
 
   public JwtTokenProvider(
@@ -25,15 +31,23 @@ public class JwtTokenProvider {
       @Value("${jwt.expiration-time}") long validityInSeconds) {
     byte[] keyBytes = Decoders.BASE64.decode(secretKey);
     this.key = Keys.hmacShaKeyFor(keyBytes);
+    this.parser = Jwts.parser().verifyWith(key).build();
     this.validityInSeconds = validityInSeconds;
   }
 
   public String createToken(Long userId) {
+    return createToken(userId, null, null);
+  }
+
+  /** 닉네임, 이메일을 클레임에 담아 요청마다 DB를 조회하지 않고 인증 정보를 만들 수 있게 한다 */
+  public String createToken(Long userId, String nickname, String email) {
     Date now = new Date();
     Date validity = new Date(now.getTime() + validityInSeconds);
 
     return Jwts.builder()
         .subject(String.valueOf(userId))
+        .claim(NICKNAME_CLAIM, nickname)
+        .claim(EMAIL_CLAIM, email)
         .issuedAt(now)
         .expiration(validity)
         .signWith(key)
@@ -45,9 +59,19 @@ public class JwtTokenProvider {
   }
 
   public boolean validateToken(String token) {
+    return parse(token).isPresent();
+  }
+
+  /** 서명, 만료를 검증하고 클레임을 꺼낸다, 토큰이 유효하지 않으면 empty */
+  public Optional<JwtClaims> parse(String token) {
     try {
-      getClaims(token);
-      return true;
+      Claims claims = getClaims(token);
+
+      return Optional.of(
+          new JwtClaims(
+              Long.parseLong(claims.getSubject()),
+              claims.get(NICKNAME_CLAIM, String.class),
+              claims.get(EMAIL_CLAIM, String.class)));
     } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
       log.info("잘못된 JWT 서명입니다");
     } catch (ExpiredJwtException e) {
@@ -57,10 +81,10 @@ public class JwtTokenProvider {
     } catch (IllegalArgumentException e) {
       log.info("JWT 토큰이 잘못되었습니다");
     }
-    return false;
+    return Optional.empty();
   }
 
   private Claims getClaims(String token) {
-    return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    return parser.parseSignedClaims(token).getPayload();
   }
 }
@@ -1,6 +1,7 @@
 package io.reading_tracker.auth.oauth;
 
 import io.reading_tracker.auth.PrincipalDetails;
+import io.reading_tracker.cache.UserBookListGeneration;
 import io.reading_tracker.domain.user.Auth;
 import io.reading_tracker.domain.user.User;
 import io.reading_tracker.repository.AuthRepository;
@@ -21,6 +22,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
   private final AuthRepository authRepository;
   private final UserRepository userRepository;
+  private final UserBookListGeneration userBookListGeneration;
 
   private static OAuth2UserInfo getOAuth2UserInfo(String registrationId, OAuth2User oAuth2User) {
     if ("naver".equals(registrationId)) {
@@ -60,6 +62,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                   // naver 인증 결과 값(nickname, email)을 기존 유저 객체에 업데이트
                   user.updateProfile(userInfo.getName(), userInfo.getEmail());
                   userRepository.save(user);
+                  userBookListGeneration.bump(user.getId()); // 프로필 ETag를 바꾼다
                   log.debug("기존 유저 프로필 업데이트: {}", user.getEmail());
 
                   return existingAuth;
@@ -94,7 +94,8 @@ public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHan
       log.info("Refresh Token DB 암호화 저장 완료: userId={}", user.getId());
     }
 
-    String rtToken = jwtTokenProvider.createToken(user.getId());
+    String rtToken =
+        jwtTokenProvider.createToken(user.getId(), user.getNickname(), user.getEmail());
 
     ResponseCookie cookie =
         ResponseCookie.from("rt_token", rtToken)
@@ -0,0 +1,13 @@
+package io.reading_tracker.cache;
+
+/** L1 무효화를 다른 노드에 전파 */
+@FunctionalInterface
+public interface CacheEvictionPublisher {
+
+  CacheEvictionPublisher NO_OP = (cacheName, key) -> {};
+
+  /**
+   * @param key null이면 캐시 전체 무효화
+   */
+  void publish(String cacheName, String key);
+}
@@ -0,0 +1,137 @@
+package io.reading_tracker.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 간 캐시 채우기 임대
+ *
+ * <p>같은 키의 캐시 미스가 여러 노드에서 동시에 나면 Redis 임대를 먼저 잡은 노드만 loader를 실행한다. 나머지 노드는 임대 시간 동안 캐시가 채워지기를 기다리고,
+ * 채워지지 않으면 직접 실행한다. 임대는 성공해도 지우지 않는다. 결과는 메서드가 반환된 뒤 @Cacheable이 저장하므로 먼저 지우면 기다리던 노드가 저장 전에 포기할 수
+ * 있다.
+ */
+@Slf4j
+@Component
+public class CacheFillLease implements MeterBinder {
+
+  private static final String KEY_PREFIX = "cache:lease:";
+  private static final long POLL_INTERVAL_MILLIS = 50;
+
+  private final StringRedisTemplate redisTemplate;
+  private final CacheManager cacheManager;
+  private final boolean enabled;
+  private final Duration ttl;
+
+  private final LongAdder peerFills = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+
+  public CacheFillLease(
+      StringRedisTemplate redisTemplate,
+      CacheManager cacheManager,
+      @Value("${cache.lease.enabled:false}") boolean enabled,
+      @Value("${cache.lease.ttl:3s}") Duration ttl) {
+    this.redisTemplate = redisTemplate;
+    this.cacheManager = cacheManager;
+    this.enabled = enabled;
+    this.ttl = ttl;
+  }
+
+  /** 임대를 잡으면 loader를 실행하고, 다른 노드가 잡고 있으면 그 노드가 채운 캐시 값을 반환한다 */
+  public <T> T fill(String cacheName, Object key, Class<T> type, Supplier<T> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+
+    String leaseKey = KEY_PREFIX + cacheName + ":" + key;
+    Boolean acquired;
+
+    try {
+      acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, "1", ttl);
+    } catch (Exception e) {
+      log.warn("캐시 채우기 임대 실패. key: {}, Error: {}", leaseKey, e.getMessage());
+      return loader.get();
+    }
+
+    if (Boolean.TRUE.equals(acquired)) {
+      try {
+        return loader.get();
+      } catch (RuntimeException e) {
+        release(leaseKey); // 기다리던 노드가 바로 직접 실행하도록
+        throw e;
+      }
+    }
+
+    T filled = awaitPeer(cacheName, key, type, leaseKey);
+
+    if (filled != null) {
+      peerFills.increment();
+      return filled;
+    }
+
+    timeouts.increment();
+    return loader.get();
+  }
+
+  private <T> T awaitPeer(String cacheName, Object key, Class<T> type, String leaseKey) {
+    Cache cache = cacheManager.getCache(cacheName);
+
+    if (cache == null) {
+      return null;
+    }
+
+    long deadline = System.nanoTime() + ttl.toNanos();
+
+    try {
+      while (System.nanoTime() - deadline < 0) {
+        Thread.sleep(POLL_INTERVAL_MILLIS);
+
+        T value = cache.get(key, type);
+
+        if (value != null) {
+          return value;
+        }
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey))) {
+          return cache.get(key, type); // 임대를 잡은 노드가 실패했다
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.warn("캐시 채우기 대기 실패. key: {}, Error: {}", leaseKey, e.getMessage());
+    }
+
+    return null;
+  }
+
+  private void release(String leaseKey) {
+    try {
+      redisTemplate.delete(leaseKey);
+    } catch (Exception e) {
+      log.warn("캐시 채우기 임대 해제 실패. key: {}, Error: {}", leaseKey, e.getMessage());
+    }
+  }
+
+  /** 다른 노드가 채운 값을 받은 수와 기다리다 직접 실행한 수를 cache.lease.waits{result}로 노출 */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("cache.lease.waits", peerFills, LongAdder::sum)
+        .tag("result", "filled")
+        .description("다른 노드가 채운 캐시 값을 받은 수")
+        .register(registry);
+    FunctionCounter.builder("cache.lease.waits", timeouts, LongAdder::sum)
+        .tag("result", "timeout")
+        .description("임대 시간 안에 캐시가 채워지지 않아 직접 실행한 수")
+        .register(registry);
+  }
+}
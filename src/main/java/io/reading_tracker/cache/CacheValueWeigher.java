@@ -0,0 +1,59 @@
+package io.reading_tracker.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * L1 캐시 값의 대략적인 크기
+ *
+ * <p>응답 객체(record) 안의 컬렉션 원소 수를 합산한다. 도서 1000권짜리 목록이 1권짜리 목록과 같은 자리를 차지하지 않도록 하는 것이 목적이라 정확한 바이트 수는
+ * 계산하지 않는다.
+ */
+class CacheValueWeigher implements Weigher<Object, Object> {
+
+  private static final ClassValue<RecordComponent[]> RECORD_COMPONENTS =
+      new ClassValue<>() {
+        @Override
+        protected RecordComponent[] computeValue(Class<?> type) {
+          return type.isRecord() ? type.getRecordComponents() : new RecordComponent[0];
+        }
+      };
+
+  @Override
+  public int weigh(Object key, Object value) {
+    long weight = 1 + elementCount(value);
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
+  private long elementCount(Object value) {
+    if (value instanceof Collection<?> collection) {
+      return collection.size();
+    }
+
+    if (value instanceof Map<?, ?> map) {
+      return map.size();
+    }
+
+    if (value == null || !value.getClass().isRecord()) {
+      return 0;
+    }
+
+    long count = 0;
+
+    for (RecordComponent component : RECORD_COMPONENTS.get(value.getClass())) {
+      if (!Collection.class.isAssignableFrom(component.getType())) {
+        continue;
+      }
+
+      try {
+        count += elementCount(component.getAccessor().invoke(value));
+      } catch (ReflectiveOperationException e) {
+        // 접근할 수 없는 컴포넌트는 가중치 계산에서 제외
+      }
+    }
+
+    return count;
+  }
+}
@@ -0,0 +1,49 @@
+package io.reading_tracker.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조건부 GET(If-None-Match)에 쓰는 유저별 ETag
+ *
+ * <p>응답 본문을 해시하지 않고 {@link UserBookListGeneration} 세대 번호로 만든다. 도서 목록과 프로필을 바꾸는 쓰기마다 세대를 올리므로 세대가
+ * 같으면 응답도 같고, ETag를 비교하는 데 캐시나 DB를 읽지 않는다. 도서 목록에는 아직 DB에 쓰지 않은 현재 페이지를 덮어 쓰므로 {@link
+ * ProgressWriteBehindBuffer}의 버전과 노드 epoch도 넣는다.
+ *
+ * <p>같은 브라우저에서 다른 사용자로 로그인해도 ETag가 겹치지 않도록 userId를 넣는다. Redis 장애로 세대를 알 수 없으면 null이고, ETag 없이 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LibraryVersion {
+
+  private final UserBookListGeneration userBookListGeneration;
+  private final ProgressWriteBehindBuffer progressWriteBehindBuffer;
+
+  public String bookListETag(Long userId) {
+    long generation = userBookListGeneration.current(userId);
+
+    if (generation < 0) {
+      return null;
+    }
+
+    long buffered = progressWriteBehindBuffer.version(userId);
+
+    return buffered == 0
+        ? "\"" + userId + "." + generation + "\""
+        : "\""
+            + userId
+            + "."
+            + generation
+            + "."
+            + progressWriteBehindBuffer.epoch()
+            + "-"
+            + buffered
+            + "\"";
+  }
+
+  public String profileETag(Long userId) {
+    long generation = userBookListGeneration.current(userId);
+
+    return generation < 0 ? null : "\"" + userId + "." + generation + "\"";
+  }
+}
@@ -0,0 +1,155 @@
+package io.reading_tracker.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+
+/**
+ * 캐시 연산마다 걸린 시간을 cache.operations{cache, operation, result}로 남기는 Cache
+ *
+ * <p>hit/miss/put/evict 수는 Timer의 count로 본다. 연산 중 예외가 나면 result=error로 남기고 그대로 던진다.
+ */
+class MeteredCache implements Cache {
+
+  static final String OPERATIONS = "cache.operations";
+
+  private static final Duration[] SLO = {
+    Duration.ofMillis(1),
+    Duration.ofMillis(5),
+    Duration.ofMillis(10),
+    Duration.ofMillis(50),
+    Duration.ofMillis(100)
+  };
+
+  private final Cache delegate;
+  private final MeterRegistry registry;
+  private final Timer hits;
+  private final Timer misses;
+  private final Timer puts;
+  private final Timer evictions;
+  private final Timer clears;
+
+  MeteredCache(Cache delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.registry = registry;
+    this.hits = timer("get", "hit");
+    this.misses = timer("get", "miss");
+    this.puts = timer("put", "success");
+    this.evictions = timer("evict", "success");
+    this.clears = timer("clear", "success");
+  }
+
+  Cache delegate() {
+    return delegate;
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    return measure("get", () -> delegate.get(key), value -> value == null ? misses : hits);
+  }
+
+  @Override
+  public <T> T get(Object key, Class<T> type) {
+    return measure("get", () -> delegate.get(key, type), value -> value == null ? misses : hits);
+  }
+
+  /** valueLoader가 실행되었으면 miss, 아니면 hit */
+  @Override
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    AtomicBoolean loaded = new AtomicBoolean();
+
+    return measure(
+        "get",
+        () ->
+            delegate.get(
+                key,
+                () -> {
+                  loaded.set(true);
+                  return valueLoader.call();
+                }),
+        value -> loaded.get() ? misses : hits);
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    measure(
+        "put",
+        () -> {
+          delegate.put(key, value);
+          return null;
+        },
+        result -> puts);
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    return measure("put", () -> delegate.putIfAbsent(key, value), result -> puts);
+  }
+
+  @Override
+  public void evict(Object key) {
+    measure(
+        "evict",
+        () -> {
+          delegate.evict(key);
+          return null;
+        },
+        result -> evictions);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    return measure("evict", () -> delegate.evictIfPresent(key), result -> evictions);
+  }
+
+  @Override
+  public void clear() {
+    measure(
+        "clear",
+        () -> {
+          delegate.clear();
+          return null;
+        },
+        result -> clears);
+  }
+
+  private <T> T measure(String operation, Supplier<T> call, Function<T, Timer> timerOf) {
+    long start = System.nanoTime();
+    T result;
+
+    try {
+      result = call.get();
+    } catch (RuntimeException e) {
+      timer(operation, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw e;
+    }
+
+    timerOf.apply(result).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+    return result;
+  }
+
+  private Timer timer(String operation, String result) {
+    return Timer.builder(OPERATIONS)
+        .tags("cache", delegate.getName(), "operation", operation, "result", result)
+        .serviceLevelObjectives(SLO)
+        .description("캐시 연산 시간")
+        .register(registry);
+  }
+}
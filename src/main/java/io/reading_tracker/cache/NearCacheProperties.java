@@ -0,0 +1,32 @@
+package io.reading_tracker.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * L1(프로세스 내부) 캐시 설정
+ *
+ * @param enabled false면 L1 없이 Redis(L2)만 사용
+ * @param defaults caches에 지정되지 않은 캐시에 적용할 기본값
+ * @param caches 캐시 이름별 TTL, 최대 가중치
+ */
+@ConfigurationProperties(prefix = "cache.near")
+public record NearCacheProperties(
+    @DefaultValue("true") boolean enabled, @DefaultValue Spec defaults, Map<String, Spec> caches) {
+
+  public NearCacheProperties {
+    caches = caches == null ? Map.of() : Map.copyOf(caches);
+  }
+
+  public Spec specOf(String cacheName) {
+    return caches.getOrDefault(cacheName, defaults);
+  }
+
+  /**
+   * @param ttl L1 만료 시간, 다른 노드의 무효화 메시지를 놓쳤을 때 허용하는 최대 지연이기도 하다
+   * @param maxWeight L1 최대 가중치, 가중치는 {@link CacheValueWeigher} 참고
+   */
+  public record Spec(@DefaultValue("30s") Duration ttl, @DefaultValue("10000") long maxWeight) {}
+}
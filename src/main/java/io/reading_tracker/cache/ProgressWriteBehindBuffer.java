@@ -0,0 +1,233 @@
+package io.reading_tracker.cache;
+
+import io.reading_tracker.repository.UserBookPageUpdate;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.service.ReadingStatsService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아직 DB에 쓰지 않은 현재 페이지
+ *
+ * <p>도서별로 마지막 값만 남기고 flushInterval마다 batchSize 단위의 JDBC batch로 쓴다. 쓰는 동안 들어온 새 값은 지우지 않고 다음 주기에 쓴다.
+ * 쓰기에 실패하거나 쓴 트랜잭션이 롤백되면 그대로 두고 다음 주기에 다시 쓰며, 종료할 때 남은 값을 모두 쓴다. 버퍼는 노드마다 따로 있어 다른 노드의 목록 조회에는 DB에
+ * 쓴 뒤에 반영된다.
+ *
+ * <p>노드마다 따로 쓰므로 DB에 쓰는 순서가 값을 바꾼 순서와 다를 수 있다. 값을 바꾼 시각을 updated_at에 넣고, 그 시각 뒤에 수정된 도서는 건너뛰어 나중에
+ * 바꾼 값이 남게 한다.
+ */
+@Slf4j
+@Component
+public class ProgressWriteBehindBuffer implements DisposableBean {
+
+  private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+  private final Map<Long, Integer> pagesRead = new ConcurrentHashMap<>();
+
+  /** 사용자별로 마지막에 값을 넣은 순번, 목록 ETag에 넣어 덮어 쓴 페이지가 바뀌면 ETag도 바뀌게 한다 */
+  private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+  private final AtomicLong sequence = new AtomicLong();
+
+  /** 순번은 노드마다 따로 세고 재시작하면 0부터 다시 세므로, ETag에 함께 넣어 다른 노드나 이전 실행의 순번과 겹치지 않게 한다 */
+  private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+
+  private final UserBookRepository userBookRepository;
+  private final UserBookListGeneration userBookListGeneration;
+  private final ReadingStatsService readingStatsService;
+  private final ProgressWriteBehindProperties properties;
+  private final TransactionTemplate transactionTemplate;
+
+  public ProgressWriteBehindBuffer(
+      UserBookRepository userBookRepository,
+      UserBookListGeneration userBookListGeneration,
+      ReadingStatsService readingStatsService,
+      ProgressWriteBehindProperties properties,
+      PlatformTransactionManager transactionManager) {
+    this.userBookRepository = userBookRepository;
+    this.userBookListGeneration = userBookListGeneration;
+    this.readingStatsService = readingStatsService;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * @param userId 도서 소유자, DB에 쓴 뒤 이 사용자의 목록 캐시를 무효화한다
+   * @param updatedAt 사용자가 이 값으로 바꾼 시각, 이 뒤에 DB의 도서가 수정되었으면 쓰지 않는다
+   */
+  public record Pending(Long userId, int currentPage, int totalPages, LocalDateTime updatedAt) {}
+
+  /**
+   * @param persistedPage 버퍼에 값이 없을 때 읽은 페이지 수를 셀 기준, DB의 현재 페이지
+   */
+  public void put(Long userBookId, Pending value, int persistedPage) {
+    Pending previous = pending.put(userBookId, value);
+    versions.put(value.userId(), sequence.incrementAndGet());
+    int pages = value.currentPage() - (previous == null ? persistedPage : previous.currentPage());
+
+    if (pages > 0) {
+      pagesRead.merge(value.userId(), pages, Integer::sum);
+    }
+  }
+
+  public Pending get(Long userBookId) {
+    return pending.get(userBookId);
+  }
+
+  /** 이 사용자가 모아 둔 값의 버전, 없으면 0 */
+  public long version(Long userId) {
+    return versions.getOrDefault(userId, 0L);
+  }
+
+  public String epoch() {
+    return epoch;
+  }
+
+  public boolean isEmpty() {
+    return pending.isEmpty();
+  }
+
+  /** 이 도서에 모아 둔 값이 있으면 바로 쓴다, 바로 쓰는 수정보다 먼저 호출해 나중에 덮어쓰지 않게 한다 */
+  public void flush(Long userBookId) {
+    Pending value = pending.get(userBookId);
+
+    if (value != null) {
+      write(Map.of(userBookId, value));
+    }
+  }
+
+  /**
+   * 모아 둔 값을 모두 쓴다
+   *
+   * @return DB에 쓴 도서 수
+   */
+  @Scheduled(fixedDelayString = "${user-book.write-behind.flush-interval:5s}")
+  public int flush() {
+    if (pending.isEmpty()) {
+      writePagesRead();
+      return 0;
+    }
+
+    List<Map.Entry<Long, Pending>> snapshot = new ArrayList<>(pending.entrySet());
+    int written = 0;
+
+    for (int from = 0; from < snapshot.size(); from += properties.batchSize()) {
+      Map<Long, Pending> chunk = new LinkedHashMap<>();
+
+      snapshot
+          .subList(from, Math.min(from + properties.batchSize(), snapshot.size()))
+          .forEach(entry -> chunk.put(entry.getKey(), entry.getValue()));
+
+      if (write(chunk)) {
+        written += chunk.size();
+      }
+    }
+
+    writePagesRead();
+
+    return written;
+  }
+
+  @Override
+  public void destroy() {
+    int written = flush();
+
+    if (!pending.isEmpty() || !pagesRead.isEmpty()) {
+      log.error(
+          "종료 전 현재 페이지를 모두 쓰지 못했습니다. 남은 도서 수: {}, 독서 통계가 남은 사용자 수: {}",
+          pending.size(),
+          pagesRead.size());
+    } else if (written > 0) {
+      log.info("종료 전 현재 페이지 {}건 쓰기 완료", written);
+    }
+  }
+
+  /**
+   * 바깥 트랜잭션 안에서 호출하면 그 트랜잭션에 참여하므로, 버퍼에서는 커밋된 뒤에 지운다. 롤백되면 남겨 두고 다음 주기에 다시 쓴다.
+   *
+   * @return DB에 썼는지, 바깥 트랜잭션에 참여했으면 그 트랜잭션이 커밋되어야 반영된다
+   */
+  private boolean write(Map<Long, Pending> values) {
+    Map<Long, UserBookPageUpdate> updates = new LinkedHashMap<>();
+    Map<Long, Long> writtenVersions = new HashMap<>();
+    values.forEach(
+        (id, value) -> {
+          updates.put(id, new UserBookPageUpdate(value.currentPage(), value.updatedAt()));
+          writtenVersions.put(value.userId(), versions.get(value.userId()));
+        });
+
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            userBookRepository.updateCurrentPages(updates);
+
+            // 세대는 커밋된 뒤에 오르므로, 버전은 그보다 먼저 지우지 않도록 세대를 올린 다음에 지운다
+            writtenVersions.keySet().forEach(userBookListGeneration::bump);
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                  @Override
+                  public void afterCommit() {
+                    forget(values, writtenVersions);
+                  }
+                });
+          });
+    } catch (Exception e) {
+      log.warn("현재 페이지 쓰기 실패, 다음 주기에 다시 씁니다. 도서 수: {}, Error: {}", values.size(), e.getMessage());
+
+      return false;
+    }
+
+    return true;
+  }
+
+  private void forget(Map<Long, Pending> values, Map<Long, Long> writtenVersions) {
+    // 쓰는 동안 같은 도서에 새 값이 들어왔으면 남겨 둔다
+    values.forEach(pending::remove);
+
+    // 세대를 올렸으므로 버전은 지운다, 쓰는 동안 이 사용자의 새 값이 들어왔으면 남겨 둔다
+    writtenVersions.forEach(
+        (userId, version) -> {
+          if (version != null) {
+            versions.remove(userId, version);
+          }
+        });
+  }
+
+  private void writePagesRead() {
+    if (pagesRead.isEmpty()) {
+      return;
+    }
+
+    Map<Long, Integer> snapshot = new HashMap<>(pagesRead);
+
+    try {
+      transactionTemplate.executeWithoutResult(
+          status ->
+              snapshot.forEach(
+                  (userId, pages) -> readingStatsService.recordProgress(userId, pages, 0)));
+    } catch (Exception e) {
+      log.warn("독서 통계 쓰기 실패, 다음 주기에 다시 씁니다. 사용자 수: {}, Error: {}", snapshot.size(), e.getMessage());
+
+      return;
+    }
+
+    snapshot.forEach(
+        (userId, pages) ->
+            pagesRead.computeIfPresent(
+                userId, (id, current) -> current - pages == 0 ? null : current - pages));
+  }
+}
@@ -0,0 +1,18 @@
+package io.reading_tracker.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 현재 페이지 쓰기 지연 설정
+ *
+ * @param enabled false면 모든 수정을 바로 DB에 쓴다
+ * @param flushInterval 모아 둔 현재 페이지를 DB에 쓰는 주기, 노드가 비정상 종료되면 이만큼의 수정을 잃을 수 있다
+ * @param batchSize 한 번의 JDBC batch로 쓰는 최대 도서 수
+ */
+@ConfigurationProperties(prefix = "user-book.write-behind")
+public record ProgressWriteBehindProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("5s") Duration flushInterval,
+    @DefaultValue("500") int batchSize) {}
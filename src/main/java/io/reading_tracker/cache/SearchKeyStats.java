@@ -0,0 +1,47 @@
+package io.reading_tracker.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 검색 캐시 키별 요청 수, JMX searchkeys 엔드포인트로 상위 키를 조회한다
+ *
+ * <p>다른 사용자의 검색어가 담기므로 웹(/actuator)에는 노출하지 않는다.
+ *
+ * <p>키 수는 MAX_KEYS로 제한하고, 넘치면 Caffeine이 자주 쓰이지 않는 키부터 버린다. 노드 시작 이후의 근사값이다.
+ */
+@Component
+@Endpoint(id = "searchkeys")
+public class SearchKeyStats {
+
+  private static final int MAX_KEYS = 10_000;
+  private static final int DEFAULT_LIMIT = 20;
+  private static final int MAX_LIMIT = 1_000;
+
+  private final Cache<String, LongAdder> counts =
+      Caffeine.newBuilder().maximumSize(MAX_KEYS).build();
+
+  public void record(String key) {
+    counts.get(key, k -> new LongAdder()).increment();
+  }
+
+  @ReadOperation
+  public List<KeyCount> topKeys(@Nullable Integer limit) {
+    int size = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+
+    return counts.asMap().entrySet().stream()
+        .map(entry -> new KeyCount(entry.getKey(), entry.getValue().sum()))
+        .sorted(Comparator.comparingLong(KeyCount::count).reversed())
+        .limit(size)
+        .toList();
+  }
+
+  public record KeyCount(String key, long count) {}
+}
@@ -0,0 +1,96 @@
+package io.reading_tracker.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 호출을 하나로 합친다
+ *
+ * <p>먼저 들어온 호출(leader)만 loader를 실행하고, 실행 중에 들어온 같은 키의 호출은 leader의 결과나 예외를 그대로 받는다. 캐시 미스가 몰릴 때 원본
+ * 호출을 한 번으로 줄이는 용도다.
+ *
+ * <p>성공한 결과는 retention 동안 남겨 둔다. 결과는 메서드가 반환된 뒤 @Cacheable이 저장하므로 바로 지우면 저장 전에 들어온 호출이 loader를 다시
+ * 실행한다. 실패는 남기지 않는다. leader를 waitTimeout보다 오래 기다린 호출은 loader를 직접 실행한다.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Duration waitTimeout;
+  private final Duration retention;
+
+  private final LongAdder executed = new LongAdder();
+  private final LongAdder shared = new LongAdder();
+
+  public SingleFlight(Duration waitTimeout, Duration retention) {
+    this.waitTimeout = waitTimeout;
+    this.retention = retention;
+  }
+
+  public V execute(K key, Supplier<V> loader) {
+    CompletableFuture<V> call = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+
+    if (existing != null) {
+      return await(existing, loader);
+    }
+
+    executed.increment();
+
+    try {
+      V value = loader.get();
+      call.complete(value);
+      CompletableFuture.delayedExecutor(retention.toNanos(), TimeUnit.NANOSECONDS)
+          .execute(() -> inFlight.remove(key, call));
+
+      return value;
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(key, call);
+      call.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /** loader를 직접 실행한 호출 수, 기다리다 직접 실행한 호출도 포함한다 */
+  public long executedCount() {
+    return executed.sum();
+  }
+
+  /** 다른 호출의 결과를 받은 호출 수 */
+  public long sharedCount() {
+    return shared.sum();
+  }
+
+  private V await(CompletableFuture<V> call, Supplier<V> loader) {
+    try {
+      V value = call.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+      shared.increment();
+
+      return value;
+    } catch (TimeoutException e) {
+      executed.increment();
+
+      return loader.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("진행 중인 호출을 기다리는 중 인터럽트 발생", e);
+    } catch (ExecutionException e) {
+      shared.increment();
+
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package io.reading_tracker.cache;
+
+import io.reading_tracker.annotation.CacheKey;
+import io.reading_tracker.aop.CustomSpringELParser;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CacheKey} 식으로 캐시 키를 만든다
+ *
+ * <p>분산락 키와 같은 {@link CustomSpringELParser}를 써서 식을 메서드별로 한 번만 파싱, 컴파일한다.
+ */
+@Component("spelKeyGenerator")
+public class SpelKeyGenerator implements KeyGenerator, BeanFactoryAware {
+
+  private final ParameterNameDiscoverer parameterNameDiscoverer =
+      new DefaultParameterNameDiscoverer();
+
+  private final Map<Method, KeyMetadata> metadata = new ConcurrentHashMap<>();
+
+  private BeanFactoryResolver beanResolver;
+
+  @Override
+  public void setBeanFactory(BeanFactory beanFactory) {
+    this.beanResolver = new BeanFactoryResolver(beanFactory);
+  }
+
+  @Override
+  public Object generate(Object target, Method method, Object... params) {
+    KeyMetadata key =
+        metadata.computeIfAbsent(method, m -> KeyMetadata.of(m, target, parameterNameDiscoverer));
+
+    return CustomSpringELParser.getDynamicValue(
+        key.method(), key.parameterNames(), params, key.expression(), beanResolver);
+  }
+
+  private record KeyMetadata(Method method, String[] parameterNames, String expression) {
+
+    static KeyMetadata of(Method method, Object target, ParameterNameDiscoverer discoverer) {
+      // 인터페이스 메서드로 호출되어도 구현 클래스의 애너테이션을 찾는다
+      Method specificMethod = AopUtils.getMostSpecificMethod(method, target.getClass());
+      CacheKey cacheKey =
+          AnnotatedElementUtils.findMergedAnnotation(specificMethod, CacheKey.class);
+
+      if (cacheKey == null) {
+        throw new IllegalStateException("@CacheKey가 없는 메서드입니다: " + specificMethod);
+      }
+
+      String[] parameterNames = discoverer.getParameterNames(specificMethod);
+
+      if (parameterNames == null) {
+        throw new IllegalStateException(
+            "파라미터 이름을 알 수 없습니다, -parameters 옵션을 확인하세요: " + specificMethod);
+      }
+
+      return new KeyMetadata(specificMethod, parameterNames, cacheKey.value());
+    }
+  }
+}
@@ -0,0 +1,245 @@
+package io.reading_tracker.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.reading_tracker.util.LocalLockStripes;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * L1(Caffeine) + L2(Redis) 캐시
+ *
+ * <p>조회는 L1 → L2 순서로 하고 L2에서 찾은 값은 L1에 채운다. 무효화는 L1과 L2를 지운 뒤 다른 노드에 전파한다. put은 DB에서 새로 읽은 값을 채우는
+ * 용도라 전파하지 않는다.
+ *
+ * <p>valueLoader로 읽을 때(@Cacheable(sync = true))는 같은 키의 동시 미스가 노드당 한 번만 읽는다. Caffeine의 get(key,
+ * mappingFunction)은 읽는 동안 같은 버킷의 다른 키까지 막으므로, Redis와 DB를 거치는 느린 읽기는 키를 나눈 락으로 감싼다.
+ */
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+  private static final int LOAD_LOCK_STRIPES = 64;
+
+  private final String name;
+  private final org.springframework.cache.Cache redisCache;
+  private final Cache<String, Object> localCache;
+  private final CacheEvictionPublisher publisher;
+  private final LocalLockStripes loadLocks = new LocalLockStripes(LOAD_LOCK_STRIPES);
+
+  private final LongAdder redisHits = new LongAdder();
+  private final LongAdder redisMisses = new LongAdder();
+
+  TwoLevelCache(
+      String name,
+      org.springframework.cache.Cache redisCache,
+      NearCacheProperties.Spec spec,
+      CacheEvictionPublisher publisher) {
+    this.name = name;
+    this.redisCache = redisCache;
+    this.publisher = publisher;
+    this.localCache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(spec.ttl())
+            .maximumWeight(spec.maxWeight())
+            .weigher(new CacheValueWeigher())
+            .recordStats()
+            .build();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return redisCache.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    String localKey = toLocalKey(key);
+    Object local = localCache.getIfPresent(localKey);
+
+    if (local != null) {
+      return new SimpleValueWrapper(local);
+    }
+
+    ValueWrapper wrapper = redisCache.get(key);
+    recordRedisLookup(wrapper);
+
+    if (wrapper != null && wrapper.get() != null) {
+      localCache.put(localKey, wrapper.get());
+    }
+
+    return wrapper;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper == null ? null : wrapper.get();
+
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "캐시 값의 타입이 일치하지 않습니다: " + type.getName() + ", " + value.getClass().getName());
+    }
+
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    String localKey = toLocalKey(key);
+    Object local = localCache.getIfPresent(localKey);
+
+    if (local != null) {
+      return (T) local;
+    }
+
+    ReentrantLock lock = loadLocks.lockFor(localKey);
+    lock.lock();
+    try {
+      return getOrLoad(key, localKey, valueLoader);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T getOrLoad(Object key, String localKey, Callable<T> valueLoader) {
+    // 락을 기다리는 동안 먼저 읽은 호출이 채웠으면 그 값을 쓴다
+    Object local = localCache.getIfPresent(localKey);
+
+    if (local != null) {
+      return (T) local;
+    }
+
+    ValueWrapper wrapper = redisCache.get(key);
+    recordRedisLookup(wrapper);
+
+    T value;
+
+    if (wrapper != null) {
+      value = (T) wrapper.get();
+    } else {
+      value = load(key, valueLoader);
+
+      if (value != null) {
+        redisCache.put(key, value);
+      }
+    }
+
+    if (value != null) {
+      localCache.put(localKey, value);
+    }
+
+    return value;
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    redisCache.put(key, value);
+
+    if (value != null) {
+      localCache.put(toLocalKey(key), value);
+    }
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    ValueWrapper existing = redisCache.putIfAbsent(key, value);
+    Object current = existing == null ? value : existing.get();
+
+    if (current != null) {
+      localCache.put(toLocalKey(key), current);
+    }
+
+    return existing;
+  }
+
+  /**
+   * L2를 지운 뒤에 L1을 지운다
+   *
+   * <p>L1을 먼저 지우면 L2를 지우기 전에 들어온 조회가 L2의 이전 값을 L1에 다시 채울 수 있다.
+   */
+  @Override
+  public void evict(Object key) {
+    try {
+      redisCache.evict(key);
+    } finally {
+      evictLocal(toLocalKey(key));
+      publisher.publish(name, toLocalKey(key));
+    }
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    try {
+      return redisCache.evictIfPresent(key);
+    } finally {
+      evictLocal(toLocalKey(key));
+      publisher.publish(name, toLocalKey(key));
+    }
+  }
+
+  @Override
+  public void clear() {
+    try {
+      redisCache.clear();
+    } finally {
+      clearLocal();
+      publisher.publish(name, null);
+    }
+  }
+
+  /** 다른 노드에서 전파된 무효화, L2는 이미 지워졌으므로 L1만 지운다 */
+  void evictLocal(String key) {
+    localCache.invalidate(key);
+  }
+
+  void clearLocal() {
+    localCache.invalidateAll();
+  }
+
+  public TierStatistics statistics() {
+    localCache.cleanUp(); // 대기 중인 축출을 반영해 크기를 정확히 보고
+
+    CacheStats localStats = localCache.stats();
+
+    return new TierStatistics(
+        localStats.hitCount(),
+        localStats.missCount(),
+        localCache.estimatedSize(),
+        redisHits.sum(),
+        redisMisses.sum());
+  }
+
+  private static <T> T load(Object key, Callable<T> valueLoader) {
+    try {
+      return valueLoader.call();
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+  }
+
+  private void recordRedisLookup(ValueWrapper wrapper) {
+    if (wrapper != null) {
+      redisHits.increment();
+    } else {
+      redisMisses.increment();
+    }
+  }
+
+  /** Redis 키 변환과 같은 규칙(toString)을 써서 노드 간 전파되는 키와 일치시킨다 */
+  private static String toLocalKey(Object key) {
+    return String.valueOf(key);
+  }
+
+  public record TierStatistics(
+      long localHits, long localMisses, long localSize, long redisHits, long redisMisses) {}
+}
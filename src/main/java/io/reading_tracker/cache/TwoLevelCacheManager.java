@@ -0,0 +1,176 @@
+package io.reading_tracker.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis 캐시 앞에 프로세스 내부 캐시를 두는 CacheManager
+ *
+ * <p>무효화는 Redis pub/sub({@link #EVICTION_CHANNEL})으로 다른 노드에 전파되어 각 노드의 L1에서도 지워진다. 메시지를 놓친 노드는 L1
+ * TTL이 지나면 다시 Redis를 읽는다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener, MeterBinder {
+
+  public static final String EVICTION_CHANNEL = "cache:evict";
+
+  private final CacheManager redisCacheManager;
+  private final NearCacheProperties properties;
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+  /** bindTo 이후 만든 캐시도 연산 시간을 남기도록 보관 */
+  private volatile MeterRegistry meterRegistry;
+
+  public TwoLevelCacheManager(
+      CacheManager redisCacheManager,
+      NearCacheProperties properties,
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper) {
+    this.redisCacheManager = redisCacheManager;
+    this.properties = properties;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+
+    redisCacheManager.getCacheNames().forEach(this::getCache);
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    Cache cache = caches.get(name);
+
+    if (cache != null) {
+      return cache;
+    }
+
+    Cache redisCache = redisCacheManager.getCache(name);
+
+    if (redisCache == null) {
+      return null;
+    }
+
+    return caches.computeIfAbsent(name, cacheName -> decorate(cacheName, redisCache));
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return Collections.unmodifiableSet(caches.keySet());
+  }
+
+  private Cache decorate(String name, Cache redisCache) {
+    Cache cache =
+        properties.enabled()
+            ? new TwoLevelCache(name, redisCache, properties.specOf(name), this::publish)
+            : redisCache;
+
+    return meterRegistry == null ? cache : new MeteredCache(cache, meterRegistry);
+  }
+
+  private static Cache unwrap(Cache cache) {
+    return cache instanceof MeteredCache meteredCache ? meteredCache.delegate() : cache;
+  }
+
+  private void publish(String cacheName, String key) {
+    try {
+      String payload =
+          objectMapper.writeValueAsString(new CacheEvictionMessage(nodeId, cacheName, key));
+      redisTemplate.convertAndSend(EVICTION_CHANNEL, payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("캐시 무효화 메시지 직렬화 실패", e);
+    } catch (Exception e) {
+      // 전파 실패 시 다른 노드의 L1은 TTL 만료로 정리된다
+      log.warn("캐시 무효화 전파 실패. cache: {}, key: {}, Error: {}", cacheName, key, e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    CacheEvictionMessage eviction;
+
+    try {
+      eviction =
+          objectMapper.readValue(
+              new String(message.getBody(), StandardCharsets.UTF_8), CacheEvictionMessage.class);
+    } catch (Exception e) {
+      log.warn("잘못된 캐시 무효화 메시지입니다: {}", e.getMessage());
+      return;
+    }
+
+    if (nodeId.equals(eviction.origin())) {
+      return;
+    }
+
+    if (!(unwrap(caches.get(eviction.cacheName())) instanceof TwoLevelCache cache)) {
+      return;
+    }
+
+    if (eviction.key() == null) {
+      cache.clearLocal();
+    } else {
+      cache.evictLocal(eviction.key());
+    }
+
+    log.debug("다른 노드의 캐시 무효화 반영. cache: {}, key: {}", eviction.cacheName(), eviction.key());
+  }
+
+  /**
+   * 캐시 연산 시간과 hit/miss를 cache.operations{cache, operation, result}, 계층별 hit/miss를
+   * cache.near.gets{cache, tier, result}로 노출
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    meterRegistry = registry;
+    caches.replaceAll(
+        (name, cache) -> cache instanceof MeteredCache ? cache : new MeteredCache(cache, registry));
+
+    caches.forEach(
+        (name, cache) -> {
+          if (!(unwrap(cache) instanceof TwoLevelCache twoLevelCache)) {
+            return;
+          }
+
+          registerGets(registry, twoLevelCache, "l1", "hit", s -> s.localHits());
+          registerGets(registry, twoLevelCache, "l1", "miss", s -> s.localMisses());
+          registerGets(registry, twoLevelCache, "l2", "hit", s -> s.redisHits());
+          registerGets(registry, twoLevelCache, "l2", "miss", s -> s.redisMisses());
+
+          Gauge.builder("cache.near.size", twoLevelCache, c -> c.statistics().localSize())
+              .tag("cache", name)
+              .description("L1 캐시 항목 수")
+              .register(registry);
+        });
+  }
+
+  private void registerGets(
+      MeterRegistry registry,
+      TwoLevelCache cache,
+      String tier,
+      String result,
+      ToDoubleFunction<TwoLevelCache.TierStatistics> value) {
+    FunctionCounter.builder("cache.near.gets", cache, c -> value.applyAsDouble(c.statistics()))
+        .tags("cache", cache.getName(), "tier", tier, "result", result)
+        .register(registry);
+  }
+
+  record CacheEvictionMessage(String origin, String cacheName, String key) {}
+}
@@ -0,0 +1,101 @@
+package io.reading_tracker.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 유저별 도서 목록 캐시 세대 번호
+ *
+ * <p>userBookList, userBookPage 캐시 키에 세대 번호를 넣고, 쓰기 시 번호만 올려 이전 키를 모두 무효화한다. 이전 세대의 항목은 지우지 않고 캐시
+ * TTL로 만료시킨다.
+ *
+ * <p>도서 목록과 프로필의 ETag({@link LibraryVersion})도 세대 번호로 만든다. 프로필을 바꿀 때도 세대를 올린다.
+ *
+ * <p>세대 키는 만료시키지 않는다. 만료되어 번호가 0부터 다시 시작하면 클라이언트가 가진 이전 ETag나 남아 있는 캐시 키와 겹친다.
+ *
+ * <p>세대 번호는 localTtl 동안 노드 로컬에 캐시한다. 다른 노드에서 발생한 쓰기는 최대 localTtl 만큼 늦게 보일 수 있다.
+ */
+@Slf4j
+@Component
+public class UserBookListGeneration {
+
+  static final String KEY_PREFIX = "userBookList:generation:";
+
+  /** Redis 장애로 세대를 읽지 못했을 때의 번호, 정상 번호(0 이상)와 겹치지 않는다. 이 번호로는 캐시와 ETag를 쓰지 않는다 */
+  public static final long UNAVAILABLE = -1L;
+
+  private final StringRedisTemplate redisTemplate;
+  private final Cache<Long, Long> localGenerations;
+
+  public UserBookListGeneration(
+      StringRedisTemplate redisTemplate,
+      @Value("${cache.generation.local-ttl:1s}") Duration localTtl) {
+    this.redisTemplate = redisTemplate;
+    this.localGenerations =
+        Caffeine.newBuilder().expireAfterWrite(localTtl).maximumSize(100_000).build();
+  }
+
+  /** 캐시 키에 쓸 현재 세대 번호, 읽지 못하면 {@link #UNAVAILABLE} */
+  public long current(Long userId) {
+    Long cached = localGenerations.getIfPresent(userId);
+
+    if (cached != null) {
+      return cached;
+    }
+
+    try {
+      String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+      long generation = value == null ? 0L : Long.parseLong(value);
+      localGenerations.put(userId, generation);
+
+      return generation;
+    } catch (Exception e) {
+      log.warn("도서 목록 캐시 세대 조회 실패. userId: {}, Error: {}", userId, e.getMessage());
+
+      return UNAVAILABLE;
+    }
+  }
+
+  /** 세대 번호를 올린다, 트랜잭션 안에서 호출하면 커밋 이후에 올린다 */
+  public void bump(Long userId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      increment(userId);
+      return;
+    }
+
+    // 커밋 전에 올리면 다른 요청이 커밋 전 데이터를 새 세대로 캐시할 수 있다
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            increment(userId);
+          }
+        });
+  }
+
+  private void increment(Long userId) {
+    String key = KEY_PREFIX + userId;
+
+    try {
+      Long generation = redisTemplate.opsForValue().increment(key);
+      redisTemplate.persist(key); // 이전 버전이 걸어 둔 만료 시간을 지운다
+
+      if (generation != null) {
+        localGenerations.put(userId, generation);
+      } else {
+        localGenerations.invalidate(userId);
+      }
+    } catch (Exception e) {
+      // 이 노드는 다음 조회에서 다시 읽고, 다른 노드의 항목은 캐시 TTL로 만료된다
+      localGenerations.invalidate(userId);
+      log.warn("도서 목록 캐시 세대 갱신 실패. userId: {}, Error: {}", userId, e.getMessage());
+    }
+  }
+}
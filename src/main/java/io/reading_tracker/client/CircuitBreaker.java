@@ -0,0 +1,153 @@
+package io.reading_tracker.client;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 호출 수 기준 서킷 브레이커
+ *
+ * <p>최근 slidingWindowSize개 호출 중 실패율이 기준 이상이면 열고(OPEN), 열린 동안은 호출하지 않는다. openDuration이 지나면 시험 호출 하나만
+ * 허용하고(HALF_OPEN), 성공하면 닫고 실패하면 다시 연다.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final boolean[] outcomes;
+  private final int minimumCalls;
+  private final double failureRateThreshold;
+  private final long openDurationNanos;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private State state = State.CLOSED;
+  private int index;
+  private int recorded;
+  private int failures;
+  private long openedAt;
+  private boolean trialInFlight;
+
+  public CircuitBreaker(NaverSearchProperties.CircuitBreakerSpec spec) {
+    this(
+        spec.slidingWindowSize(),
+        spec.minimumCalls(),
+        spec.failureRateThreshold(),
+        spec.openDuration());
+  }
+
+  public CircuitBreaker(
+      int slidingWindowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+    this.outcomes = new boolean[slidingWindowSize];
+    this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+    this.failureRateThreshold = failureRateThreshold;
+    this.openDurationNanos = openDuration.toNanos();
+  }
+
+  /** 호출해도 되는지, true를 받았으면 결과를 onSuccess, onFailure, onIgnored 중 하나로 알려야 한다 */
+  public boolean tryAcquire() {
+    lock.lock();
+    try {
+      if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+        state = State.HALF_OPEN;
+        trialInFlight = false;
+      }
+
+      return switch (state) {
+        case CLOSED -> true;
+        case OPEN -> false;
+        case HALF_OPEN -> {
+          if (trialInFlight) {
+            yield false;
+          }
+          trialInFlight = true;
+          yield true;
+        }
+      };
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void onSuccess() {
+    lock.lock();
+    try {
+      if (state == State.HALF_OPEN) {
+        close();
+        return;
+      }
+
+      record(false);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void onFailure() {
+    lock.lock();
+    try {
+      if (state == State.HALF_OPEN) {
+        open();
+        return;
+      }
+
+      record(true);
+
+      if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+        open();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 호출하지 않았거나 상태 판단에 쓰지 않을 결과 */
+  public void onIgnored() {
+    lock.lock();
+    try {
+      if (state == State.HALF_OPEN) {
+        trialInFlight = false;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public State state() {
+    lock.lock();
+    try {
+      return state;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void record(boolean failure) {
+    if (recorded == outcomes.length && outcomes[index]) {
+      failures--;
+    }
+
+    outcomes[index] = failure;
+    index = (index + 1) % outcomes.length;
+    recorded = Math.min(recorded + 1, outcomes.length);
+
+    if (failure) {
+      failures++;
+    }
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAt = System.nanoTime();
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    index = 0;
+    recorded = 0;
+    failures = 0;
+  }
+}
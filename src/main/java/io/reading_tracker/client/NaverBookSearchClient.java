@@ -0,0 +1,349 @@
+package io.reading_tracker.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.reading_tracker.exception.UpstreamUnavailableException;
+import io.reading_tracker.response.SearchBookResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * 네이버 도서 검색 API 클라이언트
+ *
+ * <p>커넥션 풀과 연결/응답 제한 시간으로 한 호출이 걸리는 시간을 제한하고, 동시 호출 수를 제한해(bulkhead) 네이버가 느려져도 요청 스레드가 모두 묶이지 않게
+ * 한다. 연속으로 실패하면 서킷 브레이커가 열려 호출하지 않고 바로 {@link UpstreamUnavailableException}을 던진다.
+ *
+ * <p>HTTP 요청마다 걸린 시간은 naver.search.requests{status, error}, 보내지 않고 거절한 호출은
+ * naver.search.rejections{reason}로 남긴다.
+ */
+@Slf4j
+public class NaverBookSearchClient implements AutoCloseable {
+
+  private static final String SEARCH_PATH = "/v1/search/book.json";
+  private static final String REQUESTS = "naver.search.requests";
+  private static final Duration[] REQUEST_SLO = {
+    Duration.ofMillis(100),
+    Duration.ofMillis(300),
+    Duration.ofMillis(500),
+    Duration.ofSeconds(1),
+    Duration.ofSeconds(2),
+    Duration.ofSeconds(3)
+  };
+
+  private final CloseableHttpClient httpClient;
+  private final RestClient restClient;
+  private final Semaphore bulkhead;
+  private final Duration maxWait;
+  private final Duration hedgeDelay;
+  private final CircuitBreaker circuitBreaker;
+  private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private final MeterRegistry meterRegistry;
+  private final Counter circuitOpenRejections;
+  private final Counter bulkheadRejections;
+
+  public NaverBookSearchClient(
+      NaverSearchProperties properties,
+      String clientId,
+      String clientSecret,
+      MeterRegistry meterRegistry) {
+    this.httpClient = createHttpClient(properties);
+    this.restClient =
+        RestClient.builder()
+            .baseUrl(properties.baseUrl())
+            .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+            .defaultHeader("X-Naver-Client-Id", clientId)
+            .defaultHeader("X-Naver-Client-Secret", clientSecret)
+            .build();
+    this.bulkhead = new Semaphore(properties.maxConcurrentCalls());
+    this.maxWait = properties.maxWait();
+    this.hedgeDelay = properties.hedgeDelay();
+    this.circuitBreaker = new CircuitBreaker(properties.circuitBreaker());
+    this.meterRegistry = meterRegistry;
+    this.circuitOpenRejections = rejections("circuit_open", meterRegistry);
+    this.bulkheadRejections = rejections("bulkhead", meterRegistry);
+  }
+
+  private static Counter rejections(String reason, MeterRegistry meterRegistry) {
+    return Counter.builder("naver.search.rejections")
+        .tag("reason", reason)
+        .description("네이버 도서 검색 API를 호출하지 않고 거절한 수")
+        .register(meterRegistry);
+  }
+
+  private static CloseableHttpClient createHttpClient(NaverSearchProperties properties) {
+    ConnectionConfig connectionConfig =
+        ConnectionConfig.custom()
+            .setConnectTimeout(timeout(properties.connectTimeout()))
+            .setSocketTimeout(timeout(properties.readTimeout()))
+            .build();
+
+    RequestConfig requestConfig =
+        RequestConfig.custom()
+            .setConnectionRequestTimeout(timeout(properties.maxWait()))
+            .setResponseTimeout(timeout(properties.readTimeout()))
+            .build();
+
+    return HttpClients.custom()
+        .setConnectionManager(
+            PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(properties.maxConnections())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build())
+        .setDefaultRequestConfig(requestConfig)
+        .disableAutomaticRetries()
+        .evictIdleConnections(TimeValue.ofSeconds(30))
+        .build();
+  }
+
+  public SearchBookResponse search(String query, int start, int display) {
+    if (!circuitBreaker.tryAcquire()) {
+      circuitOpenRejections.increment();
+      throw new UpstreamUnavailableException("네이버 도서 검색이 일시적으로 중단되었습니다.");
+    }
+
+    if (!acquirePermit()) {
+      circuitBreaker.onIgnored();
+      bulkheadRejections.increment();
+      log.warn("네이버 도서 검색 동시 호출 한도 초과. query: {}", query);
+      throw new UpstreamUnavailableException("네이버 도서 검색 요청이 많아 잠시 후 다시 시도하세요.");
+    }
+
+    return hedgeDelay == null
+        ? callTracked(query, start, display)
+        : callHedged(query, start, display);
+  }
+
+  public CircuitBreaker.State circuitState() {
+    return circuitBreaker.state();
+  }
+
+  /**
+   * 먼저 보낸 요청이 hedgeDelay 안에 끝나지 않으면 한 번 더 보내고 먼저 성공한 응답을 쓴다
+   *
+   * <p>두 요청은 각자 서킷 브레이커 허가와 동시 호출 한도를 얻고, 끝날 때 각자 결과를 알리고 한도를 돌려준다. 진 요청도 끝날 때까지 한도를 쥐고 있고 실패하면 서킷
+   * 브레이커에 실패로 남는다.
+   */
+  private SearchBookResponse callHedged(String query, int start, int display) {
+    CompletableFuture<SearchBookResponse> primary =
+        CompletableFuture.supplyAsync(() -> callTracked(query, start, display), hedgeExecutor);
+
+    try {
+      return primary.get(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      // 추가 요청은 서킷 브레이커와 동시 호출 한도에 여유가 있을 때만 보낸다
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("네이버 도서 검색 대기 중 인터럽트 발생", e);
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    }
+
+    if (!acquireHedge()) {
+      return await(primary);
+    }
+
+    CompletableFuture<SearchBookResponse> hedge =
+        CompletableFuture.supplyAsync(() -> callTracked(query, start, display), hedgeExecutor);
+
+    return await(firstSuccessful(primary, hedge));
+  }
+
+  /** 서킷 브레이커 허가와 동시 호출 한도를 이미 얻은 호출, 끝나면 결과를 알리고 한도를 돌려준다 */
+  private SearchBookResponse callTracked(String query, int start, int display) {
+    try {
+      SearchBookResponse response = call(query, start, display);
+      circuitBreaker.onSuccess();
+
+      return response;
+    } catch (RuntimeException e) {
+      if (isUpstreamFailure(e)) {
+        circuitBreaker.onFailure();
+      } else {
+        circuitBreaker.onIgnored();
+      }
+
+      throw e;
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  /** 기다리지 않고 얻는다, 시험 호출 중(HALF_OPEN)이면 추가 요청을 보내지 않는다 */
+  private boolean acquireHedge() {
+    if (!circuitBreaker.tryAcquire()) {
+      return false;
+    }
+
+    if (!bulkhead.tryAcquire()) {
+      circuitBreaker.onIgnored();
+      return false;
+    }
+
+    return true;
+  }
+
+  private static CompletableFuture<SearchBookResponse> firstSuccessful(
+      CompletableFuture<SearchBookResponse> first, CompletableFuture<SearchBookResponse> second) {
+    CompletableFuture<SearchBookResponse> result = new CompletableFuture<>();
+    AtomicInteger remaining = new AtomicInteger(2);
+
+    for (CompletableFuture<SearchBookResponse> call : List.of(first, second)) {
+      call.whenComplete(
+          (response, error) -> {
+            if (error == null) {
+              result.complete(response);
+            } else if (remaining.decrementAndGet() == 0) {
+              result.completeExceptionally(error);
+            }
+          });
+    }
+
+    return result;
+  }
+
+  private SearchBookResponse call(String query, int start, int display) {
+    NaverBookSearchResponse response = request(query, start, display).getBody();
+
+    if (response == null) {
+      return SearchBookResponse.empty(start);
+    }
+
+    List<NaverBookItem> items =
+        response.items() == null ? Collections.emptyList() : response.items();
+
+    List<SearchBookResponse.BookItem> mappedItems = items.stream().map(this::toBookItem).toList();
+
+    return SearchBookResponse.of(response.total(), start, mappedItems);
+  }
+
+  /** 응답 상태 코드(응답을 받지 못했으면 NONE)와 예외 클래스명(없으면 none)으로 나눠 시간을 남긴다 */
+  private ResponseEntity<NaverBookSearchResponse> request(String query, int start, int display) {
+    long startedAt = System.nanoTime();
+    String status = "NONE";
+    String error = "none";
+
+    try {
+      ResponseEntity<NaverBookSearchResponse> response =
+          restClient
+              .get()
+              .uri(
+                  uriBuilder ->
+                      uriBuilder
+                          .path(SEARCH_PATH)
+                          .queryParam("query", query)
+                          .queryParam("start", start)
+                          .queryParam("display", display)
+                          .build())
+              .retrieve()
+              .toEntity(NaverBookSearchResponse.class);
+      status = String.valueOf(response.getStatusCode().value());
+
+      return response;
+    } catch (RuntimeException e) {
+      if (e instanceof RestClientResponseException responseException) {
+        status = String.valueOf(responseException.getStatusCode().value());
+      }
+      error = e.getClass().getSimpleName();
+
+      throw e;
+    } finally {
+      Timer.builder(REQUESTS)
+          .tags("status", status, "error", error)
+          .serviceLevelObjectives(REQUEST_SLO)
+          .description("네이버 도서 검색 API 요청 시간")
+          .register(meterRegistry)
+          .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private SearchBookResponse.BookItem toBookItem(NaverBookItem item) {
+    return new SearchBookResponse.BookItem(
+        item.isbn(), item.title(), item.author(), item.publisher(), item.link());
+  }
+
+  private boolean acquirePermit() {
+    try {
+      return bulkhead.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /** 네이버 쪽 장애로 볼 실패, 잘못된 요청(4xx)은 서킷 브레이커 판단에서 뺀다 */
+  private static boolean isUpstreamFailure(RuntimeException e) {
+    if (e instanceof HttpClientErrorException clientError) {
+      return clientError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    return e instanceof RestClientException;
+  }
+
+  private static SearchBookResponse await(CompletableFuture<SearchBookResponse> call) {
+    try {
+      return call.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("네이버 도서 검색 대기 중 인터럽트 발생", e);
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  private static RuntimeException unwrap(ExecutionException e) {
+    Throwable cause = e.getCause();
+
+    if (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+
+    return cause instanceof RuntimeException runtimeException
+        ? runtimeException
+        : new IllegalStateException(cause);
+  }
+
+  private static Timeout timeout(Duration duration) {
+    return Timeout.ofMilliseconds(duration.toMillis());
+  }
+
+  @Override
+  public void close() throws Exception {
+    hedgeExecutor.shutdownNow();
+    httpClient.close();
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  private record NaverBookSearchResponse(int total, int display, List<NaverBookItem> items) {}
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  private record NaverBookItem(
+      String isbn, String title, String author, String publisher, String link) {}
+}
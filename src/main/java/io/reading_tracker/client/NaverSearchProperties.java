@@ -0,0 +1,79 @@
+package io.reading_tracker.client;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 네이버 도서 검색 API 클라이언트 설정
+ *
+ * @param baseUrl API 주소
+ * @param connectTimeout 연결 제한 시간
+ * @param readTimeout 응답 제한 시간
+ * @param maxConnections 커넥션 풀 크기
+ * @param maxConcurrentCalls 동시 호출 한도, 넘으면 maxWait만큼 기다린 뒤 실패한다
+ * @param maxWait 동시 호출 한도에 걸렸을 때 기다리는 시간
+ * @param hedgeDelay 응답이 이 시간보다 늦으면 같은 요청을 한 번 더 보내 먼저 온 응답을 쓴다, 없으면 사용하지 않음
+ * @param circuitBreaker 서킷 브레이커 설정
+ * @param quota 일일 호출 한도
+ * @param prefetch 다음 페이지 미리 가져오기 설정
+ */
+@ConfigurationProperties(prefix = "naver.search")
+public record NaverSearchProperties(
+    @DefaultValue("https://openapi.naver.com") String baseUrl,
+    @DefaultValue("1s") Duration connectTimeout,
+    @DefaultValue("2s") Duration readTimeout,
+    @DefaultValue("50") int maxConnections,
+    @DefaultValue("20") int maxConcurrentCalls,
+    @DefaultValue("100ms") Duration maxWait,
+    Duration hedgeDelay,
+    @DefaultValue CircuitBreakerSpec circuitBreaker,
+    @DefaultValue QuotaSpec quota,
+    @DefaultValue PrefetchSpec prefetch) {
+
+  /**
+   * 검색 한 번이 실패로 끝나기까지 걸릴 수 있는 가장 긴 시간
+   *
+   * <p>동시 호출 한도와 커넥션 풀에서 각각 maxWait, 연결과 응답에 connectTimeout과 readTimeout을 기다린다. 재요청을 쓰면 두 번째 요청이
+   * hedgeDelay 뒤에 시작하므로 그만큼 더 걸린다.
+   */
+  public Duration maxCallDuration() {
+    Duration call = maxWait.multipliedBy(2).plus(connectTimeout).plus(readTimeout);
+
+    return hedgeDelay == null ? call : call.plus(hedgeDelay);
+  }
+
+  /**
+   * @param slidingWindowSize 실패율을 계산할 최근 호출 수
+   * @param minimumCalls 실패율을 계산하기 시작하는 최소 호출 수
+   * @param failureRateThreshold 이 비율 이상 실패하면 연다
+   * @param openDuration 열린 뒤 시험 호출을 허용하기까지의 시간
+   */
+  public record CircuitBreakerSpec(
+      @DefaultValue("20") int slidingWindowSize,
+      @DefaultValue("10") int minimumCalls,
+      @DefaultValue("0.5") double failureRateThreshold,
+      @DefaultValue("30s") Duration openDuration) {}
+
+  /**
+   * @param dailyLimit 애플리케이션 전체의 일일 호출 한도
+   * @param zone 한도가 초기화되는 날짜 기준 시간대
+   */
+  public record QuotaSpec(
+      @DefaultValue("25000") long dailyLimit, @DefaultValue("Asia/Seoul") ZoneId zone) {}
+
+  /**
+   * @param enabled false면 미리 가져오지 않는다
+   * @param threads 미리 가져오기 스레드 수
+   * @param queueCapacity 대기할 수 있는 미리 가져오기 수, 넘으면 버린다
+   * @param maxShare 일일 한도 중 미리 가져오기에 쓸 수 있는 비율
+   * @param stopAtUsage 일일 한도를 이 비율 이상 쓰면 미리 가져오지 않는다
+   */
+  public record PrefetchSpec(
+      @DefaultValue("true") boolean enabled,
+      @DefaultValue("2") int threads,
+      @DefaultValue("100") int queueCapacity,
+      @DefaultValue("0.2") double maxShare,
+      @DefaultValue("0.8") double stopAtUsage) {}
+}
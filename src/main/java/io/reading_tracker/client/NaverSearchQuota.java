@@ -0,0 +1,152 @@
+package io.reading_tracker.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 네이버 도서 검색 API 일일 호출 사용량
+ *
+ * <p>모든 노드가 한도 하나를 나눠 쓰므로 Redis에 날짜별로 센다. Redis 오류 시에는 이 노드가 마지막으로 본 값에 이어서 센다. 사용량은 다음 페이지를 미리
+ * 가져올지 판단하는 데만 쓰고 사용자 요청은 막지 않는다.
+ */
+@Slf4j
+@Component
+public class NaverSearchQuota implements MeterBinder {
+
+  static final String KEY_PREFIX = "naver:quota:";
+
+  /** 날짜가 바뀐 뒤에도 전날 사용량을 확인할 수 있도록 하루 더 남긴다 */
+  private static final Duration KEY_TTL = Duration.ofDays(2);
+
+  private final StringRedisTemplate redisTemplate;
+  private final NaverSearchProperties.QuotaSpec quota;
+  private final NaverSearchProperties.PrefetchSpec prefetch;
+  private final Clock clock;
+
+  private final AtomicReference<Usage> usage;
+
+  @Autowired
+  public NaverSearchQuota(StringRedisTemplate redisTemplate, NaverSearchProperties properties) {
+    this(redisTemplate, properties, Clock.system(properties.quota().zone()));
+  }
+
+  NaverSearchQuota(
+      StringRedisTemplate redisTemplate, NaverSearchProperties properties, Clock clock) {
+    this.redisTemplate = redisTemplate;
+    this.quota = properties.quota();
+    this.prefetch = properties.prefetch();
+    this.clock = clock;
+    this.usage = new AtomicReference<>(Usage.empty(LocalDate.now(clock)));
+  }
+
+  /** 네이버 API를 호출할 때마다 기록한다 */
+  public void recordCall(boolean prefetched) {
+    LocalDate today = LocalDate.now(clock);
+    String key = KEY_PREFIX + today;
+
+    try {
+      Long calls = increment(key);
+      Long prefetchCalls = prefetched ? increment(key + ":prefetch") : null;
+
+      usage.updateAndGet(current -> current.observe(today, calls, prefetchCalls));
+    } catch (Exception e) {
+      usage.updateAndGet(current -> current.increment(today, prefetched));
+      log.warn("네이버 검색 호출 수 기록 실패. key: {}, Error: {}", key, e.getMessage());
+    }
+  }
+
+  /** 네이버가 한도 초과(429)로 응답하면 오늘은 더 미리 가져오지 않는다 */
+  public void recordExhausted() {
+    LocalDate today = LocalDate.now(clock);
+    usage.updateAndGet(current -> current.exhaust(today));
+  }
+
+  /** 오늘 사용량이 stopAtUsage 미만이고 미리 가져오기 몫(maxShare)이 남았는지 */
+  public boolean allowsPrefetch() {
+    if (!prefetch.enabled()) {
+      return false;
+    }
+
+    Usage current = usage.get();
+
+    if (!current.date().equals(LocalDate.now(clock))) {
+      return true;
+    }
+
+    return !current.exhausted()
+        && current.calls() < quota.dailyLimit() * prefetch.stopAtUsage()
+        && current.prefetchCalls() < quota.dailyLimit() * prefetch.maxShare();
+  }
+
+  public Usage usage() {
+    return usage.get();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("naver.search.quota.used", this, q -> q.currentUsage().calls())
+        .description("오늘 네이버 도서 검색 API 호출 수(이 노드가 마지막으로 본 값)")
+        .register(registry);
+    Gauge.builder("naver.search.quota.limit", quota, NaverSearchProperties.QuotaSpec::dailyLimit)
+        .description("네이버 도서 검색 API 일일 호출 한도")
+        .register(registry);
+  }
+
+  private Usage currentUsage() {
+    Usage current = usage.get();
+    return current.date().equals(LocalDate.now(clock)) ? current : Usage.empty(current.date());
+  }
+
+  private Long increment(String key) {
+    Long value = redisTemplate.opsForValue().increment(key);
+
+    if (value != null && value == 1L) {
+      redisTemplate.expire(key, KEY_TTL);
+    }
+
+    return value;
+  }
+
+  /**
+   * @param calls 오늘 전체 호출 수
+   * @param prefetchCalls 그중 미리 가져오기 호출 수
+   * @param exhausted 오늘 네이버가 한도 초과로 응답했는지
+   */
+  public record Usage(LocalDate date, long calls, long prefetchCalls, boolean exhausted) {
+
+    static Usage empty(LocalDate date) {
+      return new Usage(date, 0, 0, false);
+    }
+
+    Usage observe(LocalDate today, Long observedCalls, Long observedPrefetchCalls) {
+      Usage base = date.equals(today) ? this : empty(today);
+
+      return new Usage(
+          today,
+          observedCalls == null ? base.calls + 1 : observedCalls,
+          observedPrefetchCalls == null ? base.prefetchCalls : observedPrefetchCalls,
+          base.exhausted);
+    }
+
+    Usage increment(LocalDate today, boolean prefetched) {
+      Usage base = date.equals(today) ? this : empty(today);
+
+      return new Usage(
+          today, base.calls + 1, base.prefetchCalls + (prefetched ? 1 : 0), base.exhausted);
+    }
+
+    Usage exhaust(LocalDate today) {
+      Usage base = date.equals(today) ? this : empty(today);
+      return new Usage(today, base.calls, base.prefetchCalls, true);
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package io.reading_tracker.config;
+
+import io.reading_tracker.search.LocalSearchProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LocalSearchProperties.class)
+public class LocalSearchConfig {}
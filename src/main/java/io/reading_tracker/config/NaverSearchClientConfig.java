@@ -0,0 +1,23 @@
+package io.reading_tracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.reading_tracker.client.NaverBookSearchClient;
+import io.reading_tracker.client.NaverSearchProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(NaverSearchProperties.class)
+public class NaverSearchClientConfig {
+
+  @Bean
+  public NaverBookSearchClient naverBookSearchClient(
+      NaverSearchProperties properties,
+      @Value("${NAVER_CLIENT_ID}") String clientId,
+      @Value("${NAVER_CLIENT_SECRET}") String clientSecret,
+      MeterRegistry meterRegistry) {
+    return new NaverBookSearchClient(properties, clientId, clientSecret, meterRegistry);
+  }
+}
@@ -1,9 +1,13 @@
 package io.reading_tracker.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reading_tracker.cache.NearCacheProperties;
+import io.reading_tracker.cache.TwoLevelCacheManager;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
@@ -11,10 +15,15 @@ import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.cache.interceptor.SimpleCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -22,10 +31,36 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @Slf4j
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(NearCacheProperties.class)
 public class RedisConfig implements CachingConfigurer {
 
+  /** Redis 캐시(L2) 앞에 노드 로컬 캐시(L1)를 둔다, L1 설정은 cache.near 참고 */
   @Bean
-  public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+  public TwoLevelCacheManager cacheManager(
+      RedisConnectionFactory connectionFactory,
+      NearCacheProperties nearCacheProperties,
+      StringRedisTemplate stringRedisTemplate,
+      ObjectMapper objectMapper) {
+    return new TwoLevelCacheManager(
+        redisCacheManager(connectionFactory),
+        nearCacheProperties,
+        stringRedisTemplate,
+        objectMapper);
+  }
+
+  /** 다른 노드에서 발생한 캐시 무효화를 받아 L1에 반영 */
+  @Bean
+  public RedisMessageListenerContainer cacheEvictionListenerContainer(
+      RedisConnectionFactory connectionFactory, TwoLevelCacheManager cacheManager) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        cacheManager, new ChannelTopic(TwoLevelCacheManager.EVICTION_CHANNEL));
+
+    return container;
+  }
+
+  private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
     RedisCacheConfiguration defaultConfig =
         RedisCacheConfiguration.defaultCacheConfig()
             .disableCachingNullValues()
@@ -42,13 +77,21 @@ public class RedisConfig implements CachingConfigurer {
 
     cacheConfiguration.put("naverBookSearch", defaultConfig.entryTtl(Duration.ofDays(1)));
     cacheConfiguration.put("userBookList", defaultConfig.entryTtl(Duration.ofHours(1)));
+    cacheConfiguration.put("userBookPage", defaultConfig.entryTtl(Duration.ofMinutes(10)));
     cacheConfiguration.put(
         "userProfile", defaultConfig.entryTtl(Duration.ofDays(7))); // JWT 쿠키 TTL과 동일
 
-    return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(connectionFactory)
-        .cacheDefaults(defaultConfig)
-        .withInitialCacheConfigurations(cacheConfiguration)
-        .build();
+    RedisCacheManager redisCacheManager =
+        RedisCacheManager.RedisCacheManagerBuilder.fromCacheWriter(
+                // 전체 무효화(allEntries) 시 KEYS 대신 SCAN으로 지운다
+                RedisCacheWriter.nonLockingRedisCacheWriter(
+                    connectionFactory, BatchStrategies.scan(1000)))
+            .cacheDefaults(defaultConfig)
+            .withInitialCacheConfigurations(cacheConfiguration)
+            .build();
+    redisCacheManager.afterPropertiesSet(); // 빈으로 등록하지 않으므로 직접 초기화
+
+    return redisCacheManager;
   }
 
   @Override
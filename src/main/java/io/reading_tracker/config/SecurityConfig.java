@@ -60,7 +60,11 @@ public class SecurityConfig {
                         "/favicon.ico",
                         "/login",
                         "/error",
+                        "/livez",
+                        "/readyz",
+                        // actuator는 management.server.port에서만 열리고 서비스 포트에는 없다
                         "/actuator/health",
+                        "/actuator/prometheus",
                         "/api/auth/**",
                         "/oauth2/**",
                         "/login/oauth2/**")
@@ -1,18 +1,31 @@
 package io.reading_tracker.controller;
 
 import io.reading_tracker.auth.PrincipalDetails;
+import io.reading_tracker.cache.LibraryVersion;
+import io.reading_tracker.cache.SearchKeyStats;
 import io.reading_tracker.domain.book.State;
 import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.request.BatchUpdateUserBookRequest;
+import io.reading_tracker.request.BulkAddUserBookRequest;
+import io.reading_tracker.request.ExportFormat;
 import io.reading_tracker.request.UpdateUserBookRequest;
 import io.reading_tracker.response.AddUserBookResponse;
+import io.reading_tracker.response.BatchUpdateUserBookResponse;
+import io.reading_tracker.response.BulkAddUserBookResponse;
 import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.response.GetBookPageResponse;
 import io.reading_tracker.response.SearchBookResponse;
 import io.reading_tracker.response.UpdateUserBookResponse;
+import io.reading_tracker.service.BookExportService;
+import io.reading_tracker.service.BookImportService;
+import io.reading_tracker.service.BookProgressBatchService;
 import io.reading_tracker.service.BookSearchService;
 import io.reading_tracker.service.BookService;
+import io.reading_tracker.util.SearchQueryCanonicalizer;
 import jakarta.validation.Valid;
-import java.util.Collections;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,45 +36,121 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/books")
 @RequiredArgsConstructor
 public class BookController {
 
+  static final int DEFAULT_PAGE_SIZE = 20;
+  static final int MAX_PAGE_SIZE = 50;
+  static final int DEFAULT_SEARCH_DISPLAY = 10;
+  static final int MAX_SEARCH_DISPLAY = 100; // 네이버 도서 검색 API 한도
+
   private final BookService bookService;
   private final BookSearchService bookSearchService;
-
+  private final BookImportService bookImportService;
+  private final BookProgressBatchService bookProgressBatchService;
+  private final BookExportService bookExportService;
+  private final SearchKeyStats searchKeyStats;
+  private final LibraryVersion libraryVersion;
+
+  /**
+   * cursor, size가 모두 없으면 전체 목록(기존 응답), 하나라도 있으면 페이지 단위로 응답
+   *
+   * <p>If-None-Match가 현재 ETag와 같으면 목록을 읽지 않고 304로 응답한다
+   */
   @GetMapping
-  public ResponseEntity<GetBookListResponse> getBookList(
+  public ResponseEntity<?> getBookList(
       @AuthenticationPrincipal PrincipalDetails principalDetails,
-      @RequestParam(name = "state", required = false) String state) {
+      @RequestParam(name = "state", required = false) String state,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", required = false) Integer size,
+      WebRequest webRequest) {
 
     State stateFilter = state == null ? State.IN_PROGRESS : State.from(state);
+    String eTag = libraryVersion.bookListETag(principalDetails.getUserId());
 
-    GetBookListResponse response =
-        bookService.getBookList(principalDetails.getUserId(), stateFilter);
+    if (ConditionalGet.isNotModified(webRequest, eTag)) {
+      return ConditionalGet.notModified(eTag);
+    }
 
-    return ResponseEntity.ok(response);
+    if (cursor == null && size == null) {
+      GetBookListResponse response =
+          bookService.getBookList(principalDetails.getUserId(), stateFilter);
+
+      return ConditionalGet.ok(eTag, response);
+    }
+
+    if (size != null && size < 1) {
+      throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다");
+    }
+
+    int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+    GetBookPageResponse response =
+        bookService.getBookPage(principalDetails.getUserId(), stateFilter, cursor, pageSize);
+
+    return ConditionalGet.ok(eTag, response);
   }
 
+  /** start(1부터), display로 페이지를 고른다, 없으면 첫 페이지 10건 */
   @GetMapping("/search")
   public ResponseEntity<SearchBookResponse> searchBooks(
       @AuthenticationPrincipal PrincipalDetails principalDetails,
-      @RequestParam(name = "query") String query) {
+      @RequestParam(name = "query") String query,
+      @RequestParam(name = "start", defaultValue = "1") int start,
+      @RequestParam(name = "display", defaultValue = "" + DEFAULT_SEARCH_DISPLAY) int display) {
+
+    if (start < 1 || start > SearchBookResponse.MAX_START) {
+      throw new IllegalArgumentException(
+          "검색 시작 위치는 1 이상 " + SearchBookResponse.MAX_START + " 이하여야 합니다");
+    }
+
+    if (display < 1 || display > MAX_SEARCH_DISPLAY) {
+      throw new IllegalArgumentException("검색 결과 수는 1 이상 " + MAX_SEARCH_DISPLAY + " 이하여야 합니다");
+    }
 
     String trimmedQuery = query == null ? "" : query.trim();
 
     if (trimmedQuery.isEmpty()) {
-      SearchBookResponse response = new SearchBookResponse(0, 0, Collections.emptyList());
-      return ResponseEntity.ok(response);
+      return ResponseEntity.ok(SearchBookResponse.empty(start));
     }
 
-    SearchBookResponse response = bookSearchService.search(trimmedQuery);
+    // 같은 검색의 다음 페이지는 검색어 통계에 다시 세지 않는다
+    if (start == 1) {
+      searchKeyStats.record(SearchQueryCanonicalizer.cacheKey(trimmedQuery));
+    }
+
+    SearchBookResponse response = bookSearchService.search(trimmedQuery, start, display);
 
     return ResponseEntity.ok(response);
   }
 
+  /** 도서 목록 전체를 csv 또는 json 파일로 내려준다, 목록 캐시를 거치지 않고 DB에서 읽는 대로 쓴다 */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportBooks(
+      @AuthenticationPrincipal PrincipalDetails principalDetails,
+      @RequestParam(name = "format", defaultValue = "csv") String format) {
+
+    ExportFormat exportFormat = ExportFormat.from(format);
+    Long userId = principalDetails.getUserId();
+
+    StreamingResponseBody body = out -> bookExportService.export(userId, exportFormat, out);
+
+    return ResponseEntity.ok()
+        .contentType(exportFormat.mediaType())
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename("library." + exportFormat.extension())
+                .build()
+                .toString())
+        .body(body);
+  }
+
   @PostMapping
   public ResponseEntity<AddUserBookResponse> addBook(
       @AuthenticationPrincipal PrincipalDetails principalDetails,
@@ -73,6 +162,18 @@ public class BookController {
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
 
+  /** 다른 서비스에서 옮겨 올 때 쓰는 여러 권 추가, 도서별 결과를 요청 순서대로 응답한다 */
+  @PostMapping("/bulk")
+  public ResponseEntity<BulkAddUserBookResponse> addBooks(
+      @AuthenticationPrincipal PrincipalDetails principalDetails,
+      @Valid @RequestBody BulkAddUserBookRequest request) {
+
+    BulkAddUserBookResponse response =
+        bookImportService.importBooks(principalDetails.getUser(), request.books());
+
+    return ResponseEntity.ok(response);
+  }
+
   @PatchMapping
   public ResponseEntity<UpdateUserBookResponse> updateBook(
       @AuthenticationPrincipal PrincipalDetails principalDetails,
@@ -82,4 +183,15 @@ public class BookController {
         bookService.updateUserBookProgress(principalDetails.getUser(), request);
     return ResponseEntity.ok(response);
   }
+
+  /** 여러 도서의 진행 상황을 한 번에 수정, 항목별 결과를 요청 순서대로 응답한다 */
+  @PatchMapping("/batch")
+  public ResponseEntity<BatchUpdateUserBookResponse> updateBooks(
+      @AuthenticationPrincipal PrincipalDetails principalDetails,
+      @Valid @RequestBody BatchUpdateUserBookRequest request) {
+
+    BatchUpdateUserBookResponse response =
+        bookProgressBatchService.updateProgresses(principalDetails.getUser(), request.updates());
+    return ResponseEntity.ok(response);
+  }
 }
@@ -0,0 +1,34 @@
+package io.reading_tracker.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/** ETag로 조건부 GET에 응답한다, ETag가 null이면 조건 없이 200으로 응답한다 */
+final class ConditionalGet {
+
+  /** 브라우저가 응답을 저장해 두고 매번 ETag로 다시 확인하게 한다, 기본값(no-store)이면 If-None-Match를 보내지 않는다 */
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private ConditionalGet() {}
+
+  static boolean isNotModified(WebRequest webRequest, String eTag) {
+    return eTag != null && webRequest.checkNotModified(eTag);
+  }
+
+  static <T> ResponseEntity<T> notModified(String eTag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+        .cacheControl(REVALIDATE)
+        .eTag(eTag)
+        .build();
+  }
+
+  static <T> ResponseEntity<T> ok(String eTag, T body) {
+    if (eTag == null) {
+      return ResponseEntity.ok(body);
+    }
+
+    return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(eTag).body(body);
+  }
+}
@@ -0,0 +1,26 @@
+package io.reading_tracker.controller;
+
+import io.reading_tracker.auth.PrincipalDetails;
+import io.reading_tracker.response.ReadingStatsResponse;
+import io.reading_tracker.service.ReadingStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+  private final ReadingStatsService readingStatsService;
+
+  @GetMapping
+  public ResponseEntity<ReadingStatsResponse> getStats(
+      @AuthenticationPrincipal PrincipalDetails principalDetails) {
+    ReadingStatsResponse stats = readingStatsService.getStats(principalDetails.getUserId());
+    return ResponseEntity.ok(stats);
+  }
+}
@@ -1,6 +1,7 @@
 package io.reading_tracker.controller;
 
 import io.reading_tracker.auth.PrincipalDetails;
+import io.reading_tracker.cache.LibraryVersion;
 import io.reading_tracker.request.UpdateNicknameRequest;
 import io.reading_tracker.response.UpdateNicknameResponse;
 import io.reading_tracker.response.UserResponse;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/users")
@@ -21,12 +23,20 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
   private final UserService userService;
+  private final LibraryVersion libraryVersion;
 
+  /** If-None-Match가 현재 ETag와 같으면 프로필을 읽지 않고 304로 응답한다 */
   @GetMapping("/me")
   public ResponseEntity<UserResponse> getMyProfile(
-      @AuthenticationPrincipal PrincipalDetails principalDetails) {
+      @AuthenticationPrincipal PrincipalDetails principalDetails, WebRequest webRequest) {
+    String eTag = libraryVersion.profileETag(principalDetails.getUserId());
+
+    if (ConditionalGet.isNotModified(webRequest, eTag)) {
+      return ConditionalGet.notModified(eTag);
+    }
+
     UserResponse user = userService.getUserById(principalDetails.getUserId());
-    return ResponseEntity.ok(user);
+    return ConditionalGet.ok(eTag, user);
   }
 
   @PatchMapping("/me/nickname")
@@ -0,0 +1,106 @@
+package io.reading_tracker.diagnostics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 실행한 SQL 문장을 {@link SqlStatementCounter}에 기록하는 DataSource
+ *
+ * <p>Hibernate뿐 아니라 JdbcTemplate으로 보내는 문장(insertIfAbsent, 통계 upsert 등)도 세야 하므로 Hibernate
+ * StatementInspector가 아닌 JDBC 경계에서 센다. execute*, executeBatch 한 번을 문장 하나로 보고 걸린 시간을 더한다. batch는 묶인
+ * 행 수와 관계없이 한 번이다.
+ */
+class SqlCountingDataSource extends DelegatingDataSource {
+
+  SqlCountingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(super.getConnection(username, password));
+  }
+
+  private static Connection wrap(Connection connection) {
+    return (Connection)
+        Proxy.newProxyInstance(
+            SqlCountingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+              }
+
+              Object result = invoke(connection, method, args);
+
+              if (result instanceof Statement statement
+                  && (method.getName().startsWith("prepare")
+                      || method.getName().equals("createStatement"))) {
+                return wrap(statement, args != null && args[0] instanceof String sql ? sql : null);
+              }
+
+              return result;
+            });
+  }
+
+  private static Statement wrap(Statement statement, String preparedSql) {
+    Class<?> type =
+        statement instanceof CallableStatement
+            ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+
+    return (Statement)
+        Proxy.newProxyInstance(
+            SqlCountingDataSource.class.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+              }
+              if (!method.getName().startsWith("execute") || !SqlStatementCounter.isRecording()) {
+                return invoke(statement, method, args);
+              }
+
+              String sql =
+                  args != null && args[0] instanceof String executed ? executed : preparedSql;
+              long start = System.nanoTime();
+
+              try {
+                return invoke(statement, method, args);
+              } finally {
+                SqlStatementCounter.recordStatement(sql, System.nanoTime() - start);
+              }
+            });
+  }
+
+  /** 커넥션, 문장은 프록시 자신으로 비교한다. 대상으로 넘기면 같은 프록시끼리도 다르다고 나온다 */
+  private static boolean isIdentityMethod(Method method) {
+    return method.getDeclaringClass() == Object.class
+        && (method.getName().equals("equals") || method.getName().equals("hashCode"));
+  }
+
+  private static Object identity(Object proxy, Method method, Object[] args) {
+    return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package io.reading_tracker.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import javax.sql.DataSource;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청마다 SQL 문장 수, JDBC 시간, 엔티티 로드 수를 센다
+ *
+ * <p>DataSource를 {@link SqlCountingDataSource}로 감싸고 Hibernate post-load 이벤트로 엔티티 로드를 센다. 필터는 보안
+ * 필터보다 먼저 실행해 인증에서 유저를 조회하는 쿼리도 요청에 포함한다. 테스트는 이 설정을 import해 {@link SqlStatementCounter}로 쿼리 수를
+ * 확인한다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+    name = "diagnostics.sql.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class SqlStatementCountConfiguration {
+
+  @Bean
+  static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SqlCountingDataSource)) {
+          return new SqlCountingDataSource(dataSource);
+        }
+
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  HibernatePropertiesCustomizer entityLoadCountCustomizer() {
+    return properties ->
+        properties.put(
+            JpaSettings.INTEGRATOR_PROVIDER,
+            (IntegratorProvider) () -> List.of(new EntityLoadCountIntegrator()));
+  }
+
+  @Bean
+  @ConditionalOnWebApplication
+  FilterRegistrationBean<SqlStatementCountFilter> sqlStatementCountFilter(
+      MeterRegistry meterRegistry,
+      @Value("${diagnostics.sql.warn-statements:20}") int warnStatements) {
+    FilterRegistrationBean<SqlStatementCountFilter> registration =
+        new FilterRegistrationBean<>(new SqlStatementCountFilter(meterRegistry, warnStatements));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+
+    return registration;
+  }
+
+  private static final class EntityLoadCountIntegrator implements Integrator {
+
+    @Override
+    public void integrate(
+        Metadata metadata,
+        BootstrapContext bootstrapContext,
+        SessionFactoryImplementor sessionFactory) {
+      sessionFactory
+          .getServiceRegistry()
+          .requireService(EventListenerRegistry.class)
+          .appendListeners(
+              EventType.POST_LOAD,
+              (PostLoadEventListener) event -> SqlStatementCounter.recordEntityLoad());
+    }
+
+    @Override
+    public void disintegrate(
+        SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {}
+  }
+}
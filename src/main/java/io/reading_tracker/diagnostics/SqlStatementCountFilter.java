@@ -0,0 +1,83 @@
+package io.reading_tracker.diagnostics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 SQL 문장 수, JDBC 시간, 엔티티 로드 수를 메트릭으로 남기고 warnStatements를 넘으면 경고 로그를 남긴다
+ *
+ * <p>메트릭은 method, uri(요청을 처리한 핸들러의 경로 패턴) 태그로 나눈다. 비동기 요청(도서 목록 내보내기)은 요청 스레드에서 실행한 것만 센다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+  static final String STATEMENTS = "http.server.requests.sql.statements";
+  static final String JDBC_TIME = "http.server.requests.sql.time";
+  static final String ENTITY_LOADS = "http.server.requests.entity.loads";
+
+  private static final String UNKNOWN_URI = "UNKNOWN";
+  private static final int LOGGED_SQL = 3;
+
+  private final MeterRegistry meterRegistry;
+  private final int warnStatements;
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    SqlStatementCounter.Recording recording = SqlStatementCounter.start();
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      record(request, recording.stop());
+    }
+  }
+
+  private void record(HttpServletRequest request, SqlStatementCounter.Snapshot snapshot) {
+    String uri = uri(request);
+    Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+    DistributionSummary.builder(STATEMENTS)
+        .baseUnit("statements")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(snapshot.statements());
+    Timer.builder(JDBC_TIME).tags(tags).register(meterRegistry).record(snapshot.jdbcTime());
+    DistributionSummary.builder(ENTITY_LOADS)
+        .baseUnit("entities")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(snapshot.entityLoads());
+
+    if (snapshot.statements() > warnStatements) {
+      log.warn(
+          "요청 하나에서 SQL {}개를 실행했습니다. {} {}, JDBC {}ms, 엔티티 로드 {}개, 자주 실행한 SQL: {}",
+          snapshot.statements(),
+          request.getMethod(),
+          uri,
+          snapshot.jdbcTime().toMillis(),
+          snapshot.entityLoads(),
+          snapshot.mostFrequent(LOGGED_SQL));
+    }
+  }
+
+  /** 요청 경로 그대로 태그를 달면 id마다 메트릭이 생기므로 핸들러의 경로 패턴을 쓴다 */
+  private static String uri(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+    return pattern == null ? UNKNOWN_URI : pattern.toString();
+  }
+}
@@ -0,0 +1,117 @@
+package io.reading_tracker.diagnostics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행한 SQL 문장 수, JDBC 시간, 엔티티 로드 수
+ *
+ * <p>{@link #start()}부터 {@link Recording#stop()}까지 같은 스레드에서 실행한 것만 센다. 요청은 {@link
+ * SqlStatementCountFilter}가, 테스트는 직접 기록을 연다. 기록 안에서 다시 열면 안쪽에서 센 것도 바깥 기록에 더한다.
+ */
+public final class SqlStatementCounter {
+
+  /** 문장별로 기억하는 SQL 종류 수 상한, 넘치면 문장 수와 시간만 센다 */
+  static final int MAX_DISTINCT_SQL = 50;
+
+  private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+  private SqlStatementCounter() {}
+
+  public static Recording start() {
+    Recording recording = new Recording(CURRENT.get());
+    CURRENT.set(recording);
+
+    return recording;
+  }
+
+  static boolean isRecording() {
+    return CURRENT.get() != null;
+  }
+
+  static void recordStatement(String sql, long nanos) {
+    Recording recording = CURRENT.get();
+
+    if (recording != null) {
+      recording.addStatement(sql, nanos);
+    }
+  }
+
+  static void recordEntityLoad() {
+    Recording recording = CURRENT.get();
+
+    if (recording != null) {
+      recording.addEntityLoad();
+    }
+  }
+
+  public static final class Recording {
+
+    private final Recording parent;
+    private final Map<String, Integer> sqlCounts = new LinkedHashMap<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private int entityLoads;
+
+    private Recording(Recording parent) {
+      this.parent = parent;
+    }
+
+    private void addStatement(String sql, long nanos) {
+      statements++;
+      jdbcNanos += nanos;
+
+      if (sql != null && (sqlCounts.containsKey(sql) || sqlCounts.size() < MAX_DISTINCT_SQL)) {
+        sqlCounts.merge(sql, 1, Integer::sum);
+      }
+      if (parent != null) {
+        parent.addStatement(sql, nanos);
+      }
+    }
+
+    private void addEntityLoad() {
+      entityLoads++;
+
+      if (parent != null) {
+        parent.addEntityLoad();
+      }
+    }
+
+    /** 기록을 끝내고 바깥 기록으로 되돌린다 */
+    public Snapshot stop() {
+      if (CURRENT.get() == this) {
+        if (parent == null) {
+          CURRENT.remove();
+        } else {
+          CURRENT.set(parent);
+        }
+      }
+
+      return new Snapshot(
+          statements,
+          Duration.ofNanos(jdbcNanos),
+          entityLoads,
+          Collections.unmodifiableMap(new LinkedHashMap<>(sqlCounts)));
+    }
+  }
+
+  /**
+   * @param sqlCounts 처음 실행한 순서대로 SQL별 실행 횟수
+   */
+  public record Snapshot(
+      int statements, Duration jdbcTime, int entityLoads, Map<String, Integer> sqlCounts) {
+
+    /** 여러 번 실행한 SQL부터 limit개, N+1을 찾을 때 본다 */
+    public List<Map.Entry<String, Integer>> mostFrequent(int limit) {
+      return sqlCounts.entrySet().stream()
+          .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+          .limit(limit)
+          .toList();
+    }
+  }
+}
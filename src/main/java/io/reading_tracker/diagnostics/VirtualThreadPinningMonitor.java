@@ -0,0 +1,199 @@
+package io.reading_tracker.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드가 캐리어 스레드를 고정(pinning)한 채 멈춘 곳, JMX pinning 엔드포인트로 조회한다
+ *
+ * <p>JFR jdk.VirtualThreadPinned 이벤트 중 threshold 이상 멈춘 것만 받는다. 스택에서 가장 먼저 나오는 우리
+ * 코드(io.reading_tracker) 프레임을 발생 위치로 묶어 세고, 위치마다 처음 한 번은 스택과 함께 경고 로그를 남긴다. 우리 코드를 거치지 않은 고정은
+ * external로 센다.
+ *
+ * <p>synchronized 안에서 I/O나 락을 기다리면 캐리어 스레드가 고정된다. 우리 코드는 ReentrantLock을 쓰지만 라이브러리(Redisson, JDBC
+ * 드라이버 등) 안쪽은 알 수 없으므로, 가상 스레드 모드에서는 이 모니터로 확인한다.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "pinning")
+@ConditionalOnProperty(name = "diagnostics.pinning.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+  public static final String EXTERNAL = "external";
+
+  private static final String OWN_PACKAGE = "io.reading_tracker.";
+
+  /** 위치 수 상한, 넘치면 external로 센다. 메트릭 태그가 끝없이 늘지 않게 한다 */
+  private static final int MAX_SITES = 200;
+
+  /** 경고 로그와 조회 결과에 남길 프레임 수 */
+  private static final int REPORTED_FRAMES = 20;
+
+  private final Duration threshold;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Site> sites = new ConcurrentHashMap<>();
+
+  private volatile RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      @Value("${diagnostics.pinning.threshold:20ms}") Duration threshold,
+      MeterRegistry meterRegistry) {
+    this.threshold = threshold;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void start() {
+    RecordingStream recordingStream = new RecordingStream();
+    recordingStream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(EVENT_NAME, this::onPinned);
+    recordingStream.startAsync();
+
+    stream = recordingStream;
+    log.info("가상 스레드 고정 감지 시작. threshold: {}ms", threshold.toMillis());
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream recordingStream = stream;
+
+    if (recordingStream != null) {
+      recordingStream.close();
+      stream = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  @ReadOperation
+  public List<SiteReport> sites() {
+    return sites.entrySet().stream()
+        .map(entry -> entry.getValue().report(entry.getKey()))
+        .sorted(Comparator.comparingLong(SiteReport::count).reversed())
+        .toList();
+  }
+
+  private void onPinned(RecordedEvent event) {
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    List<String> frames =
+        stackTrace == null
+            ? List.of()
+            : stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(VirtualThreadPinningMonitor::format)
+                .toList();
+
+    record(event.getDuration(), frames);
+  }
+
+  /**
+   * 이벤트는 RecordingStream 스레드 하나에서 차례로 전달된다
+   *
+   * @param frames 고정된 가상 스레드의 스택, 안쪽(멈춘 곳)부터
+   */
+  void record(Duration duration, List<String> frames) {
+    String site =
+        frames.stream().filter(frame -> frame.startsWith(OWN_PACKAGE)).findFirst().orElse(EXTERNAL);
+
+    if (!sites.containsKey(site) && sites.size() >= MAX_SITES) {
+      site = EXTERNAL;
+    }
+
+    Site stats = sites.computeIfAbsent(site, this::newSite);
+
+    if (stats.record(duration, frames)) {
+      log.warn(
+          "가상 스레드가 캐리어 스레드를 고정한 채 {}ms 멈췄습니다. 위치: {}\n\tat {}",
+          duration.toMillis(),
+          site,
+          String.join("\n\tat ", stats.stackTrace));
+    }
+  }
+
+  private Site newSite(String site) {
+    Timer timer =
+        Timer.builder("jvm.threads.virtual.pinned")
+            .tag("site", site)
+            .description("가상 스레드가 캐리어 스레드를 고정한 채 멈춘 시간")
+            .register(meterRegistry);
+
+    return new Site(timer);
+  }
+
+  private static String format(RecordedFrame frame) {
+    return frame.getMethod().getType().getName()
+        + "."
+        + frame.getMethod().getName()
+        + ":"
+        + frame.getLineNumber();
+  }
+
+  public record SiteReport(
+      String site, long count, long totalMillis, long maxMillis, List<String> stackTrace) {}
+
+  private static class Site {
+
+    private final Timer timer;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /** 처음 본 스택, 같은 위치라도 경로는 다를 수 있지만 하나만 남긴다 */
+    private volatile List<String> stackTrace;
+
+    Site(Timer timer) {
+      this.timer = timer;
+    }
+
+    /**
+     * @return 이 위치에서 처음 본 고정이면 true
+     */
+    boolean record(Duration duration, List<String> frames) {
+      long nanos = duration.toNanos();
+
+      timer.record(nanos, TimeUnit.NANOSECONDS);
+      count.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulateAndGet(nanos, Math::max);
+
+      if (stackTrace != null) {
+        return false;
+      }
+
+      stackTrace = List.copyOf(frames.subList(0, Math.min(frames.size(), REPORTED_FRAMES)));
+      return true;
+    }
+
+    SiteReport report(String site) {
+      return new SiteReport(
+          site,
+          count.sum(),
+          TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()),
+          TimeUnit.NANOSECONDS.toMillis(maxNanos.get()),
+          stackTrace == null ? List.of() : stackTrace);
+    }
+  }
+}
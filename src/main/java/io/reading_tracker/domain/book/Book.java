@@ -17,13 +17,33 @@ import java.util.Set;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+/**
+ * 도서, 추가한 뒤에는 바뀌지 않으므로 2차 캐시(book, book-isbn 영역)에서 읽는다
+ *
+ * <p>도서 목록은 UserBook만 조회하고 도서는 캐시에서 채운다. 캐시에 없는 도서는 한 번에 {@value #BATCH_SIZE}권씩 읽는다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Immutable
+@BatchSize(size = Book.BATCH_SIZE)
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = Book.CACHE_REGION)
+@NaturalIdCache(region = Book.ISBN_CACHE_REGION)
 @Table(name = "books", indexes = @Index(name = "uk_books_isbn", columnList = "isbn", unique = true))
 public class Book extends BaseEntity {
 
+  public static final String CACHE_REGION = "book";
+  public static final String ISBN_CACHE_REGION = "book-isbn";
+
+  static final int BATCH_SIZE = 100;
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
@@ -37,6 +57,7 @@ public class Book extends BaseEntity {
   @Column(length = 150)
   private String publisher;
 
+  @NaturalId
   @Column(length = 20)
   private String isbn;
 
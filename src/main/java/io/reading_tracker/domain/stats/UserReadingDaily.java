@@ -0,0 +1,60 @@
+package io.reading_tracker.domain.stats;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 하루 독서량
+ *
+ * <p>진행 상황을 바꿀 때 같은 트랜잭션에서 그날 행을 증가시킨다. 읽은 날에만 행이 생기고, 통계는 (user_id, read_date) 유니크 인덱스 범위를 한 번 읽어
+ * 만든다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+    name = "user_reading_daily",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_user_reading_daily_user_id_read_date",
+            columnNames = {"user_id", "read_date"}))
+public class UserReadingDaily {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Column(name = "read_date", nullable = false)
+  private LocalDate readDate;
+
+  @Column(name = "pages_read", nullable = false)
+  private int pagesRead;
+
+  @Column(name = "books_completed", nullable = false)
+  private int booksCompleted;
+
+  /** 이날까지 하루도 빠지지 않고 읽은 날 수, 행을 만들 때 전날 행의 값에 1을 더한다 */
+  @Column(nullable = false)
+  private int streak;
+
+  public UserReadingDaily(
+      Long userId, LocalDate readDate, int pagesRead, int booksCompleted, int streak) {
+    this.userId = userId;
+    this.readDate = readDate;
+    this.pagesRead = pagesRead;
+    this.booksCompleted = booksCompleted;
+    this.streak = streak;
+  }
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -29,7 +30,11 @@ import lombok.Setter;
     uniqueConstraints =
         @UniqueConstraint(
             name = "uk_user_book_user_id_book_id",
-            columnNames = {"user_id", "book_id"}))
+            columnNames = {"user_id", "book_id"}),
+    indexes =
+        @Index(
+            name = "idx_user_book_user_id_state_created_at",
+            columnList = "user_id, state, created_at, id"))
 public class UserBook extends BaseEntity {
 
   @Id
@@ -0,0 +1,48 @@
+package io.reading_tracker.domain.userbook;
+
+import io.reading_tracker.domain.book.State;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 상태 별 도서 수
+ *
+ * <p>user_book을 매번 집계하지 않도록 도서 추가/상태 변경과 같은 트랜잭션에서 함께 갱신한다. 값이 어긋나면 UserBookCounterRepairJob이
+ * user_book 집계로 다시 맞춘다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "user_book_counter")
+public class UserBookCounter {
+
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(name = "in_progress", nullable = false)
+  private int inProgress;
+
+  @Column(nullable = false)
+  private int completed;
+
+  @Column(nullable = false)
+  private int archived;
+
+  public UserBookCounter(Long userId, Map<State, Integer> counts) {
+    this.userId = userId;
+    this.inProgress = countOf(counts, State.IN_PROGRESS);
+    this.completed = countOf(counts, State.COMPLETED);
+    this.archived = countOf(counts, State.ARCHIVED);
+  }
+
+  private static int countOf(Map<State, Integer> counts, State state) {
+    return counts.getOrDefault(state, 0);
+  }
+}
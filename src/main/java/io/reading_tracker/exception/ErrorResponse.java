@@ -1,4 +1,3 @@
 package io.reading_tracker.exception;
 
-public record ErrorResponse(String code, String message) {
-    }
+public record ErrorResponse(String code, String message) {}
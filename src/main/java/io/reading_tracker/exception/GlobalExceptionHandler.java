@@ -55,6 +55,14 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
   }
 
+  @ExceptionHandler(UpstreamUnavailableException.class)
+  public ResponseEntity<Object> handleUpstreamUnavailableException(UpstreamUnavailableException e) {
+    log.warn("503 Service Unavailable: {}", e.getMessage());
+    ErrorResponse errorResponse =
+        new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.name(), e.getMessage());
+    return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<Object> handleException(Exception e) {
     log.error("500 Internal Server Error: ", e);
@@ -0,0 +1,8 @@
+package io.reading_tracker.exception;
+
+/** 외부 API를 호출하지 않고 바로 실패한 경우 (서킷 브레이커 열림, 동시 호출 한도 초과) */
+public class UpstreamUnavailableException extends RuntimeException {
+  public UpstreamUnavailableException(String message) {
+    super(message);
+  }
+}
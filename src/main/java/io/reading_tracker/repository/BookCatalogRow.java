@@ -0,0 +1,4 @@
+package io.reading_tracker.repository;
+
+/** 도서 검색 색인에 넣을 books 행 */
+public record BookCatalogRow(long id, String isbn, String title, String author, String publisher) {}
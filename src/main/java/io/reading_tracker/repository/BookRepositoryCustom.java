@@ -0,0 +1,34 @@
+package io.reading_tracker.repository;
+
+import io.reading_tracker.domain.book.Book;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface BookRepositoryCustom {
+
+  /** ISBN(natural id)으로 도서를 읽는다, 2차 캐시에 있으면 쿼리하지 않는다 */
+  Optional<Book> findBookByIsbn(String isbn);
+
+  /**
+   * 같은 ISBN의 도서가 없을 때만 추가한다
+   *
+   * @return 추가했으면 true, uk_books_isbn에 걸려 추가하지 않았으면 false
+   */
+  boolean insertIfAbsent(Book book);
+
+  /**
+   * 같은 ISBN의 도서가 없는 것만 한 번의 JDBC batch로 추가한다, batch가 중복으로 실패하면 한 건씩 다시 넣는다
+   *
+   * @return 이 호출로 추가한 도서의 ISBN
+   */
+  List<String> insertAllIfAbsent(List<Book> books);
+
+  /** ISBN별 도서 id, 없는 ISBN은 빠진다 */
+  Map<String, Long> findIdsByIsbnIn(Collection<String> isbns);
+
+  /** 모든 도서를 id 오름차순으로 읽는다, 엔티티를 만들지 않고 한 번에 batchSize건씩 읽는다 */
+  void forEachCatalogRow(int batchSize, Consumer<BookCatalogRow> action);
+}
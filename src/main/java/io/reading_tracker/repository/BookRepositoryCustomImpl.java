@@ -0,0 +1,212 @@
+package io.reading_tracker.repository;
+
+import io.reading_tracker.domain.book.Book;
+import jakarta.persistence.EntityManager;
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JdbcTemplate으로 실행하는 도서 쿼리와 ISBN 조회
+ *
+ * <p>findBookByIsbn: ISBN은 Book의 natural id라 Hibernate가 book-isbn 영역에서 id를, book 영역에서 도서를 찾는다. 둘 다
+ * 캐시에 있으면 쿼리하지 않는다. 없는 ISBN은 캐시하지 않으므로 추가 전 조회가 추가 후 조회를 가리지 않는다.
+ *
+ * <p>JDBC로 추가한 도서는 커밋 전에 읽어도 캐시에 들어간다. 트랜잭션이 rollback되면 없는 도서가 캐시에 남으므로 이 노드의 book, book-isbn 영역을
+ * 비운다. 다른 노드는 커밋 전 행을 읽지 못하므로 비울 것이 없다.
+ *
+ * <p>insertIfAbsent: JPA로 insert하다 제약 위반이 나면 트랜잭션이 rollback-only가 되므로 JdbcTemplate으로 같은 커넥션에서 실행하고
+ * 중복 예외만 삼킨다. MySQL, H2 모두 실패한 문장만 취소되고 트랜잭션은 계속된다.
+ *
+ * <p>insertAllIfAbsent: 여러 건은 batchUpdate로 한 번에 보낸다. Book의 IDENTITY 전략은 Hibernate insert batching만
+ * 막으므로 JDBC batch에는 영향이 없고, 생성된 id는 호출한 쪽이 findIdsByIsbnIn으로 다시 읽는다.
+ *
+ * <p>forEachCatalogRow: 전체 도서를 영속성 컨텍스트에 올리지 않도록 id 기준 keyset으로 나눠 읽는다.
+ */
+@RequiredArgsConstructor
+class BookRepositoryCustomImpl implements BookRepositoryCustom {
+
+  private static final String INSERT_BOOK =
+      """
+      insert into books (title, author, publisher, isbn, created_at, updated_at)
+      values (?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String SELECT_CATALOG_PAGE =
+      """
+      select id, isbn, title, author, publisher
+      from books
+      where id > ?
+      order by id
+      limit ?
+      """;
+
+  private static final String SELECT_IDS_BY_ISBN =
+      "select id, isbn from books where isbn in (:isbns)";
+
+  private static final Object ROLLBACK_EVICTION =
+      BookRepositoryCustomImpl.class.getName() + ".rollbackEviction";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
+
+  @Override
+  public Optional<Book> findBookByIsbn(String isbn) {
+    return entityManager.unwrap(Session.class).bySimpleNaturalId(Book.class).loadOptional(isbn);
+  }
+
+  @Override
+  public boolean insertIfAbsent(Book book) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    try {
+      jdbcTemplate.update(
+          INSERT_BOOK,
+          book.getTitle(),
+          book.getAuthor(),
+          book.getPublisher(),
+          book.getIsbn(),
+          now,
+          now);
+      evictCacheOnRollback();
+
+      return true;
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public List<String> insertAllIfAbsent(List<Book> books) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> rows = new ArrayList<>(books.size());
+
+    for (Book book : books) {
+      rows.add(
+          new Object[] {
+            book.getTitle(), book.getAuthor(), book.getPublisher(), book.getIsbn(), now, now
+          });
+    }
+
+    evictCacheOnRollback();
+    try {
+      jdbcTemplate.batchUpdate(INSERT_BOOK, rows);
+
+      return books.stream().map(Book::getIsbn).toList();
+    } catch (DuplicateKeyException e) {
+      // 조회한 뒤 다른 요청이 같은 ISBN을 추가했다, batch에서 들어가지 않은 도서만 한 건씩 다시 넣는다
+      boolean[] batched = insertedRows(e, books.size());
+      List<String> inserted = new ArrayList<>();
+
+      for (int i = 0; i < books.size(); i++) {
+        if (batched[i] || insertIfAbsent(books.get(i))) {
+          inserted.add(books.get(i).getIsbn());
+        }
+      }
+
+      return inserted;
+    }
+  }
+
+  /** 트랜잭션 안에서 도서를 추가했으면 rollback될 때 2차 캐시의 도서를 비운다, 트랜잭션마다 한 번만 등록한다 */
+  private void evictCacheOnRollback() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(ROLLBACK_EVICTION)) {
+      return;
+    }
+
+    TransactionSynchronizationManager.bindResource(ROLLBACK_EVICTION, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ROLLBACK_EVICTION);
+
+            if (status != STATUS_COMMITTED) {
+              Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+              cache.evictEntityData(Book.class);
+              cache.evictNaturalIdData(Book.class);
+            }
+          }
+        });
+  }
+
+  /**
+   * 실패한 batch에서 들어간 행, 드라이버가 행별 결과를 주지 않거나 문장 전체가 실패했으면(MySQL rewriteBatchedStatements) 모두 false
+   */
+  static boolean[] insertedRows(DuplicateKeyException e, int size) {
+    boolean[] inserted = new boolean[size];
+
+    if (e.getCause() instanceof BatchUpdateException batch) {
+      int[] counts = batch.getUpdateCounts();
+
+      for (int i = 0; i < Math.min(size, counts.length); i++) {
+        inserted[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+      }
+    }
+
+    return inserted;
+  }
+
+  @Override
+  public Map<String, Long> findIdsByIsbnIn(Collection<String> isbns) {
+    Map<String, Long> ids = new HashMap<>();
+
+    if (isbns.isEmpty()) {
+      return ids;
+    }
+
+    new NamedParameterJdbcTemplate(jdbcTemplate)
+        .query(
+            SELECT_IDS_BY_ISBN,
+            Map.of("isbns", isbns),
+            rs -> {
+              ids.put(rs.getString("isbn"), rs.getLong("id"));
+            });
+
+    return ids;
+  }
+
+  @Override
+  public void forEachCatalogRow(int batchSize, Consumer<BookCatalogRow> action) {
+    long lastId = 0;
+    List<BookCatalogRow> page;
+
+    do {
+      page =
+          jdbcTemplate.query(
+              SELECT_CATALOG_PAGE,
+              (rs, rowNum) ->
+                  new BookCatalogRow(
+                      rs.getLong("id"),
+                      rs.getString("isbn"),
+                      rs.getString("title"),
+                      rs.getString("author"),
+                      rs.getString("publisher")),
+              lastId,
+              batchSize);
+
+      page.forEach(action);
+
+      if (!page.isEmpty()) {
+        lastId = page.getLast().id();
+      }
+    } while (page.size() == batchSize);
+  }
+}
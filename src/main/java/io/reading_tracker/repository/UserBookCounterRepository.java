@@ -0,0 +1,37 @@
+package io.reading_tracker.repository;
+
+import io.reading_tracker.domain.userbook.UserBookCounter;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserBookCounterRepository
+    extends JpaRepository<UserBookCounter, Long>, UserBookCounterRepositoryCustom {
+
+  @Query("select c.userId from UserBookCounter c order by c.userId")
+  List<Long> findAllUserIds();
+
+  /**
+   * 카운터를 증감한다
+   *
+   * @return 갱신된 행 수, 카운터가 아직 없으면 0
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(
+      """
+      update UserBookCounter c
+         set c.inProgress = c.inProgress + :inProgress,
+             c.completed = c.completed + :completed,
+             c.archived = c.archived + :archived
+       where c.userId = :userId
+      """)
+  int increment(
+      @Param("userId") Long userId,
+      @Param("inProgress") int inProgress,
+      @Param("completed") int completed,
+      @Param("archived") int archived);
+}
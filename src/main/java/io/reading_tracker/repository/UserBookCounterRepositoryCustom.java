@@ -0,0 +1,23 @@
+package io.reading_tracker.repository;
+
+import java.util.List;
+
+public interface UserBookCounterRepositoryCustom {
+
+  /**
+   * 카운터가 없을 때만 user_book 집계값으로 카운터를 만든다, 같은 트랜잭션에서 쓴 user_book 변경도 집계에 들어간다
+   *
+   * @return 만들었으면 true, 다른 요청이 먼저 만들었으면 false
+   */
+  boolean insertIfAbsent(Long userId);
+
+  /**
+   * 카운터를 한 문장으로 user_book 집계값에 맞춘다, 읽은 집계를 따로 쓰지 않으므로 그사이 커밋된 증감을 덮어쓰지 않는다
+   *
+   * @return 값이 달라 고쳤으면 1, 이미 맞거나 카운터가 없으면 0
+   */
+  int recount(Long userId);
+
+  /** 카운터 없이 도서만 있는 사용자, id 순서 */
+  List<Long> findUserIdsWithoutCounter();
+}
@@ -0,0 +1,80 @@
+package io.reading_tracker.repository;
+
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/** 기본 키로 중복을 판단하는 카운터 추가, {@link UserBookRepositoryCustomImpl} 참고 */
+@RequiredArgsConstructor
+class UserBookCounterRepositoryCustomImpl implements UserBookCounterRepositoryCustom {
+
+  private static final String COUNT_BY_STATE =
+      """
+      select count(case when state = 'IN_PROGRESS' then 1 end) as in_progress,
+             count(case when state = 'COMPLETED' then 1 end) as completed,
+             count(case when state = 'ARCHIVED' then 1 end) as archived
+      from user_book
+      where user_id = :userId and deleted_at is null
+      """;
+
+  // 집계 결과가 없어도 0인 행이 하나 나오므로 도서가 없는 사용자도 카운터가 생긴다
+  private static final String INSERT_COUNTER =
+      """
+      insert into user_book_counter (user_id, in_progress, completed, archived)
+      select :userId, counts.in_progress, counts.completed, counts.archived
+      from (%s) counts
+      """
+          .formatted(COUNT_BY_STATE);
+
+  private static final String RECOUNT =
+      """
+      update user_book_counter
+         set in_progress = (select count(*) from user_book
+                             where user_id = :userId and state = 'IN_PROGRESS'
+                               and deleted_at is null),
+             completed = (select count(*) from user_book
+                           where user_id = :userId and state = 'COMPLETED'
+                             and deleted_at is null),
+             archived = (select count(*) from user_book
+                          where user_id = :userId and state = 'ARCHIVED'
+                            and deleted_at is null)
+       where user_id = :userId
+         and (in_progress, completed, archived) <> (%s)
+      """
+          .formatted(COUNT_BY_STATE);
+
+  private static final String SELECT_USER_IDS_WITHOUT_COUNTER =
+      """
+      select distinct ub.user_id
+      from user_book ub
+      where ub.deleted_at is null
+        and not exists (select 1 from user_book_counter c where c.user_id = ub.user_id)
+      order by ub.user_id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public boolean insertIfAbsent(Long userId) {
+    try {
+      new NamedParameterJdbcTemplate(jdbcTemplate).update(INSERT_COUNTER, Map.of("userId", userId));
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public int recount(Long userId) {
+    return new NamedParameterJdbcTemplate(jdbcTemplate).update(RECOUNT, Map.of("userId", userId));
+  }
+
+  @Override
+  public List<Long> findUserIdsWithoutCounter() {
+    return jdbcTemplate.queryForList(SELECT_USER_IDS_WITHOUT_COUNTER, Long.class);
+  }
+}
@@ -0,0 +1,17 @@
+package io.reading_tracker.repository;
+
+import io.reading_tracker.domain.book.State;
+import java.time.LocalDateTime;
+
+/** 내보내기에 쓰는 user_book과 books 행 */
+public record UserBookExportRow(
+    long id,
+    String isbn,
+    String title,
+    String author,
+    String publisher,
+    State state,
+    int currentPage,
+    int totalPages,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt) {}
@@ -0,0 +1,6 @@
+package io.reading_tracker.repository;
+
+import java.time.LocalDateTime;
+
+/** 모아 두었다 쓰는 현재 페이지와 사용자가 그 값으로 바꾼 시각 */
+public record UserBookPageUpdate(int currentPage, LocalDateTime updatedAt) {}
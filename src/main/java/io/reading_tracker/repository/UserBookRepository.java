@@ -2,20 +2,62 @@ package io.reading_tracker.repository;
 
 import io.reading_tracker.domain.book.State;
 import io.reading_tracker.domain.userbook.UserBook;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+/** 목록 조회는 UserBook만 읽는다, 도서는 2차 캐시에서 채우고 캐시에 없는 도서만 batch로 읽는다 */
 @Repository
-public interface UserBookRepository extends JpaRepository<UserBook, Long> {
+public interface UserBookRepository
+    extends JpaRepository<UserBook, Long>, UserBookRepositoryCustom {
 
-  @EntityGraph(attributePaths = "book")
   List<UserBook> findByUserIdAndState(Long userId, State state, Sort sort);
 
+  /** 키셋 페이지네이션 첫 페이지, (created_at DESC, id DESC) */
+  @Query(
+      """
+      select ub from UserBook ub
+       where ub.user.id = :userId and ub.state = :state
+       order by ub.createdAt desc, ub.id desc
+      """)
+  List<UserBook> findFirstPage(
+      @Param("userId") Long userId, @Param("state") State state, Limit limit);
+
+  /** 키셋 페이지네이션 다음 페이지, 커서(createdAt, id) 이후의 행만 읽는다 */
+  @Query(
+      """
+      select ub from UserBook ub
+       where ub.user.id = :userId and ub.state = :state
+         and (ub.createdAt < :createdAt or (ub.createdAt = :createdAt and ub.id < :id))
+       order by ub.createdAt desc, ub.id desc
+      """)
+  List<UserBook> findPageAfter(
+      @Param("userId") Long userId,
+      @Param("state") State state,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Limit limit);
+
   int countByUserIdAndState(Long userId, State state);
 
   Optional<UserBook> findByUserIdAndBookId(Long userId, Long bookId);
+
+  /** ids 중 사용자의 도서만 읽는다, 다른 사용자의 도서나 없는 id는 빠진다 */
+  List<UserBook> findByIdInAndUserId(Collection<Long> ids, Long userId);
+
+  @Query(
+      """
+      select ub.user.id as userId, ub.state as state, count(ub) as count
+        from UserBook ub
+       where ub.user.id = :userId
+       group by ub.user.id, ub.state
+      """)
+  List<UserBookStateCount> countGroupByState(@Param("userId") Long userId);
 }
@@ -0,0 +1,46 @@
+package io.reading_tracker.repository;
+
+import io.reading_tracker.domain.userbook.UserBook;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface UserBookRepositoryCustom {
+
+  /**
+   * 사용자 목록에 같은 도서가 없을 때만 추가한다
+   *
+   * @return 추가한 행의 id, uk_user_book_user_id_book_id에 걸려 추가하지 않았으면 empty
+   */
+  Optional<Long> insertIfAbsent(UserBook userBook);
+
+  /**
+   * 사용자 목록에 같은 도서가 없는 것만 한 번의 JDBC batch로 추가한다, batch가 중복으로 실패하면 한 건씩 다시 넣는다
+   *
+   * @return 이 호출로 추가한 도서의 book id
+   */
+  List<Long> insertAllIfAbsent(List<UserBook> userBooks);
+
+  /** 사용자 목록에 있는 도서별 user_book id, 목록에 없는 도서는 빠진다 */
+  Map<Long, Long> findIdsByUserIdAndBookIdIn(Long userId, Collection<Long> bookIds);
+
+  /**
+   * 읽는 중인 도서의 현재 페이지를 한 번의 JDBC batch로 수정한다, 그사이 상태가 바뀌었거나 값을 바꾼 시각 뒤에 수정된 도서는 건너뛴다
+   *
+   * <p>updated_at에는 쓴 시각이 아니라 값을 바꾼 시각을 넣어, 노드마다 늦게 쓰더라도 나중에 바꾼 값이 남는다.
+   *
+   * @param updates user_book id별 현재 페이지
+   */
+  void updateCurrentPages(Map<Long, UserBookPageUpdate> updates);
+
+  /**
+   * 사용자의 도서를 엔티티를 만들지 않고 한 행씩 읽는다, 결과 전체를 메모리에 올리지 않는다
+   *
+   * <p>MySQL에서는 이 조회만 스트리밍 결과로 읽고, 다른 DB에서는 fetchSize만큼 나눠 읽는다
+   *
+   * @param fetchSize MySQL이 아닌 드라이버가 한 번에 가져오는 행 수
+   */
+  void forEachExportRow(Long userId, int fetchSize, Consumer<UserBookExportRow> action);
+}
@@ -0,0 +1,197 @@
+package io.reading_tracker.repository;
+
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.userbook.UserBook;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+/** 유니크 제약으로 중복을 판단하는 사용자 도서 추가, {@link BookRepositoryCustomImpl} 참고 */
+@RequiredArgsConstructor
+class UserBookRepositoryCustomImpl implements UserBookRepositoryCustom {
+
+  /** MySQL 드라이버는 URL에 useCursorFetch가 없으면 이 값일 때만 결과를 한 행씩 스트리밍한다 */
+  private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+  private static final String INSERT_USER_BOOK =
+      """
+      insert into user_book
+        (user_id, book_id, state, total_pages, current_page, created_at, updated_at)
+      values (?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String SELECT_IDS_BY_BOOK_ID =
+      """
+      select id, book_id
+      from user_book
+      where user_id = :userId and book_id in (:bookIds)
+      """;
+
+  private static final String UPDATE_CURRENT_PAGE =
+      """
+      update user_book
+      set current_page = ?, updated_at = ?
+      where id = ? and state = 'IN_PROGRESS' and updated_at <= ?
+      """;
+
+  // idx_user_book_user_id_state_created_at 순서대로 읽어 정렬 없이 흘려보낸다
+  private static final String SELECT_EXPORT_ROWS =
+      """
+      select ub.id, b.isbn, b.title, b.author, b.publisher,
+             ub.state, ub.current_page, ub.total_pages, ub.created_at, ub.updated_at
+      from user_book ub use index (idx_user_book_user_id_state_created_at)
+      join books b on b.id = ub.book_id
+      where ub.user_id = ? and ub.deleted_at is null
+      order by ub.user_id, ub.state, ub.created_at, ub.id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public Optional<Long> insertIfAbsent(UserBook userBook) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+
+    try {
+      jdbcTemplate.update(
+          connection -> {
+            PreparedStatement ps =
+                connection.prepareStatement(INSERT_USER_BOOK, new String[] {"id"});
+            ps.setLong(1, userBook.getUser().getId());
+            ps.setLong(2, userBook.getBook().getId());
+            ps.setString(3, userBook.getState().name());
+            ps.setInt(4, userBook.getTotalPages());
+            ps.setInt(5, userBook.getCurrentPage());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            return ps;
+          },
+          keyHolder);
+    } catch (DuplicateKeyException e) {
+      return Optional.empty();
+    }
+
+    return Optional.of(keyHolder.getKeyAs(Number.class).longValue());
+  }
+
+  @Override
+  public List<Long> insertAllIfAbsent(List<UserBook> userBooks) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> rows = new ArrayList<>(userBooks.size());
+
+    for (UserBook userBook : userBooks) {
+      rows.add(
+          new Object[] {
+            userBook.getUser().getId(),
+            userBook.getBook().getId(),
+            userBook.getState().name(),
+            userBook.getTotalPages(),
+            userBook.getCurrentPage(),
+            now,
+            now
+          });
+    }
+
+    try {
+      jdbcTemplate.batchUpdate(INSERT_USER_BOOK, rows);
+
+      return userBooks.stream().map(userBook -> userBook.getBook().getId()).toList();
+    } catch (DuplicateKeyException e) {
+      // 조회한 뒤 다른 요청이 같은 도서를 추가했다, batch에서 들어가지 않은 도서만 한 건씩 다시 넣는다
+      boolean[] batched = BookRepositoryCustomImpl.insertedRows(e, userBooks.size());
+      List<Long> inserted = new ArrayList<>();
+
+      for (int i = 0; i < userBooks.size(); i++) {
+        if (batched[i] || insertIfAbsent(userBooks.get(i)).isPresent()) {
+          inserted.add(userBooks.get(i).getBook().getId());
+        }
+      }
+
+      return inserted;
+    }
+  }
+
+  @Override
+  public Map<Long, Long> findIdsByUserIdAndBookIdIn(Long userId, Collection<Long> bookIds) {
+    Map<Long, Long> ids = new HashMap<>();
+
+    if (bookIds.isEmpty()) {
+      return ids;
+    }
+
+    new NamedParameterJdbcTemplate(jdbcTemplate)
+        .query(
+            SELECT_IDS_BY_BOOK_ID,
+            Map.of("userId", userId, "bookIds", bookIds),
+            rs -> {
+              ids.put(rs.getLong("book_id"), rs.getLong("id"));
+            });
+
+    return ids;
+  }
+
+  @Override
+  public void updateCurrentPages(Map<Long, UserBookPageUpdate> updates) {
+    List<Object[]> rows = new ArrayList<>(updates.size());
+
+    updates.forEach(
+        (id, update) -> {
+          Timestamp updatedAt = Timestamp.valueOf(update.updatedAt());
+          rows.add(new Object[] {update.currentPage(), updatedAt, id, updatedAt});
+        });
+
+    jdbcTemplate.batchUpdate(UPDATE_CURRENT_PAGE, rows);
+  }
+
+  @Override
+  public void forEachExportRow(Long userId, int fetchSize, Consumer<UserBookExportRow> action) {
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement ps =
+              connection.prepareStatement(
+                  SELECT_EXPORT_ROWS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          ps.setFetchSize(isMySql(connection) ? MYSQL_STREAMING_FETCH_SIZE : fetchSize);
+          ps.setLong(1, userId);
+          return ps;
+        },
+        (RowCallbackHandler)
+            rs ->
+                action.accept(
+                    new UserBookExportRow(
+                        rs.getLong("id"),
+                        rs.getString("isbn"),
+                        rs.getString("title"),
+                        rs.getString("author"),
+                        rs.getString("publisher"),
+                        State.valueOf(rs.getString("state")),
+                        rs.getInt("current_page"),
+                        rs.getInt("total_pages"),
+                        toLocalDateTime(rs.getTimestamp("created_at")),
+                        toLocalDateTime(rs.getTimestamp("updated_at")))));
+  }
+
+  private static boolean isMySql(Connection connection) throws SQLException {
+    return "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+  }
+
+  private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+    return timestamp == null ? null : timestamp.toLocalDateTime();
+  }
+}
@@ -0,0 +1,13 @@
+package io.reading_tracker.repository;
+
+import io.reading_tracker.domain.book.State;
+
+/** user_book 상태별 집계 결과 */
+public interface UserBookStateCount {
+
+  Long getUserId();
+
+  State getState();
+
+  long getCount();
+}
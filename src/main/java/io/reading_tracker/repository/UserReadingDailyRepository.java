@@ -0,0 +1,57 @@
+package io.reading_tracker.repository;
+
+import io.reading_tracker.domain.stats.UserReadingDaily;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserReadingDailyRepository
+    extends JpaRepository<UserReadingDaily, Long>, UserReadingDailyRepositoryCustom {
+
+  /** from부터의 하루 독서량, uk_user_reading_daily_user_id_read_date 범위 한 번으로 읽는다 */
+  List<UserReadingDaily> findByUserIdAndReadDateGreaterThanEqualOrderByReadDate(
+      Long userId, LocalDate from);
+
+  /**
+   * 그날 독서량을 증가시킨다
+   *
+   * @return 갱신된 행 수, 그날 행이 아직 없으면 0
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(
+      """
+      update UserReadingDaily d
+         set d.pagesRead = d.pagesRead + :pagesRead,
+             d.booksCompleted = d.booksCompleted + :booksCompleted
+       where d.userId = :userId
+         and d.readDate = :readDate
+      """)
+  int increment(
+      @Param("userId") Long userId,
+      @Param("readDate") LocalDate readDate,
+      @Param("pagesRead") int pagesRead,
+      @Param("booksCompleted") int booksCompleted);
+
+  /**
+   * 그날의 연속 독서일을 바꾼다
+   *
+   * @return 갱신된 행 수, 그날 행이 없으면 0
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(
+      """
+      update UserReadingDaily d
+         set d.streak = :streak
+       where d.userId = :userId
+         and d.readDate = :readDate
+      """)
+  int updateStreak(
+      @Param("userId") Long userId,
+      @Param("readDate") LocalDate readDate,
+      @Param("streak") int streak);
+}
@@ -0,0 +1,29 @@
+package io.reading_tracker.repository;
+
+import io.reading_tracker.domain.stats.UserReadingDaily;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserReadingDailyRepositoryCustom {
+
+  /**
+   * 그날 행이 없을 때만 독서량 0인 행을 만든다, 연속 독서일은 전날 행의 값에 1을 더한다
+   *
+   * @return 만들었으면 true, 다른 요청이 먼저 만들었으면 false
+   */
+  boolean insertIfAbsent(Long userId, LocalDate readDate);
+
+  /** 한 번의 JDBC batch로 추가한다, 백필처럼 아직 행이 없는 사용자에게만 쓴다 */
+  void insertAll(List<UserReadingDaily> rows);
+
+  /**
+   * before 전의 하루 독서량 행이 없고 before 전에 수정한 도서는 있는 사용자, id 순서
+   *
+   * <p>백필 전에 진행 상황을 바꿔 오늘 행만 생긴 사용자도 고른다
+   */
+  List<Long> findUserIdsWithoutDaily(LocalDate before, int limit);
+
+  /** before 전에 수정한 user_book의 현재 페이지, 완독 여부를 마지막 수정일별로 합친다, 사용자와 날짜 순서 */
+  List<UserReadingDaily> sumUserBooksByUpdatedDate(Collection<Long> userIds, LocalDate before);
+}
@@ -0,0 +1,123 @@
+package io.reading_tracker.repository;
+
+import io.reading_tracker.domain.stats.UserReadingDaily;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/** 유니크 제약으로 중복을 판단하는 하루 독서량 행 추가, {@link UserBookRepositoryCustomImpl} 참고 */
+@RequiredArgsConstructor
+class UserReadingDailyRepositoryCustomImpl implements UserReadingDailyRepositoryCustom {
+
+  // VALUES 안에서 같은 테이블을 읽지 못하는 DB(MySQL)가 있어 INSERT ... SELECT로 전날 행을 읽는다
+  private static final String INSERT_EMPTY_DAY =
+      """
+      insert into user_reading_daily (user_id, read_date, pages_read, books_completed, streak)
+      select ?, ?, 0, 0, coalesce(max(d.streak), 0) + 1
+      from user_reading_daily d
+      where d.user_id = ? and d.read_date = ?
+      """;
+
+  private static final String INSERT_DAY =
+      """
+      insert into user_reading_daily (user_id, read_date, pages_read, books_completed, streak)
+      values (?, ?, ?, ?, ?)
+      """;
+
+  private static final String SELECT_USER_IDS_WITHOUT_DAILY =
+      """
+      select distinct ub.user_id
+      from user_book ub
+      where ub.deleted_at is null
+        and ub.updated_at < ?
+        and not exists (select 1 from user_reading_daily d
+                        where d.user_id = ub.user_id and d.read_date < ?)
+      order by ub.user_id
+      limit ?
+      """;
+
+  private static final String SUM_USER_BOOKS_BY_UPDATED_DATE =
+      """
+      select user_id,
+             cast(updated_at as date) as read_date,
+             sum(current_page) as pages_read,
+             sum(case when state = 'COMPLETED' then 1 else 0 end) as books_completed
+      from user_book
+      where user_id in (:userIds) and deleted_at is null and updated_at < :before
+      group by user_id, cast(updated_at as date)
+      order by user_id, read_date
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public boolean insertIfAbsent(Long userId, LocalDate readDate) {
+    try {
+      jdbcTemplate.update(
+          INSERT_EMPTY_DAY,
+          userId,
+          Date.valueOf(readDate),
+          userId,
+          Date.valueOf(readDate.minusDays(1)));
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public void insertAll(List<UserReadingDaily> rows) {
+    List<Object[]> args = new ArrayList<>(rows.size());
+
+    for (UserReadingDaily row : rows) {
+      args.add(
+          new Object[] {
+            row.getUserId(),
+            Date.valueOf(row.getReadDate()),
+            row.getPagesRead(),
+            row.getBooksCompleted(),
+            row.getStreak()
+          });
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_DAY, args);
+  }
+
+  @Override
+  public List<Long> findUserIdsWithoutDaily(LocalDate before, int limit) {
+    return jdbcTemplate.queryForList(
+        SELECT_USER_IDS_WITHOUT_DAILY,
+        Long.class,
+        Date.valueOf(before),
+        Date.valueOf(before),
+        limit);
+  }
+
+  @Override
+  public List<UserReadingDaily> sumUserBooksByUpdatedDate(
+      Collection<Long> userIds, LocalDate before) {
+    if (userIds.isEmpty()) {
+      return List.of();
+    }
+
+    return new NamedParameterJdbcTemplate(jdbcTemplate)
+        .query(
+            SUM_USER_BOOKS_BY_UPDATED_DATE,
+            Map.of("userIds", userIds, "before", Date.valueOf(before)),
+            (rs, rowNum) ->
+                new UserReadingDaily(
+                    rs.getLong("user_id"),
+                    rs.getDate("read_date").toLocalDate(),
+                    rs.getInt("pages_read"),
+                    rs.getInt("books_completed"),
+                    0));
+  }
+}
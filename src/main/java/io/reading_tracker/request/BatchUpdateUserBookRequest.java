@@ -0,0 +1,18 @@
+package io.reading_tracker.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 도서 여러 권의 진행 상황 수정
+ *
+ * @param updates 수정할 도서, 각 항목은 따로 검증해 잘못된 항목만 실패로 응답한다
+ */
+public record BatchUpdateUserBookRequest(
+    @NotNull(message = "updates는 필수입니다")
+        @Size(min = 1, max = MAX_UPDATES, message = "updates는 1 ~ " + MAX_UPDATES + "건이어야 합니다")
+        List<UpdateUserBookRequest> updates) {
+
+  public static final int MAX_UPDATES = 100;
+}
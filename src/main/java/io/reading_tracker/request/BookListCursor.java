@@ -0,0 +1,36 @@
+package io.reading_tracker.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 도서 목록 키셋 페이지네이션 커서, 마지막으로 내려준 도서의 (createdAt, id)
+ *
+ * <p>클라이언트에는 내부 구조를 알 수 없는 문자열 토큰으로만 전달한다.
+ */
+public record BookListCursor(LocalDateTime createdAt, Long id) {
+
+  private static final String DELIMITER = "|";
+
+  public String encode() {
+    String raw = createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static BookListCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int delimiter = raw.lastIndexOf(DELIMITER);
+
+      return new BookListCursor(
+          LocalDateTime.parse(raw.substring(0, delimiter)),
+          Long.parseLong(raw.substring(delimiter + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("유효하지 않은 커서입니다");
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package io.reading_tracker.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 도서 여러 권 추가
+ *
+ * @param books 추가할 도서, 각 도서는 따로 검증해 잘못된 도서만 실패로 응답한다
+ */
+public record BulkAddUserBookRequest(
+    @NotNull(message = "books는 필수입니다")
+        @Size(min = 1, max = MAX_BOOKS, message = "books는 1 ~ " + MAX_BOOKS + "권이어야 합니다")
+        List<AddUserBookRequest> books) {
+
+  public static final int MAX_BOOKS = 1_000;
+}
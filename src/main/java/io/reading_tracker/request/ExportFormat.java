@@ -0,0 +1,36 @@
+package io.reading_tracker.request;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.MediaType;
+
+/** 도서 목록 내보내기 형식 */
+public enum ExportFormat {
+  CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+  JSON("json", MediaType.APPLICATION_JSON);
+
+  private final String extension;
+  private final MediaType mediaType;
+
+  ExportFormat(String extension, MediaType mediaType) {
+    this.extension = extension;
+    this.mediaType = mediaType;
+  }
+
+  public String extension() {
+    return extension;
+  }
+
+  public MediaType mediaType() {
+    return mediaType;
+  }
+
+  public static ExportFormat from(String format) {
+    for (ExportFormat value : values()) {
+      if (value.extension.equalsIgnoreCase(format)) {
+        return value;
+      }
+    }
+
+    throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+  }
+}
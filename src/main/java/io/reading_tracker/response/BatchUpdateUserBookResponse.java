@@ -0,0 +1,41 @@
+package io.reading_tracker.response;
+
+import java.util.List;
+
+/**
+ * 도서 여러 권의 진행 상황 수정 결과
+ *
+ * @param results 요청한 순서대로 항목별 결과
+ */
+public record BatchUpdateUserBookResponse(int updated, int failed, List<ItemResult> results) {
+
+  public static BatchUpdateUserBookResponse of(List<ItemResult> results) {
+    int updated = (int) results.stream().filter(r -> r.status() == Status.UPDATED).count();
+
+    return new BatchUpdateUserBookResponse(updated, results.size() - updated, results);
+  }
+
+  /**
+   * @param index 요청 목록에서의 위치(0부터)
+   * @param book 수정한 결과, UPDATED가 아니면 null
+   * @param message 실패한 이유
+   */
+  public record ItemResult(
+      int index, Long id, Status status, UpdateUserBookResponse book, String message) {
+
+    public static ItemResult updated(int index, UpdateUserBookResponse book) {
+      return new ItemResult(index, book.id(), Status.UPDATED, book, null);
+    }
+
+    public static ItemResult failed(int index, Long id, Status status, String message) {
+      return new ItemResult(index, id, status, null, message);
+    }
+  }
+
+  public enum Status {
+    UPDATED,
+    /** 없거나 다른 사용자의 도서, 다른 사용자의 id가 있는지 드러내지 않도록 구분하지 않는다 */
+    NOT_FOUND,
+    INVALID
+  }
+}
@@ -0,0 +1,54 @@
+package io.reading_tracker.response;
+
+import java.util.List;
+
+/**
+ * 도서 여러 권 추가 결과
+ *
+ * @param results 요청한 순서대로 도서별 결과
+ */
+public record BulkAddUserBookResponse(
+    int added, int alreadyAdded, int invalid, List<ItemResult> results) {
+
+  public static BulkAddUserBookResponse of(List<ItemResult> results) {
+    int added = 0;
+    int alreadyAdded = 0;
+    int invalid = 0;
+
+    for (ItemResult result : results) {
+      switch (result.status()) {
+        case ADDED -> added++;
+        case ALREADY_ADDED -> alreadyAdded++;
+        case INVALID -> invalid++;
+      }
+    }
+
+    return new BulkAddUserBookResponse(added, alreadyAdded, invalid, results);
+  }
+
+  /**
+   * @param index 요청 목록에서의 위치(0부터)
+   * @param id 추가했거나 이미 있던 사용자 도서 id, INVALID면 null
+   * @param message INVALID인 이유
+   */
+  public record ItemResult(int index, String isbn, Status status, Long id, String message) {
+
+    public static ItemResult added(int index, String isbn, Long id) {
+      return new ItemResult(index, isbn, Status.ADDED, id, null);
+    }
+
+    public static ItemResult alreadyAdded(int index, String isbn, Long id) {
+      return new ItemResult(index, isbn, Status.ALREADY_ADDED, id, null);
+    }
+
+    public static ItemResult invalid(int index, String isbn, String message) {
+      return new ItemResult(index, isbn, Status.INVALID, null, message);
+    }
+  }
+
+  public enum Status {
+    ADDED,
+    ALREADY_ADDED,
+    INVALID
+  }
+}
@@ -0,0 +1,14 @@
+package io.reading_tracker.response;
+
+import java.util.List;
+
+/**
+ * 도서 목록 한 페이지
+ *
+ * @param nextCursor 다음 페이지 요청에 쓸 커서, 마지막 페이지면 null
+ */
+public record GetBookPageResponse(
+    GetBookListResponse.Summary summary,
+    List<GetBookListResponse.BookItem> books,
+    String nextCursor,
+    boolean hasNext) {}
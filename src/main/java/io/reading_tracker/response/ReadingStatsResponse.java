@@ -0,0 +1,24 @@
+package io.reading_tracker.response;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 독서 통계
+ *
+ * @param currentStreak 오늘 또는 어제까지 하루도 빠지지 않고 읽은 날 수
+ * @param averagePagesPerDay 최근 recentDays일 동안 하루 평균 읽은 페이지, 읽지 않은 날도 포함
+ * @param dailyPages 최근 recentDays일 중 읽은 날의 페이지 수, 날짜 순서
+ * @param monthlyCompleted 최근 months개월의 월별 완독 권수, 완독하지 않은 달도 포함
+ */
+public record ReadingStatsResponse(
+    int currentStreak,
+    double averagePagesPerDay,
+    List<DailyPages> dailyPages,
+    List<MonthlyCompleted> monthlyCompleted) {
+
+  public record DailyPages(LocalDate date, int pages) {}
+
+  public record MonthlyCompleted(YearMonth month, int books) {}
+}
@@ -1,19 +1,47 @@
 package io.reading_tracker.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.List;
 
+/**
+ * 도서 검색 결과 한 페이지
+ *
+ * @param start 첫 결과의 위치(1부터)
+ * @param display 이 페이지가 차지한 결과 위치 수, 중복된 도서를 빼고 응답하면 items 수보다 클 수 있다
+ * @param hasNext 다음 페이지(start + display)를 요청할 수 있는지
+ * @param stale API 장애로 이전 결과를 대신 응답했는지, 캐시에 넣지 않으며 응답 본문에는 나가지 않는다
+ */
 public record SearchBookResponse(
     int total,
+    int start,
     int display,
-    List<BookItem> items
-) {
-
-  public record BookItem(
-      String isbn,
-      String title,
-      String author,
-      String publisher,
-      String link
-  ) {
+    List<BookItem> items,
+    boolean hasNext,
+    @JsonIgnore boolean stale) {
+
+  /** 네이버 도서 검색 API가 허용하는 최대 start */
+  public static final int MAX_START = 1000;
+
+  public SearchBookResponse(
+      int total, int start, int display, List<BookItem> items, boolean hasNext) {
+    this(total, start, display, items, hasNext, false);
+  }
+
+  public static SearchBookResponse of(int total, int start, List<BookItem> items) {
+    int nextStart = start + items.size();
+    boolean hasNext = !items.isEmpty() && nextStart <= Math.min(total, MAX_START);
+
+    return new SearchBookResponse(total, start, items.size(), items, hasNext);
   }
+
+  /** 이전 결과를 대신 응답할 때 쓰는 같은 내용의 결과 */
+  public SearchBookResponse asStale() {
+    return new SearchBookResponse(total, start, display, items, hasNext, true);
+  }
+
+  public static SearchBookResponse empty(int start) {
+    return new SearchBookResponse(0, start, 0, List.of(), false);
+  }
+
+  public record BookItem(String isbn, String title, String author, String publisher, String link) {}
 }
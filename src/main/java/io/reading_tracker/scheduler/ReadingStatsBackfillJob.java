@@ -0,0 +1,52 @@
+package io.reading_tracker.scheduler;
+
+import io.reading_tracker.service.ReadingStatsProperties;
+import io.reading_tracker.service.ReadingStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 독서 통계가 생기기 전의 사용자를 user_book으로 채운다
+ *
+ * <p>그때까지의 기록은 없으므로 도서별 현재 페이지를 마지막 수정일에 읽은 것으로 본다. 하루 독서량 행이 없는 사용자만 채우므로 여러 번 실행해도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadingStatsBackfillJob {
+
+  private final ReadingStatsService readingStatsService;
+  private final ReadingStatsProperties properties;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillOnStartup() {
+    if (properties.backfill().enabled()) {
+      backfill();
+    }
+  }
+
+  public int backfill() {
+    int total = 0;
+
+    try {
+      int filled;
+
+      while ((filled = readingStatsService.backfill(properties.backfill().chunkSize())) > 0) {
+        total += filled;
+        log.info("독서 통계 백필 진행 중, 누적 사용자 수: {}", total);
+      }
+    } catch (Exception e) {
+      // 그사이 진행 상황을 바꿔 행이 생긴 사용자와 겹친 경우, 다음 실행에서는 그 사용자를 건너뛴다
+      log.warn("독서 통계 백필 중단. 누적 사용자 수: {}, Error: {}", total, e.getMessage());
+
+      return total;
+    }
+
+    log.info("독서 통계 백필 완료, 사용자 수: {}", total);
+
+    return total;
+  }
+}
@@ -0,0 +1,27 @@
+package io.reading_tracker.scheduler;
+
+import io.reading_tracker.service.UserBookCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** 도서 카운터를 user_book 집계와 주기적으로 맞춘다 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserBookCounterRepairJob {
+
+  private final UserBookCounterService userBookCounterService;
+
+  @Scheduled(cron = "${user-book-counter.repair-cron:0 30 4 * * *}")
+  public void repair() {
+    int repaired = userBookCounterService.repairAll();
+
+    if (repaired > 0) {
+      log.warn("도서 카운터 {}건 수정", repaired);
+    } else {
+      log.info("도서 카운터 점검 완료, 불일치 없음");
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package io.reading_tracker.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 도서 검색 색인용 bigram 토크나이저
+ *
+ * <p>NFKC 정규화와 소문자 변환 뒤 글자, 숫자만 남기고 이웃한 두 글자를 하나의 term으로 만든다. 공백을 지운 뒤 자르므로 "해리 포터"와 "해리포터"가 같은
+ * term을 만든다. 한 글자뿐인 필드는 그 글자 하나를 term으로 쓴다.
+ *
+ * <p>term은 두 글자의 UTF-16 코드를 이어 붙인 int다. 보조 평면 문자(이모지 등)는 건너뛴다.
+ */
+public final class BigramTokenizer {
+
+  private static final int[] EMPTY = new int[0];
+
+  private BigramTokenizer() {}
+
+  /** 여러 필드의 term을 중복 없이 오름차순으로 */
+  public static int[] tokenize(String... texts) {
+    int[] terms = EMPTY;
+    int count = 0;
+
+    for (String text : texts) {
+      if (text == null || text.isEmpty()) {
+        continue;
+      }
+
+      String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+      char previous = 0;
+      int letters = 0;
+
+      for (int i = 0; i < normalized.length(); i++) {
+        char c = normalized.charAt(i);
+
+        if (!Character.isLetterOrDigit(c)) {
+          continue;
+        }
+
+        if (letters > 0) {
+          terms = ensureCapacity(terms, count + 1);
+          terms[count++] = term(previous, c);
+        }
+
+        previous = c;
+        letters++;
+      }
+
+      if (letters == 1) {
+        terms = ensureCapacity(terms, count + 1);
+        terms[count++] = term(previous, (char) 0);
+      }
+    }
+
+    return distinct(terms, count);
+  }
+
+  private static int term(char first, char second) {
+    return (first << 16) | second;
+  }
+
+  private static int[] ensureCapacity(int[] terms, int capacity) {
+    if (capacity <= terms.length) {
+      return terms;
+    }
+
+    return Arrays.copyOf(terms, Math.max(16, terms.length * 2));
+  }
+
+  private static int[] distinct(int[] terms, int count) {
+    if (count == 0) {
+      return EMPTY;
+    }
+
+    Arrays.sort(terms, 0, count);
+    int unique = 1;
+
+    for (int i = 1; i < count; i++) {
+      if (terms[i] != terms[unique - 1]) {
+        terms[unique++] = terms[i];
+      }
+    }
+
+    return Arrays.copyOf(terms, unique);
+  }
+}
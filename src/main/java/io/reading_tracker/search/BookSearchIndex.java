@@ -0,0 +1,380 @@
+package io.reading_tracker.search;
+
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.repository.BookCatalogRow;
+import io.reading_tracker.repository.BookRepository;
+import io.reading_tracker.response.SearchBookResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * books 테이블의 제목, 저자, 출판사에 대한 노드 로컬 전문 색인
+ *
+ * <p>term은 {@link BigramTokenizer}로 만들고, term별 도서 목록(postings)은 문서 번호를 오름차순으로 담은 int 배열이다. 애플리케이션이
+ * 뜬 뒤 전체 도서로 만들고, 이후 이 노드에서 새로 추가된 도서는 커밋 후 바로 넣는다. 다른 노드에서 추가된 도서는 재시작 전까지 보이지 않으며 그동안은 네이버 검색 결과로
+ * 채워진다.
+ */
+@Slf4j
+@Component
+public class BookSearchIndex {
+
+  private static final int LOAD_BATCH_SIZE = 5_000;
+
+  private final BookRepository bookRepository;
+  private final LocalSearchProperties properties;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private Segment segment = new Segment();
+  private boolean ready;
+
+  /** 색인을 만드는 동안 추가된 도서, 만들고 있지 않으면 null */
+  private List<BookCatalogRow> pending;
+
+  public BookSearchIndex(BookRepository bookRepository, LocalSearchProperties properties) {
+    this.bookRepository = bookRepository;
+    this.properties = properties;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (properties.enabled()) {
+      rebuild();
+    }
+  }
+
+  /** 전체 도서로 색인을 다시 만든다, 만드는 동안에는 이전 색인으로 검색한다 */
+  public void rebuild() {
+    rebuild(action -> bookRepository.forEachCatalogRow(LOAD_BATCH_SIZE, action));
+  }
+
+  /**
+   * @param source id 오름차순으로 도서를 넘겨주는 함수
+   */
+  void rebuild(Consumer<Consumer<BookCatalogRow>> source) {
+    lock.writeLock().lock();
+    try {
+      if (pending != null) {
+        throw new IllegalStateException("도서 검색 색인을 이미 만들고 있습니다.");
+      }
+      pending = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    long start = System.nanoTime();
+    Segment built = new Segment();
+
+    try {
+      source.accept(built::add);
+      built.trim();
+    } catch (RuntimeException e) {
+      lock.writeLock().lock();
+      try {
+        pending = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      throw e;
+    }
+
+    int loaded = built.size;
+
+    lock.writeLock().lock();
+    try {
+      // 읽기 전에 커밋되어 이미 읽은 도서는 다시 넣지 않는다
+      for (BookCatalogRow row : pending) {
+        if (!built.containsBook(row.id(), loaded)) {
+          built.add(row);
+        }
+      }
+
+      segment = built;
+      pending = null;
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    log.info(
+        "도서 검색 색인 생성 완료. books: {}, terms: {}, elapsed: {}ms",
+        built.size,
+        built.postings.size(),
+        Duration.ofNanos(System.nanoTime() - start).toMillis());
+  }
+
+  /** 새로 추가된 도서를 넣는다, 트랜잭션 안에서 호출하면 커밋 이후에 넣는다 */
+  public void add(Book book) {
+    addRow(
+        new BookCatalogRow(
+            book.getId(), book.getIsbn(), book.getTitle(), book.getAuthor(), book.getPublisher()));
+  }
+
+  /** {@link #add(Book)}와 같다, 엔티티 없이 JDBC로 추가한 도서에 쓴다 */
+  public void addRow(BookCatalogRow row) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      addNow(row);
+      return;
+    }
+
+    // 롤백된 도서가 검색되지 않도록 커밋 이후에 넣는다
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            addNow(row);
+          }
+        });
+  }
+
+  private void addNow(BookCatalogRow row) {
+    lock.writeLock().lock();
+    try {
+      if (pending != null) {
+        pending.add(row);
+      } else {
+        segment.add(row);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어 term 중 minScore 이상을 가진 도서를 점수, 짧은 제목 순으로 찾는다
+   *
+   * @return 색인이 아직 없거나 검색어에서 term을 만들 수 없으면 빈 결과
+   */
+  public Result search(String query, double minScore, int limit) {
+    int[] terms = BigramTokenizer.tokenize(query);
+
+    if (terms.length == 0) {
+      return Result.EMPTY;
+    }
+
+    lock.readLock().lock();
+    try {
+      return ready ? segment.search(terms, minScore, limit) : Result.EMPTY;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return segment.size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @param total minScore 이상인 도서 수
+   * @param hits 그중 상위 limit권
+   */
+  public record Result(int total, List<Hit> hits) {
+
+    static final Result EMPTY = new Result(0, List.of());
+  }
+
+  public record Hit(SearchBookResponse.BookItem book, double score) {}
+
+  /** 문서 번호는 추가된 순서, 처음 읽은 도서들은 id 오름차순이다 */
+  private static final class Segment {
+
+    private static final Postings NO_POSTINGS = new Postings();
+
+    private long[] bookIds = new long[1_024];
+    private String[] isbns = new String[1_024];
+    private String[] titles = new String[1_024];
+    private String[] authors = new String[1_024];
+    private String[] publishers = new String[1_024];
+    private int size;
+
+    private final Map<Integer, Postings> postings = new HashMap<>();
+
+    void add(BookCatalogRow row) {
+      if (size == bookIds.length) {
+        int capacity = size + (size >> 1);
+        bookIds = Arrays.copyOf(bookIds, capacity);
+        isbns = Arrays.copyOf(isbns, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        authors = Arrays.copyOf(authors, capacity);
+        publishers = Arrays.copyOf(publishers, capacity);
+      }
+
+      int doc = size++;
+      bookIds[doc] = row.id();
+      isbns[doc] = row.isbn();
+      titles[doc] = row.title();
+      authors[doc] = row.author();
+      publishers[doc] = row.publisher();
+
+      for (int term : BigramTokenizer.tokenize(row.title(), row.author(), row.publisher())) {
+        postings.computeIfAbsent(term, t -> new Postings()).add(doc);
+      }
+    }
+
+    /** 처음 읽은 loaded권은 id 오름차순이므로 이진 탐색한다 */
+    boolean containsBook(long bookId, int loaded) {
+      return Arrays.binarySearch(bookIds, 0, loaded, bookId) >= 0;
+    }
+
+    void trim() {
+      postings.values().forEach(Postings::trim);
+    }
+
+    Result search(int[] terms, double minScore, int limit) {
+      int termCount = terms.length;
+      int required = Math.max(1, (int) Math.ceil(minScore * termCount - 1e-9));
+
+      Postings[] lists = new Postings[termCount];
+
+      for (int i = 0; i < termCount; i++) {
+        lists[i] = postings.getOrDefault(terms[i], NO_POSTINGS);
+      }
+
+      Arrays.sort(lists, Comparator.comparingInt(p -> p.size));
+
+      // required개 이상 맞는 도서는 가장 짧은 (termCount - required + 1)개 목록 중 하나에 반드시 있다
+      int[] candidates = union(lists, termCount - required + 1);
+      // 정렬 키: 맞지 않은 term 수, 제목 길이, 문서 번호 순으로 비교하도록 long 하나에 담는다
+      long[] matches = new long[Math.min(candidates.length, 1_024)];
+      int matchCount = 0;
+
+      // 후보가 오름차순이므로 목록마다 위치를 앞으로만 옮기며 찾는다
+      int[] positions = new int[termCount];
+
+      for (int doc : candidates) {
+        int matched = 0;
+
+        for (int i = 0; i < termCount && matched + (termCount - i) >= required; i++) {
+          positions[i] = lists[i].seek(doc, positions[i]);
+
+          if (positions[i] < lists[i].size && lists[i].docs[positions[i]] == doc) {
+            matched++;
+          }
+        }
+
+        if (matched >= required) {
+          if (matchCount == matches.length) {
+            matches = Arrays.copyOf(matches, matchCount * 2);
+          }
+
+          matches[matchCount++] = sortKey(termCount - matched, doc);
+        }
+      }
+
+      Arrays.sort(matches, 0, matchCount);
+      List<Hit> hits = new ArrayList<>(Math.min(limit, matchCount));
+
+      for (int i = 0; i < Math.min(limit, matchCount); i++) {
+        int missed = (int) (matches[i] >>> 48);
+        int doc = (int) matches[i];
+        hits.add(new Hit(toBookItem(doc), (double) (termCount - missed) / termCount));
+      }
+
+      return new Result(matchCount, hits);
+    }
+
+    private long sortKey(int missed, int doc) {
+      int titleLength = titles[doc] == null ? 0 : Math.min(titles[doc].length(), 0xFFFF);
+      return ((long) missed << 48) | ((long) titleLength << 32) | doc;
+    }
+
+    private SearchBookResponse.BookItem toBookItem(int doc) {
+      return new SearchBookResponse.BookItem(
+          isbns[doc], titles[doc], authors[doc], publishers[doc], null);
+    }
+
+    private static int[] union(Postings[] lists, int count) {
+      int total = 0;
+
+      for (int i = 0; i < count; i++) {
+        total += lists[i].size;
+      }
+
+      int[] docs = new int[total];
+      int offset = 0;
+
+      for (int i = 0; i < count; i++) {
+        System.arraycopy(lists[i].docs, 0, docs, offset, lists[i].size);
+        offset += lists[i].size;
+      }
+
+      if (count == 1) {
+        return docs;
+      }
+
+      Arrays.sort(docs);
+      int unique = 0;
+
+      for (int i = 0; i < total; i++) {
+        if (unique == 0 || docs[i] != docs[unique - 1]) {
+          docs[unique++] = docs[i];
+        }
+      }
+
+      return Arrays.copyOf(docs, unique);
+    }
+  }
+
+  /** 한 term을 가진 문서 번호, 오름차순 */
+  private static final class Postings {
+
+    private int[] docs = new int[2];
+    private int size;
+
+    void add(int doc) {
+      if (size == docs.length) {
+        docs = Arrays.copyOf(docs, size * 2);
+      }
+
+      docs[size++] = doc;
+    }
+
+    /** from 이후에서 doc 이상인 첫 위치, 가까운 곳부터 두 배씩 넓혀 찾는다(galloping) */
+    int seek(int doc, int from) {
+      int bound = 1;
+
+      while (from + bound < size && docs[from + bound] < doc) {
+        bound <<= 1;
+      }
+
+      int low = from + (bound >> 1);
+      int high = Math.min(from + bound, size - 1);
+
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+
+        if (docs[mid] < doc) {
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+
+      return low;
+    }
+
+    void trim() {
+      if (size < docs.length) {
+        docs = Arrays.copyOf(docs, size);
+      }
+    }
+  }
+}
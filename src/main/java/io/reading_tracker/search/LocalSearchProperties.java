@@ -0,0 +1,19 @@
+package io.reading_tracker.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로컬 도서 색인 검색 설정
+ *
+ * @param enabled false면 색인을 만들지 않고 네이버 API로만 검색
+ * @param minScore 검색어 term 중 도서에 있는 term의 비율, 이 값 이상인 도서만 결과에 넣는다
+ * @param minHits minScore 이상인 도서가 이만큼 있으면 네이버 API를 호출하지 않는다
+ * @param maxResults 로컬 결과 최대 개수
+ */
+@ConfigurationProperties(prefix = "search.local")
+public record LocalSearchProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("0.8") double minScore,
+    @DefaultValue("5") int minHits,
+    @DefaultValue("10") int maxResults) {}
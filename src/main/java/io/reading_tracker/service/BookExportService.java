@@ -0,0 +1,11 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.request.ExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BookExportService {
+
+  /** 사용자의 도서 목록을 한 행씩 읽어 바로 out에 쓴다, 목록 캐시는 거치지 않는다 */
+  void export(Long userId, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,176 @@
+package io.reading_tracker.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.reading_tracker.cache.ProgressWriteBehindBuffer;
+import io.reading_tracker.repository.UserBookExportRow;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.request.ExportFormat;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도서 목록 내보내기
+ *
+ * <p>user_book과 books를 forward-only 스트리밍 결과로 읽고, 행마다 바로 응답 스트림에 쓴다. 목록 전체를 리스트로 만들지 않으므로 도서 수와 관계없이
+ * 힙 사용량이 일정하다. 아직 DB에 쓰지 않은 현재 페이지({@link ProgressWriteBehindBuffer})는 덮어 쓴다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class BookExportServiceImpl implements BookExportService {
+
+  static final int FETCH_SIZE = 500;
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final char BOM = '\uFEFF';
+  private static final String[] CSV_HEADER = {
+    "id",
+    "isbn",
+    "title",
+    "author",
+    "publisher",
+    "state",
+    "currentPage",
+    "totalPages",
+    "progress",
+    "createdAt",
+    "updatedAt"
+  };
+
+  private final UserBookRepository userBookRepository;
+  private final ProgressWriteBehindBuffer progressWriteBehindBuffer;
+
+  @Override
+  public void export(Long userId, ExportFormat format, OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+    try {
+      switch (format) {
+        case CSV -> exportCsv(userId, writer);
+        case JSON -> exportJson(userId, writer);
+      }
+    } catch (UncheckedIOException e) {
+      // 클라이언트가 연결을 끊으면 남은 행은 읽지 않는다
+      throw e.getCause();
+    }
+
+    writer.flush();
+  }
+
+  private void exportCsv(Long userId, Writer writer) throws IOException {
+    writer.write(BOM); // 엑셀에서 UTF-8로 열리도록
+    writer.write(String.join(",", CSV_HEADER));
+    writer.write("\r\n");
+
+    forEachRow(
+        userId,
+        row -> {
+          try {
+            int currentPage = currentPage(row);
+
+            writer.write(Long.toString(row.id()));
+            writer.write(',');
+            writer.write(csv(row.isbn()));
+            writer.write(',');
+            writer.write(csv(row.title()));
+            writer.write(',');
+            writer.write(csv(row.author()));
+            writer.write(',');
+            writer.write(csv(row.publisher()));
+            writer.write(',');
+            writer.write(row.state().name());
+            writer.write(',');
+            writer.write(Integer.toString(currentPage));
+            writer.write(',');
+            writer.write(Integer.toString(row.totalPages()));
+            writer.write(',');
+            writer.write(
+                Integer.toString(BookServiceImpl.calculateProgress(currentPage, row.totalPages())));
+            writer.write(',');
+            writer.write(timestamp(row.createdAt()));
+            writer.write(',');
+            writer.write(timestamp(row.updatedAt()));
+            writer.write("\r\n");
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  private void exportJson(Long userId, Writer writer) throws IOException {
+    JsonGenerator generator = JSON_FACTORY.createGenerator(writer);
+    generator.writeStartArray();
+
+    forEachRow(
+        userId,
+        row -> {
+          try {
+            int currentPage = currentPage(row);
+
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.id());
+            generator.writeStringField("isbn", row.isbn());
+            generator.writeStringField("title", row.title());
+            generator.writeStringField("author", row.author());
+            generator.writeStringField("publisher", row.publisher());
+            generator.writeStringField("state", row.state().name());
+            generator.writeNumberField("currentPage", currentPage);
+            generator.writeNumberField("totalPages", row.totalPages());
+            generator.writeNumberField(
+                "progress", BookServiceImpl.calculateProgress(currentPage, row.totalPages()));
+            generator.writeStringField("createdAt", timestamp(row.createdAt()));
+            generator.writeStringField(
+                "updatedAt", row.updatedAt() == null ? null : timestamp(row.updatedAt()));
+            generator.writeEndObject();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+
+    generator.writeEndArray();
+    generator.flush();
+  }
+
+  private void forEachRow(Long userId, Consumer<UserBookExportRow> action) {
+    userBookRepository.forEachExportRow(userId, FETCH_SIZE, action);
+  }
+
+  private int currentPage(UserBookExportRow row) {
+    ProgressWriteBehindBuffer.Pending pending = progressWriteBehindBuffer.get(row.id());
+
+    return pending == null ? row.currentPage() : pending.currentPage();
+  }
+
+  private static String timestamp(LocalDateTime value) {
+    return value == null ? "" : value.toString();
+  }
+
+  /** 구분자, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 앞에 '를 붙인다 */
+  static String csv(String value) {
+    if (value == null || value.isEmpty()) {
+      return "";
+    }
+
+    String escaped = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+
+    if (escaped.contains(",")
+        || escaped.contains("\"")
+        || escaped.contains("\n")
+        || escaped.contains("\r")) {
+      return "\"" + escaped.replace("\"", "\"\"") + "\"";
+    }
+
+    return escaped;
+  }
+}
@@ -0,0 +1,16 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.response.BulkAddUserBookResponse;
+import java.util.List;
+
+public interface BookImportService {
+
+  /**
+   * 도서 여러 권을 한 번에 추가한다, 잘못된 도서는 건너뛰고 나머지는 추가한다
+   *
+   * <p>요청에 같은 ISBN이 여러 번 있으면 처음 것만 추가하고 나머지는 이미 추가된 도서로 응답한다.
+   */
+  BulkAddUserBookResponse importBooks(User user, List<AddUserBookRequest> requests);
+}
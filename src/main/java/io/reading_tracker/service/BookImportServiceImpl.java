@@ -0,0 +1,156 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.domain.userbook.UserBook;
+import io.reading_tracker.repository.BookCatalogRow;
+import io.reading_tracker.repository.BookRepository;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.response.BulkAddUserBookResponse;
+import io.reading_tracker.response.BulkAddUserBookResponse.ItemResult;
+import io.reading_tracker.search.BookSearchIndex;
+import io.reading_tracker.validation.BatchItemValidator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도서 여러 권 추가
+ *
+ * <p>한 권씩 추가({@link BookServiceImpl#addBookToUserLibrary})하면 도서마다 조회, insert, 카운터 갱신, 목록 캐시 무효화를
+ * 한다. 여기서는 ISBN을 IN 쿼리 한 번으로 찾고, 없는 도서와 user_book은 JDBC batch로 넣고, 카운터와 목록 세대는 요청당 한 번만 갱신한다. 중복
+ * 판단은 한 권씩 추가할 때와 같이 유니크 제약에 맡기고, READ COMMITTED로 실행하는 이유도 같다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class BookImportServiceImpl implements BookImportService {
+
+  private final BookRepository bookRepository;
+  private final UserBookRepository userBookRepository;
+  private final UserBookCounterService userBookCounterService;
+  private final UserBookListGeneration userBookListGeneration;
+  private final BookSearchIndex bookSearchIndex;
+  private final BatchItemValidator batchItemValidator;
+
+  @Override
+  @Transactional(isolation = Isolation.READ_COMMITTED)
+  public BulkAddUserBookResponse importBooks(User user, List<AddUserBookRequest> requests) {
+    String[] violations = new String[requests.size()];
+    // ISBN별 처음 요청, 요청 순서를 유지한다
+    Map<String, AddUserBookRequest> requestsByIsbn = new LinkedHashMap<>();
+    Map<String, Integer> firstIndexes = new LinkedHashMap<>();
+
+    for (int i = 0; i < requests.size(); i++) {
+      AddUserBookRequest request = requests.get(i);
+      violations[i] = batchItemValidator.validate(request);
+
+      if (violations[i] == null && requestsByIsbn.putIfAbsent(request.isbn(), request) == null) {
+        firstIndexes.put(request.isbn(), i);
+      }
+    }
+
+    Map<String, Long> bookIds = resolveBooks(requestsByIsbn);
+
+    Map<Long, Long> existing =
+        userBookRepository.findIdsByUserIdAndBookIdIn(user.getId(), bookIds.values());
+    List<UserBook> newUserBooks = new ArrayList<>();
+
+    for (AddUserBookRequest request : requestsByIsbn.values()) {
+      Long bookId = bookIds.get(request.isbn());
+
+      if (!existing.containsKey(bookId)) {
+        newUserBooks.add(
+            new UserBook(
+                user,
+                bookRepository.getReferenceById(bookId),
+                State.IN_PROGRESS,
+                request.totalPages(),
+                1));
+      }
+    }
+
+    Map<Long, Long> userBookIds = existing;
+    // 조회한 뒤 다른 요청이 먼저 추가한 도서는 빠진다
+    Set<Long> insertedBookIds = Set.of();
+
+    if (!newUserBooks.isEmpty()) {
+      insertedBookIds = new HashSet<>(userBookRepository.insertAllIfAbsent(newUserBooks));
+      userBookIds = userBookRepository.findIdsByUserIdAndBookIdIn(user.getId(), bookIds.values());
+    }
+
+    List<ItemResult> results = new ArrayList<>(requests.size());
+    int added = 0;
+
+    for (int i = 0; i < requests.size(); i++) {
+      AddUserBookRequest request = requests.get(i);
+      String isbn = request == null ? null : request.isbn();
+
+      if (violations[i] != null) {
+        results.add(ItemResult.invalid(i, isbn, violations[i]));
+        continue;
+      }
+
+      Long bookId = bookIds.get(isbn);
+      Long userBookId = userBookIds.get(bookId);
+
+      if (userBookId == null) {
+        throw new IllegalStateException("도서를 추가하지 못했습니다. isbn: " + isbn);
+      }
+
+      if (firstIndexes.get(isbn) == i && insertedBookIds.contains(bookId)) {
+        results.add(ItemResult.added(i, isbn, userBookId));
+        added++;
+      } else {
+        results.add(ItemResult.alreadyAdded(i, isbn, userBookId));
+      }
+    }
+
+    if (added > 0) {
+      userBookCounterService.applyDeltas(user.getId(), Map.of(State.IN_PROGRESS, added));
+      userBookListGeneration.bump(user.getId());
+    }
+
+    return BulkAddUserBookResponse.of(results);
+  }
+
+  /** ISBN별 도서 id, 없는 도서는 추가하고 새로 추가한 도서는 검색 색인에 넣는다 */
+  private Map<String, Long> resolveBooks(Map<String, AddUserBookRequest> requestsByIsbn) {
+    Map<String, Long> bookIds = bookRepository.findIdsByIsbnIn(requestsByIsbn.keySet());
+
+    List<Book> missing =
+        requestsByIsbn.values().stream()
+            .filter(request -> !bookIds.containsKey(request.isbn()))
+            .map(
+                request ->
+                    new Book(
+                        request.title(), request.author(), request.publisher(), request.isbn()))
+            .toList();
+
+    if (missing.isEmpty()) {
+      return bookIds;
+    }
+
+    List<String> inserted = bookRepository.insertAllIfAbsent(missing);
+    bookIds.putAll(bookRepository.findIdsByIsbnIn(missing.stream().map(Book::getIsbn).toList()));
+
+    for (String isbn : inserted) {
+      AddUserBookRequest request = requestsByIsbn.get(isbn);
+      bookSearchIndex.addRow(
+          new BookCatalogRow(
+              bookIds.get(isbn), isbn, request.title(), request.author(), request.publisher()));
+    }
+
+    return bookIds;
+  }
+}
@@ -0,0 +1,16 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.request.UpdateUserBookRequest;
+import io.reading_tracker.response.BatchUpdateUserBookResponse;
+import java.util.List;
+
+public interface BookProgressBatchService {
+
+  /**
+   * 도서 여러 권의 진행 상황을 한 트랜잭션에서 수정한다, 실패한 항목은 건너뛰고 나머지는 수정한다
+   *
+   * <p>같은 도서가 여러 번 있으면 요청 순서대로 차례로 적용한다.
+   */
+  BatchUpdateUserBookResponse updateProgresses(User user, List<UpdateUserBookRequest> requests);
+}
@@ -0,0 +1,133 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.cache.ProgressWriteBehindBuffer;
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.domain.userbook.UserBook;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.request.UpdateUserBookRequest;
+import io.reading_tracker.response.BatchUpdateUserBookResponse;
+import io.reading_tracker.response.BatchUpdateUserBookResponse.ItemResult;
+import io.reading_tracker.response.BatchUpdateUserBookResponse.Status;
+import io.reading_tracker.response.UpdateUserBookResponse;
+import io.reading_tracker.validation.BatchItemValidator;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도서 여러 권의 진행 상황 수정
+ *
+ * <p>한 권씩 수정({@link BookServiceImpl#updateUserBookProgress})하면 도서마다 조회, 카운터 갱신, 목록 캐시 무효화를 한다. 여기서는
+ * 사용자의 도서만 IN 쿼리 한 번으로 읽고, 변경 감지로 모인 update는 flush할 때 hibernate.jdbc.batch_size 단위의 JDBC batch로
+ * 보낸다. 카운터와 목록 세대는 요청당 한 번만 갱신한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class BookProgressBatchServiceImpl implements BookProgressBatchService {
+
+  private static final String NOT_FOUND_MESSAGE = "해당 도서는 사용자 목록 내 존재하지 않습니다.";
+
+  private final UserBookRepository userBookRepository;
+  private final UserBookCounterService userBookCounterService;
+  private final UserBookListGeneration userBookListGeneration;
+  private final BatchItemValidator batchItemValidator;
+  private final ProgressWriteBehindBuffer progressWriteBehindBuffer;
+  private final ReadingStatsService readingStatsService;
+
+  @Override
+  @Transactional
+  public BatchUpdateUserBookResponse updateProgresses(
+      User user, List<UpdateUserBookRequest> requests) {
+    List<Long> ids =
+        requests.stream()
+            .filter(Objects::nonNull)
+            .map(UpdateUserBookRequest::id)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+
+    // 모아 둔 현재 페이지가 이 수정을 나중에 덮어쓰지 않도록 먼저 쓴다
+    ids.forEach(progressWriteBehindBuffer::flush);
+
+    Map<Long, UserBook> userBooks =
+        ids.isEmpty()
+            ? Map.of()
+            : userBookRepository.findByIdInAndUserId(ids, user.getId()).stream()
+                .collect(Collectors.toMap(UserBook::getId, Function.identity()));
+
+    // 같은 도서를 여러 번 바꿔도 카운터에는 처음 상태에서 마지막 상태로의 변경만 반영한다
+    Map<Long, State> previousStates = new HashMap<>();
+    List<ItemResult> results = new ArrayList<>(requests.size());
+    int pagesRead = 0;
+
+    for (int i = 0; i < requests.size(); i++) {
+      UpdateUserBookRequest request = requests.get(i);
+      Long id = request == null ? null : request.id();
+      String violation = batchItemValidator.validate(request);
+
+      if (violation != null) {
+        results.add(ItemResult.failed(i, id, Status.INVALID, violation));
+        continue;
+      }
+
+      UserBook userBook = userBooks.get(id);
+
+      if (userBook == null) {
+        results.add(ItemResult.failed(i, id, Status.NOT_FOUND, NOT_FOUND_MESSAGE));
+        continue;
+      }
+
+      State previousState = userBook.getState();
+      int previousPage = userBook.getCurrentPage();
+
+      try {
+        userBook.updateProgress(request.state(), userBook.getTotalPages(), request.currentPage());
+      } catch (IllegalArgumentException e) {
+        results.add(ItemResult.failed(i, id, Status.INVALID, e.getMessage()));
+        continue;
+      }
+
+      previousStates.putIfAbsent(id, previousState);
+      pagesRead += Math.max(userBook.getCurrentPage() - previousPage, 0);
+      results.add(
+          ItemResult.updated(
+              i,
+              new UpdateUserBookResponse(
+                  userBook.getId(),
+                  BookServiceImpl.calculateProgress(
+                      userBook.getCurrentPage(), userBook.getTotalPages()),
+                  userBook.getCurrentPage(),
+                  userBook.getState())));
+    }
+
+    if (!previousStates.isEmpty()) {
+      Map<State, Integer> deltas = new EnumMap<>(State.class);
+      int booksCompleted = 0;
+
+      for (Map.Entry<Long, State> entry : previousStates.entrySet()) {
+        State state = userBooks.get(entry.getKey()).getState();
+
+        deltas.merge(entry.getValue(), -1, Integer::sum);
+        deltas.merge(state, 1, Integer::sum);
+        booksCompleted += BookServiceImpl.completedCount(entry.getValue(), state);
+      }
+
+      userBookCounterService.applyDeltas(user.getId(), deltas);
+      readingStatsService.recordProgress(user.getId(), pagesRead, booksCompleted);
+      userBookListGeneration.bump(user.getId());
+    }
+
+    return BatchUpdateUserBookResponse.of(results);
+  }
+}
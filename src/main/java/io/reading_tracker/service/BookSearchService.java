@@ -4,5 +4,9 @@ import io.reading_tracker.response.SearchBookResponse;
 
 public interface BookSearchService {
 
-  SearchBookResponse search(String query);
+  /**
+   * @param start 첫 결과의 위치(1부터)
+   * @param display 한 페이지 결과 수
+   */
+  SearchBookResponse search(String query, int start, int display);
 }
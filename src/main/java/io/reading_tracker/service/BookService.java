@@ -6,12 +6,20 @@ import io.reading_tracker.request.AddUserBookRequest;
 import io.reading_tracker.request.UpdateUserBookRequest;
 import io.reading_tracker.response.AddUserBookResponse;
 import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.response.GetBookPageResponse;
 import io.reading_tracker.response.UpdateUserBookResponse;
 
 public interface BookService {
 
   GetBookListResponse getBookList(Long userId, State stateFilter);
 
+  /**
+   * 도서 목록 한 페이지 조회, (createdAt DESC, id DESC) 순서
+   *
+   * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+   */
+  GetBookPageResponse getBookPage(Long userId, State stateFilter, String cursor, int size);
+
   AddUserBookResponse addBookToUserLibrary(User user, AddUserBookRequest request);
 
   UpdateUserBookResponse updateUserBookProgress(User user, UpdateUserBookRequest request);
@@ -1,6 +1,7 @@
 package io.reading_tracker.service;
 
-import io.reading_tracker.annotation.DistributedLock;
+import io.reading_tracker.annotation.CacheKey;
+import io.reading_tracker.cache.UserBookListGeneration;
 import io.reading_tracker.domain.book.Book;
 import io.reading_tracker.domain.book.State;
 import io.reading_tracker.domain.user.User;
@@ -9,32 +10,49 @@ import io.reading_tracker.exception.NotOwnerException;
 import io.reading_tracker.repository.BookRepository;
 import io.reading_tracker.repository.UserBookRepository;
 import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.request.BookListCursor;
 import io.reading_tracker.request.UpdateUserBookRequest;
 import io.reading_tracker.response.AddUserBookResponse;
 import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.response.GetBookPageResponse;
 import io.reading_tracker.response.UpdateUserBookResponse;
+import io.reading_tracker.search.BookSearchIndex;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Qualifier("bookServiceImpl")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class BookServiceImpl implements BookService {
 
-  private static final Sort CREATED_AT_DESC = Sort.by(Sort.Direction.DESC, "createdAt");
+  private static final Sort CREATED_AT_DESC =
+      Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+  /** Redis 장애로 세대를 읽지 못하면 목록 캐시를 읽지도 쓰지도 않는다 */
+  private static final String GENERATION_AVAILABLE =
+      "@userBookListGeneration.current(#userId) >= 0";
 
   private final BookRepository bookRepository;
   private final UserBookRepository userBookRepository;
+  private final UserBookCounterService userBookCounterService;
+  private final UserBookListGeneration userBookListGeneration;
+  private final BookSearchIndex bookSearchIndex;
+  private final ReadingStatsService readingStatsService;
 
   @Override
-  @Cacheable(cacheNames = "userBookList", key = "#userId + '::' + #stateFilter")
+  @Cacheable(
+      cacheNames = "userBookList",
+      keyGenerator = "spelKeyGenerator",
+      condition = GENERATION_AVAILABLE)
+  @CacheKey("#userId + '::' + @userBookListGeneration.current(#userId) + '::' + #stateFilter")
   public GetBookListResponse getBookList(Long userId, State stateFilter) {
     List<UserBook> userBooks =
         userBookRepository.findByUserIdAndState(userId, stateFilter, CREATED_AT_DESC);
@@ -42,16 +60,53 @@ public class BookServiceImpl implements BookService {
     List<GetBookListResponse.BookItem> bookItems =
         userBooks.stream().map(this::toBookItem).toList();
 
-    GetBookListResponse.Summary summary =
-        new GetBookListResponse.Summary(
-            toCount(userBookRepository.countByUserIdAndState(userId, State.IN_PROGRESS)),
-            toCount(userBookRepository.countByUserIdAndState(userId, State.COMPLETED)),
-            toCount(userBookRepository.countByUserIdAndState(userId, State.ARCHIVED)));
+    GetBookListResponse.Summary summary = userBookCounterService.getSummary(userId);
 
     return new GetBookListResponse(summary, bookItems);
   }
 
-  private GetBookListResponse.BookItem toBookItem(UserBook userBook) {
+  @Override
+  @Cacheable(
+      cacheNames = "userBookPage",
+      keyGenerator = "spelKeyGenerator",
+      condition = GENERATION_AVAILABLE)
+  @CacheKey(
+      "#userId + '::' + @userBookListGeneration.current(#userId) + '::' + #stateFilter"
+          + " + '::' + #size + '::' + (#cursor ?: 'first')")
+  public GetBookPageResponse getBookPage(Long userId, State stateFilter, String cursor, int size) {
+    // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+    Limit limit = Limit.of(size + 1);
+
+    List<UserBook> userBooks;
+
+    if (cursor == null) {
+      userBooks = userBookRepository.findFirstPage(userId, stateFilter, limit);
+    } else {
+      BookListCursor after = BookListCursor.decode(cursor);
+      userBooks =
+          userBookRepository.findPageAfter(
+              userId, stateFilter, after.createdAt(), after.id(), limit);
+    }
+
+    boolean hasNext = userBooks.size() > size;
+    List<UserBook> page = hasNext ? userBooks.subList(0, size) : userBooks;
+
+    String nextCursor = null;
+
+    if (hasNext) {
+      UserBook last = page.getLast();
+      nextCursor = new BookListCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+
+    List<GetBookListResponse.BookItem> bookItems = page.stream().map(this::toBookItem).toList();
+
+    GetBookListResponse.Summary summary = userBookCounterService.getSummary(userId);
+
+    return new GetBookPageResponse(summary, bookItems, nextCursor, hasNext);
+  }
+
+  // src/jmh 벤치마크에서 직접 호출하므로 package-private
+  GetBookListResponse.BookItem toBookItem(UserBook userBook) {
     Integer totalPages = userBook.getTotalPages();
     Integer currentPage = userBook.getCurrentPage();
 
@@ -66,61 +121,58 @@ public class BookServiceImpl implements BookService {
         userBook.getState());
   }
 
+  /**
+   * 도서 추가, 중복 여부는 uk_books_isbn, uk_user_book_user_id_book_id 제약으로 DB가 판단한다
+   *
+   * <p>같은 요청이 동시에 들어와도 user_book insert는 하나만 성공하고 나머지는 이미 추가된 도서로 처리된다. 다른 요청이 방금 커밋한 도서를 다시 읽어야
+   * 하므로 READ COMMITTED로 실행한다. MySQL 기본값(REPEATABLE READ)에서는 처음 조회한 시점의 스냅샷을 계속 읽는다.
+   */
   @Override
-  @Transactional
-  @Caching(
-      evict = {
-        @CacheEvict(cacheNames = "userBookList", key = "#user.id + '::IN_PROGRESS'"),
-        @CacheEvict(cacheNames = "userBookList", key = "#user.id + '::COMPLETED'"),
-        @CacheEvict(cacheNames = "userBookList", key = "#user.id + '::ARCHIVED'"),
-      })
-  @DistributedLock(key = "'addBook:' + #user.id + ':' + #request.isbn")
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public AddUserBookResponse addBookToUserLibrary(User user, AddUserBookRequest request) {
-    String title = request.title();
-    String author = request.author();
-    String publisher = request.publisher();
-    String isbn = request.isbn();
-    Integer totalPages = request.totalPages();
+    Book book = bookRepository.findBookByIsbn(request.isbn()).orElseGet(() -> insertBook(request));
 
-    Book book =
-        bookRepository
-            .findBookByIsbn(isbn)
-            .orElseGet(
-                () -> {
-                  Book newBook = new Book(title, author, publisher, isbn);
-                  bookRepository.save(newBook);
+    UserBook newUserBook = new UserBook(user, book, State.IN_PROGRESS, request.totalPages(), 1);
 
-                  return newBook;
-                });
+    Long userBookId =
+        userBookRepository
+            .insertIfAbsent(newUserBook)
+            .orElseThrow(() -> new IllegalStateException("이미 사용자의 도서 목록에 추가되어 있습니다."));
 
-    Optional<UserBook> isBookRegistered =
-        userBookRepository.findByUserIdAndBookId(user.getId(), book.getId());
+    userBookCounterService.applyTransition(user.getId(), null, newUserBook.getState());
+    userBookListGeneration.bump(user.getId());
 
-    if (isBookRegistered.isPresent()) {
-      throw new IllegalStateException("이미 사용자의 도서 목록에 추가되어 있습니다.");
-    }
+    return new AddUserBookResponse(
+        userBookId,
+        book.getTitle(),
+        book.getAuthor(),
+        book.getPublisher(),
+        newUserBook.getState(),
+        newUserBook.getCurrentPage(),
+        newUserBook.getTotalPages());
+  }
 
-    UserBook newUserBook = new UserBook(user, book, State.IN_PROGRESS, totalPages, 1);
-    UserBook savedUserBook = userBookRepository.save(newUserBook);
+  private Book insertBook(AddUserBookRequest request) {
+    boolean inserted =
+        bookRepository.insertIfAbsent(
+            new Book(request.title(), request.author(), request.publisher(), request.isbn()));
 
-    return new AddUserBookResponse(
-        savedUserBook.getId(),
-        savedUserBook.getBook().getTitle(),
-        savedUserBook.getBook().getAuthor(),
-        savedUserBook.getBook().getPublisher(),
-        savedUserBook.getState(),
-        savedUserBook.getCurrentPage(),
-        savedUserBook.getTotalPages());
+    // 추가하지 못했다면 동시에 다른 요청이 추가해 커밋한 도서다
+    Book book =
+        bookRepository
+            .findBookByIsbn(request.isbn())
+            .orElseThrow(
+                () -> new IllegalStateException("도서를 추가하지 못했습니다. isbn: " + request.isbn()));
+
+    if (inserted) {
+      bookSearchIndex.add(book);
+    }
+
+    return book;
   }
 
   @Override
   @Transactional
-  @Caching(
-      evict = {
-        @CacheEvict(cacheNames = "userBookList", key = "#user.id + '::IN_PROGRESS'"),
-        @CacheEvict(cacheNames = "userBookList", key = "#user.id + '::COMPLETED'"),
-        @CacheEvict(cacheNames = "userBookList", key = "#user.id + '::ARCHIVED'"),
-      })
   public UpdateUserBookResponse updateUserBookProgress(User user, UpdateUserBookRequest request) {
     Long userBookId = request.id();
 
@@ -135,8 +187,16 @@ public class BookServiceImpl implements BookService {
 
     Integer currentPage = request.currentPage();
 
+    State previousState = userBook.getState();
+    int previousPage = userBook.getCurrentPage();
     State targetState = request.state();
     userBook.updateProgress(targetState, userBook.getTotalPages(), currentPage);
+    userBookCounterService.applyTransition(user.getId(), previousState, userBook.getState());
+    readingStatsService.recordProgress(
+        user.getId(),
+        userBook.getCurrentPage() - previousPage,
+        completedCount(previousState, userBook.getState()));
+    userBookListGeneration.bump(user.getId());
 
     return new UpdateUserBookResponse(
         userBook.getId(),
@@ -145,12 +205,13 @@ public class BookServiceImpl implements BookService {
         userBook.getState());
   }
 
-  private int calculateProgress(Integer currentPage, Integer totalPages) {
-    double progress = (double) currentPage / totalPages * 100.0;
-    return (int) Math.floor(progress);
+  /** 완독이 아니던 도서가 완독으로 바뀌면 1 */
+  static int completedCount(State from, State to) {
+    return from != State.COMPLETED && to == State.COMPLETED ? 1 : 0;
   }
 
-  private int toCount(long count) {
-    return Math.toIntExact(count);
+  static int calculateProgress(Integer currentPage, Integer totalPages) {
+    double progress = (double) currentPage / totalPages * 100.0;
+    return (int) Math.floor(progress);
   }
 }
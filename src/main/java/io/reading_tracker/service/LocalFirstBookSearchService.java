@@ -0,0 +1,140 @@
+package io.reading_tracker.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.reading_tracker.response.SearchBookResponse;
+import io.reading_tracker.search.BookSearchIndex;
+import io.reading_tracker.search.LocalSearchProperties;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로컬 도서 색인({@link BookSearchIndex})을 먼저 찾는 도서 검색
+ *
+ * <p>검색 결과는 로컬 결과(minScore 이상, 최대 maxResults권) 뒤에 네이버 결과가 이어지는 하나의 목록으로 보고 start는 이 목록의 위치다. 첫
+ * 페이지에서 로컬 결과가 minHits권 이상이면 네이버 API를 호출하지 않고 응답하고, 다음 페이지는 네이버 결과의 처음부터 이어진다. 네이버 결과 중 로컬 결과와
+ * ISBN이 같은 도서는 뺀다.
+ *
+ * <p>로컬 결과 수는 페이지마다 색인에서 다시 구한다. 페이지 사이에 색인이 바뀌면 네이버 결과가 바뀔 때처럼 몇 권이 겹치거나 빠질 수 있다.
+ */
+@Service
+@Primary
+public class LocalFirstBookSearchService implements BookSearchService {
+
+  private final BookSearchIndex bookSearchIndex;
+  private final BookSearchService naverBookSearchService;
+  private final LocalSearchProperties properties;
+  private final SearchPagePrefetcher searchPagePrefetcher;
+  private final Counter localResponses;
+  private final Counter mergedResponses;
+
+  public LocalFirstBookSearchService(
+      BookSearchIndex bookSearchIndex,
+      @Qualifier("naverBookSearchServiceImpl") BookSearchService naverBookSearchService,
+      LocalSearchProperties properties,
+      SearchPagePrefetcher searchPagePrefetcher,
+      MeterRegistry meterRegistry) {
+    this.bookSearchIndex = bookSearchIndex;
+    this.naverBookSearchService = naverBookSearchService;
+    this.properties = properties;
+    this.searchPagePrefetcher = searchPagePrefetcher;
+    this.localResponses =
+        Counter.builder("book.search.responses")
+            .tag("source", "local")
+            .description("로컬 색인만으로 응답한 검색 수")
+            .register(meterRegistry);
+    this.mergedResponses =
+        Counter.builder("book.search.responses")
+            .tag("source", "merged")
+            .description("로컬 색인과 네이버 검색 결과를 합쳐 응답한 검색 수")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public SearchBookResponse search(String query, int start, int display) {
+    if (!properties.enabled()) {
+      return prefetchNext(query, naverBookSearchService.search(query, start, display), display);
+    }
+
+    List<SearchBookResponse.BookItem> localItems =
+        bookSearchIndex
+            .search(query, properties.minScore(), properties.maxResults())
+            .hits()
+            .stream()
+            .map(BookSearchIndex.Hit::book)
+            .toList();
+
+    if (localItems.isEmpty()) {
+      return prefetchNext(query, naverBookSearchService.search(query, start, display), display);
+    }
+
+    int localCount = localItems.size();
+    List<SearchBookResponse.BookItem> localPage =
+        start > localCount
+            ? List.of()
+            : localItems.subList(start - 1, Math.min(localCount, start - 1 + display));
+
+    // 로컬 결과만으로 첫 페이지를 채울 수 있거나 이 페이지가 모두 로컬 결과면 네이버를 호출하지 않는다
+    if ((start == 1 && localCount >= Math.min(properties.minHits(), display))
+        || localPage.size() == display) {
+      localResponses.increment();
+
+      return new SearchBookResponse(
+          localCount, start, localPage.size(), localPage, true); // 네이버 결과가 이어서 나올 수 있다
+    }
+
+    int naverStart = Math.max(1, start - localCount);
+    SearchBookResponse upstream =
+        naverBookSearchService.search(query, naverStart, display - localPage.size());
+
+    if (!localPage.isEmpty()) {
+      mergedResponses.increment();
+    }
+
+    prefetchNext(query, upstream, display);
+
+    return merge(localItems, localPage, upstream, start);
+  }
+
+  /** 다음 페이지의 네이버 시작 위치는 이번 네이버 응답에 이어지므로 네이버 응답을 기준으로 미리 가져온다 */
+  private SearchBookResponse prefetchNext(String query, SearchBookResponse upstream, int display) {
+    searchPagePrefetcher.prefetchNext(query, upstream, display);
+
+    return upstream;
+  }
+
+  /**
+   * 이 페이지의 로컬 결과 뒤에 로컬 결과와 ISBN이 겹치지 않는 네이버 결과를 붙인다
+   *
+   * <p>display는 이 페이지가 차지한 위치 수(로컬 결과 수 + 네이버 응답 수)라 겹친 도서를 빼 items가 더 적을 수 있다. 그래야 다음 페이지(start +
+   * display)가 네이버 결과를 건너뛰지 않는다.
+   */
+  private static SearchBookResponse merge(
+      List<SearchBookResponse.BookItem> localItems,
+      List<SearchBookResponse.BookItem> localPage,
+      SearchBookResponse upstream,
+      int start) {
+    Set<String> localIsbns = new HashSet<>();
+    localItems.forEach(item -> localIsbns.add(item.isbn()));
+
+    List<SearchBookResponse.BookItem> items = new ArrayList<>(localPage);
+
+    for (SearchBookResponse.BookItem item : upstream.items()) {
+      if (item.isbn() == null || !localIsbns.contains(item.isbn())) {
+        items.add(item);
+      }
+    }
+
+    return new SearchBookResponse(
+        localItems.size() + upstream.total(),
+        start,
+        localPage.size() + upstream.display(),
+        items,
+        upstream.hasNext());
+  }
+}
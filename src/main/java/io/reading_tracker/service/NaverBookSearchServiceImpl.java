@@ -1,72 +1,137 @@
 package io.reading_tracker.service;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.reading_tracker.annotation.CacheKey;
+import io.reading_tracker.cache.CacheFillLease;
+import io.reading_tracker.cache.SingleFlight;
+import io.reading_tracker.client.NaverBookSearchClient;
+import io.reading_tracker.client.NaverSearchProperties;
+import io.reading_tracker.client.NaverSearchQuota;
+import io.reading_tracker.exception.UpstreamUnavailableException;
 import io.reading_tracker.response.SearchBookResponse;
-import java.util.Collections;
-import java.util.List;
+import io.reading_tracker.util.SearchQueryCanonicalizer;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 
 @Slf4j
 @Service
 public class NaverBookSearchServiceImpl implements BookSearchService {
 
-  private static final String BASE_URL = "https://openapi.naver.com";
-  private static final String SEARCH_PATH = "/v1/search/book.json";
+  private static final String CACHE_NAME = "naverBookSearch";
 
-  private final RestClient restClient;
+  /** 네이버 API 장애 시 대신 응답할 마지막 성공 결과, 캐시(TTL 1일)에서 밀려난 검색어용 */
+  private static final Duration STALE_TTL = Duration.ofDays(7);
+
+  private static final int STALE_MAX_SIZE = 2_000;
+
+  /** 끝난 검색 결과를 같은 검색에 넘겨주는 시간, @Cacheable이 결과를 저장할 때까지 */
+  static final Duration SINGLE_FLIGHT_RETENTION = Duration.ofSeconds(1);
+
+  private final NaverBookSearchClient searchClient;
+  private final NaverSearchQuota quota;
+  private final CacheFillLease cacheFillLease;
+  private final SingleFlight<String, SearchBookResponse> singleFlight;
+  private final Cache<String, SearchBookResponse> staleResults =
+      Caffeine.newBuilder().expireAfterWrite(STALE_TTL).maximumSize(STALE_MAX_SIZE).build();
+  private final Counter upstreamCalls;
+  private final Counter staleResponses;
 
   public NaverBookSearchServiceImpl(
-      @Value("${NAVER_CLIENT_ID}") String clientId,
-      @Value("${NAVER_CLIENT_SECRET}") String clientSecret) {
-    this.restClient =
-        RestClient.builder()
-            .baseUrl(BASE_URL)
-            .defaultHeader("X-Naver-Client-Id", clientId)
-            .defaultHeader("X-Naver-Client-Secret", clientSecret)
-            .build();
+      NaverBookSearchClient searchClient,
+      NaverSearchQuota quota,
+      CacheFillLease cacheFillLease,
+      NaverSearchProperties properties,
+      MeterRegistry meterRegistry) {
+    this.searchClient = searchClient;
+    this.quota = quota;
+    this.cacheFillLease = cacheFillLease;
+    // 진행 중인 같은 검색은 그 호출이 실패로 끝날 수 있는 시간까지 기다린다, 더 짧으면 느린 응답마다 기다리던 호출이 모두 API를 다시 부른다
+    this.singleFlight = new SingleFlight<>(properties.maxCallDuration(), SINGLE_FLIGHT_RETENTION);
+    this.upstreamCalls =
+        Counter.builder("naver.search.calls")
+            .tag("result", "upstream")
+            .description("네이버 도서 검색 API 호출 수")
+            .register(meterRegistry);
+    this.staleResponses =
+        Counter.builder("naver.search.calls")
+            .tag("result", "stale")
+            .description("API 장애로 이전 검색 결과를 대신 반환한 수")
+            .register(meterRegistry);
+
+    FunctionCounter.builder("naver.search.calls", singleFlight, SingleFlight::sharedCount)
+        .tag("result", "coalesced")
+        .description("진행 중인 같은 검색의 결과를 받아 API를 호출하지 않은 수")
+        .register(meterRegistry);
   }
 
+  /**
+   * 캐시 키는 정규화한 검색어({@link SearchQueryCanonicalizer})와 페이지, API에는 받은 검색어를 그대로 보낸다. 캐시 미스가 동시에 나면 같은
+   * 키는 노드당 한 번만 API를 호출한다
+   */
   @Override
-  @Cacheable(cacheNames = "naverBookSearch", key = "#query")
-  public SearchBookResponse search(String query) {
+  @Cacheable(cacheNames = CACHE_NAME, keyGenerator = "spelKeyGenerator", unless = "#result.stale()")
+  @CacheKey(
+      "T(io.reading_tracker.util.SearchQueryCanonicalizer).pageCacheKey(#query, #start, #display)")
+  public SearchBookResponse search(String query, int start, int display) {
+    String cacheKey = SearchQueryCanonicalizer.pageCacheKey(query, start, display);
+
+    return singleFlight.execute(
+        cacheKey,
+        () ->
+            cacheFillLease.fill(
+                CACHE_NAME,
+                cacheKey,
+                SearchBookResponse.class,
+                () -> fetch(query, start, display, cacheKey)));
+  }
+
+  /** API 호출이 실패하면 같은 키의 이전 결과로 응답하고, 없으면 실패를 그대로 알린다 */
+  private SearchBookResponse fetch(String query, int start, int display, String cacheKey) {
+    upstreamCalls.increment();
+
+    boolean prefetching = SearchPagePrefetcher.isPrefetching();
+
     try {
-      NaverBookSearchResponse response =
-          restClient
-              .get()
-              .uri(uriBuilder -> uriBuilder.path(SEARCH_PATH).queryParam("query", query).build())
-              .retrieve()
-              .body(NaverBookSearchResponse.class);
-
-      if (response == null) {
-        return new SearchBookResponse(0, 0, Collections.emptyList());
+      SearchBookResponse response = searchClient.search(query, start, display);
+      quota.recordCall(prefetching);
+      staleResults.put(cacheKey, response);
+
+      return response;
+    } catch (UpstreamUnavailableException | RestClientException ex) {
+      // 서킷 브레이커, 동시 호출 한도에 걸린 요청(UpstreamUnavailableException)은 네이버에 가지 않았다
+      if (ex instanceof RestClientException) {
+        quota.recordCall(prefetching);
       }
 
-      List<NaverBookItem> items =
-          response.items() == null ? Collections.emptyList() : response.items();
+      if (ex instanceof HttpClientErrorException clientError
+          && clientError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+        quota.recordExhausted();
+      }
+
+      SearchBookResponse stale = staleResults.getIfPresent(cacheKey);
+
+      if (stale != null) {
+        log.warn("네이버 도서 검색 실패, 이전 결과로 응답합니다. key: {}, Error: {}", cacheKey, ex.getMessage());
+        staleResponses.increment();
+
+        return stale.asStale();
+      }
 
-      List<SearchBookResponse.BookItem> mappedItems = items.stream().map(this::toBookItem).toList();
+      if (ex instanceof UpstreamUnavailableException unavailable) {
+        throw unavailable;
+      }
 
-      return new SearchBookResponse(response.total(), response.display(), mappedItems);
-    } catch (RestClientException ex) {
       log.error("Failed to call Naver book search API", ex);
       throw new RuntimeException("네이버 도서 검색 API 호출에 실패했습니다.");
     }
   }
-
-  private SearchBookResponse.BookItem toBookItem(NaverBookItem item) {
-    return new SearchBookResponse.BookItem(
-        item.isbn(), item.title(), item.author(), item.publisher(), item.link());
-  }
-
-  @JsonIgnoreProperties(ignoreUnknown = true)
-  private record NaverBookSearchResponse(int total, int display, List<NaverBookItem> items) {}
-
-  @JsonIgnoreProperties(ignoreUnknown = true)
-  private record NaverBookItem(
-      String isbn, String title, String author, String publisher, String link) {}
 }
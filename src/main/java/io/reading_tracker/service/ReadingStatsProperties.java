@@ -0,0 +1,27 @@
+package io.reading_tracker.service;
+
+import java.time.ZoneId;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 독서 통계 설정
+ *
+ * @param zone 하루를 나누는 기준 시간대
+ * @param recentDays 하루 독서량, 하루 평균을 보여 줄 최근 일 수
+ * @param months 월별 완독 권수를 보여 줄 최근 개월 수
+ */
+@ConfigurationProperties(prefix = "stats")
+public record ReadingStatsProperties(
+    @DefaultValue("Asia/Seoul") ZoneId zone,
+    @DefaultValue("30") int recentDays,
+    @DefaultValue("12") int months,
+    @DefaultValue BackfillSpec backfill) {
+
+  /**
+   * @param enabled true면 시작할 때 하루 독서량 행이 없는 사용자를 user_book으로 채운다
+   * @param chunkSize 한 트랜잭션에서 채우는 사용자 수
+   */
+  public record BackfillSpec(
+      @DefaultValue("false") boolean enabled, @DefaultValue("1000") int chunkSize) {}
+}
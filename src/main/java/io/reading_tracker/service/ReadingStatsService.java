@@ -0,0 +1,23 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.response.ReadingStatsResponse;
+
+public interface ReadingStatsService {
+
+  /**
+   * 진행 상황 변경을 오늘의 독서량에 더한다, 호출한 쪽의 트랜잭션에서 함께 커밋된다
+   *
+   * @param pagesRead 앞으로 넘긴 페이지 수, 뒤로 돌아간 페이지는 빼지 않는다
+   * @param booksCompleted 새로 완독한 도서 수
+   */
+  void recordProgress(Long userId, int pagesRead, int booksCompleted);
+
+  ReadingStatsResponse getStats(Long userId);
+
+  /**
+   * 어제까지의 하루 독서량 행이 없는 사용자를 user_book의 현재 페이지와 마지막 수정일로 어제까지 채운다
+   *
+   * @return 채운 사용자 수, 0이면 더 채울 사용자가 없다
+   */
+  int backfill(int limit);
+}
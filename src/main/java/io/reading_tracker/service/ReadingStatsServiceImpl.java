@@ -0,0 +1,166 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.domain.stats.UserReadingDaily;
+import io.reading_tracker.repository.UserReadingDailyRepository;
+import io.reading_tracker.response.ReadingStatsResponse;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 하루 독서량 행({@link UserReadingDaily})으로 만드는 독서 통계
+ *
+ * <p>진행 상황을 바꿀 때마다 그날 행만 증가시키므로, 통계는 기록을 다시 훑지 않고 사용자의 최근 행(최대 months개월)을 한 번 읽어 만든다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ReadingStatsServiceImpl implements ReadingStatsService {
+
+  private final UserReadingDailyRepository userReadingDailyRepository;
+  private final ReadingStatsProperties properties;
+  private final Clock clock;
+
+  @Autowired
+  public ReadingStatsServiceImpl(
+      UserReadingDailyRepository userReadingDailyRepository, ReadingStatsProperties properties) {
+    this(userReadingDailyRepository, properties, Clock.system(properties.zone()));
+  }
+
+  ReadingStatsServiceImpl(
+      UserReadingDailyRepository userReadingDailyRepository,
+      ReadingStatsProperties properties,
+      Clock clock) {
+    this.userReadingDailyRepository = userReadingDailyRepository;
+    this.properties = properties;
+    this.clock = clock;
+  }
+
+  @Override
+  @Transactional
+  public void recordProgress(Long userId, int pagesRead, int booksCompleted) {
+    int pages = Math.max(pagesRead, 0);
+    int books = Math.max(booksCompleted, 0);
+
+    if (pages == 0 && books == 0) {
+      return;
+    }
+
+    LocalDate today = LocalDate.now(clock);
+
+    if (userReadingDailyRepository.increment(userId, today, pages, books) == 0) {
+      // 오늘 첫 기록: 행이 없으면 만들고(동시에 다른 요청이 만들었어도) 다시 증가시킨다
+      userReadingDailyRepository.insertIfAbsent(userId, today);
+      userReadingDailyRepository.increment(userId, today, pages, books);
+    }
+  }
+
+  @Override
+  public ReadingStatsResponse getStats(Long userId) {
+    LocalDate today = LocalDate.now(clock);
+    LocalDate recentFrom = today.minusDays(properties.recentDays() - 1L);
+    YearMonth firstMonth = YearMonth.from(today).minusMonths(properties.months() - 1L);
+    LocalDate from = recentFrom.isBefore(firstMonth.atDay(1)) ? recentFrom : firstMonth.atDay(1);
+
+    List<UserReadingDaily> rows =
+        userReadingDailyRepository.findByUserIdAndReadDateGreaterThanEqualOrderByReadDate(
+            userId, from);
+
+    List<ReadingStatsResponse.DailyPages> dailyPages = new ArrayList<>();
+    Map<YearMonth, Integer> completedByMonth = new LinkedHashMap<>();
+    int recentPages = 0;
+
+    for (YearMonth month = firstMonth;
+        !month.isAfter(YearMonth.from(today));
+        month = month.plusMonths(1)) {
+      completedByMonth.put(month, 0);
+    }
+
+    for (UserReadingDaily row : rows) {
+      if (!row.getReadDate().isBefore(recentFrom) && row.getPagesRead() > 0) {
+        dailyPages.add(new ReadingStatsResponse.DailyPages(row.getReadDate(), row.getPagesRead()));
+        recentPages += row.getPagesRead();
+      }
+
+      completedByMonth.computeIfPresent(
+          YearMonth.from(row.getReadDate()), (month, books) -> books + row.getBooksCompleted());
+    }
+
+    List<ReadingStatsResponse.MonthlyCompleted> monthlyCompleted =
+        completedByMonth.entrySet().stream()
+            .map(
+                entry ->
+                    new ReadingStatsResponse.MonthlyCompleted(entry.getKey(), entry.getValue()))
+            .toList();
+
+    return new ReadingStatsResponse(
+        currentStreak(rows, today),
+        Math.round(recentPages * 10.0 / properties.recentDays()) / 10.0,
+        dailyPages,
+        monthlyCompleted);
+  }
+
+  @Override
+  @Transactional
+  public int backfill(int limit) {
+    // 오늘 읽은 양은 recordProgress가 쌓고 있으므로 어제까지만 채운다
+    LocalDate today = LocalDate.now(clock);
+    List<Long> userIds = userReadingDailyRepository.findUserIdsWithoutDaily(today, limit);
+
+    if (userIds.isEmpty()) {
+      return 0;
+    }
+
+    List<UserReadingDaily> sums =
+        userReadingDailyRepository.sumUserBooksByUpdatedDate(userIds, today);
+    List<UserReadingDaily> rows = new ArrayList<>(sums.size());
+    UserReadingDaily previous = null;
+
+    // 사용자, 날짜 순서로 읽으므로 같은 사용자의 전날 행이 바로 앞에 있으면 연속 독서일을 잇는다
+    for (UserReadingDaily sum : sums) {
+      boolean continues =
+          previous != null
+              && Objects.equals(previous.getUserId(), sum.getUserId())
+              && previous.getReadDate().plusDays(1).equals(sum.getReadDate());
+      UserReadingDaily row =
+          new UserReadingDaily(
+              sum.getUserId(),
+              sum.getReadDate(),
+              sum.getPagesRead(),
+              sum.getBooksCompleted(),
+              continues ? previous.getStreak() + 1 : 1);
+
+      rows.add(row);
+      previous = row;
+    }
+
+    userReadingDailyRepository.insertAll(rows);
+
+    // 백필 전에 생긴 오늘 행은 전날 행 없이 1부터 셌으므로, 어제까지 이어진 사용자는 오늘 연속 독서일을 다시 잇는다
+    for (UserReadingDaily row : rows) {
+      if (row.getReadDate().equals(today.minusDays(1))) {
+        userReadingDailyRepository.updateStreak(row.getUserId(), today, row.getStreak() + 1);
+      }
+    }
+
+    return userIds.size();
+  }
+
+  private static int currentStreak(List<UserReadingDaily> rows, LocalDate today) {
+    if (rows.isEmpty()) {
+      return 0;
+    }
+
+    UserReadingDaily last = rows.getLast();
+
+    // 오늘 아직 읽지 않았어도 어제까지 이어졌으면 끊기지 않은 것으로 본다
+    return last.getReadDate().isBefore(today.minusDays(1)) ? 0 : last.getStreak();
+  }
+}
@@ -0,0 +1,133 @@
+package io.reading_tracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.reading_tracker.client.NaverSearchProperties;
+import io.reading_tracker.client.NaverSearchQuota;
+import io.reading_tracker.response.SearchBookResponse;
+import io.reading_tracker.util.SearchQueryCanonicalizer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 다음 페이지 미리 가져오기
+ *
+ * <p>한 페이지를 응답하면 다음 페이지를 백그라운드에서 캐시된 검색({@link NaverBookSearchServiceImpl})으로 요청해 "더 보기"가 캐시에서 응답되게
+ * 한다. 스레드 수와 대기열이 고정된 executor에서 실행하고 대기열이 차면 버린다. 오늘 사용량이 한도에 가까워지면({@link
+ * NaverSearchQuota#allowsPrefetch()}) 미리 가져오지 않는다.
+ */
+@Slf4j
+@Component
+public class SearchPagePrefetcher implements DisposableBean {
+
+  private static final ThreadLocal<Boolean> PREFETCHING = ThreadLocal.withInitial(() -> false);
+
+  /** 같은 페이지를 다시 미리 가져오지 않는 시간, 검색 캐시 TTL보다 짧아야 한다 */
+  private static final Duration RECENT_TTL = Duration.ofMinutes(1);
+
+  private final BookSearchService naverBookSearchService;
+  private final NaverSearchQuota quota;
+  private final ThreadPoolExecutor executor;
+  private final Cache<String, Boolean> recentPages =
+      Caffeine.newBuilder().expireAfterWrite(RECENT_TTL).maximumSize(10_000).build();
+
+  private final Counter submitted;
+  private final Counter skippedByQuota;
+  private final Counter rejected;
+
+  public SearchPagePrefetcher(
+      @Qualifier("naverBookSearchServiceImpl") BookSearchService naverBookSearchService,
+      NaverSearchQuota quota,
+      NaverSearchProperties properties,
+      MeterRegistry meterRegistry) {
+    this.naverBookSearchService = naverBookSearchService;
+    this.quota = quota;
+
+    NaverSearchProperties.PrefetchSpec prefetch = properties.prefetch();
+    this.executor =
+        new ThreadPoolExecutor(
+            prefetch.threads(),
+            prefetch.threads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(prefetch.queueCapacity()),
+            Thread.ofPlatform().name("search-prefetch-", 0).daemon().factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    this.submitted = prefetchCounter(meterRegistry, "submitted", "미리 가져오기를 요청한 수");
+    this.skippedByQuota = prefetchCounter(meterRegistry, "quota", "호출 한도 때문에 건너뛴 수");
+    this.rejected = prefetchCounter(meterRegistry, "rejected", "대기열이 가득 차 버린 수");
+
+    Gauge.builder("naver.search.prefetch.queue", executor, e -> e.getQueue().size())
+        .description("대기 중인 미리 가져오기 수")
+        .register(meterRegistry);
+  }
+
+  private static Counter prefetchCounter(
+      MeterRegistry registry, String result, String description) {
+    return Counter.builder("naver.search.prefetch")
+        .tag("result", result)
+        .description(description)
+        .register(registry);
+  }
+
+  /** 미리 가져오기 스레드에서 실행 중인지, 호출 한도의 미리 가져오기 몫을 셀 때 쓴다 */
+  public static boolean isPrefetching() {
+    return PREFETCHING.get();
+  }
+
+  /** served 다음 페이지가 있으면 미리 가져온다, 최근에 요청한 페이지는 건너뛴다 */
+  public void prefetchNext(String query, SearchBookResponse served, int display) {
+    if (!served.hasNext()) {
+      return;
+    }
+
+    int nextStart = served.start() + served.display();
+    String key = SearchQueryCanonicalizer.pageCacheKey(query, nextStart, display);
+
+    if (recentPages.asMap().putIfAbsent(key, Boolean.TRUE) != null) {
+      return;
+    }
+
+    if (!quota.allowsPrefetch()) {
+      recentPages.invalidate(key);
+      skippedByQuota.increment();
+      return;
+    }
+
+    try {
+      executor.execute(() -> prefetch(query, nextStart, display));
+      submitted.increment();
+    } catch (RejectedExecutionException e) {
+      recentPages.invalidate(key);
+      rejected.increment();
+    }
+  }
+
+  private void prefetch(String query, int start, int display) {
+    PREFETCHING.set(true);
+
+    try {
+      naverBookSearchService.search(query, start, display);
+    } catch (RuntimeException e) {
+      log.debug("다음 페이지 미리 가져오기 실패. start: {}, Error: {}", start, e.getMessage());
+    } finally {
+      PREFETCHING.remove();
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
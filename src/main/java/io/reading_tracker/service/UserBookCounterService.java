@@ -0,0 +1,35 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.response.GetBookListResponse;
+import java.util.Map;
+
+public interface UserBookCounterService {
+
+  GetBookListResponse.Summary getSummary(Long userId);
+
+  /**
+   * 도서 상태 변경을 카운터에 반영한다, 호출한 쪽의 트랜잭션에서 함께 커밋된다
+   *
+   * <p>user_book 변경을 DB에 쓴 뒤 호출한다. 첫 변경이면 user_book 집계로 카운터를 만든다
+   *
+   * @param from 새로 추가된 도서면 null
+   */
+  void applyTransition(Long userId, State from, State to);
+
+  /**
+   * 여러 도서의 추가, 상태 변경을 합쳐 한 번에 반영한다, 호출한 쪽의 트랜잭션에서 함께 커밋된다
+   *
+   * <p>user_book 변경을 DB에 쓴 뒤 호출한다. 첫 변경이면 user_book 집계로 카운터를 만든다
+   *
+   * @param deltas 상태별 도서 수 증감, 없는 상태는 0
+   */
+  void applyDeltas(Long userId, Map<State, Integer> deltas);
+
+  /**
+   * 어긋난 카운터를 사용자마다 user_book 집계로 바로잡는다
+   *
+   * @return 수정한 사용자 수
+   */
+  int repairAll();
+}
@@ -0,0 +1,119 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.repository.UserBookCounterRepository;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.repository.UserBookStateCount;
+import io.reading_tracker.response.GetBookListResponse;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class UserBookCounterServiceImpl implements UserBookCounterService {
+
+  private final UserBookCounterRepository userBookCounterRepository;
+  private final UserBookRepository userBookRepository;
+
+  @Override
+  public GetBookListResponse.Summary getSummary(Long userId) {
+    return userBookCounterRepository
+        .findById(userId)
+        .map(
+            counter ->
+                new GetBookListResponse.Summary(
+                    counter.getInProgress(), counter.getCompleted(), counter.getArchived()))
+        .orElseGet(() -> toSummary(countByState(userId))); // 카운터가 생기기 전의 사용자
+  }
+
+  @Override
+  @Transactional
+  public void applyTransition(Long userId, State from, State to) {
+    if (from == to) {
+      return;
+    }
+
+    increment(
+        userId,
+        delta(State.IN_PROGRESS, from, to),
+        delta(State.COMPLETED, from, to),
+        delta(State.ARCHIVED, from, to));
+  }
+
+  @Override
+  @Transactional
+  public void applyDeltas(Long userId, Map<State, Integer> deltas) {
+    int inProgress = deltas.getOrDefault(State.IN_PROGRESS, 0);
+    int completed = deltas.getOrDefault(State.COMPLETED, 0);
+    int archived = deltas.getOrDefault(State.ARCHIVED, 0);
+
+    if (inProgress == 0 && completed == 0 && archived == 0) {
+      return;
+    }
+
+    increment(userId, inProgress, completed, archived);
+  }
+
+  /** 사용자마다 바로 커밋해 점검이 길어져도 카운터 행 락을 오래 잡지 않는다 */
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public int repairAll() {
+    int repaired = 0;
+
+    for (Long userId : userBookCounterRepository.findAllUserIds()) {
+      if (userBookCounterRepository.recount(userId) > 0) {
+        log.warn("도서 카운터 불일치 수정. userId: {}", userId);
+        repaired++;
+      }
+    }
+
+    // 카운터 없이 도서만 있는 사용자, 그사이 첫 변경이 카운터를 만들었으면 건너뛴다
+    for (Long userId : userBookCounterRepository.findUserIdsWithoutCounter()) {
+      if (userBookCounterRepository.insertIfAbsent(userId)) {
+        repaired++;
+      }
+    }
+
+    return repaired;
+  }
+
+  private void increment(Long userId, int inProgress, int completed, int archived) {
+    if (userBookCounterRepository.increment(userId, inProgress, completed, archived) > 0) {
+      return;
+    }
+
+    // 첫 변경: user_book 집계로 카운터를 만든다. 이 변경은 이미 user_book에 쓰였으므로 집계에 들어 있다.
+    // 동시에 처음 쓰는 다른 요청이 먼저 만들었으면 그 집계에는 이 변경이 없으므로 증감한다
+    if (!userBookCounterRepository.insertIfAbsent(userId)) {
+      userBookCounterRepository.increment(userId, inProgress, completed, archived);
+    }
+  }
+
+  private Map<State, Integer> countByState(Long userId) {
+    List<UserBookStateCount> rows = userBookRepository.countGroupByState(userId);
+    Map<State, Integer> counts = new EnumMap<>(State.class);
+
+    rows.forEach(row -> counts.put(row.getState(), Math.toIntExact(row.getCount())));
+
+    return counts;
+  }
+
+  private static int delta(State target, State from, State to) {
+    return (to == target ? 1 : 0) - (from == target ? 1 : 0);
+  }
+
+  private static GetBookListResponse.Summary toSummary(Map<State, Integer> counts) {
+    return new GetBookListResponse.Summary(
+        counts.getOrDefault(State.IN_PROGRESS, 0),
+        counts.getOrDefault(State.COMPLETED, 0),
+        counts.getOrDefault(State.ARCHIVED, 0));
+  }
+}
@@ -1,5 +1,6 @@
 package io.reading_tracker.service;
 
+import io.reading_tracker.cache.UserBookListGeneration;
 import io.reading_tracker.domain.user.User;
 import io.reading_tracker.exception.UserNotFoundException;
 import io.reading_tracker.repository.UserRepository;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
 
   private final UserRepository userRepository;
+  private final UserBookListGeneration userBookListGeneration;
 
   @Override
   @Cacheable(cacheNames = "userProfile", key = "#userId")
@@ -39,6 +41,7 @@ public class UserServiceImpl implements UserService {
             .findById(userId)
             .orElseThrow(() -> new UserNotFoundException("유효하지 않은 사용자입니다"));
     user.updateNickname(request.nickname());
+    userBookListGeneration.bump(userId); // 프로필 ETag를 바꾼다
 
     return UpdateNicknameResponse.from(user);
   }
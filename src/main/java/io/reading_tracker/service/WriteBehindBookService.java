@@ -0,0 +1,154 @@
+package io.reading_tracker.service;
+
+import io.reading_tracker.cache.ProgressWriteBehindBuffer;
+import io.reading_tracker.cache.ProgressWriteBehindProperties;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.domain.userbook.UserBook;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.request.UpdateUserBookRequest;
+import io.reading_tracker.response.AddUserBookResponse;
+import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.response.GetBookPageResponse;
+import io.reading_tracker.response.UpdateUserBookResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상태가 바뀌지 않는 현재 페이지 수정을 모아서 쓰는 도서 서비스
+ *
+ * <p>읽는 중인 도서의 현재 페이지만 바꾸는 수정은 {@link ProgressWriteBehindBuffer}에 두고 바로 응답한다. 완독, 보관처럼 상태가 바뀌는 수정은
+ * 모아 둔 값을 먼저 쓴 뒤 {@link BookServiceImpl}로 바로 쓴다. 목록 조회는 캐시된 응답에 모아 둔 값을 덮어 응답한다.
+ */
+@Service
+@Primary
+public class WriteBehindBookService implements BookService {
+
+  private final BookService bookService;
+  private final UserBookRepository userBookRepository;
+  private final ProgressWriteBehindBuffer buffer;
+  private final ProgressWriteBehindProperties properties;
+
+  public WriteBehindBookService(
+      @Qualifier("bookServiceImpl") BookService bookService,
+      UserBookRepository userBookRepository,
+      ProgressWriteBehindBuffer buffer,
+      ProgressWriteBehindProperties properties) {
+    this.bookService = bookService;
+    this.userBookRepository = userBookRepository;
+    this.buffer = buffer;
+    this.properties = properties;
+  }
+
+  @Override
+  public GetBookListResponse getBookList(Long userId, State stateFilter) {
+    GetBookListResponse response = bookService.getBookList(userId, stateFilter);
+
+    if (buffer.isEmpty()) {
+      return response;
+    }
+
+    return new GetBookListResponse(response.summary(), overlay(response.books()));
+  }
+
+  @Override
+  public GetBookPageResponse getBookPage(Long userId, State stateFilter, String cursor, int size) {
+    GetBookPageResponse response = bookService.getBookPage(userId, stateFilter, cursor, size);
+
+    if (buffer.isEmpty()) {
+      return response;
+    }
+
+    return new GetBookPageResponse(
+        response.summary(), overlay(response.books()), response.nextCursor(), response.hasNext());
+  }
+
+  @Override
+  public AddUserBookResponse addBookToUserLibrary(User user, AddUserBookRequest request) {
+    return bookService.addBookToUserLibrary(user, request);
+  }
+
+  @Override
+  public UpdateUserBookResponse updateUserBookProgress(User user, UpdateUserBookRequest request) {
+    if (properties.enabled() && request.state() == null && request.currentPage() != null) {
+      UpdateUserBookResponse buffered = buffer(user, request.id(), request.currentPage());
+
+      if (buffered != null) {
+        return buffered;
+      }
+    }
+
+    buffer.flush(request.id());
+
+    return bookService.updateUserBookProgress(user, request);
+  }
+
+  /** 상태가 바뀌지 않는 수정이면 버퍼에 두고 응답한다, 아니면 null */
+  private UpdateUserBookResponse buffer(User user, Long userBookId, int currentPage) {
+    ProgressWriteBehindBuffer.Pending pending = buffer.get(userBookId);
+    Long ownerId;
+    int totalPages;
+    int persistedPage;
+
+    if (pending != null) {
+      ownerId = pending.userId();
+      totalPages = pending.totalPages();
+      persistedPage = pending.currentPage();
+    } else {
+      UserBook userBook = userBookRepository.findById(userBookId).orElse(null);
+
+      // 없는 도서, 읽는 중이 아닌 도서는 바로 쓰는 경로에서 처리한다
+      if (userBook == null || userBook.getState() != State.IN_PROGRESS) {
+        return null;
+      }
+
+      ownerId = userBook.getUser().getId();
+      totalPages = userBook.getTotalPages();
+      persistedPage = userBook.getCurrentPage();
+    }
+
+    // 소유자가 아니거나, 마지막 페이지라 완독으로 바뀌거나, 범위를 벗어나면 바로 쓰는 경로에서 처리한다
+    if (!ownerId.equals(user.getId()) || currentPage < 1 || currentPage >= totalPages) {
+      return null;
+    }
+
+    buffer.put(
+        userBookId,
+        new ProgressWriteBehindBuffer.Pending(
+            ownerId, currentPage, totalPages, LocalDateTime.now()),
+        persistedPage);
+
+    return new UpdateUserBookResponse(
+        userBookId,
+        BookServiceImpl.calculateProgress(currentPage, totalPages),
+        currentPage,
+        State.IN_PROGRESS);
+  }
+
+  private List<GetBookListResponse.BookItem> overlay(List<GetBookListResponse.BookItem> items) {
+    return items.stream()
+        .map(
+            item -> {
+              ProgressWriteBehindBuffer.Pending pending = buffer.get(item.id());
+
+              if (pending == null) {
+                return item;
+              }
+
+              return new GetBookListResponse.BookItem(
+                  item.id(),
+                  item.title(),
+                  item.author(),
+                  item.publisher(),
+                  pending.currentPage(),
+                  item.totalPages(),
+                  BookServiceImpl.calculateProgress(pending.currentPage(), item.totalPages()),
+                  item.state());
+            })
+        .toList();
+  }
+}
@@ -2,19 +2,43 @@ package io.reading_tracker.util;
 
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * 문자열 암복호화
+ *
+ * <p>암호화는 AES-GCM, 값마다 임의의 IV를 쓰고 결과는 {@code v2:Base64(IV + 암호문 + 태그)} 형식이다. 접두사가 없는 값은 이전
+ * 형식(AES-CBC, 키에서 얻은 고정 IV)으로 보고 복호화한다.
+ *
+ * <p>Cipher는 풀에 담아 재사용해 요청마다 프로바이더 조회와 키 확장을 반복하지 않는다. 가상 스레드에서는 ThreadLocal이 스레드 수만큼 늘어나고
+ * synchronized는 캐리어 스레드를 고정하므로 크기가 제한된 큐를 쓴다.
+ */
 @Component
 public class AES256Util {
 
-  private static final String ALGORITHM = "AES/CBC/PKCS5Padding";
+  private static final String ALGORITHM = "AES/GCM/NoPadding";
+  private static final String LEGACY_ALGORITHM = "AES/CBC/PKCS5Padding";
+  private static final String VERSION_PREFIX = "v2:";
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+  private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+  private final SecureRandom secureRandom = new SecureRandom();
+  private final BlockingQueue<Cipher> ciphers = new ArrayBlockingQueue<>(POOL_SIZE);
+  private final BlockingQueue<Cipher> legacyCiphers = new ArrayBlockingQueue<>(POOL_SIZE);
+
   private SecretKeySpec secretKeySpec;
-  private IvParameterSpec ivParameterSpec;
+  private IvParameterSpec legacyIvParameterSpec;
 
   @Value("${encrypt.secret-key}")
   private String secretKey;
@@ -23,14 +47,27 @@ public class AES256Util {
     if (this.secretKeySpec == null) {
       throw new IllegalStateException("[encrypt] AES256Util이 초기화되지 않았습니다");
     }
+
+    Cipher cipher = null;
+
     try {
-      Cipher cipher = Cipher.getInstance(ALGORITHM);
-      cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, ivParameterSpec);
-      byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+      cipher = borrow(ciphers, ALGORITHM);
 
-      return Base64.getEncoder().encodeToString(encrypted);
+      byte[] iv = new byte[IV_LENGTH];
+      secureRandom.nextBytes(iv);
+      cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+
+      // IV와 암호문을 한 배열에 담아 Base64 인코딩을 한 번만 한다
+      byte[] plain = plainText.getBytes(StandardCharsets.UTF_8);
+      byte[] output = new byte[IV_LENGTH + cipher.getOutputSize(plain.length)];
+      System.arraycopy(iv, 0, output, 0, IV_LENGTH);
+      cipher.doFinal(plain, 0, plain.length, output, IV_LENGTH);
+
+      return VERSION_PREFIX + Base64.getEncoder().encodeToString(output);
     } catch (Exception e) {
       throw new RuntimeException("암호화 중 오류가 발생했습니다: ", e);
+    } finally {
+      release(ciphers, cipher);
     }
   }
 
@@ -38,14 +75,64 @@ public class AES256Util {
     if (secretKeySpec == null) {
       throw new IllegalArgumentException("[decrypt] AES256Util이 초기화되지 않았습니다");
     }
+
+    if (!cipherText.startsWith(VERSION_PREFIX)) {
+      return decryptLegacy(cipherText);
+    }
+
+    Cipher cipher = null;
+
+    try {
+      cipher = borrow(ciphers, ALGORITHM);
+
+      byte[] decoded =
+          Base64.getDecoder()
+              .decode(
+                  cipherText.substring(VERSION_PREFIX.length()).getBytes(StandardCharsets.UTF_8));
+
+      cipher.init(
+          Cipher.DECRYPT_MODE,
+          secretKeySpec,
+          new GCMParameterSpec(TAG_LENGTH_BITS, decoded, 0, IV_LENGTH));
+      byte[] plain = cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH);
+
+      return new String(plain, StandardCharsets.UTF_8);
+    } catch (Exception e) {
+      throw new RuntimeException("복호화 중 오류가 발생했습니다: ", e);
+    } finally {
+      release(ciphers, cipher);
+    }
+  }
+
+  /** 이전 형식(AES-CBC) 복호화, 다시 저장될 때 새 형식으로 암호화된다 */
+  private String decryptLegacy(String cipherText) {
+    Cipher cipher = null;
+
     try {
-      Cipher cipher = Cipher.getInstance(ALGORITHM);
-      cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, ivParameterSpec);
+      cipher = borrow(legacyCiphers, LEGACY_ALGORITHM);
+      cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, legacyIvParameterSpec);
       byte[] decoded = Base64.getDecoder().decode(cipherText);
 
       return new String(cipher.doFinal(decoded), StandardCharsets.UTF_8);
     } catch (Exception e) {
       throw new RuntimeException("복호화 중 오류가 발생했습니다: ", e);
+    } finally {
+      release(legacyCiphers, cipher);
+    }
+  }
+
+  /** 풀이 비어 있으면 새로 만든다, 동시 요청이 많아도 대기하지 않는다 */
+  private static Cipher borrow(BlockingQueue<Cipher> pool, String algorithm)
+      throws GeneralSecurityException {
+    Cipher cipher = pool.poll();
+
+    return cipher != null ? cipher : Cipher.getInstance(algorithm);
+  }
+
+  /** 풀이 가득 차 있으면 버린다 */
+  private static void release(BlockingQueue<Cipher> pool, Cipher cipher) {
+    if (cipher != null) {
+      pool.offer(cipher);
     }
   }
 
@@ -61,6 +148,6 @@ public class AES256Util {
     System.arraycopy(b, 0, keyBytes, 0, len);
     secretKeySpec = new SecretKeySpec(keyBytes, "AES");
 
-    ivParameterSpec = new IvParameterSpec(keyBytes, 0, 16);
+    legacyIvParameterSpec = new IvParameterSpec(keyBytes, 0, 16);
   }
 }
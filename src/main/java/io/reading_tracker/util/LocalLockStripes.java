@@ -0,0 +1,31 @@
+package io.reading_tracker.util;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키를 고정된 수의 ReentrantLock에 나눠 담는 노드 내부 락
+ *
+ * <p>키마다 락을 만들지 않으므로 정리할 필요가 없다. 서로 다른 키가 같은 락을 공유할 수 있지만 잠깐 기다리게 될 뿐이다. synchronized 대신
+ * ReentrantLock을 써서 가상 스레드가 대기 중에 캐리어 스레드를 붙잡지 않는다.
+ */
+public class LocalLockStripes {
+
+  private final ReentrantLock[] locks;
+  private final int mask;
+
+  public LocalLockStripes(int stripes) {
+    int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+
+    this.locks = new ReentrantLock[size];
+    this.mask = size - 1;
+
+    for (int i = 0; i < size; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  public ReentrantLock lockFor(String key) {
+    int hash = key.hashCode();
+    return locks[(hash ^ (hash >>> 16)) & mask];
+  }
+}
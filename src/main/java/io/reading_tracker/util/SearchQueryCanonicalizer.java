@@ -0,0 +1,50 @@
+package io.reading_tracker.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 도서 검색어를 캐시 키로 쓸 정규형으로 바꾼다
+ *
+ * <p>NFKC 정규화(전각 문자, 호환 문자 통일) → 소문자 변환 → 의미에 영향이 없는 문장 부호 제거 → 공백 정리 순서로 적용한다. C#처럼 의미가 있는 #, &,
+ * +와 숫자 사이의 점(2.0)은 남긴다.
+ *
+ * <p>규칙을 바꾸면 {@link #VERSION}을 올린다. 키 접두사가 바뀌어 이전 규칙으로 만든 항목은 읽히지 않고 TTL로 만료된다.
+ */
+public final class SearchQueryCanonicalizer {
+
+  public static final String VERSION = "v1";
+
+  private static final Pattern PUNCTUATION =
+      Pattern.compile("(?<!\\d)\\.|\\.(?!\\d)|[\\p{P}&&[^#&.]]");
+  private static final Pattern WHITESPACE = Pattern.compile("[\\s\\p{Z}]+");
+
+  private SearchQueryCanonicalizer() {}
+
+  public static String canonicalize(String query) {
+    if (query == null) {
+      return "";
+    }
+
+    String folded = Normalizer.normalize(query, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    String canonical = collapseWhitespace(PUNCTUATION.matcher(folded).replaceAll(" "));
+
+    // 문장 부호만으로 된 검색어는 부호를 지우면 모두 같은 키가 되므로 남긴다
+    return canonical.isEmpty() ? collapseWhitespace(folded) : canonical;
+  }
+
+  /** 버전 접두사가 붙은 캐시 키 */
+  public static String cacheKey(String query) {
+    return VERSION + ":" + canonicalize(query);
+  }
+
+  /** 검색 결과 한 페이지의 캐시 키, 페이지마다 따로 캐시한다 */
+  public static String pageCacheKey(String query, int start, int display) {
+    return cacheKey(query) + "::" + start + "::" + display;
+  }
+
+  private static String collapseWhitespace(String value) {
+    return WHITESPACE.matcher(value).replaceAll(" ").strip();
+  }
+}
@@ -0,0 +1,36 @@
+package io.reading_tracker.validation;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** 여러 건을 받는 요청의 항목별 검증, 잘못된 항목만 실패로 응답하도록 예외 대신 메시지를 돌려준다 */
+@Component
+@RequiredArgsConstructor
+public class BatchItemValidator {
+
+  private final Validator validator;
+
+  /**
+   * @return 위반한 제약의 메시지, 없으면 null
+   */
+  public String validate(Object item) {
+    if (item == null) {
+      return "항목이 비어 있습니다";
+    }
+
+    Set<ConstraintViolation<Object>> violations = validator.validate(item);
+
+    if (violations.isEmpty()) {
+      return null;
+    }
+
+    return violations.stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+}
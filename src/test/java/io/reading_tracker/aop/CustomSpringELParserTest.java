@@ -0,0 +1,79 @@
+package io.reading_tracker.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.request.AddUserBookRequest;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CustomSpringELParserTest {
+
+  private static final String KEY = "'addBook:' + #user.id + ':' + #request.isbn";
+  private static final String[] PARAMETER_NAMES = {"user", "request"};
+
+  @Test
+  @DisplayName("같은 메서드의 키를 반복해서 평가해도 인자에 맞는 값을 반환한다")
+  void getDynamicValue_repeatedCalls_returnsValueForArgs() throws Exception {
+    // given 락 키 식이 있는 메서드를
+    Method method = TestTarget.class.getMethod("add", User.class, AddUserBookRequest.class);
+
+    // when 인자를 바꿔 여러 번 평가하면 (첫 평가 이후에는 컴파일된 식으로 평가)
+    Object first =
+        CustomSpringELParser.getDynamicValue(
+            method, PARAMETER_NAMES, new Object[] {user(1L), request("9788966262472")}, KEY);
+    Object second =
+        CustomSpringELParser.getDynamicValue(
+            method, PARAMETER_NAMES, new Object[] {user(2L), request("9791162242742")}, KEY);
+
+    // then 각 인자에 맞는 키를 반환한다
+    assertThat(first).isEqualTo("addBook:1:9788966262472");
+    assertThat(second).isEqualTo("addBook:2:9791162242742");
+  }
+
+  @Test
+  @DisplayName("컴파일된 식과 다른 타입의 인자가 들어오면 해석 모드로 평가한다")
+  void getDynamicValue_argumentTypeChanged_fallsBackToInterpreter() throws Exception {
+    // given User 인자로 컴파일된 식에
+    Method method = TestTarget.class.getMethod("lookup", Object.class);
+    String[] parameterNames = {"target"};
+
+    CustomSpringELParser.getDynamicValue(
+        method, parameterNames, new Object[] {user(1L)}, "#target.id");
+    CustomSpringELParser.getDynamicValue(
+        method, parameterNames, new Object[] {user(1L)}, "#target.id");
+
+    // when 다른 타입의 인자를 넘기면
+    Object value =
+        CustomSpringELParser.getDynamicValue(
+            method, parameterNames, new Object[] {new OtherTarget(7L)}, "#target.id");
+
+    // then 해석 모드로 평가해 값을 반환한다
+    assertThat(value).isEqualTo(7L);
+  }
+
+  private static User user(Long id) {
+    User user = new User("tester", "tester@example.com");
+    ReflectionTestUtils.setField(user, "id", id);
+
+    return user;
+  }
+
+  private static AddUserBookRequest request(String isbn) {
+    return new AddUserBookRequest(isbn, "제목", "저자", "출판사", 300);
+  }
+
+  public record OtherTarget(Long id) {
+    public Long getId() {
+      return id;
+    }
+  }
+
+  static class TestTarget {
+    public void add(User user, AddUserBookRequest request) {}
+
+    public void lookup(Object target) {}
+  }
+}
@@ -5,10 +5,19 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.reading_tracker.annotation.DistributedLock;
+import io.reading_tracker.annotation.LockMode;
+import io.reading_tracker.util.LocalLockStripes;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.AfterEach;
@@ -18,10 +27,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisConnectionException;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +47,10 @@ class DistributedLockAopTest {
 
   @Mock private MethodSignature signature;
 
+  @Spy private RedisLockHealth redisLockHealth = new RedisLockHealth(Duration.ofMinutes(1));
+
+  @Spy private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   @InjectMocks private DistributedLockAop distributedLockAop;
 
   @BeforeEach
@@ -74,8 +90,129 @@ class DistributedLockAopTest {
     assertThat(Thread.currentThread().isInterrupted()).isTrue();
   }
 
+  @Test
+  @DisplayName("Redis 오류가 나면 로컬 락으로 실행하고 재시도 간격 동안 Redis를 건너뛴다")
+  void redisFailure_fallsBackToLocalLock() throws Throwable {
+    // given Redis 락 획득 중 연결 오류가 나도록 설정하고
+    givenTarget("targetMethod");
+    when(redissonClient.getLock(anyString())).thenReturn(rLock);
+    when(rLock.tryLock(anyLong(), anyLong(), any()))
+        .thenThrow(new RedisConnectionException("connection refused"));
+    when(joinPoint.proceed()).thenReturn("done");
+
+    // when 두 번 실행하면
+    Object first = distributedLockAop.lock(joinPoint);
+    Object second = distributedLockAop.lock(joinPoint);
+
+    // then 두 번 모두 실행되고, 두 번째는 Redis를 시도하지 않으며 상태에 반영된다
+    assertThat(first).isEqualTo("done");
+    assertThat(second).isEqualTo("done");
+    verify(redissonClient, times(1)).getLock(anyString());
+    assertThat(redisLockHealth.isDegraded()).isTrue();
+    assertThat(redisLockHealth.health().getDetails()).containsEntry("mode", "LOCAL_ONLY");
+    assertThat(waits("targetMethod", "redis", "error")).isEqualTo(1);
+    assertThat(waits("targetMethod", "local", "acquired")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("LOCAL 모드는 Redis를 사용하지 않는다")
+  void localMode_doesNotUseRedis() throws Throwable {
+    // given LOCAL 모드 메서드를
+    givenTarget("localMethod");
+    when(joinPoint.proceed()).thenReturn("done");
+
+    // when 실행하면
+    Object result = distributedLockAop.lock(joinPoint);
+
+    // then Redis 락 없이 실행된다
+    assertThat(result).isEqualTo("done");
+    verify(redissonClient, never()).getLock(anyString());
+
+    // then 로컬 락을 기다린 시간과 잡고 있던 시간이 메서드별로 남는다
+    assertThat(waits("localMethod", "local", "acquired")).isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("lock.held")
+                .tags("method", "TestTarget.localMethod", "type", "local")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("HYBRID 모드는 다른 스레드가 로컬 락을 잡고 있으면 Redis에 가지 않고 기다린다")
+  void hybridMode_sameNodeContention_waitsOnLocalLock() throws Throwable {
+    // given 다른 스레드가 같은 키의 로컬 락을 잡고 있을 때
+    givenTarget("hybridMethod");
+
+    Thread holder =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  ReentrantLock lock = localLockOf("LOCK:hybrid-key");
+                  lock.lock();
+                  try {
+                    Thread.sleep(Duration.ofSeconds(2));
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  } finally {
+                    lock.unlock();
+                  }
+                });
+
+    while (!localLockOf("LOCK:hybrid-key").isLocked()) {
+      Thread.onSpinWait();
+    }
+
+    // when waitTime(100ms) 안에 락을 얻지 못하면
+    Throwable thrown = catchThrowable(() -> distributedLockAop.lock(joinPoint));
+
+    // then Redis 락은 시도하지 않고 실패한다
+    assertThat(thrown)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("현재 처리 중인 요청으로 잠시 후 다시 시도하세요");
+    verify(redissonClient, never()).getLock(anyString());
+    assertThat(waits("hybridMethod", "local", "timeout")).isEqualTo(1);
+
+    holder.interrupt();
+    holder.join();
+  }
+
+  private void givenTarget(String methodName) throws NoSuchMethodException {
+    Method method = TestTarget.class.getMethod(methodName);
+
+    when(joinPoint.getSignature()).thenReturn(signature);
+    when(signature.getMethod()).thenReturn(method);
+    when(signature.getParameterNames()).thenReturn(new String[] {});
+    when(joinPoint.getArgs()).thenReturn(new Object[] {});
+  }
+
+  private long waits(String methodName, String type, String result) {
+    return meterRegistry
+        .get("lock.wait")
+        .tags("method", "TestTarget." + methodName, "type", type, "result", result)
+        .timer()
+        .count();
+  }
+
+  private ReentrantLock localLockOf(String key) {
+    LocalLockStripes stripes =
+        (LocalLockStripes) ReflectionTestUtils.getField(distributedLockAop, "localLocks");
+    return stripes.lockFor(key);
+  }
+
   static class TestTarget {
     @DistributedLock(key = "'test-key'")
     public void targetMethod() {}
+
+    @DistributedLock(key = "'local-key'", mode = LockMode.LOCAL)
+    public void localMethod() {}
+
+    @DistributedLock(
+        key = "'hybrid-key'",
+        mode = LockMode.HYBRID,
+        waitTime = 100L,
+        timeUtil = TimeUnit.MILLISECONDS)
+    public void hybridMethod() {}
   }
 }
@@ -0,0 +1,144 @@
+package io.reading_tracker.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reading_tracker.auth.PrincipalDetails;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.repository.UserRepository;
+import jakarta.servlet.http.Cookie;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtAuthenticationFilterTest {
+
+  private static final String SECRET_KEY =
+      "cmVhZGluZy10cmFja2VyLXRlc3Qtc2VjcmV0LWtleS1mb3Itand0LXNpZ25pbmctMzJieXRlcw==";
+
+  private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 60_000L);
+
+  private UserRepository userRepository;
+  private SimpleMeterRegistry meterRegistry;
+  private JwtAuthenticationFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    userRepository = mock(UserRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+    filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("닉네임, 이메일 클레임이 있는 토큰은 DB 조회 없이 인증한다")
+  void doFilter_withProfileClaims_skipsDatabase() throws Exception {
+    // given 프로필 클레임이 있는 토큰으로
+    String token = jwtTokenProvider.createToken(1L, "tester", "tester@example.com");
+
+    // when 요청하면
+    PrincipalDetails principal = filterWith(token);
+
+    // then DB 조회 없이 클레임으로 인증 정보를 만든다
+    assertThat(principal.getUserId()).isEqualTo(1L);
+    assertThat(principal.getName()).isEqualTo("tester");
+    assertThat(principal.getEmail()).isEqualTo("tester@example.com");
+    verify(userRepository, never()).findById(any());
+    verify(userRepository, never()).getReferenceById(any());
+    assertThat(requests("authenticated", "claims")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("쓰기에 필요한 User는 처음 요청할 때 지연 참조로 얻는다")
+  void getUser_statelessPrincipal_resolvesReferenceOnce() throws Exception {
+    // given 클레임으로 인증한 요청에서
+    User reference = new User("tester", "tester@example.com");
+    ReflectionTestUtils.setField(reference, "id", 1L);
+    given(userRepository.getReferenceById(1L)).willReturn(reference);
+
+    PrincipalDetails principal =
+        filterWith(jwtTokenProvider.createToken(1L, "tester", "tester@example.com"));
+
+    // when User를 두 번 요청하면
+    User first = principal.getUser();
+    User second = principal.getUser();
+
+    // then 참조는 한 번만 얻는다
+    assertThat(first).isSameAs(reference).isSameAs(second);
+    verify(userRepository).getReferenceById(1L);
+  }
+
+  @Test
+  @DisplayName("프로필 클레임이 없는 이전 형식 토큰은 DB에서 유저를 조회한다")
+  void doFilter_withLegacyToken_loadsUser() throws Exception {
+    // given 이전 형식 토큰으로
+    User user = new User("tester", "tester@example.com");
+    ReflectionTestUtils.setField(user, "id", 1L);
+    given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+    // when 요청하면
+    PrincipalDetails principal = filterWith(jwtTokenProvider.createToken(1L));
+
+    // then DB에서 조회한 유저로 인증한다
+    assertThat(principal.getUser()).isSameAs(user);
+    assertThat(principal.getEmail()).isEqualTo("tester@example.com");
+    assertThat(requests("authenticated", "database")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("토큰이 없거나 유효하지 않거나 유저가 없으면 인증하지 않고 결과별로 센다")
+  void doFilter_unauthenticated_countsOutcome() throws Exception {
+    // given DB에 없는 유저의 이전 형식 토큰, 잘못된 토큰, 토큰 없는 요청을
+    given(userRepository.findById(2L)).willReturn(Optional.empty());
+    MockHttpServletRequest noToken = new MockHttpServletRequest("GET", "/api/books");
+    MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/api/books");
+    invalid.setCookies(new Cookie("rt_token", "invalid-token"));
+    MockHttpServletRequest unknownUser = new MockHttpServletRequest("GET", "/api/books");
+    unknownUser.setCookies(new Cookie("rt_token", jwtTokenProvider.createToken(2L)));
+
+    // when 각각 요청하면
+    for (MockHttpServletRequest request :
+        new MockHttpServletRequest[] {noToken, invalid, unknownUser}) {
+      filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    // then 인증 정보 없이 결과별로 한 번씩 센다
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    assertThat(requests("missing", "none")).isEqualTo(1);
+    assertThat(requests("invalid", "none")).isEqualTo(1);
+    assertThat(requests("user_not_found", "database")).isEqualTo(1);
+  }
+
+  private double requests(String outcome, String source) {
+    return meterRegistry
+        .get("auth.jwt.requests")
+        .tags("outcome", outcome, "source", source)
+        .counter()
+        .count();
+  }
+
+  private PrincipalDetails filterWith(String token) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books");
+    request.setCookies(new Cookie("rt_token", token));
+
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    return (PrincipalDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+  }
+}
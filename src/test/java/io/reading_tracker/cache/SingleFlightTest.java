@@ -0,0 +1,97 @@
+package io.reading_tracker.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  @Test
+  @DisplayName("끝난 호출의 결과는 남겨 두는 동안 같은 키의 호출에 그대로 넘겨준다")
+  void execute_afterCompletionWithinRetention_sharesResult() throws InterruptedException {
+    // given 결과를 200ms 남겨 두는 SingleFlight에서 호출이 한 번 끝난 뒤
+    SingleFlight<String, String> singleFlight =
+        new SingleFlight<>(Duration.ofSeconds(1), Duration.ofMillis(200));
+    AtomicInteger loads = new AtomicInteger();
+    singleFlight.execute("key", () -> "value-" + loads.incrementAndGet());
+
+    // when @Cacheable이 저장하기 전에 같은 키로 다시 호출하면
+    String shared = singleFlight.execute("key", () -> "value-" + loads.incrementAndGet());
+
+    // then loader를 다시 실행하지 않는다
+    assertThat(shared).isEqualTo("value-1");
+    assertThat(singleFlight.sharedCount()).isEqualTo(1);
+
+    // then 남겨 두는 시간이 지나면 다시 실행한다
+    Thread.sleep(400);
+    assertThat(singleFlight.execute("key", () -> "value-" + loads.incrementAndGet()))
+        .isEqualTo("value-2");
+  }
+
+  @Test
+  @DisplayName("실패한 호출은 남겨 두지 않아 다음 호출이 다시 실행한다")
+  void execute_afterFailure_runsAgain() {
+    // given 호출이 한 번 실패한 뒤
+    SingleFlight<String, String> singleFlight =
+        new SingleFlight<>(Duration.ofSeconds(1), Duration.ofSeconds(10));
+    try {
+      singleFlight.execute(
+          "key",
+          () -> {
+            throw new IllegalStateException("실패");
+          });
+    } catch (IllegalStateException ignored) {
+      // 다음 호출을 본다
+    }
+
+    // when 같은 키로 다시 호출하면
+    String value = singleFlight.execute("key", () -> "value");
+
+    // then 다시 실행한다
+    assertThat(value).isEqualTo("value");
+    assertThat(singleFlight.executedCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("leader를 기다리는 시간이 지나면 loader를 직접 실행한다")
+  void execute_leaderSlowerThanWaitTimeout_runsLoaderDirectly() throws Exception {
+    // given leader가 기다리는 시간보다 오래 걸릴 때
+    SingleFlight<String, String> singleFlight =
+        new SingleFlight<>(Duration.ofMillis(100), Duration.ofSeconds(1));
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch releaseLeader = new CountDownLatch(1);
+    CompletableFuture<String> leader =
+        CompletableFuture.supplyAsync(
+            () ->
+                singleFlight.execute(
+                    "key",
+                    () -> {
+                      leaderStarted.countDown();
+                      try {
+                        releaseLeader.await();
+                      } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                      }
+                      return "leader";
+                    }));
+    leaderStarted.await();
+
+    // when 같은 키로 호출하면
+    long start = System.nanoTime();
+    String value = singleFlight.execute("key", () -> "direct");
+    long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    releaseLeader.countDown();
+
+    // then 기다리는 시간만큼만 기다리고 직접 실행한 결과를 받는다
+    assertThat(value).isEqualTo("direct");
+    assertThat(waitedMillis).isLessThan(1_000);
+    assertThat(singleFlight.executedCount()).isEqualTo(2);
+    assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("leader");
+  }
+}
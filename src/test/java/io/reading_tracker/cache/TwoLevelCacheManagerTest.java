@@ -0,0 +1,253 @@
+package io.reading_tracker.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class TwoLevelCacheManagerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private ConcurrentMapCacheManager redisCacheManager;
+  private StringRedisTemplate redisTemplate;
+  private TwoLevelCacheManager cacheManager;
+
+  @BeforeEach
+  void setUp() {
+    redisCacheManager = new ConcurrentMapCacheManager("userProfile");
+    redisTemplate = mock(StringRedisTemplate.class);
+
+    NearCacheProperties properties =
+        new NearCacheProperties(
+            true,
+            new NearCacheProperties.Spec(Duration.ofMinutes(1), 100),
+            Map.of("userProfile", new NearCacheProperties.Spec(Duration.ofMinutes(1), 3)));
+
+    cacheManager =
+        new TwoLevelCacheManager(redisCacheManager, properties, redisTemplate, objectMapper);
+  }
+
+  @Test
+  @DisplayName("L2에서 읽은 값은 L1에 채워져 다음 조회는 L2를 거치지 않는다")
+  void get_afterRedisHit_servedFromLocal() {
+    // given L2에만 값이 있을 때
+    redisCacheManager.getCache("userProfile").put(1L, "tester");
+    TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("userProfile");
+
+    // when 두 번 조회하면
+    cache.get(1L);
+    Cache.ValueWrapper second = cache.get(1L);
+
+    // then 두 번째는 L1에서 응답한다
+    assertThat(second.get()).isEqualTo("tester");
+    assertThat(cache.statistics().redisHits()).isEqualTo(1);
+    assertThat(cache.statistics().localHits()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("같은 키를 valueLoader로 동시에 읽으면 한 번만 읽고 모두 같은 값을 받는다")
+  void getWithLoader_concurrentMisses_loadsOnce() throws InterruptedException {
+    // given 읽는 데 시간이 걸리는 valueLoader가 있을 때
+    TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("userProfile");
+    AtomicInteger loads = new AtomicInteger();
+    int requestCount = 50;
+    List<Object> values = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch readyLatch = new CountDownLatch(requestCount);
+
+    // when 같은 키로 동시에 조회하면
+    try (ExecutorService executorService = Executors.newFixedThreadPool(requestCount)) {
+      for (int i = 0; i < requestCount; i++) {
+        executorService.submit(
+            () -> {
+              readyLatch.countDown();
+              readyLatch.await();
+
+              values.add(
+                  cache.get(
+                      1L,
+                      () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(100);
+                        return "tester";
+                      }));
+              return null;
+            });
+      }
+    }
+
+    // then 한 번만 읽고 L2에도 채운다
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(values).hasSize(requestCount).containsOnly("tester");
+    assertThat(redisCacheManager.getCache("userProfile").get(1L).get()).isEqualTo("tester");
+  }
+
+  @Test
+  @DisplayName("무효화하면 L1, L2에서 지우고 다른 노드에 전파한다")
+  void evict_removesBothTiersAndPublishes() throws Exception {
+    // given 두 계층에 값이 있을 때
+    Cache cache = cacheManager.getCache("userProfile");
+    cache.put(1L, "tester");
+
+    // when 무효화하면
+    cache.evict(1L);
+
+    // then 두 계층에서 지우고 다른 노드에 전파한다
+    assertThat(cache.get(1L)).isNull();
+    assertThat(redisCacheManager.getCache("userProfile").get(1L)).isNull();
+
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    verify(redisTemplate)
+        .convertAndSend(eq(TwoLevelCacheManager.EVICTION_CHANNEL), payload.capture());
+
+    TwoLevelCacheManager.CacheEvictionMessage message =
+        objectMapper.readValue(payload.getValue(), TwoLevelCacheManager.CacheEvictionMessage.class);
+    assertThat(message.cacheName()).isEqualTo("userProfile");
+    assertThat(message.key()).isEqualTo("1");
+  }
+
+  @Test
+  @DisplayName("L2를 지우는 사이에 들어온 조회가 이전 값을 L1에 다시 채워도 무효화 후에는 남지 않는다")
+  void evict_whileConcurrentRead_leavesNoStaleLocal() {
+    // given L2를 지우기 직전에 다른 요청이 같은 키를 조회하는 캐시에서
+    Runnable[] beforeRedisEvict = {() -> {}};
+    ConcurrentMapCacheManager racingRedisCacheManager =
+        new ConcurrentMapCacheManager("userProfile") {
+          @Override
+          protected Cache createConcurrentMapCache(String name) {
+            return new ConcurrentMapCache(name) {
+              @Override
+              public void evict(Object key) {
+                beforeRedisEvict[0].run();
+                super.evict(key);
+              }
+            };
+          }
+        };
+    TwoLevelCacheManager racingCacheManager =
+        new TwoLevelCacheManager(
+            racingRedisCacheManager,
+            new NearCacheProperties(
+                true, new NearCacheProperties.Spec(Duration.ofMinutes(1), 100), Map.of()),
+            redisTemplate,
+            objectMapper);
+    Cache cache = racingCacheManager.getCache("userProfile");
+    cache.put(1L, "stale");
+    beforeRedisEvict[0] = () -> cache.get(1L);
+
+    // when 무효화하면
+    cache.evict(1L);
+
+    // then L1에도 이전 값이 남지 않는다
+    assertThat(cache.get(1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("다른 노드의 무효화 메시지를 받으면 L1에서 지운다")
+  void onMessage_fromOtherNode_evictsLocal() throws Exception {
+    // given L1에 값이 있고 L2에서는 이미 지워졌을 때
+    Cache cache = cacheManager.getCache("userProfile");
+    cache.put(1L, "stale");
+    redisCacheManager.getCache("userProfile").evict(1L);
+
+    // when 다른 노드의 무효화 메시지를 받으면
+    String payload =
+        objectMapper.writeValueAsString(
+            new TwoLevelCacheManager.CacheEvictionMessage("other-node", "userProfile", "1"));
+    cacheManager.onMessage(
+        new DefaultMessage(
+            TwoLevelCacheManager.EVICTION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            payload.getBytes(StandardCharsets.UTF_8)),
+        null);
+
+    // then L1에서도 지워진다
+    assertThat(cache.get(1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("L1은 설정한 최대 가중치를 넘지 않는다")
+  void put_overMaxWeight_evictsLocalEntries() {
+    // given 최대 가중치가 3인 캐시에
+    TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("userProfile");
+
+    // when 원소 2개짜리 목록 두 개를 넣으면 (가중치 3 + 3)
+    cache.put(1L, List.of("a", "b"));
+    cache.put(2L, List.of("c", "d"));
+
+    // then L1에는 하나만 남는다
+    assertThat(cache.statistics().localSize()).isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("메트릭을 연결하면 캐시 연산을 cache.operations에 캐시 이름별로 남긴다")
+  void bindTo_recordsOperationsPerCache() throws Exception {
+    // given 메트릭을 연결한 뒤
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    cacheManager.bindTo(registry);
+    Cache cache = cacheManager.getCache("userProfile");
+
+    // when 없는 값을 읽어 채우고 다시 읽은 뒤 지우면
+    cache.get(1L, () -> "tester");
+    cache.get(1L, () -> "other");
+    cache.get(2L);
+    cache.evict(1L);
+
+    // then hit, miss, put, evict 수가 남는다
+    assertThat(operations(registry, "get", "miss")).isEqualTo(2);
+    assertThat(operations(registry, "get", "hit")).isEqualTo(1);
+    assertThat(operations(registry, "evict", "success")).isEqualTo(1);
+    assertThat(
+            registry
+                .get("cache.near.gets")
+                .tag("tier", "l1")
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+
+    // then 감싼 캐시에도 다른 노드의 무효화 메시지가 반영된다
+    cache.put(3L, "stale");
+    redisCacheManager.getCache("userProfile").evict(3L);
+    String payload =
+        objectMapper.writeValueAsString(
+            new TwoLevelCacheManager.CacheEvictionMessage("other-node", "userProfile", "3"));
+    cacheManager.onMessage(
+        new DefaultMessage(
+            TwoLevelCacheManager.EVICTION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            payload.getBytes(StandardCharsets.UTF_8)),
+        null);
+
+    assertThat(cache.get(3L)).isNull();
+    assertThat(operations(registry, "put", "success")).isEqualTo(1);
+  }
+
+  private static long operations(SimpleMeterRegistry registry, String operation, String result) {
+    return registry
+        .get(MeteredCache.OPERATIONS)
+        .tags("cache", "userProfile", "operation", operation, "result", result)
+        .timer()
+        .count();
+  }
+}
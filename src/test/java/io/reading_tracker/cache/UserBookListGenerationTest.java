@@ -0,0 +1,250 @@
+package io.reading_tracker.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.domain.userbook.UserBook;
+import io.reading_tracker.repository.BookRepository;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.search.BookSearchIndex;
+import io.reading_tracker.service.BookService;
+import io.reading_tracker.service.BookServiceImpl;
+import io.reading_tracker.service.ReadingStatsService;
+import io.reading_tracker.service.UserBookCounterService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SpringJUnitConfig(UserBookListGenerationTest.CacheTestConfig.class)
+class UserBookListGenerationTest {
+
+  private static final Long USER_ID = 1L;
+
+  @Autowired private BookService bookService;
+
+  @Autowired private UserBookListGeneration userBookListGeneration;
+
+  @Autowired private UserBookRepository userBookRepository;
+
+  @Autowired private CacheManager cacheManager;
+
+  @Autowired private StringRedisTemplate redisTemplate;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager.getCache("userBookList").clear();
+    clearInvocations(redisTemplate);
+  }
+
+  @Test
+  @DisplayName("세대를 올리면 이전 세대로 캐시된 목록은 더 이상 조회되지 않는다")
+  void bump_afterWrite_staleListNotServed() {
+    // given 도서 1권인 목록이 캐시되어 있을 때
+    given(
+            userBookRepository.findByUserIdAndState(
+                eq(USER_ID), eq(State.IN_PROGRESS), any(Sort.class)))
+        .willReturn(List.of(userBook(10L)));
+    bookService.getBookList(USER_ID, State.IN_PROGRESS);
+
+    // when 도서가 추가되고 세대를 올리면
+    given(
+            userBookRepository.findByUserIdAndState(
+                eq(USER_ID), eq(State.IN_PROGRESS), any(Sort.class)))
+        .willReturn(List.of(userBook(11L), userBook(10L)));
+    userBookListGeneration.bump(USER_ID);
+
+    GetBookListResponse response = bookService.getBookList(USER_ID, State.IN_PROGRESS);
+
+    // then 이전 목록 대신 새로 조회한 목록을 반환한다
+    assertThat(response.books())
+        .extracting(GetBookListResponse.BookItem::id)
+        .containsExactly(11L, 10L);
+    verify(userBookRepository, times(2))
+        .findByUserIdAndState(eq(USER_ID), eq(State.IN_PROGRESS), any(Sort.class));
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 올린 세대는 커밋 이후에 반영된다")
+  void bump_inTransaction_appliedAfterCommit() {
+    // given 트랜잭션 안에서
+    long before = userBookListGeneration.current(USER_ID);
+    TransactionSynchronizationManager.initSynchronization();
+
+    try {
+      // when 세대를 올리면
+      userBookListGeneration.bump(USER_ID);
+
+      // then 커밋 전에는 이전 세대를 유지하고 커밋 후에 올라간다
+      assertThat(userBookListGeneration.current(USER_ID)).isEqualTo(before);
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+
+      assertThat(userBookListGeneration.current(USER_ID)).isEqualTo(before + 1);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("세대 키에는 만료 시간을 걸지 않아 세대 번호가 다시 0부터 시작하지 않는다")
+  void bump_keepsGenerationKeyWithoutTtl() {
+    // when 세대를 올리면
+    userBookListGeneration.bump(USER_ID);
+
+    // then 만료 시간을 걸지 않고 이전에 걸린 만료 시간도 지운다
+    verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+    verify(redisTemplate).persist(UserBookListGeneration.KEY_PREFIX + USER_ID);
+  }
+
+  @Test
+  @DisplayName("세대를 읽지 못하면 정상 세대와 겹치지 않는 UNAVAILABLE을 반환한다")
+  @SuppressWarnings("unchecked")
+  void current_whenRedisFails_returnsUnavailable() {
+    // given Redis 조회가 실패할 때
+    StringRedisTemplate failingRedis = mock(StringRedisTemplate.class);
+    ValueOperations<String, String> operations = mock(ValueOperations.class);
+    given(failingRedis.opsForValue()).willReturn(operations);
+    given(operations.get(anyString())).willThrow(new IllegalStateException("connection refused"));
+
+    UserBookListGeneration generation =
+        new UserBookListGeneration(failingRedis, Duration.ofMinutes(1));
+
+    // when 세대를 두 번 읽으면
+    long first = generation.current(USER_ID);
+    long second = generation.current(USER_ID);
+
+    // then 정상 세대와 겹치지 않는 같은 번호를 반환한다
+    assertThat(first).isEqualTo(UserBookListGeneration.UNAVAILABLE);
+    assertThat(second).isEqualTo(UserBookListGeneration.UNAVAILABLE);
+  }
+
+  @Test
+  @DisplayName("세대를 읽지 못하면 목록을 캐시에 넣지 않고 매번 새로 조회한다")
+  void getBookList_whenGenerationUnavailable_skipsCache() {
+    // given 이 사용자의 세대 조회가 실패할 때
+    Long userId = 2L;
+    given(redisTemplate.opsForValue().get(UserBookListGeneration.KEY_PREFIX + userId))
+        .willThrow(new IllegalStateException("connection refused"));
+    given(
+            userBookRepository.findByUserIdAndState(
+                eq(userId), eq(State.IN_PROGRESS), any(Sort.class)))
+        .willReturn(List.of(userBook(20L)));
+
+    // when 목록을 두 번 조회하면
+    bookService.getBookList(userId, State.IN_PROGRESS);
+    bookService.getBookList(userId, State.IN_PROGRESS);
+
+    // then 매번 새로 조회하고 캐시에는 아무것도 남기지 않는다
+    verify(userBookRepository, times(2))
+        .findByUserIdAndState(eq(userId), eq(State.IN_PROGRESS), any(Sort.class));
+    assertThat((Map<?, ?>) cacheManager.getCache("userBookList").getNativeCache()).isEmpty();
+  }
+
+  private static UserBook userBook(Long id) {
+    User user = new User("tester", "tester@example.com");
+    ReflectionTestUtils.setField(user, "id", USER_ID);
+
+    Book book = new Book("책 " + id, "저자", "출판사", "isbn-" + id);
+    UserBook userBook = new UserBook(user, book, State.IN_PROGRESS, 300, 1);
+    ReflectionTestUtils.setField(userBook, "id", id);
+
+    return userBook;
+  }
+
+  @Configuration
+  @EnableCaching
+  static class CacheTestConfig {
+
+    @Bean
+    CacheManager cacheManager() {
+      return new ConcurrentMapCacheManager("userBookList", "userBookPage");
+    }
+
+    @Bean
+    SpelKeyGenerator spelKeyGenerator() {
+      return new SpelKeyGenerator();
+    }
+
+    @Bean
+    Map<String, String> redisValues() {
+      return new ConcurrentHashMap<>();
+    }
+
+    /** GET, INCR만 흉내 내는 Redis */
+    @Bean
+    @SuppressWarnings("unchecked")
+    StringRedisTemplate redisTemplate(Map<String, String> redisValues) {
+      StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+      ValueOperations<String, String> operations = mock(ValueOperations.class);
+
+      given(redisTemplate.opsForValue()).willReturn(operations);
+      given(operations.get(anyString()))
+          .willAnswer(invocation -> redisValues.get(invocation.<String>getArgument(0)));
+      given(operations.increment(anyString()))
+          .willAnswer(
+              invocation ->
+                  Long.parseLong(
+                      redisValues.merge(
+                          invocation.getArgument(0),
+                          "1",
+                          (current, one) -> String.valueOf(Long.parseLong(current) + 1))));
+
+      return redisTemplate;
+    }
+
+    @Bean
+    UserBookListGeneration userBookListGeneration(StringRedisTemplate redisTemplate) {
+      return new UserBookListGeneration(redisTemplate, Duration.ofMinutes(1));
+    }
+
+    @Bean
+    UserBookRepository userBookRepository() {
+      return mock(UserBookRepository.class);
+    }
+
+    @Bean
+    BookService bookService(
+        UserBookRepository userBookRepository, UserBookListGeneration userBookListGeneration) {
+      UserBookCounterService counterService = mock(UserBookCounterService.class);
+      given(counterService.getSummary(any())).willReturn(new GetBookListResponse.Summary(0, 0, 0));
+
+      return new BookServiceImpl(
+          mock(BookRepository.class),
+          userBookRepository,
+          counterService,
+          userBookListGeneration,
+          mock(BookSearchIndex.class),
+          mock(ReadingStatsService.class));
+    }
+  }
+}
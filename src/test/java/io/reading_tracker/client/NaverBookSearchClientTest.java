@@ -0,0 +1,321 @@
+package io.reading_tracker.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reading_tracker.exception.UpstreamUnavailableException;
+import io.reading_tracker.response.SearchBookResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+class NaverBookSearchClientTest {
+
+  private static final String RESPONSE_BODY =
+      """
+      {"total": 1, "display": 1, "items": [
+        {"isbn": "9788966262472", "title": "리팩토링 2판", "author": "마틴 파울러",
+         "publisher": "한빛미디어", "link": "https://example.com/1"}
+      ]}
+      """;
+
+  private final AtomicInteger upstreamHits = new AtomicInteger();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  /** n번째 요청(1부터)의 지연 시간(ms) */
+  private volatile IntUnaryOperator delayMillis = n -> 0;
+
+  private volatile int status = 200;
+
+  private HttpServer server;
+  private NaverBookSearchClient client;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext(
+        "/v1/search/book.json",
+        exchange -> {
+          int hit = upstreamHits.incrementAndGet();
+
+          try {
+            Thread.sleep(delayMillis.applyAsInt(hit));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+
+          byte[] body = (status == 200 ? RESPONSE_BODY : "{}").getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+
+          try (OutputStream out = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(status, body.length);
+            out.write(body);
+          } catch (IOException e) {
+            // 클라이언트가 제한 시간으로 먼저 끊은 경우
+          }
+        });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (client != null) {
+      client.close();
+    }
+    server.stop(0);
+  }
+
+  @Test
+  @DisplayName("응답이 늦으면 응답 제한 시간 안에 실패해 p99 지연 시간이 제한된다")
+  void search_slowUpstream_failsWithinReadTimeout() {
+    // given 네이버가 2초 늦게 응답하고 응답 제한 시간이 200ms일 때
+    delayMillis = n -> 2_000;
+    client = createClient(Duration.ofMillis(200), 20, Duration.ofMillis(100), null, neverOpen());
+
+    // when 20번 검색하면
+    List<Long> latencies = new ArrayList<>();
+
+    for (int i = 0; i < 20; i++) {
+      long start = System.nanoTime();
+      assertThatThrownBy(() -> client.search("리팩토링", 1, 10))
+          .isInstanceOf(ResourceAccessException.class);
+      latencies.add(Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    // then p99가 제한 시간 근처에 머문다
+    assertThat(p99(latencies)).isLessThan(600);
+
+    // then 응답을 받지 못한 요청은 status=NONE, 예외 클래스명으로 남는다
+    assertThat(requests("NONE", "ResourceAccessException")).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("실패율이 기준을 넘으면 서킷 브레이커가 열려 호출하지 않고 바로 실패한다")
+  void search_failingUpstream_opensCircuit() {
+    // given 네이버가 500을 응답하고 최근 10번 중 5번 이상 실패하면 열리는 서킷 브레이커가 있을 때
+    status = 500;
+    client =
+        createClient(
+            Duration.ofSeconds(1),
+            20,
+            Duration.ofMillis(100),
+            null,
+            new NaverSearchProperties.CircuitBreakerSpec(10, 5, 0.5, Duration.ofMinutes(1)));
+
+    // when 20번 검색하면
+    List<Long> rejectedLatencies = new ArrayList<>();
+
+    for (int i = 0; i < 20; i++) {
+      long start = System.nanoTime();
+
+      try {
+        client.search("리팩토링", 1, 10);
+      } catch (UpstreamUnavailableException e) {
+        rejectedLatencies.add(Duration.ofNanos(System.nanoTime() - start).toMillis());
+      } catch (RuntimeException e) {
+        // 서킷이 열리기 전의 실패
+      }
+    }
+
+    // then 다섯 번만 호출하고 나머지는 호출 없이 바로 실패한다
+    assertThat(upstreamHits.get()).isEqualTo(5);
+    assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(rejectedLatencies).hasSize(15);
+    assertThat(p99(rejectedLatencies)).isLessThan(50);
+
+    // then 실패한 요청은 상태 코드로, 거절한 호출은 사유로 남는다
+    assertThat(requests("500", "InternalServerError")).isEqualTo(5);
+    assertThat(
+            meterRegistry
+                .get("naver.search.rejections")
+                .tag("reason", "circuit_open")
+                .counter()
+                .count())
+        .isEqualTo(15);
+  }
+
+  @Test
+  @DisplayName("열린 서킷 브레이커는 대기 시간이 지나면 시험 호출이 성공했을 때 닫힌다")
+  void search_afterOpenDuration_closesOnSuccessfulTrial() throws InterruptedException {
+    // given 서킷 브레이커가 열린 뒤
+    status = 500;
+    client =
+        createClient(
+            Duration.ofSeconds(1),
+            20,
+            Duration.ofMillis(100),
+            null,
+            new NaverSearchProperties.CircuitBreakerSpec(4, 2, 0.5, Duration.ofMillis(200)));
+
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> client.search("리팩토링", 1, 10)).isNotNull();
+    }
+    assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    // when 네이버가 복구되고 대기 시간이 지나면
+    status = 200;
+    Thread.sleep(300);
+    SearchBookResponse response = client.search("리팩토링", 1, 10);
+
+    // then 시험 호출이 성공해 닫힌다
+    assertThat(response.total()).isEqualTo(1);
+    assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("동시 호출 한도를 넘은 요청은 기다리지 않고 바로 실패한다")
+  void search_overConcurrencyLimit_rejectsFast() throws InterruptedException {
+    // given 동시 호출 한도가 2이고 네이버 응답이 500ms 걸릴 때
+    delayMillis = n -> 500;
+    client = createClient(Duration.ofSeconds(2), 2, Duration.ofMillis(50), null, neverOpen());
+
+    // when 10개가 동시에 검색하면
+    int requestCount = 10;
+    List<Long> rejectedLatencies = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger successCount = new AtomicInteger();
+    CountDownLatch readyLatch = new CountDownLatch(requestCount);
+
+    try (ExecutorService executorService = Executors.newFixedThreadPool(requestCount)) {
+      for (int i = 0; i < requestCount; i++) {
+        executorService.submit(
+            () -> {
+              readyLatch.countDown();
+              readyLatch.await();
+
+              long start = System.nanoTime();
+              try {
+                client.search("리팩토링", 1, 10);
+                successCount.incrementAndGet();
+              } catch (UpstreamUnavailableException e) {
+                rejectedLatencies.add(Duration.ofNanos(System.nanoTime() - start).toMillis());
+              }
+              return null;
+            });
+      }
+    }
+
+    // then 두 개만 호출하고 나머지는 한도 대기 시간 안에 실패한다
+    assertThat(successCount.get()).isEqualTo(2);
+    assertThat(upstreamHits.get()).isEqualTo(2);
+    assertThat(rejectedLatencies).hasSize(requestCount - 2);
+    assertThat(p99(rejectedLatencies)).isLessThan(300);
+  }
+
+  @Test
+  @DisplayName("응답이 hedgeDelay보다 늦으면 한 번 더 보내 먼저 온 응답을 쓴다")
+  void search_slowFirstResponse_hedges() {
+    // given 첫 요청만 1초 늦게 응답하고 hedgeDelay가 50ms일 때
+    delayMillis = n -> n == 1 ? 1_000 : 0;
+    client =
+        createClient(
+            Duration.ofSeconds(2), 20, Duration.ofMillis(100), Duration.ofMillis(50), neverOpen());
+
+    // when 검색하면
+    long start = System.nanoTime();
+    SearchBookResponse response = client.search("리팩토링", 1, 10);
+    long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+    // then 두 번째 요청의 응답을 받아 첫 요청을 기다리지 않는다
+    assertThat(response.total()).isEqualTo(1);
+    assertThat(upstreamHits.get()).isEqualTo(2);
+    assertThat(elapsedMillis).isLessThan(500);
+  }
+
+  @Test
+  @DisplayName("추가 요청이 먼저 응답해도 첫 요청은 끝날 때까지 동시 호출 한도를 쥐고 있다")
+  void search_hedgeWins_primaryHoldsPermitUntilDone() {
+    // given 동시 호출 한도가 2이고 첫 요청과 세 번째 요청만 1초 늦게 응답할 때
+    delayMillis = n -> n == 1 || n == 3 ? 1_000 : 0;
+    client =
+        createClient(
+            Duration.ofSeconds(2), 2, Duration.ofMillis(100), Duration.ofMillis(50), neverOpen());
+    client.search("리팩토링", 1, 10);
+
+    // when 첫 요청이 아직 진행 중일 때 다시 검색하면
+    SearchBookResponse response = client.search("리팩토링", 1, 10);
+
+    // then 남은 한도가 없어 추가 요청 없이 늦은 응답을 기다린다
+    assertThat(response.total()).isEqualTo(1);
+    assertThat(upstreamHits.get()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("추가 요청이 먼저 응답해도 첫 요청의 실패는 서킷 브레이커에 남는다")
+  void search_hedgeWins_primaryFailureRecorded() throws InterruptedException {
+    // given 첫 요청만 응답 제한 시간보다 늦고, 최근 2번 중 절반이 실패하면 열릴 때
+    delayMillis = n -> n == 1 ? 1_000 : 0;
+    client =
+        createClient(
+            Duration.ofMillis(300),
+            20,
+            Duration.ofMillis(100),
+            Duration.ofMillis(50),
+            new NaverSearchProperties.CircuitBreakerSpec(2, 2, 0.5, Duration.ofMinutes(1)));
+
+    // when 추가 요청의 응답을 받고 첫 요청이 제한 시간으로 실패하면
+    SearchBookResponse response = client.search("리팩토링", 1, 10);
+    Thread.sleep(500);
+
+    // then 성공 하나와 실패 하나가 모두 남아 서킷이 열린다
+    assertThat(response.total()).isEqualTo(1);
+    assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  private NaverBookSearchClient createClient(
+      Duration readTimeout,
+      int maxConcurrentCalls,
+      Duration maxWait,
+      Duration hedgeDelay,
+      NaverSearchProperties.CircuitBreakerSpec circuitBreaker) {
+    NaverSearchProperties properties =
+        new NaverSearchProperties(
+            "http://127.0.0.1:" + server.getAddress().getPort(),
+            Duration.ofMillis(500),
+            readTimeout,
+            50,
+            maxConcurrentCalls,
+            maxWait,
+            hedgeDelay,
+            circuitBreaker,
+            new NaverSearchProperties.QuotaSpec(25_000, ZoneId.of("Asia/Seoul")),
+            new NaverSearchProperties.PrefetchSpec(false, 1, 1, 0.2, 0.8));
+
+    return new NaverBookSearchClient(properties, "client-id", "client-secret", meterRegistry);
+  }
+
+  private long requests(String status, String error) {
+    return meterRegistry
+        .get("naver.search.requests")
+        .tags("status", status, "error", error)
+        .timer()
+        .count();
+  }
+
+  private static NaverSearchProperties.CircuitBreakerSpec neverOpen() {
+    return new NaverSearchProperties.CircuitBreakerSpec(1_000, 1_000, 1.0, Duration.ofMinutes(1));
+  }
+
+  private static long p99(List<Long> latencies) {
+    List<Long> sorted = latencies.stream().sorted().toList();
+    return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+  }
+}
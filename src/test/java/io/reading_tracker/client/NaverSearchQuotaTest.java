@@ -0,0 +1,119 @@
+package io.reading_tracker.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class NaverSearchQuotaTest {
+
+  private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+  private final Map<String, Long> redisValues = new ConcurrentHashMap<>();
+
+  private ValueOperations<String, String> operations;
+  private NaverSearchQuota quota;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    operations = mock(ValueOperations.class);
+
+    given(redisTemplate.opsForValue()).willReturn(operations);
+    given(operations.increment(anyString()))
+        .willAnswer(invocation -> redisValues.merge(invocation.getArgument(0), 1L, Long::sum));
+
+    // 한도 10건: 8건부터 미리 가져오기 중단, 미리 가져오기 몫은 2건
+    NaverSearchProperties properties =
+        new NaverSearchProperties(
+            "http://127.0.0.1",
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(2),
+            50,
+            20,
+            Duration.ofMillis(100),
+            null,
+            new NaverSearchProperties.CircuitBreakerSpec(20, 10, 0.5, Duration.ofSeconds(30)),
+            new NaverSearchProperties.QuotaSpec(10, SEOUL),
+            new NaverSearchProperties.PrefetchSpec(true, 1, 1, 0.2, 0.8));
+    Clock clock = Clock.fixed(Instant.parse("2025-07-01T03:00:00Z"), SEOUL);
+
+    quota = new NaverSearchQuota(redisTemplate, properties, clock);
+  }
+
+  @Test
+  @DisplayName("오늘 사용량이 stopAtUsage에 이르면 미리 가져오지 않는다")
+  void allowsPrefetch_usageReachesStopThreshold_returnsFalse() {
+    // given 사용자 검색으로 7건을 호출했을 때
+    for (int i = 0; i < 7; i++) {
+      quota.recordCall(false);
+    }
+    assertThat(quota.allowsPrefetch()).isTrue();
+
+    // when 한 건 더 호출해 8건(80%)이 되면
+    quota.recordCall(false);
+
+    // then 미리 가져오지 않는다
+    assertThat(quota.allowsPrefetch()).isFalse();
+    assertThat(redisValues).containsEntry(NaverSearchQuota.KEY_PREFIX + "2025-07-01", 8L);
+  }
+
+  @Test
+  @DisplayName("미리 가져오기 호출이 maxShare에 이르면 미리 가져오지 않는다")
+  void allowsPrefetch_prefetchShareUsed_returnsFalse() {
+    // given 전체 사용량은 낮지만
+    // when 미리 가져오기로 2건(20%)을 호출하면
+    quota.recordCall(true);
+    quota.recordCall(true);
+
+    // then 미리 가져오지 않는다
+    assertThat(quota.usage().calls()).isEqualTo(2);
+    assertThat(quota.allowsPrefetch()).isFalse();
+  }
+
+  @Test
+  @DisplayName("네이버가 한도 초과로 응답하면 그날은 미리 가져오지 않는다")
+  void allowsPrefetch_afterExhausted_returnsFalse() {
+    // given 사용량이 낮아도
+    quota.recordCall(false);
+
+    // when 429를 받으면
+    quota.recordExhausted();
+
+    // then 미리 가져오지 않는다
+    assertThat(quota.allowsPrefetch()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Redis 오류 시에는 이 노드에서 이어서 센다")
+  void recordCall_redisFailure_countsLocally() {
+    // given Redis에서 3건을 센 뒤 Redis가 실패하면
+    for (int i = 0; i < 3; i++) {
+      quota.recordCall(false);
+    }
+    given(operations.increment(anyString()))
+        .willThrow(new RedisConnectionFailureException("connection refused"));
+
+    // when 두 건을 더 호출하면
+    quota.recordCall(false);
+    quota.recordCall(true);
+
+    // then 마지막으로 본 값에 이어서 센다
+    assertThat(quota.usage().calls()).isEqualTo(5);
+    assertThat(quota.usage().prefetchCalls()).isEqualTo(1);
+  }
+}
@@ -2,12 +2,19 @@ package io.reading_tracker.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,18 +23,29 @@ import io.reading_tracker.auth.PrincipalDetailsService;
 import io.reading_tracker.auth.jwt.JwtAuthenticationFilter;
 import io.reading_tracker.auth.oauth.CustomOAuth2UserService;
 import io.reading_tracker.auth.oauth.OAuth2LoginSuccessHandler;
+import io.reading_tracker.cache.LibraryVersion;
+import io.reading_tracker.cache.SearchKeyStats;
 import io.reading_tracker.config.SecurityConfig;
 import io.reading_tracker.domain.book.State;
 import io.reading_tracker.domain.user.User;
 import io.reading_tracker.exception.NotOwnerException;
 import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.request.BatchUpdateUserBookRequest;
+import io.reading_tracker.request.BulkAddUserBookRequest;
+import io.reading_tracker.request.ExportFormat;
 import io.reading_tracker.request.UpdateUserBookRequest;
 import io.reading_tracker.response.AddUserBookResponse;
+import io.reading_tracker.response.BatchUpdateUserBookResponse;
+import io.reading_tracker.response.BulkAddUserBookResponse;
 import io.reading_tracker.response.GetBookListResponse;
 import io.reading_tracker.response.GetBookListResponse.BookItem;
 import io.reading_tracker.response.GetBookListResponse.Summary;
+import io.reading_tracker.response.GetBookPageResponse;
 import io.reading_tracker.response.SearchBookResponse;
 import io.reading_tracker.response.UpdateUserBookResponse;
+import io.reading_tracker.service.BookExportService;
+import io.reading_tracker.service.BookImportService;
+import io.reading_tracker.service.BookProgressBatchService;
 import io.reading_tracker.service.BookSearchService;
 import io.reading_tracker.service.BookService;
 import jakarta.servlet.FilterChain;
@@ -35,6 +53,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -50,6 +70,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.cors.CorsConfigurationSource;
 
@@ -64,6 +85,16 @@ class BookControllerTest {
 
   @MockitoBean private BookSearchService bookSearchService;
 
+  @MockitoBean private BookImportService bookImportService;
+
+  @MockitoBean private BookProgressBatchService bookProgressBatchService;
+
+  @MockitoBean private BookExportService bookExportService;
+
+  @MockitoBean private SearchKeyStats searchKeyStats;
+
+  @MockitoBean private LibraryVersion libraryVersion;
+
   @MockitoBean private PrincipalDetailsService principalDetailsService;
 
   @MockitoBean private CorsConfigurationSource corsConfigurationSource;
@@ -103,6 +134,117 @@ class BookControllerTest {
     result.andExpect(jsonPath("$.summary.inProgress").value(1));
   }
 
+  @Test
+  @DisplayName("GET /api/books: If-None-Match가 현재 ETag와 같으면 목록을 읽지 않고 304 Not Modified를 반환한다")
+  void getBookList_withMatchingETag_return304NotModified() throws Exception {
+    // given 쓰기가 없어 ETag가 그대로일 때
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    given(libraryVersion.bookListETag(1L)).willReturn("\"1.7\"");
+
+    // when 이전 응답의 ETag로 getBookList를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            get("/api/books").header("If-None-Match", "\"1.7\"").with(user(fakePrincipal)));
+
+    // then 본문 없이 304 Not Modified를 반환하고 목록은 읽지 않는다
+    result.andExpect(status().isNotModified());
+    result.andExpect(header().string("ETag", "\"1.7\""));
+    result.andExpect(content().string(""));
+    verifyNoInteractions(bookService);
+  }
+
+  @Test
+  @DisplayName("GET /api/books: ETag가 바뀌었으면 새 ETag와 함께 200 OK를 반환한다")
+  void getBookList_withStaleETag_return200OKWithETag() throws Exception {
+    // given 쓰기로 ETag가 바뀌었을 때
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    given(libraryVersion.bookListETag(1L)).willReturn("\"1.8\"");
+    given(bookService.getBookList(eq(1L), eq(State.IN_PROGRESS)))
+        .willReturn(new GetBookListResponse(new Summary(0, 0, 0), List.of()));
+
+    // when 이전 응답의 ETag로 getBookList를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            get("/api/books").header("If-None-Match", "\"1.7\"").with(user(fakePrincipal)));
+
+    // then 새 ETag와 함께 200 OK를 반환하고, 브라우저가 매번 다시 확인하게 한다
+    result.andExpect(status().isOk());
+    result.andExpect(header().string("ETag", "\"1.8\""));
+    result.andExpect(header().string("Cache-Control", "no-cache, private"));
+    result.andExpect(jsonPath("$.summary.inProgress").value(0));
+  }
+
+  @Test
+  @DisplayName("GET /api/books: size를 주면 페이지 단위로 nextCursor와 함께 200 OK를 반환한다")
+  void getBookList_withSize_returnsPage() throws Exception {
+    // given size 인자로
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    GetBookPageResponse fakeResponse =
+        new GetBookPageResponse(
+            new Summary(2, 0, 0),
+            List.of(new BookItem(2L, "리팩토링 2판", "마틴 파울러", "한빛미디어", 1, 324, 0, State.IN_PROGRESS)),
+            "next-token",
+            true);
+
+    given(bookService.getBookPage(eq(1L), eq(State.IN_PROGRESS), isNull(), eq(1)))
+        .willReturn(fakeResponse);
+
+    // when getBookList를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            get("/api/books")
+                .param("size", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(user(fakePrincipal)));
+
+    // then 한 페이지와 다음 커서를 반환한다
+    result.andExpect(status().isOk());
+
+    result.andExpect(jsonPath("$.books[0].title").value("리팩토링 2판"));
+    result.andExpect(jsonPath("$.nextCursor").value("next-token"));
+    result.andExpect(jsonPath("$.hasNext").value(true));
+  }
+
+  @Test
+  @DisplayName("GET /api/books: 최대 페이지 크기보다 큰 size는 최대 크기로 조회한다")
+  void getBookList_withOversizedPage_capsSize() throws Exception {
+    // given 최대 크기를 넘는 size로
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    given(
+            bookService.getBookPage(
+                eq(1L), eq(State.IN_PROGRESS), eq("cursor"), eq(BookController.MAX_PAGE_SIZE)))
+        .willReturn(new GetBookPageResponse(new Summary(0, 0, 0), List.of(), null, false));
+
+    // when getBookList를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            get("/api/books")
+                .param("cursor", "cursor")
+                .param("size", "1000")
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(user(fakePrincipal)));
+
+    // then 최대 크기로 조회한다
+    result.andExpect(status().isOk());
+    result.andExpect(jsonPath("$.hasNext").value(false));
+  }
+
   @Test
   @DisplayName("GET /api/books: State가 COMPLETE인 도서 목록 불러오기를 성공하면 200 OK를 반환한다")
   void getBookList_withCOMPLETEStateParameter_return200OK() throws Exception {
@@ -209,9 +351,9 @@ class BookControllerTest {
         new SearchBookResponse.BookItem(
             "1234567890", "스프링의 모든 것", "김민주", "인사이트", "https://naver.com");
 
-    SearchBookResponse fakeResponse = new SearchBookResponse(1, 1, List.of(fakeBookItem));
+    SearchBookResponse fakeResponse = SearchBookResponse.of(1, 1, List.of(fakeBookItem));
 
-    given(bookSearchService.search(eq("스프링"))).willReturn(fakeResponse);
+    given(bookSearchService.search(eq("스프링"), eq(1), eq(10))).willReturn(fakeResponse);
 
     // when searchBooks를 호출하면
     ResultActions result =
@@ -226,6 +368,7 @@ class BookControllerTest {
 
     result.andExpect(jsonPath("$.total").value(1));
     result.andExpect(jsonPath("$.display").value(1));
+    result.andExpect(jsonPath("$.stale").doesNotExist());
     result.andExpect(jsonPath("$.items[0].isbn").value("1234567890"));
     result.andExpect(jsonPath("$.items[0].title").value("스프링의 모든 것"));
   }
@@ -240,9 +383,9 @@ class BookControllerTest {
     UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
 
     String noResultKeyword = "ㅁㄴㅇㄹ";
-    SearchBookResponse fakeResponse = new SearchBookResponse(0, 0, List.of());
+    SearchBookResponse fakeResponse = SearchBookResponse.empty(1);
 
-    given(bookSearchService.search(eq(noResultKeyword))).willReturn(fakeResponse);
+    given(bookSearchService.search(eq(noResultKeyword), eq(1), eq(10))).willReturn(fakeResponse);
 
     // when searchBooks를 호출하면
     ResultActions result =
@@ -269,7 +412,7 @@ class BookControllerTest {
 
     UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
 
-    given(bookSearchService.search(eq("스프링")))
+    given(bookSearchService.search(eq("스프링"), eq(1), eq(10)))
         .willThrow(new RuntimeException("네이버 도서 검색 fake API 서버가 터졌습니다"));
 
     // when 네이버 도서 검색 API가 터지면
@@ -285,6 +428,63 @@ class BookControllerTest {
     result.andExpect(jsonPath("$.code").value("INTERNAL_SERVER_ERROR"));
   }
 
+  @Test
+  @DisplayName("GET /api/books/search: start, display로 다음 페이지를 검색하면 해당 페이지를 반환한다")
+  void searchBooks_withPage_returnsRequestedPage() throws Exception {
+    // given 11번째부터 10건을 요청하는데
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    SearchBookResponse.BookItem fakeBookItem =
+        new SearchBookResponse.BookItem(
+            "1234567890", "스프링의 모든 것 2", "김민주", "인사이트", "https://naver.com");
+
+    given(bookSearchService.search(eq("스프링"), eq(11), eq(10)))
+        .willReturn(SearchBookResponse.of(30, 11, List.of(fakeBookItem)));
+
+    // when searchBooks를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            get("/api/books/search")
+                .queryParam("query", "스프링")
+                .queryParam("start", "11")
+                .queryParam("display", "10")
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(user(fakePrincipal)));
+
+    // then 해당 페이지와 다음 페이지 여부를 반환한다
+    result.andExpect(status().isOk());
+
+    result.andExpect(jsonPath("$.start").value(11));
+    result.andExpect(jsonPath("$.hasNext").value(true));
+    result.andExpect(jsonPath("$.items[0].title").value("스프링의 모든 것 2"));
+  }
+
+  @Test
+  @DisplayName("GET /api/books/search: display가 범위를 벗어나면 400 Bad Request를 반환한다")
+  void searchBooks_withInvalidDisplay_return400BadRequest() throws Exception {
+    // given display가 100을 넘는 요청으로
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    // when searchBooks를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            get("/api/books/search")
+                .queryParam("query", "스프링")
+                .queryParam("display", "101")
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(user(fakePrincipal)));
+
+    // then 400 Bad Request를 반환한다
+    result.andExpect(status().isBadRequest());
+    result.andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+  }
+
   @Test
   @WithAnonymousUser
   @DisplayName("GET /api/books/search: 로그인을 하지 않은 유저가 도서를 검색하면 401 Unauthorized를 반환한다")
@@ -336,6 +536,69 @@ class BookControllerTest {
     result.andExpect(jsonPath("$.title").value("리팩토링 2판"));
   }
 
+  @Test
+  @DisplayName("POST /api/books/bulk: 도서 여러 권을 추가하면 200 OK와 도서별 결과를 반환한다")
+  void addBooks_withBulkRequest_returns200OK() throws Exception {
+    // given 새 도서와 잘못된 도서를 함께
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    BulkAddUserBookRequest fakeRequest =
+        new BulkAddUserBookRequest(
+            List.of(
+                new AddUserBookRequest("0987654321", "리팩토링 2판", "마틴 파울러", "한빛미디어", 301),
+                new AddUserBookRequest("1234567890", "클린 코드", "로버트 C. 마틴", "인사이트", 0)));
+
+    BulkAddUserBookResponse fakeResponse =
+        BulkAddUserBookResponse.of(
+            List.of(
+                BulkAddUserBookResponse.ItemResult.added(0, "0987654321", 1L),
+                BulkAddUserBookResponse.ItemResult.invalid(
+                    1, "1234567890", "totalPages는 1 이상이어야 합니다")));
+
+    given(bookImportService.importBooks(any(User.class), eq(fakeRequest.books())))
+        .willReturn(fakeResponse);
+
+    // when addBooks를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            post("/api/books/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(user(fakePrincipal))
+                .content(objectMapper.writeValueAsString(fakeRequest)));
+
+    // then 200 OK와 도서별 결과를 반환한다
+    result.andExpect(status().isOk());
+
+    result.andExpect(jsonPath("$.added").value(1));
+    result.andExpect(jsonPath("$.invalid").value(1));
+    result.andExpect(jsonPath("$.results[0].status").value("ADDED"));
+    result.andExpect(jsonPath("$.results[1].message").value("totalPages는 1 이상이어야 합니다"));
+  }
+
+  @Test
+  @DisplayName("POST /api/books/bulk: 추가할 도서가 없으면 400 Bad Request를 반환한다")
+  void addBooks_withEmptyBooks_return400BadRequest() throws Exception {
+    // given 빈 목록으로
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    // when addBooks를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            post("/api/books/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(user(fakePrincipal))
+                .content(objectMapper.writeValueAsString(new BulkAddUserBookRequest(List.of()))));
+
+    // then 400 Bad Request를 반환한다
+    result.andExpect(status().isBadRequest());
+  }
+
   @Test
   @WithAnonymousUser
   @DisplayName("POST /api/books: 로그인을 하지 않은 유저가 도서를 추가하면 401 Unauthorized를 반환한다")
@@ -412,6 +675,51 @@ class BookControllerTest {
     result.andExpect(jsonPath("$.currentPage").value(21));
   }
 
+  @Test
+  @DisplayName("PATCH /api/books/batch: 도서 여러 권을 수정하면 200 OK와 항목별 결과를 반환한다")
+  void updateBooks_withBatchRequest_return200OK() throws Exception {
+    // given 내 도서와 다른 사용자의 도서를 함께
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    BatchUpdateUserBookRequest fakeRequest =
+        new BatchUpdateUserBookRequest(
+            List.of(
+                new UpdateUserBookRequest(1L, 21, null), new UpdateUserBookRequest(2L, 10, null)));
+
+    BatchUpdateUserBookResponse fakeResponse =
+        BatchUpdateUserBookResponse.of(
+            List.of(
+                BatchUpdateUserBookResponse.ItemResult.updated(
+                    0, new UpdateUserBookResponse(1L, 6, 21, State.IN_PROGRESS)),
+                BatchUpdateUserBookResponse.ItemResult.failed(
+                    1,
+                    2L,
+                    BatchUpdateUserBookResponse.Status.NOT_FOUND,
+                    "해당 도서는 사용자 목록 내 존재하지 않습니다.")));
+
+    given(bookProgressBatchService.updateProgresses(any(User.class), eq(fakeRequest.updates())))
+        .willReturn(fakeResponse);
+
+    // when updateBooks를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            patch("/api/books/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(user(fakePrincipal))
+                .content(objectMapper.writeValueAsString(fakeRequest)));
+
+    // then 200 OK와 항목별 결과를 반환한다
+    result.andExpect(status().isOk());
+
+    result.andExpect(jsonPath("$.updated").value(1));
+    result.andExpect(jsonPath("$.failed").value(1));
+    result.andExpect(jsonPath("$.results[0].book.currentPage").value(21));
+    result.andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"));
+  }
+
   @Test
   @DisplayName("PATCH /api/books: 도서의 현재 페이지와 상태 값이 전부 존재하지 않으면 400 Bad Request를 반환한다")
   void updateBook_withNoCurrentPageAndNoState_return400BadRequest() throws Exception {
@@ -517,11 +825,11 @@ class BookControllerTest {
 
     String invalidRequest =
         """
-    {
-      "id": 1,
-      "state": "INVALID_STATE"
-    }
-    """;
+        {
+          "id": 1,
+          "state": "INVALID_STATE"
+        }
+        """;
 
     // when updateBook을 호출하면
     ResultActions result =
@@ -536,11 +844,64 @@ class BookControllerTest {
     result.andExpect(jsonPath("$.code").value("BAD_REQUEST"));
   }
 
+  @Test
+  @DisplayName("GET /api/books/export: csv로 내보내면 200 OK와 첨부 파일로 도서 목록을 스트리밍한다")
+  void exportBooks_withCsv_return200OK() throws Exception {
+    // given 사용자 인증 값으로
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    willAnswer(
+            invocation -> {
+              OutputStream out = invocation.getArgument(2);
+              out.write("id,isbn\r\n1,9780000000001\r\n".getBytes(StandardCharsets.UTF_8));
+              return null;
+            })
+        .given(bookExportService)
+        .export(eq(1L), eq(ExportFormat.CSV), any(OutputStream.class));
+
+    // when exportBooks를 호출하면
+    MvcResult asyncResult =
+        mockMvc
+            .perform(get("/api/books/export").param("format", "CSV").with(user(fakePrincipal)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+
+    // then 200 OK와 csv 파일을 반환한다
+    result.andExpect(status().isOk());
+
+    result.andExpect(content().contentType("text/csv;charset=UTF-8"));
+    result.andExpect(
+        header().string("Content-Disposition", "attachment; filename=\"library.csv\""));
+    result.andExpect(content().string("id,isbn\r\n1,9780000000001\r\n"));
+  }
+
+  @Test
+  @DisplayName("GET /api/books/export: 지원하지 않는 형식이면 400 Bad Request를 반환한다")
+  void exportBooks_withUnsupportedFormat_return400BadRequest() throws Exception {
+    // given 사용자 인증 값으로
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    // when 지원하지 않는 형식으로 exportBooks를 호출하면
+    ResultActions result =
+        mockMvc.perform(get("/api/books/export").param("format", "xlsx").with(user(fakePrincipal)));
+
+    // then 400 Bad Request를 반환한다
+    result.andExpect(status().isBadRequest());
+    result.andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+  }
+
   @TestConfiguration
   static class MockFilterConfig {
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-      return new JwtAuthenticationFilter(null, null) {
+      return new JwtAuthenticationFilter(null, null, null) {
         @Override
         protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
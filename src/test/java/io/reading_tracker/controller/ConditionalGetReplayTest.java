@@ -0,0 +1,226 @@
+package io.reading_tracker.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import io.reading_tracker.auth.PrincipalDetails;
+import io.reading_tracker.auth.PrincipalDetailsService;
+import io.reading_tracker.auth.jwt.JwtAuthenticationFilter;
+import io.reading_tracker.auth.oauth.CustomOAuth2UserService;
+import io.reading_tracker.auth.oauth.OAuth2LoginSuccessHandler;
+import io.reading_tracker.cache.LibraryVersion;
+import io.reading_tracker.cache.ProgressWriteBehindBuffer;
+import io.reading_tracker.cache.SearchKeyStats;
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.config.SecurityConfig;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.response.GetBookListResponse.BookItem;
+import io.reading_tracker.response.GetBookListResponse.Summary;
+import io.reading_tracker.response.UserResponse;
+import io.reading_tracker.service.BookExportService;
+import io.reading_tracker.service.BookImportService;
+import io.reading_tracker.service.BookProgressBatchService;
+import io.reading_tracker.service.BookSearchService;
+import io.reading_tracker.service.BookService;
+import io.reading_tracker.service.UserService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.cors.CorsConfigurationSource;
+
+/**
+ * 탭을 오가며 목록과 프로필을 다시 불러오는 세션을 재생해 ETag를 쓸 때와 쓰지 않을 때 응답 크기 비교
+ *
+ * <p>탭 세 개(읽는 중, 완독, 보관)와 프로필을 차례로 ROUNDS번 오가고, WRITE_EVERY번째 바퀴마다 현재 페이지를 한 번 수정한다.
+ */
+@WebMvcTest({BookController.class, UserController.class})
+@Import({SecurityConfig.class, LibraryVersion.class})
+@ActiveProfiles("test")
+class ConditionalGetReplayTest {
+
+  private static final Logger log = LoggerFactory.getLogger(ConditionalGetReplayTest.class);
+
+  private static final int ROUNDS = 20;
+  private static final int WRITE_EVERY = 5;
+  private static final List<String> TABS =
+      List.of(
+          "/api/books?state=IN_PROGRESS",
+          "/api/books?state=COMPLETED",
+          "/api/books?state=ARCHIVED",
+          "/api/users/me");
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
+  @MockitoBean private ProgressWriteBehindBuffer progressWriteBehindBuffer;
+
+  @MockitoBean private BookService bookService;
+
+  @MockitoBean private UserService userService;
+
+  @MockitoBean private BookSearchService bookSearchService;
+
+  @MockitoBean private BookImportService bookImportService;
+
+  @MockitoBean private BookProgressBatchService bookProgressBatchService;
+
+  @MockitoBean private BookExportService bookExportService;
+
+  @MockitoBean private SearchKeyStats searchKeyStats;
+
+  @MockitoBean private PrincipalDetailsService principalDetailsService;
+
+  @MockitoBean private CustomOAuth2UserService customOAuth2UserService;
+
+  @MockitoBean private OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+
+  @MockitoBean private CorsConfigurationSource corsConfigurationSource;
+
+  private final AtomicLong generation = new AtomicLong();
+
+  private UserDetails principal;
+
+  @BeforeEach
+  void setUp() {
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+    principal = new PrincipalDetails(fakeUser);
+
+    given(userBookListGeneration.current(anyLong())).willAnswer(invocation -> generation.get());
+    given(bookService.getBookList(any(), any()))
+        .willAnswer(
+            invocation -> {
+              State state = invocation.getArgument(1);
+              int count =
+                  switch (state) {
+                    case IN_PROGRESS -> 30;
+                    case COMPLETED -> 50;
+                    case ARCHIVED -> 10;
+                  };
+
+              return new GetBookListResponse(new Summary(30, 50, 10), books(state, count));
+            });
+    given(userService.getUserById(1L)).willReturn(new UserResponse(1L, "tester", "test@email.com"));
+  }
+
+  @Test
+  @DisplayName("탭을 80번 오가는 세션에서 ETag를 보내면 응답 바이트가 쓰기가 있을 때만 늘어난다")
+  void replaySession_withETags_transfersFewerBytes() throws Exception {
+    // when ETag 없이 세션을 재생한 바이트와
+    long unconditionalBytes = replay(false);
+    int unconditionalLoads = ROUNDS * 3;
+    verify(bookService, times(unconditionalLoads)).getBookList(any(), any());
+
+    // when 브라우저처럼 주소별 ETag를 보내며 재생한 바이트를 비교하면
+    long conditionalBytes = replay(true);
+
+    log.info(
+        "탭 전환 {}번 - ETag 없이: {}B / ETag 사용: {}B, {}% 감소",
+        ROUNDS * TABS.size(),
+        unconditionalBytes,
+        conditionalBytes,
+        100 - conditionalBytes * 100 / unconditionalBytes);
+
+    // then 목록은 쓰기가 있던 바퀴(첫 바퀴 포함 ROUNDS / WRITE_EVERY번)에만 다시 읽고
+    int conditionalLoads = ROUNDS / WRITE_EVERY * 3;
+    verify(bookService, times(unconditionalLoads + conditionalLoads)).getBookList(any(), any());
+
+    // then 나머지는 본문 없는 304라 응답 바이트는 1/WRITE_EVERY로 줄어든다
+    assertThat(conditionalBytes).isEqualTo(unconditionalBytes / WRITE_EVERY);
+  }
+
+  /**
+   * @return 응답 본문 바이트 합계
+   */
+  private long replay(boolean sendETag) throws Exception {
+    Map<String, String> eTags = new HashMap<>();
+    long bytes = 0;
+
+    for (int round = 0; round < ROUNDS; round++) {
+      if (round % WRITE_EVERY == 0) {
+        generation.incrementAndGet(); // 현재 페이지 수정
+      }
+
+      for (String tab : TABS) {
+        MockHttpServletRequestBuilder request = get(tab).with(user(principal));
+
+        if (sendETag && eTags.containsKey(tab)) {
+          request.header("If-None-Match", eTags.get(tab));
+        }
+
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        bytes += response.getContentAsByteArray().length;
+
+        if (response.getHeader("ETag") != null) {
+          eTags.put(tab, response.getHeader("ETag"));
+        }
+      }
+    }
+
+    return bytes;
+  }
+
+  private static List<BookItem> books(State state, int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i ->
+                new BookItem(
+                    (long) i,
+                    "도서 제목 " + i,
+                    "저자 " + i,
+                    "출판사",
+                    state == State.COMPLETED ? 320 : 120,
+                    320,
+                    state == State.COMPLETED ? 100 : 37,
+                    state))
+        .toList();
+  }
+
+  @TestConfiguration
+  static class MockFilterConfig {
+    @Bean
+    public JwtAuthenticationFilter jwtAuthenticationFilter() {
+      return new JwtAuthenticationFilter(null, null, null) {
+        @Override
+        protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+          filterChain.doFilter(request, response);
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package io.reading_tracker.controller;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.reading_tracker.auth.PrincipalDetails;
+import io.reading_tracker.auth.PrincipalDetailsService;
+import io.reading_tracker.auth.jwt.JwtAuthenticationFilter;
+import io.reading_tracker.auth.oauth.CustomOAuth2UserService;
+import io.reading_tracker.auth.oauth.OAuth2LoginSuccessHandler;
+import io.reading_tracker.config.SecurityConfig;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.response.ReadingStatsResponse;
+import io.reading_tracker.service.ReadingStatsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.cors.CorsConfigurationSource;
+
+@WebMvcTest(StatsController.class)
+@Import(SecurityConfig.class)
+@ActiveProfiles("test")
+class StatsControllerTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private ReadingStatsService readingStatsService;
+
+  @MockitoBean private PrincipalDetailsService principalDetailsService;
+
+  @MockitoBean private CorsConfigurationSource corsConfigurationSource;
+
+  @MockitoBean private CustomOAuth2UserService customOAuth2UserService;
+
+  @MockitoBean private OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+
+  @Test
+  @DisplayName("GET /api/stats: 독서 통계를 불러오는데 성공하면 200 OK를 반환한다")
+  void getStats_return200OK() throws Exception {
+    // given 사용자 인증 값으로
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    ReadingStatsResponse fakeResponse =
+        new ReadingStatsResponse(
+            3,
+            2.0,
+            List.of(new ReadingStatsResponse.DailyPages(LocalDate.of(2026, 10, 18), 60)),
+            List.of(new ReadingStatsResponse.MonthlyCompleted(YearMonth.of(2026, 10), 1)));
+
+    given(readingStatsService.getStats(eq(1L))).willReturn(fakeResponse);
+
+    // when getStats를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            get("/api/stats").contentType(MediaType.APPLICATION_JSON).with(user(fakePrincipal)));
+
+    // then 200 OK와 날짜를 문자열로 반환한다
+    result.andExpect(status().isOk());
+
+    result.andExpect(jsonPath("$.currentStreak").value(3));
+    result.andExpect(jsonPath("$.dailyPages[0].date").value("2026-10-18"));
+    result.andExpect(jsonPath("$.monthlyCompleted[0].month").value("2026-10"));
+  }
+
+  @Test
+  @DisplayName("GET /api/stats: 로그인에 실패하면 401 Unauthorized를 반환한다")
+  void getStats_withInvalidUser_return401Unauthorized() throws Exception {
+    // given 미로그인 유저가
+
+    // when getStats를 호출하면
+    ResultActions result =
+        mockMvc.perform(get("/api/stats").contentType(MediaType.APPLICATION_JSON));
+
+    // then 401 Unauthorized를 반환한다
+    result.andExpect(status().isUnauthorized());
+    result.andExpect(jsonPath("$.code").value("UNAUTHORIZED"));
+  }
+
+  @TestConfiguration
+  static class MockFilterConfig {
+    @Bean
+    public JwtAuthenticationFilter jwtAuthenticationFilter() {
+      return new JwtAuthenticationFilter(null, null, null) {
+        @Override
+        protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+          filterChain.doFilter(request, response);
+        }
+      };
+    }
+  }
+}
@@ -2,9 +2,11 @@ package io.reading_tracker.controller;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -14,6 +16,7 @@ import io.reading_tracker.auth.PrincipalDetailsService;
 import io.reading_tracker.auth.jwt.JwtAuthenticationFilter;
 import io.reading_tracker.auth.oauth.CustomOAuth2UserService;
 import io.reading_tracker.auth.oauth.OAuth2LoginSuccessHandler;
+import io.reading_tracker.cache.LibraryVersion;
 import io.reading_tracker.config.SecurityConfig;
 import io.reading_tracker.domain.user.User;
 import io.reading_tracker.request.UpdateNicknameRequest;
@@ -50,6 +53,8 @@ class UserControllerTest {
 
   @MockitoBean private UserService userService;
 
+  @MockitoBean private LibraryVersion libraryVersion;
+
   @MockitoBean private PrincipalDetailsService principalDetailsService;
 
   @MockitoBean private CorsConfigurationSource corsConfigurationSource;
@@ -86,6 +91,28 @@ class UserControllerTest {
     result.andExpect(jsonPath("$.email").value("test@email.com"));
   }
 
+  @Test
+  @DisplayName("GET /api/users/me: If-None-Match가 현재 ETag와 같으면 프로필을 읽지 않고 304 Not Modified를 반환한다")
+  void getMyProfile_withMatchingETag_return304NotModified() throws Exception {
+    // given 프로필이 바뀌지 않아 ETag가 그대로일 때
+    User fakeUser = new User("tester", "test@email.com");
+    ReflectionTestUtils.setField(fakeUser, "id", 1L);
+
+    UserDetails fakePrincipal = new PrincipalDetails(fakeUser);
+
+    given(libraryVersion.profileETag(1L)).willReturn("\"1.3\"");
+
+    // when 이전 응답의 ETag로 getMyProfile를 호출하면
+    ResultActions result =
+        mockMvc.perform(
+            get("/api/users/me").header("If-None-Match", "\"1.3\"").with(user(fakePrincipal)));
+
+    // then 본문 없이 304 Not Modified를 반환하고 프로필은 읽지 않는다
+    result.andExpect(status().isNotModified());
+    result.andExpect(header().string("ETag", "\"1.3\""));
+    verifyNoInteractions(userService);
+  }
+
   @Test
   @DisplayName("GET /api/users/me: 로그인에 실패하면 401 Unauthorized를 반환한다")
   void getMyProfile_withInvalidUser_return401Unauthorized() throws Exception {
@@ -248,7 +275,7 @@ class UserControllerTest {
   static class MockFilterConfig {
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-      return new JwtAuthenticationFilter(null, null) {
+      return new JwtAuthenticationFilter(null, null, null) {
         @Override
         protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -0,0 +1,348 @@
+package io.reading_tracker.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reading_tracker.auth.PrincipalDetails;
+import io.reading_tracker.auth.jwt.JwtAuthenticationFilter;
+import io.reading_tracker.auth.oauth.CustomOAuth2UserService;
+import io.reading_tracker.auth.oauth.OAuth2LoginSuccessHandler;
+import io.reading_tracker.cache.LibraryVersion;
+import io.reading_tracker.cache.SearchKeyStats;
+import io.reading_tracker.config.SecurityConfig;
+import io.reading_tracker.diagnostics.VirtualThreadPinningMonitor;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.response.GetBookListResponse.BookItem;
+import io.reading_tracker.response.GetBookListResponse.Summary;
+import io.reading_tracker.response.SearchBookResponse;
+import io.reading_tracker.service.BookExportService;
+import io.reading_tracker.service.BookImportService;
+import io.reading_tracker.service.BookProgressBatchService;
+import io.reading_tracker.service.BookSearchService;
+import io.reading_tracker.service.BookService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 요청을 플랫폼 스레드로 처리할 때와 가상 스레드로 처리할 때 처리량과 p99 지연 비교
+ *
+ * <p>DB, Redis, 네이버 API를 기다리는 시간을 IO_LATENCY만큼 멈추는 서비스로 대신하고, 컨트롤러와 보안 필터는 실제로 띄운 Tomcat에서 실행한다.
+ * 플랫폼 스레드 모드는 Tomcat 스레드를 TOMCAT_THREADS개로 줄여 스레드가 모자란 상황을 만들고, 그보다 많은 CONCURRENCY개의 요청을 동시에 보낸다.
+ * 가상 스레드 모드에서는 같은 설정이라도 스레드 수 제한이 없다.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+  private static final Duration IO_LATENCY = Duration.ofMillis(100);
+  private static final int TOMCAT_THREADS = 10;
+  private static final int CONCURRENCY = 100;
+  private static final int REQUESTS = 1_000;
+  private static final int WARMUP_REQUESTS = 200;
+  private static final List<String> PATHS =
+      List.of("/api/books?state=IN_PROGRESS", "/api/books/search?query=refactoring");
+
+  @Test
+  @DisplayName("I/O를 기다리는 요청이 Tomcat 스레드보다 많으면 가상 스레드 모드의 처리량이 높고 p99 지연이 짧다")
+  void loadBooksAndSearch_platformVersusVirtualThreads() throws Exception {
+    for (String path : PATHS) {
+      // when 같은 부하를 플랫폼 스레드 모드와
+      Result platform = run(false, path);
+
+      // when 가상 스레드 모드로 처리하면
+      Result virtual = run(true, path);
+
+      log.info(
+          "{} 동시 {}건 - 플랫폼 스레드: {} req/s, p99 {}ms / 가상 스레드: {} req/s, p99 {}ms, 고정 {}곳",
+          path,
+          CONCURRENCY,
+          platform.throughput(),
+          platform.p99Millis(),
+          virtual.throughput(),
+          virtual.p99Millis(),
+          virtual.pinnedSites().size());
+
+      // then 요청은 각 모드의 스레드에서 처리되고
+      assertThat(platform.virtualThread()).isFalse();
+      assertThat(virtual.virtualThread()).isTrue();
+
+      // then 가상 스레드 모드가 더 많이 처리하고 p99 지연이 짧으며, 우리 코드에서 고정된 곳은 없다
+      assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+      assertThat(virtual.p99Millis()).isLessThan(platform.p99Millis());
+      assertThat(virtual.pinnedSites())
+          .extracting(VirtualThreadPinningMonitor.SiteReport::site)
+          .allMatch(VirtualThreadPinningMonitor.EXTERNAL::equals);
+    }
+  }
+
+  private record Result(
+      long throughput,
+      long p99Millis,
+      boolean virtualThread,
+      List<VirtualThreadPinningMonitor.SiteReport> pinnedSites) {}
+
+  private Result run(boolean virtualThreads, String path) throws Exception {
+    try (ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(LoadTestApplication.class)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--NAVER_CLIENT_ID=test",
+                "--NAVER_CLIENT_SECRET=test")) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      URI uri = URI.create("http://localhost:" + port + path);
+
+      try (HttpClient client =
+              HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+          ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+        send(client, callers, uri, WARMUP_REQUESTS);
+
+        long start = System.nanoTime();
+        long[] latencies = send(client, callers, uri, REQUESTS);
+        long elapsedNanos = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        long p99 = latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+
+        List<VirtualThreadPinningMonitor.SiteReport> pinnedSites =
+            virtualThreads ? context.getBean(VirtualThreadPinningMonitor.class).sites() : List.of();
+
+        return new Result(
+            REQUESTS * 1_000_000_000L / elapsedNanos,
+            p99 / 1_000_000,
+            context.getBean(LoadTestApplication.class).servedOnVirtualThread.get(),
+            pinnedSites);
+      }
+    }
+  }
+
+  /**
+   * CONCURRENCY개씩 동시에 보낸다
+   *
+   * @return 요청별 지연(ns)
+   */
+  private static long[] send(HttpClient client, ExecutorService callers, URI uri, int requests)
+      throws Exception {
+    long[] latencies = new long[requests];
+    List<Future<?>> futures = new ArrayList<>(CONCURRENCY);
+
+    for (int worker = 0; worker < CONCURRENCY; worker++) {
+      int first = worker;
+
+      futures.add(
+          callers.submit(
+              () -> {
+                for (int i = first; i < requests; i += CONCURRENCY) {
+                  long start = System.nanoTime();
+                  HttpResponse<Void> response =
+                      client.send(
+                          HttpRequest.newBuilder(uri).GET().build(),
+                          HttpResponse.BodyHandlers.discarding());
+                  latencies[i] = System.nanoTime() - start;
+
+                  assertThat(response.statusCode()).isEqualTo(200);
+                }
+
+                return null;
+              }));
+    }
+
+    for (Future<?> future : futures) {
+      future.get();
+    }
+
+    return latencies;
+  }
+
+  /**
+   * 컨트롤러와 보안 설정만 띄우고, 서비스는 IO_LATENCY만큼 기다린 뒤 응답한다
+   *
+   * <p>@SpringBootConfiguration을 붙이면 같은 패키지의 @WebMvcTest가 이 설정을 찾아 쓰므로 @Configuration으로 둔다
+   */
+  @Configuration
+  @ImportAutoConfiguration({
+    PropertyPlaceholderAutoConfiguration.class,
+    ServletWebServerFactoryAutoConfiguration.class,
+    EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+    DispatcherServletAutoConfiguration.class,
+    WebMvcAutoConfiguration.class,
+    HttpMessageConvertersAutoConfiguration.class,
+    JacksonAutoConfiguration.class,
+    TaskExecutionAutoConfiguration.class,
+    SecurityAutoConfiguration.class,
+    OAuth2ClientAutoConfiguration.class
+  })
+  @Import({BookController.class, SecurityConfig.class, VirtualThreadPinningMonitor.class})
+  static class LoadTestApplication {
+
+    private final AtomicBoolean servedOnVirtualThread = new AtomicBoolean();
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    BookService bookService() {
+      BookService bookService = stub(BookService.class);
+      List<BookItem> books =
+          IntStream.range(0, 20)
+              .mapToObj(
+                  i ->
+                      new BookItem(
+                          (long) i, "도서 " + i, "저자", "출판사", 120, 320, 37, State.IN_PROGRESS))
+              .toList();
+
+      given(bookService.getBookList(anyLong(), any()))
+          .willAnswer(afterIo(new GetBookListResponse(new Summary(20, 0, 0), books)));
+
+      return bookService;
+    }
+
+    @Bean
+    BookSearchService bookSearchService() {
+      BookSearchService bookSearchService = stub(BookSearchService.class);
+
+      given(bookSearchService.search(anyString(), anyInt(), anyInt()))
+          .willAnswer(afterIo(SearchBookResponse.empty(1)));
+
+      return bookSearchService;
+    }
+
+    @Bean
+    BookImportService bookImportService() {
+      return stub(BookImportService.class);
+    }
+
+    @Bean
+    BookProgressBatchService bookProgressBatchService() {
+      return stub(BookProgressBatchService.class);
+    }
+
+    @Bean
+    BookExportService bookExportService() {
+      return stub(BookExportService.class);
+    }
+
+    @Bean
+    SearchKeyStats searchKeyStats() {
+      return new SearchKeyStats();
+    }
+
+    @Bean
+    LibraryVersion libraryVersion() {
+      return stub(LibraryVersion.class); // ETag 없이 응답한다
+    }
+
+    @Bean
+    CustomOAuth2UserService customOAuth2UserService() {
+      return stub(CustomOAuth2UserService.class);
+    }
+
+    @Bean
+    OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler() {
+      return stub(OAuth2LoginSuccessHandler.class);
+    }
+
+    /** 토큰 대신 고정된 사용자로 인증한다 */
+    @Bean
+    JwtAuthenticationFilter jwtAuthenticationFilter() {
+      User user = new User("tester", "test@email.com");
+      ReflectionTestUtils.setField(user, "id", 1L);
+      PrincipalDetails principal = new PrincipalDetails(user);
+
+      return new JwtAuthenticationFilter(null, null, null) {
+        @Override
+        protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+          SecurityContextHolder.getContext()
+              .setAuthentication(
+                  new UsernamePasswordAuthenticationToken(
+                      principal, null, principal.getAuthorities()));
+          filterChain.doFilter(request, response);
+        }
+      };
+    }
+
+    /** 보안 필터 체인 안에서만 실행되도록 서블릿 필터로는 등록하지 않는다 */
+    @Bean
+    FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+        JwtAuthenticationFilter jwtAuthenticationFilter) {
+      FilterRegistrationBean<JwtAuthenticationFilter> registration =
+          new FilterRegistrationBean<>(jwtAuthenticationFilter);
+      registration.setEnabled(false);
+
+      return registration;
+    }
+
+    private Answer<Object> afterIo(Object response) {
+      return invocation -> {
+        servedOnVirtualThread.set(Thread.currentThread().isVirtual());
+        Thread.sleep(IO_LATENCY);
+        return response;
+      };
+    }
+
+    /** 호출 기록이 쌓여 측정을 흐리지 않도록 stubOnly로 만든다 */
+    private static <T> T stub(Class<T> type) {
+      return mock(type, withSettings().stubOnly());
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package io.reading_tracker.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 실행한 SQL 문장 수를 확인하는 테스트 도우미, 테스트에서 {@link SqlStatementCountConfiguration}을 import해야 센다
+ *
+ * <p>변경 감지로 모인 update는 flush할 때 나가므로 action 안에서 flush해야 함께 센다.
+ */
+public final class SqlStatementAssertions {
+
+  private SqlStatementAssertions() {}
+
+  /** action이 정확히 expected개의 SQL 문장을 실행하는지 확인하고 action의 결과를 돌려준다 */
+  public static <T> T assertStatementCount(int expected, Supplier<T> action) {
+    SqlStatementCounter.Recording recording = SqlStatementCounter.start();
+    SqlStatementCounter.Snapshot snapshot;
+    T result;
+
+    try {
+      result = action.get();
+    } finally {
+      snapshot = recording.stop();
+    }
+
+    assertThat(snapshot.statements())
+        .as("실행한 SQL 문장 수, 엔티티 로드 %d개%n%s", snapshot.entityLoads(), describe(snapshot))
+        .isEqualTo(expected);
+
+    return result;
+  }
+
+  private static String describe(SqlStatementCounter.Snapshot snapshot) {
+    return snapshot.sqlCounts().entrySet().stream()
+        .map(entry -> entry.getValue() + "x " + entry.getKey().strip().replaceAll("\\s+", " "))
+        .collect(Collectors.joining(System.lineSeparator()));
+  }
+}
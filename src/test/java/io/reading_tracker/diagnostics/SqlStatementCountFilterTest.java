@@ -0,0 +1,88 @@
+package io.reading_tracker.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class SqlStatementCountFilterTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private SqlStatementCountFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    JdbcDataSource h2 = new JdbcDataSource();
+    h2.setURL("jdbc:h2:mem:sql-count-filter-test;DB_CLOSE_DELAY=-1");
+
+    jdbcTemplate = new JdbcTemplate(new SqlCountingDataSource(h2));
+    jdbcTemplate.execute("create table if not exists items (id int)");
+    jdbcTemplate.execute("delete from items");
+
+    meterRegistry = new SimpleMeterRegistry();
+    filter = new SqlStatementCountFilter(meterRegistry, 2);
+  }
+
+  @Test
+  @DisplayName("요청 안에서 실행한 SQL 문장을 핸들러 경로 패턴별로 센다, batch는 한 문장이다")
+  void doFilter_countsStatementsPerRequest() throws Exception {
+    // given 경로 패턴이 /api/items/{id}인 요청에서
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/items/1");
+
+    // when 조회 두 번과 batch insert 한 번을 실행하면
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> {
+          req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/items/{id}");
+          jdbcTemplate.queryForObject("select count(*) from items", Integer.class);
+          jdbcTemplate.queryForObject("select count(*) from items", Integer.class);
+          jdbcTemplate.batchUpdate(
+              "insert into items (id) values (?)",
+              List.of(new Object[] {1}, new Object[] {2}, new Object[] {3}));
+        });
+
+    // then 세 문장으로 기록하고 요청 경로가 아닌 패턴으로 태그를 단다
+    DistributionSummary statements =
+        meterRegistry
+            .get(SqlStatementCountFilter.STATEMENTS)
+            .tag("method", "GET")
+            .tag("uri", "/api/items/{id}")
+            .summary();
+    assertThat(statements.count()).isEqualTo(1);
+    assertThat(statements.totalAmount()).isEqualTo(3);
+    assertThat(meterRegistry.get(SqlStatementCountFilter.JDBC_TIME).timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("기록 중이 아닐 때 실행한 SQL은 세지 않고, 기록 안에서 다시 열면 바깥 기록에도 더한다")
+  void recording_nested_addsToOuter() {
+    // given 기록 밖에서 실행한 문장은
+    jdbcTemplate.queryForObject("select count(*) from items", Integer.class);
+
+    // when 기록 안에서 다시 기록을 열어 실행하면
+    SqlStatementCounter.Recording outer = SqlStatementCounter.start();
+    jdbcTemplate.queryForObject("select count(*) from items", Integer.class);
+    SqlStatementCounter.Recording inner = SqlStatementCounter.start();
+    jdbcTemplate.queryForObject("select count(*) from items", Integer.class);
+    SqlStatementCounter.Snapshot innerSnapshot = inner.stop();
+    SqlStatementCounter.Snapshot outerSnapshot = outer.stop();
+
+    // then 안쪽은 자기 문장만, 바깥은 둘 다 센다
+    assertThat(innerSnapshot.statements()).isEqualTo(1);
+    assertThat(outerSnapshot.statements()).isEqualTo(2);
+    assertThat(outerSnapshot.mostFrequent(1))
+        .singleElement()
+        .satisfies(entry -> assertThat(entry.getValue()).isEqualTo(2));
+  }
+}
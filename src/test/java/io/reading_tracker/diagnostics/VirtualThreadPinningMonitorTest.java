@@ -0,0 +1,113 @@
+package io.reading_tracker.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+  private static final Duration THRESHOLD = Duration.ofMillis(10);
+  private static final Duration EVENT_TIMEOUT = Duration.ofSeconds(10);
+
+  private final Object monitor = new Object();
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private SimpleMeterRegistry meterRegistry;
+  private VirtualThreadPinningMonitor pinningMonitor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    pinningMonitor = new VirtualThreadPinningMonitor(THRESHOLD, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pinningMonitor.stop();
+  }
+
+  @Test
+  @DisplayName("가상 스레드가 synchronized 안에서 멈추면 우리 코드 위치로 묶어 센다, ReentrantLock은 고정하지 않는다")
+  void start_virtualThreadSleepsInSynchronized_reportsOwnFrame() throws Exception {
+    // given 모니터를 켜고
+    pinningMonitor.start();
+
+    // when 가상 스레드가 ReentrantLock 안에서 멈춘 뒤 synchronized 안에서 멈추면
+    Thread.ofVirtual().start(this::sleepInReentrantLock).join();
+    Thread.ofVirtual().start(this::sleepInSynchronized).join();
+
+    // then synchronized 위치만 고정으로 센다
+    List<VirtualThreadPinningMonitor.SiteReport> sites = awaitSites();
+    assertThat(sites).hasSize(1);
+    assertThat(sites.getFirst().site())
+        .startsWith(VirtualThreadPinningMonitorTest.class.getName() + ".sleepInSynchronized:");
+    assertThat(sites.getFirst().count()).isEqualTo(1);
+    assertThat(sites.getFirst().maxMillis()).isGreaterThanOrEqualTo(THRESHOLD.toMillis());
+    assertThat(sites.getFirst().stackTrace()).isNotEmpty();
+    assertThat(meterRegistry.get("jvm.threads.virtual.pinned").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("우리 코드를 거치지 않은 고정은 external로 센다")
+  void record_withoutOwnFrame_countsAsExternal() {
+    // when 라이브러리 안에서만 고정되면
+    pinningMonitor.record(
+        Duration.ofMillis(30),
+        List.of("java.lang.Object.wait0:-1", "org.example.Driver.execute:42"));
+    pinningMonitor.record(
+        Duration.ofMillis(50),
+        List.of(
+            "java.lang.Object.wait0:-1",
+            "org.example.Driver.execute:42",
+            "io.reading_tracker.aop.DistributedLockAop.lock:60"));
+
+    // then 우리 코드를 거친 고정은 그 위치로, 나머지는 external로 센다
+    assertThat(pinningMonitor.sites())
+        .extracting(VirtualThreadPinningMonitor.SiteReport::site)
+        .containsExactlyInAnyOrder(
+            VirtualThreadPinningMonitor.EXTERNAL,
+            "io.reading_tracker.aop.DistributedLockAop.lock:60");
+  }
+
+  private List<VirtualThreadPinningMonitor.SiteReport> awaitSites() throws InterruptedException {
+    long deadline = System.nanoTime() + EVENT_TIMEOUT.toNanos();
+
+    // JFR 이벤트는 스트림이 주기적으로 비울 때 전달된다
+    while (pinningMonitor.sites().isEmpty() && System.nanoTime() < deadline) {
+      Thread.sleep(100);
+    }
+
+    Thread.sleep(1_000); // ReentrantLock 쪽 이벤트가 늦게 오는지 한 번 더 기다린다
+
+    return pinningMonitor.sites();
+  }
+
+  private void sleepInSynchronized() {
+    synchronized (monitor) {
+      try {
+        Thread.sleep(THRESHOLD.multipliedBy(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void sleepInReentrantLock() {
+    lock.lock();
+
+    try {
+      Thread.sleep(THRESHOLD.multipliedBy(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package io.reading_tracker.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.domain.userbook.UserBook;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** 2차 캐시는 커밋한 도서만 담으므로 테스트 트랜잭션을 쓰지 않고 조회마다 새 트랜잭션(세션)을 연다 */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:book-cache-test",
+      "spring.jpa.properties.hibernate.cache.use_second_level_cache=true"
+    })
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookSecondLevelCacheTest {
+
+  private static final Logger log = LoggerFactory.getLogger(BookSecondLevelCacheTest.class);
+
+  private static final String ISBN = "9788966262281";
+  private static final int LOOKUPS = 100;
+
+  @Autowired private BookRepository bookRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private UserBookRepository userBookRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    deleteAll();
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    deleteAll();
+  }
+
+  private void deleteAll() {
+    jdbcTemplate.update("delete from user_book");
+    jdbcTemplate.update("delete from books");
+    jdbcTemplate.update("delete from users");
+    entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+  }
+
+  @Test
+  @DisplayName("한 번 읽은 ISBN은 다른 세션에서 다시 찾아도 쿼리하지 않는다")
+  void findBookByIsbn_repeated_noSql() {
+    // given 커밋된 도서를 한 번 읽어 캐시에 넣은 뒤
+    bookRepository.insertIfAbsent(new Book("오브젝트", "조영호", "위키북스", ISBN));
+    Long id = transactionTemplate.execute(status -> findByIsbn(ISBN).getId());
+
+    // when 요청마다 새 세션에서 같은 ISBN을 찾으면
+    statistics.clear();
+    for (int i = 0; i < LOOKUPS; i++) {
+      Book book = transactionTemplate.execute(status -> findByIsbn(ISBN));
+
+      assertThat(book.getId()).isEqualTo(id);
+      assertThat(book.getTitle()).isEqualTo("오브젝트");
+    }
+
+    // then SQL을 한 번도 보내지 않고 natural id, 도서 영역에서 모두 찾는다
+    logHitRatios();
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+    assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(LOOKUPS);
+    assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(LOOKUPS);
+  }
+
+  @Test
+  @DisplayName("도서를 추가한 트랜잭션이 rollback되면 캐시에 들어간 도서를 비운다")
+  void insertIfAbsent_rollback_evictsCachedBook() {
+    // given 추가한 도서를 같은 트랜잭션에서 읽어 캐시에 넣은 뒤 rollback하면
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          bookRepository.insertIfAbsent(new Book("오브젝트", "조영호", "위키북스", ISBN));
+          findByIsbn(ISBN);
+          status.setRollbackOnly();
+        });
+
+    // when 같은 ISBN을 다시 추가하고 찾으면
+    bookRepository.insertIfAbsent(new Book("오브젝트 2판", "조영호", "위키북스", ISBN));
+    Book book = transactionTemplate.execute(status -> findByIsbn(ISBN));
+
+    // then 지워진 도서가 아닌 새로 추가한 도서를 찾는다
+    assertThat(book.getTitle()).isEqualTo("오브젝트 2판");
+  }
+
+  @Test
+  @DisplayName("도서 목록은 user_book만 쿼리하고 도서는 캐시에서 채운다")
+  void findFirstPage_booksCached_singleQuery() {
+    // given 20권을 추가한 사용자의 도서를 한 번 읽어 캐시에 넣은 뒤
+    User user = userRepository.save(new User("reader", "reader@example.com"));
+    List<Book> books =
+        IntStream.range(0, 20)
+            .mapToObj(i -> new Book("도서 " + i, "저자", "출판사", "97800000000" + (10 + i)))
+            .toList();
+    bookRepository.insertAllIfAbsent(books);
+    transactionTemplate.executeWithoutResult(
+        status ->
+            books.forEach(
+                book ->
+                    userBookRepository.save(
+                        new UserBook(
+                            user, findByIsbn(book.getIsbn()), State.IN_PROGRESS, 300, 1))));
+    entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    List<String> firstTitles = readTitles(user.getId());
+
+    // when 목록을 다시 읽으면
+    statistics.clear();
+    List<String> titles = readTitles(user.getId());
+
+    // then user_book 쿼리 하나로 끝난다
+    logHitRatios();
+    assertThat(titles).hasSize(20).isEqualTo(firstTitles);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(20);
+  }
+
+  private Book findByIsbn(String isbn) {
+    return bookRepository.findBookByIsbn(isbn).orElseThrow();
+  }
+
+  private List<String> readTitles(Long userId) {
+    return transactionTemplate.execute(
+        status ->
+            userBookRepository.findFirstPage(userId, State.IN_PROGRESS, Limit.of(20)).stream()
+                .map(userBook -> userBook.getBook().getTitle())
+                .toList());
+  }
+
+  private void logHitRatios() {
+    for (String region : List.of(Book.CACHE_REGION, Book.ISBN_CACHE_REGION)) {
+      CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+      long hits = regionStatistics.getHitCount();
+      long misses = regionStatistics.getMissCount();
+
+      log.info(
+          "{} 영역 - hit: {}, miss: {}, 적중률: {}%",
+          region, hits, misses, hits + misses == 0 ? 0 : hits * 100 / (hits + misses));
+    }
+  }
+}
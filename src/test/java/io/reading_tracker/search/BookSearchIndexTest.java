@@ -0,0 +1,125 @@
+package io.reading_tracker.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.repository.BookCatalogRow;
+import io.reading_tracker.repository.BookRepository;
+import io.reading_tracker.response.SearchBookResponse;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class BookSearchIndexTest {
+
+  private static final List<BookCatalogRow> CATALOG =
+      List.of(
+          new BookCatalogRow(1L, "isbn-1", "해리 포터와 마법사의 돌", "J.K. 롤링", "문학수첩"),
+          new BookCatalogRow(2L, "isbn-2", "해리 포터와 비밀의 방", "J.K. 롤링", "문학수첩"),
+          new BookCatalogRow(3L, "isbn-3", "리팩터링 2판", "마틴 파울러", "한빛미디어"),
+          new BookCatalogRow(4L, "isbn-4", "클린 코드", "로버트 C. 마틴", "인사이트"),
+          new BookCatalogRow(5L, "isbn-5", "해리 포터 롤링 인터뷰 모음", "편집부", "문학수첩"));
+
+  private BookSearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index =
+        new BookSearchIndex(
+            mock(BookRepository.class), new LocalSearchProperties(true, 0.8, 5, 10));
+  }
+
+  @Test
+  @DisplayName("띄어쓰기와 관계없이 검색어 bigram을 모두 가진 도서를 짧은 제목 순으로 찾는다")
+  void search_ignoresSpacing_ordersByTitleLength() {
+    // given 색인을 만든 뒤
+    index.rebuild(CATALOG::forEach);
+
+    // when 띄어쓰기 없이 검색하면
+    BookSearchIndex.Result result = index.search("해리포터", 1.0, 10);
+
+    // then 제목이 짧은 도서부터 찾는다
+    assertThat(result.total()).isEqualTo(3);
+    assertThat(result.hits())
+        .extracting(hit -> hit.book().isbn())
+        .containsExactly("isbn-2", "isbn-1", "isbn-5");
+  }
+
+  @Test
+  @DisplayName("저자, 출판사도 검색하고 minScore보다 적게 맞는 도서는 제외한다")
+  void search_matchesAllFields_filtersByMinScore() {
+    // given 색인을 만든 뒤
+    index.rebuild(CATALOG::forEach);
+
+    // when 제목과 저자를 함께 검색하면 (bigram 5개 중 터롤은 isbn-5에만 있다)
+    BookSearchIndex.Result strict = index.search("해리포터 롤링", 1.0, 10);
+    BookSearchIndex.Result relaxed = index.search("해리포터 롤링", 0.8, 10);
+
+    // then minScore 1.0은 모두 가진 도서만, 0.8은 네 개를 가진 도서까지 점수 순으로 찾는다
+    assertThat(strict.hits()).extracting(hit -> hit.book().isbn()).containsExactly("isbn-5");
+    assertThat(relaxed.hits())
+        .extracting(BookSearchIndex.Hit::score)
+        .containsExactly(1.0, 0.8, 0.8);
+    assertThat(relaxed.hits().getFirst().book().isbn()).isEqualTo("isbn-5");
+  }
+
+  @Test
+  @DisplayName("새로 추가한 도서는 바로 검색된다")
+  void add_afterRebuild_isSearchable() {
+    // given 색인을 만든 뒤
+    index.rebuild(CATALOG::forEach);
+
+    // when 도서를 추가하면
+    index.add(book(6L, "isbn-6", "오브젝트", "조영호", "위키북스"));
+
+    // then 바로 검색된다
+    assertThat(index.search("오브젝트", 1.0, 10).hits())
+        .extracting(BookSearchIndex.Hit::book)
+        .containsExactly(new SearchBookResponse.BookItem("isbn-6", "오브젝트", "조영호", "위키북스", null));
+  }
+
+  @Test
+  @DisplayName("색인을 만드는 동안 추가된 도서는 이미 읽었으면 한 번만 넣는다")
+  void add_duringRebuild_isNotDuplicated() {
+    // given 색인을 만드는 도중에
+    Consumer<Consumer<BookCatalogRow>> source =
+        action -> {
+          CATALOG.forEach(action);
+          // 읽은 도서와 아직 읽지 않은 도서가 추가된다
+          index.add(book(3L, "isbn-3", "리팩터링 2판", "마틴 파울러", "한빛미디어"));
+          index.add(book(6L, "isbn-6", "리팩터링 실전", "저자", "출판사"));
+        };
+
+    // when 색인을 만들면
+    index.rebuild(source);
+
+    // then 이미 읽은 도서는 한 번만 들어간다
+    assertThat(index.size()).isEqualTo(6);
+    assertThat(index.search("리팩터링", 1.0, 10).hits())
+        .extracting(hit -> hit.book().isbn())
+        .containsExactly("isbn-3", "isbn-6");
+  }
+
+  @Test
+  @DisplayName("색인을 만들기 전이나 term이 없는 검색어는 빈 결과를 반환한다")
+  void search_beforeRebuildOrWithoutTerms_returnsEmpty() {
+    // given 색인을 만들기 전에는
+    assertThat(index.search("해리포터", 0.8, 10).total()).isZero();
+
+    // when 색인을 만든 뒤 문장 부호만으로 검색하면
+    index.rebuild(CATALOG::forEach);
+
+    // then 빈 결과를 반환한다
+    assertThat(index.search("!!", 0.8, 10).total()).isZero();
+  }
+
+  private static Book book(Long id, String isbn, String title, String author, String publisher) {
+    Book book = new Book(title, author, publisher, isbn);
+    ReflectionTestUtils.setField(book, "id", id);
+    return book;
+  }
+}
@@ -0,0 +1,157 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import io.reading_tracker.cache.ProgressWriteBehindBuffer;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.repository.UserBookExportRow;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.request.ExportFormat;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 도서 100,000권을 내보낼 때 힙 사용량
+ *
+ * <p>H2가 결과를 한꺼번에 메모리에 올리지 않도록 LAZY_QUERY_EXECUTION으로 연다. 내보내는 도중 GC 뒤 남은 힙을 재고, 같은 행을 리스트로 모두 읽었을
+ * 때와 비교한다. DB 자체가 차지하는 힙은 두 측정에 똑같이 들어가므로 내보내기 전 값을 빼서 증가분만 본다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(
+    properties =
+        "spring.datasource.url=jdbc:h2:mem:book-export-heap-test;LAZY_QUERY_EXECUTION=TRUE")
+@Import({BookExportServiceImpl.class, BookExportHeapTest.Config.class})
+@ActiveProfiles("test")
+@Tag("load")
+class BookExportHeapTest {
+
+  private static final Logger log = LoggerFactory.getLogger(BookExportHeapTest.class);
+
+  private static final int BOOK_COUNT = 100_000;
+  private static final int SAMPLE_AT = 90_000;
+
+  @Autowired private BookExportService bookExportService;
+  @Autowired private UserBookRepository userBookRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("도서 100,000권을 내보내도 힙은 목록 전체를 읽을 때보다 훨씬 적게 늘어난다")
+  void export_100kBooks_keepsHeapFlat() throws Exception {
+    // given 도서 100,000권이 있는 사용자가
+    User user = userRepository.saveAndFlush(new User("exporter", "exporter@example.com"));
+    jdbcTemplate.update(
+        """
+        insert into books (title, author, publisher, isbn, created_at, updated_at)
+        select concat('도서 ', x), concat('저자 ', x), '출판사', lpad(x, 13, '0'),
+               current_timestamp, current_timestamp
+        from system_range(1, ?)
+        """,
+        BOOK_COUNT);
+    jdbcTemplate.update(
+        """
+        insert into user_book
+          (user_id, book_id, state, total_pages, current_page, created_at, updated_at)
+        select ?, id, 'IN_PROGRESS', 300, 150, current_timestamp, current_timestamp
+        from books
+        """,
+        user.getId());
+
+    long baseline = usedHeapAfterGc();
+
+    // when csv로 내보내는 도중의 힙과
+    SamplingOutputStream out = new SamplingOutputStream(baseline);
+    bookExportService.export(user.getId(), ExportFormat.CSV, out);
+    long streamingGrowth = out.sampledGrowth;
+
+    // when 같은 행을 리스트로 모두 읽었을 때의 힙을 비교하면
+    List<UserBookExportRow> rows = new ArrayList<>();
+    userBookRepository.forEachExportRow(user.getId(), BookExportServiceImpl.FETCH_SIZE, rows::add);
+    long materializedGrowth = usedHeapAfterGc() - baseline;
+
+    log.info(
+        "도서 {}권 내보내기 - 스트리밍 힙 증가: {}KB / 리스트로 읽기 힙 증가: {}KB, 출력 {}KB",
+        rows.size(),
+        streamingGrowth / 1024,
+        materializedGrowth / 1024,
+        out.bytes / 1024);
+
+    // then 모든 행을 쓰고, 힙은 리스트로 읽을 때의 1/4도 늘지 않는다
+    assertThat(out.lines).isEqualTo(BOOK_COUNT + 1);
+    assertThat(rows).hasSize(BOOK_COUNT);
+    assertThat(streamingGrowth).isLessThan(materializedGrowth / 4);
+  }
+
+  @TestConfiguration
+  static class Config {
+
+    /** 호출 기록이 행마다 쌓여 힙 측정을 흐리지 않도록 stubOnly로 만든다 */
+    @Bean
+    ProgressWriteBehindBuffer progressWriteBehindBuffer() {
+      return mock(ProgressWriteBehindBuffer.class, withSettings().stubOnly());
+    }
+  }
+
+  private static long usedHeapAfterGc() {
+    Runtime runtime = Runtime.getRuntime();
+
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /** 쓴 바이트는 버리고 줄 수만 센다. SAMPLE_AT번째 행을 쓸 때 힙 증가분을 잰다 */
+  private static class SamplingOutputStream extends OutputStream {
+
+    private final long baseline;
+
+    private long bytes;
+    private int lines;
+    private long sampledGrowth = -1;
+
+    SamplingOutputStream(long baseline) {
+      this.baseline = baseline;
+    }
+
+    @Override
+    public void write(int b) {
+      count(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      for (int i = off; i < off + len; i++) {
+        count(b[i]);
+      }
+    }
+
+    private void count(int b) {
+      bytes++;
+
+      if (b == '\n' && ++lines == SAMPLE_AT) {
+        sampledGrowth = usedHeapAfterGc() - baseline;
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reading_tracker.cache.ProgressWriteBehindBuffer;
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.domain.userbook.UserBook;
+import io.reading_tracker.repository.BookRepository;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.request.ExportFormat;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@Import(BookExportServiceImpl.class)
+@ActiveProfiles("test")
+class BookExportServiceTest {
+
+  @Autowired private BookExportService bookExportService;
+  @Autowired private UserRepository userRepository;
+  @Autowired private BookRepository bookRepository;
+  @Autowired private UserBookRepository userBookRepository;
+  @Autowired private EntityManager entityManager;
+
+  @MockitoBean private ProgressWriteBehindBuffer progressWriteBehindBuffer;
+
+  private User user;
+  private UserBook reading;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(new User("reader", "reader@example.com"));
+    User other = userRepository.save(new User("other", "other@example.com"));
+
+    Book quoted = bookRepository.save(new Book("말, \"그리고\" 글", "저자 A", null, "9780000000001"));
+    Book formula = bookRepository.save(new Book("=SUM(A1)", "저자 B", "출판사", "9780000000002"));
+
+    reading = userBookRepository.save(new UserBook(user, quoted, null, 300, 150));
+    userBookRepository.save(new UserBook(user, formula, State.COMPLETED, 200, 200));
+    userBookRepository.save(new UserBook(other, quoted, null, 300, 10));
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("csv로 내보내면 BOM과 머리글 뒤에 사용자의 도서만 쓰고, 특수 문자와 수식은 이스케이프한다")
+  void export_csv_writesEscapedRows() throws Exception {
+    // when csv로 내보내면
+    String csv = export(ExportFormat.CSV);
+
+    // then 사용자의 도서 두 권을 인덱스 순서(상태, 추가일)대로 쓴다
+    String[] lines = csv.split("\r\n");
+    assertThat(csv).startsWith("﻿id,isbn,title,author,publisher,state,");
+    assertThat(lines).hasSize(3);
+    assertThat(lines[1]).contains(",'=SUM(A1),저자 B,출판사,COMPLETED,200,200,100,");
+    assertThat(lines[2]).startsWith(reading.getId() + ",9780000000001,\"말, \"\"그리고\"\" 글\",저자 A,,");
+    assertThat(lines[2]).contains(",IN_PROGRESS,150,300,50,");
+  }
+
+  @Test
+  @DisplayName("json으로 내보내면 도서 배열을 쓰고, 아직 DB에 쓰지 않은 현재 페이지를 반영한다")
+  void export_json_overlaysBufferedPage() throws Exception {
+    // given 쓰기 지연 버퍼에 현재 페이지가 있으면
+    given(progressWriteBehindBuffer.get(reading.getId()))
+        .willReturn(
+            new ProgressWriteBehindBuffer.Pending(user.getId(), 180, 300, LocalDateTime.now()));
+
+    // when json으로 내보내면
+    JsonNode books = new ObjectMapper().readTree(export(ExportFormat.JSON));
+
+    // then 버퍼의 현재 페이지로 쓴다
+    assertThat(books).hasSize(2);
+    assertThat(books.get(0).get("state").asText()).isEqualTo("COMPLETED");
+    assertThat(books.get(1).get("title").asText()).isEqualTo("말, \"그리고\" 글");
+    assertThat(books.get(1).get("currentPage").asInt()).isEqualTo(180);
+    assertThat(books.get(1).get("progress").asInt()).isEqualTo(60);
+    assertThat(books.get(1).get("publisher").isNull()).isTrue();
+  }
+
+  private String export(ExportFormat format) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    bookExportService.export(user.getId(), format, out);
+
+    return out.toString(StandardCharsets.UTF_8);
+  }
+}
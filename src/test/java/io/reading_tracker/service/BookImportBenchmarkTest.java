@@ -0,0 +1,121 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.response.BulkAddUserBookResponse;
+import io.reading_tracker.search.BookSearchIndex;
+import io.reading_tracker.validation.BatchItemValidator;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/** 도서 1,000권을 한 권씩 추가할 때와 한 번에 추가할 때 비교 */
+@DataJpaTest
+@Import({
+  BookServiceImpl.class,
+  BookImportServiceImpl.class,
+  UserBookCounterServiceImpl.class,
+  BatchItemValidator.class
+})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@ActiveProfiles("test")
+@Tag("load")
+class BookImportBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(BookImportBenchmarkTest.class);
+
+  private static final int BOOK_COUNT = 1_000;
+  private static final int WARMUP_COUNT = 200;
+
+  @Autowired private BookService bookService;
+  @Autowired private BookImportService bookImportService;
+  @Autowired private UserRepository userRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManager entityManager;
+
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
+  @MockitoBean private BookSearchIndex bookSearchIndex;
+
+  @MockitoBean private ReadingStatsService readingStatsService;
+
+  @Test
+  @DisplayName("도서 1,000권은 한 번에 추가하는 편이 한 권씩 추가하는 것보다 빠르고 결과는 같다")
+  void importBooks_1kBooks_comparedToPerItem() {
+    // given 처음 보는 도서 1,000권을 두 사용자가 각각 옮겨 올 때
+    User perItemUser = userRepository.save(new User("per-item", "per-item@example.com"));
+    User bulkUser = userRepository.save(new User("bulk", "bulk@example.com"));
+    entityManager.flush();
+
+    // 두 경로 모두 한 번씩 실행해 JIT, 커넥션 준비 시간을 측정에서 뺀다
+    User warmupUser = userRepository.save(new User("warmup", "warmup@example.com"));
+    requests("warmup-a", WARMUP_COUNT)
+        .forEach(request -> bookService.addBookToUserLibrary(warmupUser, request));
+    bookImportService.importBooks(warmupUser, requests("warmup-b", WARMUP_COUNT));
+    entityManager.clear();
+
+    // when 한 권씩 추가한 시간과
+    List<AddUserBookRequest> perItemRequests = requests("per-item", BOOK_COUNT);
+    long start = System.nanoTime();
+    perItemRequests.forEach(request -> bookService.addBookToUserLibrary(perItemUser, request));
+    long perItemNanos = System.nanoTime() - start;
+    entityManager.clear();
+
+    // when 한 번에 추가한 시간을 비교하면
+    List<AddUserBookRequest> bulkRequests = requests("bulk", BOOK_COUNT);
+    start = System.nanoTime();
+    BulkAddUserBookResponse response = bookImportService.importBooks(bulkUser, bulkRequests);
+    long bulkNanos = System.nanoTime() - start;
+
+    log.info(
+        "도서 {}권 추가 - 한 권씩: {}ms / 한 번에: {}ms",
+        BOOK_COUNT,
+        perItemNanos / 1_000_000,
+        bulkNanos / 1_000_000);
+
+    // then 결과는 같고 한 번에 추가하는 편이 빠르다
+    assertThat(response.added()).isEqualTo(BOOK_COUNT);
+    assertThat(countUserBooks(bulkUser)).isEqualTo(countUserBooks(perItemUser));
+    assertThat(bulkNanos).isLessThan(perItemNanos);
+  }
+
+  private static List<AddUserBookRequest> requests(String prefix, int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i ->
+                new AddUserBookRequest(
+                    String.format("%s%06d", isbnPrefix(prefix), i),
+                    prefix + " 도서 " + i,
+                    "저자 " + i,
+                    "출판사",
+                    300))
+        .toList();
+  }
+
+  /** ISBN은 13자리를 넘지 않아야 하므로 접두사는 7자리 숫자로 바꾼다 */
+  private static String isbnPrefix(String prefix) {
+    return String.format("%07d", Math.floorMod(prefix.hashCode(), 10_000_000));
+  }
+
+  private int countUserBooks(User user) {
+    return jdbcTemplate.queryForObject(
+        "select count(*) from user_book where user_id = ?", Integer.class, user.getId());
+  }
+}
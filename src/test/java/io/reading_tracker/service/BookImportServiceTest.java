@@ -0,0 +1,190 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.repository.BookCatalogRow;
+import io.reading_tracker.repository.BookRepository;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.response.BulkAddUserBookResponse;
+import io.reading_tracker.response.BulkAddUserBookResponse.Status;
+import io.reading_tracker.search.BookSearchIndex;
+import io.reading_tracker.validation.BatchItemValidator;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+@DataJpaTest
+@Import({BookImportServiceImpl.class, UserBookCounterServiceImpl.class, BatchItemValidator.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@ActiveProfiles("test")
+class BookImportServiceTest {
+
+  @Autowired private BookImportService bookImportService;
+  @Autowired private UserBookCounterService userBookCounterService;
+  @Autowired private UserRepository userRepository;
+  @Autowired private BookRepository bookRepository;
+  @MockitoSpyBean private UserBookRepository userBookRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManager entityManager;
+
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
+  @MockitoBean private BookSearchIndex bookSearchIndex;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(new User("importer", "importer@example.com"));
+  }
+
+  @Test
+  @DisplayName("여러 권을 추가하면 도서별 결과를 요청 순서대로 응답하고 카운터와 목록 세대는 한 번만 갱신한다")
+  void importBooks_mixedItems_reportsPerItemResults() {
+    // given 이미 목록에 있는 도서, 다른 사용자가 추가해 books에만 있는 도서가 있을 때
+    bookImportService.importBooks(user, List.of(request("9780000000001", 300)));
+    bookRepository.insertIfAbsent(new Book("카탈로그 도서", "저자", "출판사", "9780000000002"));
+
+    // when 새 도서, 중복, 잘못된 도서를 섞어 추가하면
+    BulkAddUserBookResponse response =
+        bookImportService.importBooks(
+            user,
+            Arrays.asList(
+                request("9780000000001", 300),
+                request("9780000000002", 200),
+                request("9780000000003", 0),
+                request("9780000000004", 100),
+                request("9780000000004", 100),
+                null));
+
+    // then 도서별 결과를 요청 순서대로 응답한다
+    assertThat(response.results())
+        .extracting(BulkAddUserBookResponse.ItemResult::status)
+        .containsExactly(
+            Status.ALREADY_ADDED,
+            Status.ADDED,
+            Status.INVALID,
+            Status.ADDED,
+            Status.ALREADY_ADDED,
+            Status.INVALID);
+    assertThat(response.results().get(2).message()).isEqualTo("totalPages는 1 이상이어야 합니다");
+    assertThat(response.results().get(4).id()).isEqualTo(response.results().get(3).id());
+    assertThat(response.added()).isEqualTo(2);
+    assertThat(response.alreadyAdded()).isEqualTo(2);
+    assertThat(response.invalid()).isEqualTo(2);
+
+    // then 카운터와 목록 세대는 요청마다 한 번만 갱신한다 (카운터는 bulk update라 영속성 컨텍스트를 비우고 읽는다)
+    entityManager.clear();
+    assertThat(userBookCounterService.getSummary(user.getId()).inProgress()).isEqualTo(3);
+    assertThat(countUserBooks()).isEqualTo(3);
+    verify(userBookListGeneration, times(2)).bump(user.getId());
+
+    // then 새로 추가한 도서만 검색 색인에 넣는다
+    verify(bookSearchIndex, times(2)).addRow(any(BookCatalogRow.class));
+  }
+
+  @Test
+  @DisplayName("조회한 뒤 다른 요청이 같은 도서를 먼저 추가했으면 ALREADY_ADDED로 응답하고 카운터에 세지 않는다")
+  void importBooks_insertedByOtherRequestAfterLookup_reportsAlreadyAdded() {
+    // given 목록 조회 직후 다른 요청이 첫 번째 도서를 먼저 추가할 때
+    bookImportService.importBooks(user, List.of(request("9780000000020", 100)));
+    jdbcTemplate.update("delete from user_book where user_id = ?", user.getId());
+    doAnswer(
+            invocation -> {
+              // 목록에는 아직 없다고 응답한 뒤 다른 요청이 먼저 추가한다
+              jdbcTemplate.update(
+                  "insert into user_book (user_id, book_id, state, total_pages, current_page,"
+                      + " created_at, updated_at) select ?, id, 'IN_PROGRESS', 100, 1,"
+                      + " current_timestamp, current_timestamp from books where isbn = ?",
+                  user.getId(),
+                  "9780000000020");
+              return Map.of();
+            })
+        .doAnswer(invocation -> userBookIds())
+        .when(userBookRepository)
+        .findIdsByUserIdAndBookIdIn(any(), any());
+    entityManager.clear();
+    int inProgressBefore = userBookCounterService.getSummary(user.getId()).inProgress();
+
+    // when 그 도서와 새 도서를 함께 추가하면
+    BulkAddUserBookResponse response =
+        bookImportService.importBooks(
+            user, List.of(request("9780000000020", 100), request("9780000000021", 100)));
+
+    // then 먼저 추가된 도서는 ALREADY_ADDED로 응답하고 새 도서만 카운터에 센다
+    assertThat(response.results())
+        .extracting(BulkAddUserBookResponse.ItemResult::status)
+        .containsExactly(Status.ALREADY_ADDED, Status.ADDED);
+    assertThat(response.results().get(0).id()).isNotNull();
+    entityManager.clear();
+    assertThat(userBookCounterService.getSummary(user.getId()).inProgress())
+        .isEqualTo(inProgressBefore + 1);
+    assertThat(countUserBooks()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("batch 중 이미 있는 ISBN이 있으면 한 건씩 다시 넣어 나머지는 추가한다")
+  void insertAllIfAbsent_withExistingIsbn_insertsOthers() {
+    // given 조회한 뒤 다른 요청이 먼저 추가한 도서가 있을 때
+    bookRepository.insertIfAbsent(new Book("먼저 추가된 도서", "저자", "출판사", "9780000000010"));
+
+    // when 그 도서를 포함해 batch로 추가하면
+    List<String> inserted =
+        bookRepository.insertAllIfAbsent(
+            List.of(
+                new Book("새 도서 1", "저자", "출판사", "9780000000011"),
+                new Book("먼저 추가된 도서", "저자", "출판사", "9780000000010"),
+                new Book("새 도서 2", "저자", "출판사", "9780000000012")));
+
+    // then 나머지 도서는 추가된다
+    assertThat(inserted).containsExactly("9780000000011", "9780000000012");
+    assertThat(
+            bookRepository.findIdsByIsbnIn(
+                List.of("9780000000010", "9780000000011", "9780000000012")))
+        .hasSize(3);
+  }
+
+  private static AddUserBookRequest request(String isbn, int totalPages) {
+    return new AddUserBookRequest(isbn, "도서 " + isbn, "저자", "출판사", totalPages);
+  }
+
+  private Map<Long, Long> userBookIds() {
+    Map<Long, Long> ids = new HashMap<>();
+    jdbcTemplate.query(
+        "select book_id, id from user_book where user_id = ?",
+        rs -> {
+          ids.put(rs.getLong("book_id"), rs.getLong("id"));
+        },
+        user.getId());
+
+    return ids;
+  }
+
+  private int countUserBooks() {
+    return jdbcTemplate.queryForObject(
+        "select count(*) from user_book where user_id = ?", Integer.class, user.getId());
+  }
+}
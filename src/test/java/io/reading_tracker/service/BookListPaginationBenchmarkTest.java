@@ -0,0 +1,141 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.response.GetBookPageResponse;
+import io.reading_tracker.search.BookSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/** 완독 도서 1만 권인 유저의 전체 목록과 페이지 조회 비교 */
+@DataJpaTest
+@Import({BookServiceImpl.class, UserBookCounterServiceImpl.class})
+@ActiveProfiles("test")
+@Transactional
+@Tag("load")
+class BookListPaginationBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(BookListPaginationBenchmarkTest.class);
+
+  private static final int BOOK_COUNT = 10_000;
+  private static final int PAGE_SIZE = 20;
+  private static final int ITERATIONS = 5;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Autowired private BookService bookService;
+
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
+  @MockitoBean private BookSearchIndex bookSearchIndex;
+
+  @MockitoBean private ReadingStatsService readingStatsService;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  @DisplayName("완독 도서 1만 권인 유저의 첫 페이지는 전체 목록보다 작고 끝까지 넘기면 전체 목록과 같다")
+  void getBookPage_with10kBooks_comparedToFullList() throws Exception {
+    // given 완독 도서 1만 권인 유저가
+    User user = userRepository.save(new User("heavy-reader", "heavy@example.com"));
+    entityManager.flush();
+    seedCompletedBooks(user.getId());
+    entityManager.clear();
+
+    // when 전체 목록과 첫 페이지를 조회하면
+    long fullNanos = Long.MAX_VALUE;
+    long pageNanos = Long.MAX_VALUE;
+    GetBookListResponse full = null;
+    GetBookPageResponse firstPage = null;
+
+    for (int i = 0; i < ITERATIONS; i++) {
+      long start = System.nanoTime();
+      full = bookService.getBookList(user.getId(), State.COMPLETED);
+      fullNanos = Math.min(fullNanos, System.nanoTime() - start);
+      entityManager.clear();
+
+      start = System.nanoTime();
+      firstPage = bookService.getBookPage(user.getId(), State.COMPLETED, null, PAGE_SIZE);
+      pageNanos = Math.min(pageNanos, System.nanoTime() - start);
+      entityManager.clear();
+    }
+
+    int fullBytes = objectMapper.writeValueAsBytes(full).length;
+    int pageBytes = objectMapper.writeValueAsBytes(firstPage).length;
+
+    log.info(
+        "도서 {}권 - 전체 목록: {}ms, {}bytes / 첫 페이지({}권): {}ms, {}bytes",
+        BOOK_COUNT,
+        fullNanos / 1_000_000,
+        fullBytes,
+        PAGE_SIZE,
+        pageNanos / 1_000_000,
+        pageBytes);
+
+    // then 첫 페이지는 페이지 크기만큼만 읽고 응답 크기도 그에 비례한다
+    assertThat(full.books()).hasSize(BOOK_COUNT);
+    assertThat(firstPage.books()).hasSize(PAGE_SIZE);
+    assertThat(pageBytes).isLessThan(fullBytes / (BOOK_COUNT / PAGE_SIZE / 2));
+
+    // then 끝까지 넘기면 전체 목록과 같은 순서로 모두 반환한다
+    List<Long> pagedIds = new ArrayList<>();
+    GetBookPageResponse page = firstPage;
+    page.books().forEach(book -> pagedIds.add(book.id()));
+
+    while (page.hasNext()) {
+      page = bookService.getBookPage(user.getId(), State.COMPLETED, page.nextCursor(), 50);
+      page.books().forEach(book -> pagedIds.add(book.id()));
+    }
+
+    assertThat(pagedIds)
+        .containsExactlyElementsOf(
+            full.books().stream().map(GetBookListResponse.BookItem::id).toList());
+  }
+
+  /** JPA로 1만 건을 저장하면 준비 시간이 측정 대상보다 길어지므로 SQL로 직접 넣는다 */
+  private void seedCompletedBooks(Long userId) {
+    LocalDateTime base = LocalDateTime.now();
+    List<Object[]> books = new ArrayList<>(BOOK_COUNT);
+
+    for (int i = 0; i < BOOK_COUNT; i++) {
+      // 10권씩 같은 created_at을 갖도록 해서 id 정렬 조건도 함께 확인
+      Timestamp createdAt = Timestamp.valueOf(base.minusSeconds(i / 10));
+      books.add(new Object[] {"책 " + i, "저자 " + i, "출판사", "bench-" + i, createdAt});
+    }
+
+    jdbcTemplate.batchUpdate(
+        "insert into books (title, author, publisher, isbn, created_at) values (?, ?, ?, ?, ?)",
+        books);
+    jdbcTemplate.update(
+        """
+        insert into user_book (user_id, book_id, state, total_pages, current_page, created_at)
+        select ?, id, 'COMPLETED', 300, 300, created_at from books where isbn like 'bench-%'
+        """,
+        userId);
+  }
+}
@@ -0,0 +1,159 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.reading_tracker.cache.ProgressWriteBehindBuffer;
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.request.UpdateUserBookRequest;
+import io.reading_tracker.response.BatchUpdateUserBookResponse;
+import io.reading_tracker.response.BatchUpdateUserBookResponse.Status;
+import io.reading_tracker.response.BulkAddUserBookResponse;
+import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.search.BookSearchIndex;
+import io.reading_tracker.validation.BatchItemValidator;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@Import({
+  BookProgressBatchServiceImpl.class,
+  BookImportServiceImpl.class,
+  UserBookCounterServiceImpl.class,
+  BatchItemValidator.class
+})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@ActiveProfiles("test")
+class BookProgressBatchServiceTest {
+
+  @Autowired private BookProgressBatchService bookProgressBatchService;
+  @Autowired private BookImportService bookImportService;
+  @Autowired private UserBookCounterService userBookCounterService;
+  @Autowired private UserRepository userRepository;
+  @Autowired private EntityManager entityManager;
+
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
+  @MockitoBean private BookSearchIndex bookSearchIndex;
+
+  @MockitoBean private ReadingStatsService readingStatsService;
+
+  @MockitoBean private ProgressWriteBehindBuffer progressWriteBehindBuffer;
+
+  private User user;
+  private List<Long> userBookIds;
+  private Long otherUsersBookId;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(new User("reader", "reader@example.com"));
+    User other = userRepository.save(new User("other", "other@example.com"));
+
+    userBookIds =
+        bookImportService
+            .importBooks(
+                user,
+                List.of(
+                    request("9780000000001"), request("9780000000002"), request("9780000000003")))
+            .results()
+            .stream()
+            .map(BulkAddUserBookResponse.ItemResult::id)
+            .toList();
+    otherUsersBookId =
+        bookImportService
+            .importBooks(other, List.of(request("9780000000001")))
+            .results()
+            .getFirst()
+            .id();
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("여러 권을 수정하면 항목별 결과를 응답하고 실패한 항목은 건너뛴다")
+  void updateProgresses_mixedItems_reportsPerItemResults() {
+    // given 수정할 수 있는 항목과 다른 사용자의 도서, 잘못된 항목을 섞어
+    List<UpdateUserBookRequest> requests =
+        Arrays.asList(
+            new UpdateUserBookRequest(userBookIds.get(0), 150, null),
+            new UpdateUserBookRequest(userBookIds.get(1), null, State.COMPLETED),
+            new UpdateUserBookRequest(otherUsersBookId, 10, null),
+            new UpdateUserBookRequest(userBookIds.get(2), 301, null),
+            new UpdateUserBookRequest(userBookIds.get(2), null, null),
+            null);
+
+    // when 한 번에 수정하면
+    BatchUpdateUserBookResponse response =
+        bookProgressBatchService.updateProgresses(user, requests);
+
+    // then 요청 순서대로 항목별 결과를 응답한다
+    assertThat(response.results())
+        .extracting(BatchUpdateUserBookResponse.ItemResult::status)
+        .containsExactly(
+            Status.UPDATED,
+            Status.UPDATED,
+            Status.NOT_FOUND,
+            Status.INVALID,
+            Status.INVALID,
+            Status.INVALID);
+    assertThat(response.results().get(0).book().progress()).isEqualTo(50);
+    assertThat(response.results().get(3).message()).isEqualTo("현재 페이지는 전체 페이지를 초과할 수 없습니다.");
+    assertThat(response.updated()).isEqualTo(2);
+    assertThat(response.failed()).isEqualTo(4);
+
+    // then 카운터와 목록 세대는 한 번만 갱신한다
+    entityManager.clear();
+    GetBookListResponse.Summary summary = userBookCounterService.getSummary(user.getId());
+    assertThat(summary.inProgress()).isEqualTo(2);
+    assertThat(summary.completed()).isEqualTo(1);
+    verify(userBookListGeneration, times(2)).bump(user.getId()); // 준비할 때 한 번, 수정할 때 한 번
+
+    // then 독서 통계에는 넘긴 페이지(149 + 299)와 완독 한 권을 한 번에 더한다
+    verify(readingStatsService).recordProgress(user.getId(), 448, 1);
+  }
+
+  @Test
+  @DisplayName("같은 도서를 여러 번 수정하면 차례로 적용하고 카운터에는 마지막 상태만 반영한다")
+  void updateProgresses_sameBookTwice_appliesInOrder() {
+    // given 같은 도서를 완독했다가 다시 읽는 중으로 바꾸면
+    Long id = userBookIds.getFirst();
+
+    // when 한 번에 수정하면
+    BatchUpdateUserBookResponse response =
+        bookProgressBatchService.updateProgresses(
+            user,
+            List.of(
+                new UpdateUserBookRequest(id, null, State.COMPLETED),
+                new UpdateUserBookRequest(id, null, State.IN_PROGRESS)));
+
+    // then 마지막 상태가 남고 카운터는 그대로다
+    assertThat(response.results().getLast().book().state()).isEqualTo(State.IN_PROGRESS);
+
+    entityManager.flush();
+    entityManager.clear();
+    GetBookListResponse.Summary summary = userBookCounterService.getSummary(user.getId());
+    assertThat(summary.inProgress()).isEqualTo(3);
+    assertThat(summary.completed()).isZero();
+  }
+
+  private static AddUserBookRequest request(String isbn) {
+    return new AddUserBookRequest(isbn, "도서 " + isbn, "저자", "출판사", 300);
+  }
+}
@@ -2,51 +2,87 @@ package io.reading_tracker.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import io.reading_tracker.cache.UserBookListGeneration;
 import io.reading_tracker.domain.book.State;
 import io.reading_tracker.domain.user.User;
 import io.reading_tracker.repository.BookRepository;
 import io.reading_tracker.repository.UserBookRepository;
 import io.reading_tracker.repository.UserRepository;
 import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.search.BookSearchIndex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-@SpringBootTest
-@Import(BookServiceImpl.class)
+/**
+ * 요청마다 트랜잭션을 커밋해야 경합이 재현되므로 테스트 트랜잭션을 쓰지 않는다
+ *
+ * <p>같은 키를 넣는 요청은 먼저 넣은 트랜잭션이 끝날 때까지 기다리므로, CPU가 적은 환경에서도 H2 기본 락 대기 시간(1초)에 걸리지 않도록 늘린다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(
+    properties = "spring.datasource.url=jdbc:h2:mem:book-concurrency-test;LOCK_TIMEOUT=10000")
+@Import({BookServiceImpl.class, UserBookCounterServiceImpl.class})
 @ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
 public class BookServiceConcurrencyTest {
 
+  private static final Logger log = LoggerFactory.getLogger(BookServiceConcurrencyTest.class);
+
   @Autowired private BookService bookService;
   @Autowired private UserRepository userRepository;
   @Autowired private BookRepository bookRepository;
   @Autowired private UserBookRepository userBookRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
+  @MockitoBean private BookSearchIndex bookSearchIndex;
+
+  @MockitoBean private ReadingStatsService readingStatsService;
 
   private User user;
 
   @BeforeEach
   void setUp() {
-    userBookRepository.deleteAll();
-    bookRepository.deleteAll();
-    userRepository.deleteAll();
+    deleteAll();
 
     user = userRepository.save(new User("tester", "tester@example.com"));
   }
 
   @AfterEach
   void tearDown() {
-    userBookRepository.deleteAll();
-    bookRepository.deleteAll();
-    userRepository.deleteAll();
+    deleteAll();
+  }
+
+  /** deleteAll()은 soft delete라 유니크 제약에 걸리는 행이 남으므로 직접 지운다 */
+  private void deleteAll() {
+    jdbcTemplate.update("delete from user_book_counter");
+    jdbcTemplate.update("delete from user_book");
+    jdbcTemplate.update("delete from books");
+    jdbcTemplate.update("delete from users");
   }
 
   @Test
@@ -100,4 +136,133 @@ public class BookServiceConcurrencyTest {
     long actualCount = userBookRepository.countByUserIdAndState(user.getId(), State.IN_PROGRESS);
     assertThat(actualCount).isEqualTo(1L);
   }
+
+  @Test
+  @DisplayName("같은 요청 500개가 동시에 들어와도 1개만 성공하고 나머지는 이미 추가된 도서로 실패한다")
+  void concurrencyTest_withManyRequests_singleWinner() throws InterruptedException {
+    // given 같은 요청 500개가
+    AddUserBookRequest request =
+        new AddUserBookRequest("1234567890124", "테스트 도서", "테스트 저자", "테스트 출판사", 300);
+
+    int requestCount = 500;
+    List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger successCount = new AtomicInteger();
+
+    // when 동시에 들어오면
+    long elapsedNanos =
+        runConcurrently(
+            requestCount,
+            i -> {
+              try {
+                bookService.addBookToUserLibrary(user, request);
+                successCount.incrementAndGet();
+              } catch (Exception e) {
+                failures.add(e.getMessage());
+              }
+            });
+
+    log.info(
+        "동시 추가 요청 {}건 처리: {}ms ({} req/s)",
+        requestCount,
+        elapsedNanos / 1_000_000,
+        requestCount * 1_000_000_000L / Math.max(1, elapsedNanos));
+
+    // then 1개만 성공하고 나머지는 모두 중복으로 실패한다
+    assertThat(successCount.get()).isEqualTo(1);
+    assertThat(failures).hasSize(requestCount - 1).allMatch("이미 사용자의 도서 목록에 추가되어 있습니다."::equals);
+    assertThat(userBookRepository.countByUserIdAndState(user.getId(), State.IN_PROGRESS))
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("서로 다른 사용자가 같은 새 도서를 동시에 추가하면 모두 성공하고 도서는 하나만 생성된다")
+  void concurrencyTest_withManyUsers_sharesSingleBook() throws InterruptedException {
+    // given 사용자 50명이
+    int userCount = 50;
+    List<User> users = new ArrayList<>();
+
+    for (int i = 0; i < userCount; i++) {
+      users.add(userRepository.save(new User("reader" + i, "reader" + i + "@example.com")));
+    }
+
+    AddUserBookRequest request =
+        new AddUserBookRequest("1234567890125", "테스트 도서", "테스트 저자", "테스트 출판사", 300);
+    AtomicInteger successCount = new AtomicInteger();
+
+    // when 아직 없는 도서를 동시에 추가하면
+    runConcurrently(
+        userCount,
+        i -> {
+          bookService.addBookToUserLibrary(users.get(i), request);
+          successCount.incrementAndGet();
+        });
+
+    // then 모두 성공하고 도서는 하나만 생성된다
+    assertThat(successCount.get()).isEqualTo(userCount);
+    assertThat(bookRepository.count()).isEqualTo(1);
+    assertThat(userBookRepository.count()).isEqualTo(userCount);
+  }
+
+  @Test
+  @DisplayName("카운터가 없는 사용자가 서로 다른 도서를 동시에 추가해도 모두 성공하고 카운터에 모두 반영된다")
+  void concurrencyTest_firstCounterWrites_allCounted() throws InterruptedException {
+    // given 카운터가 아직 없는 사용자가
+    int requestCount = 20;
+    List<String> failures = Collections.synchronizedList(new ArrayList<>());
+
+    // when 서로 다른 도서 20권을 동시에 추가하면
+    runConcurrently(
+        requestCount,
+        i -> {
+          try {
+            bookService.addBookToUserLibrary(
+                user,
+                new AddUserBookRequest(
+                    String.valueOf(9780000000100L + i), "테스트 도서 " + i, "테스트 저자", "테스트 출판사", 300));
+          } catch (Exception e) {
+            failures.add(e.getMessage());
+          }
+        });
+
+    // then 모두 성공하고 카운터는 하나만 생겨 20권을 센다
+    assertThat(failures).isEmpty();
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "select in_progress from user_book_counter where user_id = ?",
+                Integer.class,
+                user.getId()))
+        .isEqualTo(requestCount);
+  }
+
+  private long runConcurrently(int count, IntConsumer task) throws InterruptedException {
+    CountDownLatch readyLatch = new CountDownLatch(count);
+    CountDownLatch finishLatch = new CountDownLatch(count);
+    long startedAt;
+
+    try (ExecutorService executorService = Executors.newFixedThreadPool(count)) {
+      for (int i = 0; i < count; i++) {
+        int index = i;
+
+        executorService.submit(
+            () -> {
+              try {
+                readyLatch.countDown();
+                readyLatch.await();
+
+                task.accept(index);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } finally {
+                finishLatch.countDown();
+              }
+            });
+      }
+
+      readyLatch.await();
+      startedAt = System.nanoTime();
+      finishLatch.await();
+    }
+
+    return System.nanoTime() - startedAt;
+  }
 }
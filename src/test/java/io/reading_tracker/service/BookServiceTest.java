@@ -1,8 +1,14 @@
 package io.reading_tracker.service;
 
+import static io.reading_tracker.diagnostics.SqlStatementAssertions.assertStatementCount;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.diagnostics.SqlStatementCountConfiguration;
 import io.reading_tracker.domain.book.Book;
 import io.reading_tracker.domain.book.State;
 import io.reading_tracker.domain.user.User;
@@ -15,11 +21,14 @@ import io.reading_tracker.request.AddUserBookRequest;
 import io.reading_tracker.request.UpdateUserBookRequest;
 import io.reading_tracker.response.AddUserBookResponse;
 import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.response.GetBookPageResponse;
 import io.reading_tracker.response.UpdateUserBookResponse;
+import io.reading_tracker.search.BookSearchIndex;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,16 +36,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @DataJpaTest
-@Import(BookServiceImpl.class)
+@Import({
+  BookServiceImpl.class,
+  UserBookCounterServiceImpl.class,
+  SqlStatementCountConfiguration.class
+})
 @ActiveProfiles("test")
 @Transactional
 class BookServiceTest {
 
   @Autowired private BookService bookService;
 
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
+  @MockitoBean private BookSearchIndex bookSearchIndex;
+
+  @MockitoBean private ReadingStatsService readingStatsService;
+
   @Autowired private BookRepository bookRepository;
 
   @Autowired private UserBookRepository userBookRepository;
@@ -71,7 +91,9 @@ class BookServiceTest {
     entityManager.clear();
 
     // when 로그인을 성공하면
-    GetBookListResponse response = bookService.getBookList(user.getId(), State.IN_PROGRESS);
+    // user_book 목록, 도서 batch, 카운터 조회, 도서를 직접 저장해 카운터가 아직 없으므로 user_book 집계 = 4
+    GetBookListResponse response =
+        assertStatementCount(4, () -> bookService.getBookList(user.getId(), State.IN_PROGRESS));
 
     List<Long> returnedIds =
         response.books().stream().map(GetBookListResponse.BookItem::id).toList();
@@ -116,6 +138,65 @@ class BookServiceTest {
     assertThat(response1.books()).hasSize(0);
   }
 
+  @Test
+  @DisplayName("커서로 다음 페이지를 요청하면 이전 페이지 이후의 도서를 중복 없이 반환한다")
+  void getBookPage_followsCursor_withoutDuplicates() {
+    // given 같은 시각에 추가된 도서가 섞여 있을 때
+    User user = userRepository.save(new User("tester", "tester@example.com"));
+    LocalDateTime base = LocalDateTime.now();
+
+    for (int i = 0; i < 5; i++) {
+      Book book = bookRepository.save(new Book("책 " + i, "저자", "출판사", "isbn-" + i));
+      UserBook userBook =
+          userBookRepository.save(new UserBook(user, book, State.IN_PROGRESS, 300, 1));
+      entityManager.flush();
+      entityManager
+          .createNativeQuery("update user_book set created_at = ?1 where id = ?2")
+          .setParameter(1, base.minusMinutes(i / 2))
+          .setParameter(2, userBook.getId())
+          .executeUpdate();
+    }
+
+    entityManager.clear();
+
+    // when 2권씩 끝까지 넘기면
+    GetBookPageResponse first = bookService.getBookPage(user.getId(), State.IN_PROGRESS, null, 2);
+    GetBookPageResponse second =
+        bookService.getBookPage(user.getId(), State.IN_PROGRESS, first.nextCursor(), 2);
+    GetBookPageResponse last =
+        bookService.getBookPage(user.getId(), State.IN_PROGRESS, second.nextCursor(), 2);
+
+    // then 전체 목록과 같은 순서로 나누어 반환한다
+    List<Long> pagedIds =
+        Stream.of(first, second, last)
+            .flatMap(page -> page.books().stream())
+            .map(GetBookListResponse.BookItem::id)
+            .toList();
+    List<Long> allIds =
+        bookService.getBookList(user.getId(), State.IN_PROGRESS).books().stream()
+            .map(GetBookListResponse.BookItem::id)
+            .toList();
+
+    assertThat(pagedIds).containsExactlyElementsOf(allIds).doesNotHaveDuplicates();
+    assertThat(first.hasNext()).isTrue();
+    assertThat(last.hasNext()).isFalse();
+    assertThat(last.nextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("잘못된 커서로 요청하면 IllegalArgumentException을 던진다")
+  void getBookPage_withInvalidCursor_throwsException() {
+    // given 유저가
+    User user = userRepository.save(new User("tester", "tester@example.com"));
+
+    // when 해석할 수 없는 커서로 요청하면
+    // then IllegalArgumentException을 던진다
+    assertThatThrownBy(
+            () -> bookService.getBookPage(user.getId(), State.IN_PROGRESS, "not-a-cursor", 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("유효하지 않은 커서입니다");
+  }
+
   @Test
   @DisplayName("선택한 도서를 추가하면 IN_PROGRESS 상태인 새 도서 정보를 반환한다")
   void addBook_returnsNewBookInformation() {
@@ -126,7 +207,10 @@ class BookServiceTest {
         new AddUserBookRequest("1234567890123", "테스트 도서", "테스트 저자", "테스트 출판사", 300);
 
     // when 추가하면
-    AddUserBookResponse response = bookService.addBookToUserLibrary(user, request);
+    // 도서 조회, 추가, 다시 조회, user_book 추가, 카운터 증감(0건), user_book 집계로 카운터 추가 = 6
+    // 동시에 다른 요청이 카운터를 먼저 만들었을 때만 카운터 증감을 한 번 더 실행한다
+    AddUserBookResponse response =
+        assertStatementCount(6, () -> bookService.addBookToUserLibrary(user, request));
 
     // then IN_PROGRESS 상태인 새 도서 정보를 반환한다
     assertThat(response).isNotNull();
@@ -138,6 +222,23 @@ class BookServiceTest {
     assertThat(savedBook.getBook().getTitle()).isEqualTo("테스트 도서");
   }
 
+  @Test
+  @DisplayName("처음 추가되는 도서만 검색 색인에 넣는다")
+  void addBook_newBookOnly_addedToSearchIndex() {
+    // given 두 유저가
+    User first = userRepository.save(new User("first", "first@example.com"));
+    User second = userRepository.save(new User("second", "second@example.com"));
+    AddUserBookRequest request =
+        new AddUserBookRequest("1234567890123", "테스트 도서", "테스트 저자", "테스트 출판사", 300);
+
+    // when 같은 도서를 추가하면
+    bookService.addBookToUserLibrary(first, request);
+    bookService.addBookToUserLibrary(second, request);
+
+    // then 처음 추가할 때만 색인에 넣는다
+    verify(bookSearchIndex, times(1)).add(argThat(book -> "1234567890123".equals(book.getIsbn())));
+  }
+
   @Test
   @DisplayName("이미 추가된 도서는 사용자의 도서 목록에 재추가할 수 없다")
   void addBook_withAlreadyExistBook_throwsError() {
@@ -164,14 +265,24 @@ class BookServiceTest {
 
     Long userBookId = userBook.getId();
     Integer totalPages = userBook.getTotalPages();
+    entityManager.flush();
+    entityManager.clear();
 
     // when 업데이트하면
     Integer targetCurrentPage = 100;
     UpdateUserBookRequest updatedRequest =
         new UpdateUserBookRequest(userBookId, targetCurrentPage, null);
 
+    // user_book 조회, update = 2 (소유자 확인은 user를 읽지 않는다)
     UpdateUserBookResponse updatedResponse =
-        bookService.updateUserBookProgress(user, updatedRequest);
+        assertStatementCount(
+            2,
+            () -> {
+              UpdateUserBookResponse updated =
+                  bookService.updateUserBookProgress(user, updatedRequest);
+              entityManager.flush();
+              return updated;
+            });
 
     // then 자동으로 독서 진행률이 수정된다
     Assertions.assertThat(updatedResponse.currentPage()).isEqualTo(targetCurrentPage);
@@ -313,6 +424,10 @@ class BookServiceTest {
     Assertions.assertThat(completedResponse.state()).isEqualTo(State.COMPLETED);
     Assertions.assertThat(completedResponse.currentPage()).isEqualTo(totalPages);
     Assertions.assertThat(completedResponse.progress()).isEqualTo(100);
+
+    // then 독서 통계에는 수정마다 넘긴 페이지와 새로 완독한 도서가 더해진다
+    verify(readingStatsService).recordProgress(user.getId(), halfPage - 1, 0);
+    verify(readingStatsService).recordProgress(user.getId(), totalPages - halfPage, 1);
   }
 
   @Test
@@ -0,0 +1,195 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reading_tracker.repository.BookCatalogRow;
+import io.reading_tracker.repository.BookRepository;
+import io.reading_tracker.response.SearchBookResponse;
+import io.reading_tracker.search.BookSearchIndex;
+import io.reading_tracker.search.LocalSearchProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalFirstBookSearchServiceTest {
+
+  private BookRepository bookRepository;
+  private BookSearchService naverBookSearchService;
+  private LocalFirstBookSearchService searchService;
+
+  @BeforeEach
+  void setUp() {
+    bookRepository = mock(BookRepository.class);
+    naverBookSearchService = mock(BookSearchService.class);
+
+    LocalSearchProperties properties = new LocalSearchProperties(true, 0.8, 3, 10);
+    BookSearchIndex index = new BookSearchIndex(bookRepository, properties);
+    searchService =
+        new LocalFirstBookSearchService(
+            index,
+            naverBookSearchService,
+            properties,
+            mock(SearchPagePrefetcher.class),
+            new SimpleMeterRegistry());
+
+    List<BookCatalogRow> catalog =
+        IntStream.rangeClosed(1, 3)
+            .mapToObj(
+                i -> new BookCatalogRow(i, "isbn-" + i, "해리 포터 " + i + "권", "J.K. 롤링", "문학수첩"))
+            .toList();
+    willAnswer(
+            invocation -> {
+              Consumer<BookCatalogRow> action = invocation.getArgument(1);
+              catalog.forEach(action);
+              return null;
+            })
+        .given(bookRepository)
+        .forEachCatalogRow(anyInt(), any());
+    index.rebuild();
+  }
+
+  @Test
+  @DisplayName("로컬 색인에서 충분히 찾으면 네이버 API를 호출하지 않는다")
+  void search_enoughLocalHits_skipsUpstream() {
+    // given 색인에 해리 포터가 세 권 있을 때
+
+    // when 검색하면
+    SearchBookResponse response = searchService.search("해리 포터", 1, 10);
+
+    // then 로컬 결과로 응답하고 네이버 결과가 이어질 수 있으므로 다음 페이지가 있다
+    assertThat(response.items()).extracting(SearchBookResponse.BookItem::isbn).hasSize(3);
+    assertThat(response.hasNext()).isTrue();
+    verify(naverBookSearchService, never()).search(anyString(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("로컬 결과가 부족하면 네이버 결과 앞에 붙이고 같은 ISBN은 한 번만 넣는다")
+  void search_fewLocalHits_mergesWithUpstream() {
+    // given 색인에는 1권만 있고 네이버는 같은 도서를 포함해 두 권을 찾을 때
+    SearchBookResponse.BookItem local =
+        new SearchBookResponse.BookItem("isbn-1", "해리 포터 1권", "J.K. 롤링", "문학수첩", null);
+    SearchBookResponse.BookItem upstreamSame =
+        new SearchBookResponse.BookItem("isbn-1", "해리 포터 1권", "J.K. 롤링", "문학수첩", "link-1");
+    SearchBookResponse.BookItem upstreamOther =
+        new SearchBookResponse.BookItem("isbn-9", "해리 포터 1권 일러스트판", "J.K. 롤링", "문학수첩", "link-9");
+    given(naverBookSearchService.search("해리 포터 1권", 1, 9))
+        .willReturn(SearchBookResponse.of(42, 1, List.of(upstreamSame, upstreamOther)));
+
+    // when 검색하면
+    SearchBookResponse response = searchService.search("해리 포터 1권", 1, 10);
+
+    // then 로컬 결과 뒤에 중복되지 않은 네이버 결과가 붙는다
+    assertThat(response.items()).containsExactly(local, upstreamOther);
+    assertThat(response.total()).isEqualTo(43);
+    assertThat(response.display()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("로컬 결과로 응답한 다음 페이지는 네이버 결과의 처음부터 이어진다")
+  void search_afterLocalPage_walksAllUpstreamItems() {
+    // given 색인에 해리 포터가 세 권 있고 네이버는 12권을 찾을 때
+    List<SearchBookResponse.BookItem> upstream = givenUpstream("해리 포터", 12);
+
+    // when 3권씩 끝까지 넘기면
+    List<SearchBookResponse> pages = walk("해리 포터", 3);
+
+    // then 첫 페이지는 로컬 결과이고 네이버 결과는 빠짐없이 순서대로 나온다
+    assertThat(pages.getFirst().items())
+        .extracting(SearchBookResponse.BookItem::isbn)
+        .containsExactly("isbn-1", "isbn-2", "isbn-3");
+    assertThat(naverItems(pages)).containsExactlyElementsOf(upstream);
+  }
+
+  @Test
+  @DisplayName("로컬 결과를 붙인 첫 페이지 다음에도 네이버 결과를 건너뛰지 않는다")
+  void search_afterMergedPage_walksAllUpstreamItems() {
+    // given 색인에는 1권만 있고 네이버는 12권을 찾을 때
+    List<SearchBookResponse.BookItem> upstream = givenUpstream("해리 포터 1권", 12);
+
+    // when 5권씩 끝까지 넘기면
+    List<SearchBookResponse> pages = walk("해리 포터 1권", 5);
+
+    // then 첫 페이지는 로컬 결과 뒤에 네이버 결과를 붙이고 네이버 결과는 빠짐없이 순서대로 나온다
+    assertThat(pages.getFirst().items()).hasSize(5).first().extracting("isbn").isEqualTo("isbn-1");
+    assertThat(naverItems(pages)).containsExactlyElementsOf(upstream);
+  }
+
+  @Test
+  @DisplayName("로컬 결과를 넘어선 페이지는 로컬 결과 수만큼 당긴 위치의 네이버 결과로 응답한다")
+  void search_nextPage_servedByUpstream() {
+    // given 색인에 해리 포터가 세 권 있어도
+    SearchBookResponse upstream =
+        SearchBookResponse.of(
+            42,
+            8,
+            List.of(
+                new SearchBookResponse.BookItem("isbn-11", "해리 포터 11", "J.K. 롤링", "문학수첩", null)));
+    given(naverBookSearchService.search("해리 포터", 8, 10)).willReturn(upstream);
+
+    // when 11번째부터 검색하면
+    SearchBookResponse response = searchService.search("해리 포터", 11, 10);
+
+    // then 네이버의 8번째부터 응답한다
+    assertThat(response.items()).isEqualTo(upstream.items());
+    assertThat(response.start()).isEqualTo(11);
+    assertThat(response.hasNext()).isEqualTo(upstream.hasNext());
+  }
+
+  /** 네이버가 start, display대로 잘라 응답하는 count권의 검색 결과 */
+  private List<SearchBookResponse.BookItem> givenUpstream(String query, int count) {
+    List<SearchBookResponse.BookItem> items =
+        IntStream.rangeClosed(1, count)
+            .mapToObj(
+                i ->
+                    new SearchBookResponse.BookItem(
+                        "naver-" + i, query + " " + i, null, null, null))
+            .toList();
+    given(naverBookSearchService.search(eq(query), anyInt(), anyInt()))
+        .willAnswer(
+            invocation -> {
+              int start = invocation.getArgument(1);
+              int display = invocation.getArgument(2);
+              List<SearchBookResponse.BookItem> page =
+                  start > count
+                      ? List.of()
+                      : items.subList(start - 1, Math.min(count, start - 1 + display));
+              return SearchBookResponse.of(count, start, page);
+            });
+
+    return items;
+  }
+
+  private List<SearchBookResponse> walk(String query, int display) {
+    List<SearchBookResponse> pages = new ArrayList<>();
+    SearchBookResponse page = searchService.search(query, 1, display);
+    pages.add(page);
+
+    while (page.hasNext() && pages.size() < 20) {
+      page = searchService.search(query, page.start() + page.display(), display);
+      pages.add(page);
+    }
+
+    return pages;
+  }
+
+  private static List<SearchBookResponse.BookItem> naverItems(List<SearchBookResponse> pages) {
+    return pages.stream()
+        .flatMap(page -> page.items().stream())
+        .filter(item -> item.isbn().startsWith("naver-"))
+        .toList();
+  }
+}
@@ -0,0 +1,208 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reading_tracker.cache.CacheFillLease;
+import io.reading_tracker.client.NaverBookSearchClient;
+import io.reading_tracker.client.NaverSearchProperties;
+import io.reading_tracker.client.NaverSearchQuota;
+import io.reading_tracker.response.SearchBookResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NaverBookSearchServiceImplTest {
+
+  private static final String RESPONSE_BODY =
+      """
+      {"total": 1, "display": 1, "items": [
+        {"isbn": "9788983920775", "title": "해리 포터와 마법사의 돌", "author": "J.K. 롤링",
+         "publisher": "문학수첩", "link": "https://example.com/1"}
+      ]}
+      """;
+
+  private final AtomicInteger upstreamHits = new AtomicInteger();
+
+  private volatile int status = 200;
+
+  private HttpServer server;
+  private NaverBookSearchClient searchClient;
+  private SimpleMeterRegistry meterRegistry;
+  private NaverSearchQuota quota;
+  private NaverBookSearchServiceImpl searchService;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext(
+        "/v1/search/book.json",
+        exchange -> {
+          upstreamHits.incrementAndGet();
+
+          try {
+            Thread.sleep(300); // 응답이 늦는 동안 같은 검색이 몰리도록
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+
+          byte[] body = (status == 200 ? RESPONSE_BODY : "{}").getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(status, body.length);
+
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    server.start();
+
+    CacheFillLease cacheFillLease = mock(CacheFillLease.class);
+    when(cacheFillLease.fill(anyString(), any(), eq(SearchBookResponse.class), any()))
+        .thenAnswer(invocation -> ((Supplier<SearchBookResponse>) invocation.getArgument(3)).get());
+
+    NaverSearchProperties properties =
+        new NaverSearchProperties(
+            "http://127.0.0.1:" + server.getAddress().getPort(),
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(2),
+            50,
+            20,
+            Duration.ofMillis(100),
+            null,
+            new NaverSearchProperties.CircuitBreakerSpec(20, 10, 0.5, Duration.ofSeconds(30)),
+            new NaverSearchProperties.QuotaSpec(25_000, ZoneId.of("Asia/Seoul")),
+            new NaverSearchProperties.PrefetchSpec(false, 1, 1, 0.2, 0.8));
+    meterRegistry = new SimpleMeterRegistry();
+    searchClient =
+        new NaverBookSearchClient(properties, "client-id", "client-secret", meterRegistry);
+    quota = mock(NaverSearchQuota.class);
+    searchService =
+        new NaverBookSearchServiceImpl(
+            searchClient, quota, cacheFillLease, properties, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    searchClient.close();
+    server.stop(0);
+  }
+
+  @Test
+  @DisplayName("같은 검색어로 100건이 동시에 검색하면 네이버 API는 한 번만 호출한다")
+  void search_concurrentSameQuery_callsUpstreamOnce() throws InterruptedException {
+    // given 같은 검색어로 요청 100개가
+    int requestCount = 100;
+    List<SearchBookResponse> responses = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch readyLatch = new CountDownLatch(requestCount);
+    CountDownLatch finishLatch = new CountDownLatch(requestCount);
+
+    // when 동시에 들어오면
+    try (ExecutorService executorService = Executors.newFixedThreadPool(requestCount)) {
+      for (int i = 0; i < requestCount; i++) {
+        executorService.submit(
+            () -> {
+              try {
+                readyLatch.countDown();
+                readyLatch.await();
+
+                responses.add(searchService.search("해리 포터", 1, 10));
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } finally {
+                finishLatch.countDown();
+              }
+            });
+      }
+
+      finishLatch.await();
+    }
+
+    // then API는 한 번만 호출되고 모든 요청이 같은 결과를 받는다
+    assertThat(upstreamHits.get()).isEqualTo(1);
+    assertThat(responses).hasSize(requestCount);
+    assertThat(responses).allSatisfy(response -> assertThat(response.total()).isEqualTo(1));
+    assertThat(counter("upstream")).isEqualTo(1);
+    assertThat(counter("coalesced")).isEqualTo(requestCount - 1);
+  }
+
+  @Test
+  @DisplayName("진행 중인 검색이 끝나고 결과를 남겨 두는 시간이 지난 뒤의 검색은 다시 네이버 API를 호출한다")
+  void search_afterCompletion_callsUpstreamAgain() throws InterruptedException {
+    // given 검색이 한 번 끝나고 결과를 남겨 두는 시간이 지난 뒤
+    searchService.search("해리 포터", 1, 10);
+    Thread.sleep(NaverBookSearchServiceImpl.SINGLE_FLIGHT_RETENTION.toMillis() + 200);
+
+    // when 같은 검색어로 다시 검색하면 (캐시는 이 테스트 범위 밖)
+    searchService.search("해리 포터", 1, 10);
+
+    // then 다시 호출한다
+    assertThat(upstreamHits.get()).isEqualTo(2);
+    assertThat(counter("coalesced")).isZero();
+  }
+
+  @Test
+  @DisplayName("네이버 API 호출이 실패하면 같은 검색어의 이전 결과로 응답한다")
+  void search_upstreamFailure_servesStaleResult() throws InterruptedException {
+    // given 한 번 검색에 성공하고 결과를 남겨 두는 시간이 지난 뒤 네이버가 실패하면
+    SearchBookResponse fresh = searchService.search("해리 포터", 1, 10);
+    Thread.sleep(NaverBookSearchServiceImpl.SINGLE_FLIGHT_RETENTION.toMillis() + 200);
+    status = 500;
+
+    // when 표기만 다른 같은 검색어로 다시 검색하면
+    SearchBookResponse stale = searchService.search("해리  포터", 1, 10);
+
+    // then 이전 결과로 응답하되 캐시에 넣지 않도록 표시한다
+    assertThat(fresh.stale()).isFalse();
+    assertThat(stale.stale()).isTrue();
+    assertThat(stale.items()).isEqualTo(fresh.items());
+    assertThat(stale.total()).isEqualTo(fresh.total());
+    assertThat(counter("stale")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("이전 결과가 없는 검색어는 네이버 API 호출 실패를 그대로 알린다")
+  void search_upstreamFailureWithoutStale_throws() {
+    // given 네이버가 실패할 때
+    status = 500;
+
+    // when 처음 검색하는 검색어는
+    // then 실패한다
+    assertThatThrownBy(() -> searchService.search("해리 포터", 1, 10))
+        .hasMessage("네이버 도서 검색 API 호출에 실패했습니다.");
+  }
+
+  private double counter(String result) {
+    return meterRegistry
+        .get("naver.search.calls")
+        .tag("result", result)
+        .meter()
+        .measure()
+        .iterator()
+        .next()
+        .getValue();
+  }
+}
@@ -0,0 +1,221 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reading_tracker.cache.ProgressWriteBehindBuffer;
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.config.WriteBehindConfig;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.request.UpdateUserBookRequest;
+import io.reading_tracker.search.BookSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 현재 페이지를 자주 바꾸는 사용자들의 요청을 바로 쓸 때와 모아 쓸 때 DB 쓰기 수 비교
+ *
+ * <p>요청마다 트랜잭션을 커밋해야 바로 쓰는 경로의 update 수가 그대로 드러나므로 테스트 트랜잭션을 쓰지 않는다. flush 주기 사이에 사용자마다
+ * UPDATES_PER_FLUSH번 페이지를 넘긴다고 보고, 그만큼 수정한 뒤 직접 flush한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:write-behind-load-test;LOCK_TIMEOUT=10000",
+      "spring.jpa.properties.hibernate.generate_statistics=true",
+      "user-book.write-behind.enabled=true"
+    })
+@Import({
+  BookServiceImpl.class,
+  WriteBehindBookService.class,
+  ProgressWriteBehindBuffer.class,
+  UserBookCounterServiceImpl.class,
+  WriteBehindConfig.class
+})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Tag("load")
+class ProgressWriteBehindLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(ProgressWriteBehindLoadTest.class);
+
+  private static final int READERS = 20;
+  private static final int UPDATES_PER_READER = 50;
+  private static final int UPDATES_PER_FLUSH = 5;
+  private static final int TOTAL_PAGES = 300;
+
+  @Autowired private BookService writeBehindBookService;
+
+  @Autowired
+  @Qualifier("bookServiceImpl")
+  private BookService directBookService;
+
+  @Autowired private ProgressWriteBehindBuffer buffer;
+  @Autowired private UserRepository userRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
+  @MockitoBean private BookSearchIndex bookSearchIndex;
+
+  @MockitoBean private ReadingStatsService readingStatsService;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    deleteAll();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    deleteAll();
+  }
+
+  private void deleteAll() {
+    jdbcTemplate.update("delete from user_book_counter");
+    jdbcTemplate.update("delete from user_book");
+    jdbcTemplate.update("delete from books");
+    jdbcTemplate.update("delete from users");
+  }
+
+  @Test
+  @DisplayName("사용자 20명이 50번씩 페이지를 넘기면 모아 쓰기는 DB 쓰기가 flush 주기당 도서 한 건으로 줄고 결과는 같다")
+  void updateUserBookProgress_20readers_comparedToDirect() throws Exception {
+    // given 같은 도서를 읽는 두 무리의 사용자가
+    List<Reader> directReaders = readers("direct");
+    List<Reader> writeBehindReaders = readers("write-behind");
+
+    // when 바로 쓰는 경로로 페이지를 넘기고
+    statistics.clear();
+    long start = System.nanoTime();
+    run(directBookService, directReaders, false);
+    long directNanos = System.nanoTime() - start;
+    long directWrites = statistics.getEntityUpdateCount();
+
+    // when 모아 쓰는 경로로 같은 만큼 페이지를 넘기면
+    statistics.clear();
+    start = System.nanoTime();
+    int flushedWrites = run(writeBehindBookService, writeBehindReaders, true);
+    long writeBehindNanos = System.nanoTime() - start;
+    long writeBehindWrites = statistics.getEntityUpdateCount() + flushedWrites;
+
+    int updates = READERS * UPDATES_PER_READER;
+    // 요청량이 같으면 DB 쓰기 QPS는 쓰기 수에 비례해 줄어든다
+    log.info(
+        "페이지 수정 {}건 - 바로 쓰기: DB 쓰기 {}건, {}ms / 모아 쓰기: DB 쓰기 {}건, {}ms, DB 쓰기 QPS {}% 감소",
+        updates,
+        directWrites,
+        directNanos / 1_000_000,
+        writeBehindWrites,
+        writeBehindNanos / 1_000_000,
+        100 - writeBehindWrites * 100 / directWrites);
+
+    // then 바로 쓰기는 요청마다, 모아 쓰기는 flush 주기마다 도서 한 건씩 쓴다
+    assertThat(directWrites).isEqualTo(updates);
+    assertThat(writeBehindWrites).isEqualTo(updates / UPDATES_PER_FLUSH);
+
+    // then 두 경로 모두 마지막 페이지가 DB에 남는다
+    for (int i = 0; i < READERS; i++) {
+      assertThat(currentPage(directReaders.get(i))).isEqualTo(lastPage());
+      assertThat(currentPage(writeBehindReaders.get(i))).isEqualTo(lastPage());
+    }
+  }
+
+  private record Reader(User user, Long userBookId) {}
+
+  private List<Reader> readers(String prefix) {
+    List<Reader> readers = new ArrayList<>(READERS);
+
+    for (int i = 0; i < READERS; i++) {
+      User user = userRepository.save(new User(prefix + i, prefix + i + "@example.com"));
+      Long userBookId =
+          directBookService
+              .addBookToUserLibrary(
+                  user, new AddUserBookRequest("9780000000001", "도서", "저자", "출판사", TOTAL_PAGES))
+              .id();
+      readers.add(new Reader(user, userBookId));
+    }
+
+    return readers;
+  }
+
+  /**
+   * 사용자마다 스레드 하나로 페이지를 넘긴다
+   *
+   * @return flush로 쓴 도서 수
+   */
+  private int run(BookService bookService, List<Reader> readers, boolean flush) throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(READERS);
+    int flushed = 0;
+
+    try {
+      for (int round = 0; round < UPDATES_PER_READER; round += UPDATES_PER_FLUSH) {
+        int from = round;
+        List<Future<?>> futures = new ArrayList<>(READERS);
+
+        for (Reader reader : readers) {
+          futures.add(
+              executorService.submit(
+                  () -> {
+                    for (int page = from + 2; page < from + 2 + UPDATES_PER_FLUSH; page++) {
+                      bookService.updateUserBookProgress(
+                          reader.user(),
+                          new UpdateUserBookRequest(reader.userBookId(), page, null));
+                    }
+                  }));
+        }
+
+        for (Future<?> future : futures) {
+          future.get();
+        }
+
+        if (flush) {
+          flushed += buffer.flush();
+        }
+      }
+    } finally {
+      executorService.shutdown();
+    }
+
+    return flushed;
+  }
+
+  private static int lastPage() {
+    return UPDATES_PER_READER + 1;
+  }
+
+  private int currentPage(Reader reader) {
+    return jdbcTemplate.queryForObject(
+        "select current_page from user_book where id = ?", Integer.class, reader.userBookId());
+  }
+}
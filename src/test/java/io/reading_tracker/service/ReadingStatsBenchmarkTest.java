@@ -0,0 +1,149 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reading_tracker.domain.stats.UserReadingDaily;
+import io.reading_tracker.repository.UserReadingDailyRepository;
+import io.reading_tracker.response.ReadingStatsResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 1년치 하루 독서량이 쌓인 사용자들의 통계 조회
+ *
+ * <p>기본은 사용자 1,000명이다. READING_STATS_BENCHMARK_USERS=100000으로 10만 명을 채울 수 있고, 이때는 테스트 JVM 힙을 늘려야
+ * 한다.
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Tag("load")
+class ReadingStatsBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(ReadingStatsBenchmarkTest.class);
+
+  private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+  private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+  private static final int DAYS = 365;
+  private static final double READING_DAY_RATIO = 0.6;
+  private static final int INSERT_CHUNK = 10_000;
+  private static final int LOOKUPS = 1_000;
+
+  @Autowired private UserReadingDailyRepository userReadingDailyRepository;
+  @Autowired private EntityManager entityManager;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  @DisplayName("1년치 기록이 쌓여도 통계 조회는 사용자의 하루 독서량 행만 한 번 읽는다")
+  void getStats_yearOfHistory_readsOnceByIndex() {
+    // given 사용자마다 1년 중 60%의 날을 읽은 기록이 있을 때
+    int users = userCount();
+    long rows = givenYearOfHistory(users);
+    entityManager.clear();
+
+    ReadingStatsService readingStatsService =
+        new ReadingStatsServiceImpl(
+            userReadingDailyRepository,
+            new ReadingStatsProperties(
+                SEOUL, 30, 12, new ReadingStatsProperties.BackfillSpec(false, 1000)),
+            Clock.fixed(TODAY.atTime(LocalTime.NOON).atZone(SEOUL).toInstant(), SEOUL));
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    // 한 번씩 실행해 JIT, 커넥션 준비 시간을 측정에서 뺀다
+    Random random = new Random(7);
+    for (int i = 0; i < 100; i++) {
+      readingStatsService.getStats((long) random.nextInt(users) + 1);
+    }
+    entityManager.clear();
+
+    // when 무작위 사용자의 통계를 조회하면
+    statistics.clear();
+    long[] nanos = new long[LOOKUPS];
+    ReadingStatsResponse stats = null;
+
+    for (int i = 0; i < LOOKUPS; i++) {
+      long start = System.nanoTime();
+      stats = readingStatsService.getStats((long) random.nextInt(users) + 1);
+      nanos[i] = System.nanoTime() - start;
+      entityManager.clear();
+    }
+
+    Arrays.sort(nanos);
+    log.info(
+        "사용자 {}명, 하루 독서량 {}행 - 통계 조회 {}번: p50 {}us / p99 {}us, 쿼리 {}번",
+        users,
+        rows,
+        LOOKUPS,
+        nanos[LOOKUPS / 2] / 1_000,
+        nanos[LOOKUPS * 99 / 100] / 1_000,
+        statistics.getPrepareStatementCount());
+
+    // then 조회마다 쿼리는 한 번이고, 읽는 행은 최근 12개월치를 넘지 않는다
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(LOOKUPS);
+    assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo((long) LOOKUPS * DAYS);
+    assertThat(stats.monthlyCompleted()).hasSize(12);
+  }
+
+  private static int userCount() {
+    String users = System.getenv("READING_STATS_BENCHMARK_USERS");
+
+    return users == null ? 1_000 : Integer.parseInt(users);
+  }
+
+  /** 사용자 id는 1부터, 읽은 날마다 1~60페이지, 30일에 한 번쯤 완독 */
+  private long givenYearOfHistory(int users) {
+    Random random = new Random(42);
+    LocalDate first = TODAY.minusDays(DAYS - 1L);
+    List<UserReadingDaily> chunk = new ArrayList<>(INSERT_CHUNK);
+    long rows = 0;
+
+    for (long userId = 1; userId <= users; userId++) {
+      int streak = 0;
+
+      for (int day = 0; day < DAYS; day++) {
+        if (random.nextDouble() >= READING_DAY_RATIO) {
+          streak = 0;
+          continue;
+        }
+
+        streak++;
+        chunk.add(
+            new UserReadingDaily(
+                userId,
+                first.plusDays(day),
+                random.nextInt(60) + 1,
+                random.nextInt(30) == 0 ? 1 : 0,
+                streak));
+
+        if (chunk.size() == INSERT_CHUNK) {
+          userReadingDailyRepository.insertAll(chunk);
+          rows += chunk.size();
+          chunk.clear();
+        }
+      }
+    }
+
+    userReadingDailyRepository.insertAll(chunk);
+
+    return rows + chunk.size();
+  }
+}
@@ -0,0 +1,171 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.domain.userbook.UserBook;
+import io.reading_tracker.repository.BookRepository;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.repository.UserReadingDailyRepository;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.response.ReadingStatsResponse;
+import io.reading_tracker.response.ReadingStatsResponse.DailyPages;
+import io.reading_tracker.response.ReadingStatsResponse.MonthlyCompleted;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ReadingStatsServiceTest {
+
+  private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+  private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+  private static final ReadingStatsProperties PROPERTIES =
+      new ReadingStatsProperties(SEOUL, 30, 12, new ReadingStatsProperties.BackfillSpec(false, 2));
+
+  @Autowired private UserReadingDailyRepository userReadingDailyRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private BookRepository bookRepository;
+  @Autowired private UserBookRepository userBookRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  @DisplayName("날짜별로 기록한 독서량으로 하루 독서량, 월별 완독, 연속 독서일, 하루 평균을 만든다")
+  void getStats_afterRecords_summarizesDailyRollups() {
+    // given 사흘 연속으로 읽고, 같은 날 여러 번 기록하면
+    Long userId = 1L;
+    on(TODAY.minusDays(2)).recordProgress(userId, 30, 0);
+    on(TODAY.minusDays(1)).recordProgress(userId, 15, 0);
+    on(TODAY.minusDays(1)).recordProgress(userId, 5, 1);
+    on(TODAY).recordProgress(userId, 10, 0);
+    on(TODAY).recordProgress(userId, -20, 0); // 뒤로 돌아간 페이지는 빼지 않는다
+
+    // when 통계를 조회하면
+    entityManager.clear();
+    ReadingStatsResponse stats = on(TODAY).getStats(userId);
+
+    // then 하루에 한 행으로 합친 값으로 통계를 만든다
+    assertThat(stats.dailyPages())
+        .containsExactly(
+            new DailyPages(TODAY.minusDays(2), 30),
+            new DailyPages(TODAY.minusDays(1), 20),
+            new DailyPages(TODAY, 10));
+    assertThat(stats.currentStreak()).isEqualTo(3);
+    assertThat(stats.averagePagesPerDay()).isEqualTo(2.0); // 60페이지 / 30일
+    assertThat(stats.monthlyCompleted()).hasSize(12);
+    assertThat(stats.monthlyCompleted().getFirst().month()).isEqualTo(YearMonth.of(2025, 11));
+    assertThat(stats.monthlyCompleted().getLast())
+        .isEqualTo(new MonthlyCompleted(YearMonth.of(2026, 10), 1));
+  }
+
+  @Test
+  @DisplayName("하루를 건너뛰면 연속 독서일이 다시 시작되고, 어제까지 읽지 않았으면 0이다")
+  void getStats_withGap_resetsStreak() {
+    // given 사흘 전, 그제, 오늘 읽은 사용자와 그제까지만 읽은 사용자
+    on(TODAY.minusDays(3)).recordProgress(1L, 10, 0);
+    on(TODAY.minusDays(2)).recordProgress(1L, 10, 0);
+    on(TODAY).recordProgress(1L, 10, 0);
+    on(TODAY.minusDays(3)).recordProgress(2L, 10, 0);
+    on(TODAY.minusDays(2)).recordProgress(2L, 10, 0);
+
+    // when 통계를 조회하면
+    entityManager.clear();
+
+    // then 건너뛴 날 이후만 센다
+    assertThat(on(TODAY).getStats(1L).currentStreak()).isEqualTo(1);
+    assertThat(on(TODAY).getStats(2L).currentStreak()).isZero();
+    assertThat(on(TODAY.minusDays(1)).getStats(2L).currentStreak()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("백필은 통계가 없는 사용자만 도서의 현재 페이지와 마지막 수정일로 어제까지 채운다")
+  void backfill_usersWithoutDaily_fillsFromUserBooks() {
+    // given 통계가 생기기 전에 도서를 읽던 사용자, 이미 통계가 있는 사용자, 오늘 처음 읽은 사용자
+    User reader = userRepository.save(new User("reader", "reader@example.com"));
+    User tracked = userRepository.save(new User("tracked", "tracked@example.com"));
+    User newcomer = userRepository.save(new User("newcomer", "newcomer@example.com"));
+    givenUserBook(reader, "9780000000001", null, 120, TODAY.minusDays(2));
+    givenUserBook(reader, "9780000000002", State.COMPLETED, 300, TODAY.minusDays(1));
+    givenUserBook(reader, "9780000000003", null, 40, TODAY.minusDays(1));
+    givenUserBook(reader, "9780000000005", null, 70, TODAY);
+    givenUserBook(tracked, "9780000000004", null, 50, TODAY);
+    on(TODAY).recordProgress(tracked.getId(), 10, 0);
+    givenUserBook(newcomer, "9780000000006", null, 30, TODAY);
+
+    // when 백필하면
+    int filled = on(TODAY).backfill(PROPERTIES.backfill().chunkSize());
+
+    // then 통계가 없던 사용자만 마지막 수정일별로 채우고, 다시 실행하면 채울 사용자가 없다
+    entityManager.clear();
+    ReadingStatsResponse stats = on(TODAY).getStats(reader.getId());
+    assertThat(filled).isEqualTo(1);
+    assertThat(stats.dailyPages())
+        .containsExactly(
+            new DailyPages(TODAY.minusDays(2), 120), new DailyPages(TODAY.minusDays(1), 340));
+    assertThat(stats.currentStreak()).isEqualTo(2);
+    assertThat(stats.monthlyCompleted().getLast().books()).isEqualTo(1);
+    assertThat(on(TODAY).getStats(tracked.getId()).dailyPages())
+        .containsExactly(new DailyPages(TODAY, 10));
+    assertThat(on(TODAY).backfill(PROPERTIES.backfill().chunkSize())).isZero();
+
+    // then 오늘 수정한 도서는 recordProgress가 쌓으므로 채우지 않는다
+    assertThat(on(TODAY).getStats(newcomer.getId()).dailyPages()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("백필 전에 오늘 기록이 먼저 생긴 사용자도 이전 기록을 채우고 오늘 연속 독서일을 잇는다")
+  void backfill_userWithTodayRowOnly_fillsHistoryAndStreak() {
+    // given 어제까지 도서를 읽었고, 백필 전에 오늘 진행 상황을 바꾼 사용자
+    User reader = userRepository.save(new User("reader", "reader@example.com"));
+    givenUserBook(reader, "9780000000001", null, 120, TODAY.minusDays(2));
+    givenUserBook(reader, "9780000000002", null, 80, TODAY.minusDays(1));
+    on(TODAY).recordProgress(reader.getId(), 10, 0);
+
+    // when 백필하면
+    int filled = on(TODAY).backfill(PROPERTIES.backfill().chunkSize());
+
+    // then 어제까지의 기록을 채우고 오늘 행은 어제에 이어 센다
+    entityManager.clear();
+    ReadingStatsResponse stats = on(TODAY).getStats(reader.getId());
+    assertThat(filled).isEqualTo(1);
+    assertThat(stats.dailyPages())
+        .containsExactly(
+            new DailyPages(TODAY.minusDays(2), 120),
+            new DailyPages(TODAY.minusDays(1), 80),
+            new DailyPages(TODAY, 10));
+    assertThat(stats.currentStreak()).isEqualTo(3);
+    assertThat(on(TODAY).backfill(PROPERTIES.backfill().chunkSize())).isZero();
+  }
+
+  private ReadingStatsService on(LocalDate date) {
+    Clock clock = Clock.fixed(date.atTime(LocalTime.NOON).atZone(SEOUL).toInstant(), SEOUL);
+
+    return new ReadingStatsServiceImpl(userReadingDailyRepository, PROPERTIES, clock);
+  }
+
+  /** state가 null이면 현재 페이지로 상태를 정한다 */
+  private void givenUserBook(User user, String isbn, State state, int currentPage, LocalDate day) {
+    Book book = bookRepository.save(new Book("도서 " + isbn, "저자", "출판사", isbn));
+    UserBook userBook = userBookRepository.save(new UserBook(user, book, state, 300, currentPage));
+    entityManager.flush();
+
+    jdbcTemplate.update(
+        "update user_book set updated_at = ? where id = ?",
+        Timestamp.valueOf(day.atTime(LocalTime.NOON)),
+        userBook.getId());
+  }
+}
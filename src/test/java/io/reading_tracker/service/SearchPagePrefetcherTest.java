@@ -0,0 +1,154 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reading_tracker.client.NaverSearchProperties;
+import io.reading_tracker.client.NaverSearchQuota;
+import io.reading_tracker.response.SearchBookResponse;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchPagePrefetcherTest {
+
+  private BookSearchService naverBookSearchService;
+  private NaverSearchQuota quota;
+  private SimpleMeterRegistry meterRegistry;
+  private SearchPagePrefetcher prefetcher;
+
+  @BeforeEach
+  void setUp() {
+    naverBookSearchService = mock(BookSearchService.class);
+    quota = mock(NaverSearchQuota.class);
+    given(quota.allowsPrefetch()).willReturn(true);
+
+    NaverSearchProperties properties =
+        new NaverSearchProperties(
+            "http://127.0.0.1",
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(2),
+            50,
+            20,
+            Duration.ofMillis(100),
+            null,
+            new NaverSearchProperties.CircuitBreakerSpec(20, 10, 0.5, Duration.ofSeconds(30)),
+            new NaverSearchProperties.QuotaSpec(25_000, ZoneId.of("Asia/Seoul")),
+            new NaverSearchProperties.PrefetchSpec(true, 1, 1, 0.2, 0.8));
+
+    meterRegistry = new SimpleMeterRegistry();
+    prefetcher = new SearchPagePrefetcher(naverBookSearchService, quota, properties, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    prefetcher.destroy();
+  }
+
+  @Test
+  @DisplayName("다음 페이지가 있으면 미리 가져오기 스레드에서 다음 페이지를 검색한다")
+  void prefetchNext_hasNext_searchesNextPage() {
+    // given 42건 중 첫 10건을 응답했을 때
+    AtomicBoolean prefetching = new AtomicBoolean();
+    given(naverBookSearchService.search("해리 포터", 11, 10))
+        .willAnswer(
+            invocation -> {
+              prefetching.set(SearchPagePrefetcher.isPrefetching());
+              return SearchBookResponse.empty(11);
+            });
+
+    // when 다음 페이지를 미리 가져오면
+    prefetcher.prefetchNext("해리 포터", page(42, 1, 10), 10);
+
+    // then 11번째부터 검색하고 미리 가져오기로 표시된다
+    verify(naverBookSearchService, timeout(1_000)).search("해리 포터", 11, 10);
+    assertThat(prefetching).isTrue();
+  }
+
+  @Test
+  @DisplayName("같은 페이지를 여러 번 요청해도 한 번만 미리 가져온다")
+  void prefetchNext_samePage_coalesced() {
+    // given 같은 첫 페이지를 세 번 응답했을 때
+    SearchBookResponse served = page(42, 1, 10);
+
+    // when 매번 다음 페이지를 미리 가져오면
+    prefetcher.prefetchNext("해리 포터", served, 10);
+    prefetcher.prefetchNext("해리 포터", served, 10);
+    prefetcher.prefetchNext("해리  포터", served, 10);
+
+    // then 한 번만 검색한다
+    verify(naverBookSearchService, timeout(1_000)).search("해리 포터", 11, 10);
+    assertThat(counter("submitted")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("마지막 페이지나 호출 한도가 부족하면 미리 가져오지 않는다")
+  void prefetchNext_lastPageOrQuotaLow_skips() {
+    // given 마지막 페이지를 응답했거나
+    prefetcher.prefetchNext("해리 포터", page(10, 1, 10), 10);
+
+    // when 호출 한도가 부족하면
+    given(quota.allowsPrefetch()).willReturn(false);
+    prefetcher.prefetchNext("해리 포터", page(42, 1, 10), 10);
+
+    // then 검색하지 않는다
+    verify(naverBookSearchService, never()).search(anyString(), anyInt(), anyInt());
+    assertThat(counter("quota")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 미리 가져오기를 버린다")
+  void prefetchNext_queueFull_rejects() throws InterruptedException {
+    // given 스레드 하나가 막혀 있고 대기열(1)도 찼을 때
+    CountDownLatch release = new CountDownLatch(1);
+    given(naverBookSearchService.search(anyString(), anyInt(), anyInt()))
+        .willAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return SearchBookResponse.empty(1);
+            });
+
+    try {
+      // when 서로 다른 검색어 세 개를 미리 가져오면
+      prefetcher.prefetchNext("해리 포터", page(42, 1, 10), 10);
+      verify(naverBookSearchService, timeout(1_000)).search("해리 포터", 11, 10);
+      prefetcher.prefetchNext("리팩토링", page(42, 1, 10), 10);
+      prefetcher.prefetchNext("클린 코드", page(42, 1, 10), 10);
+
+      // then 마지막 하나는 버린다
+      assertThat(counter("submitted")).isEqualTo(2);
+      assertThat(counter("rejected")).isEqualTo(1);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private static SearchBookResponse page(int total, int start, int display) {
+    List<SearchBookResponse.BookItem> items =
+        IntStream.range(start, start + display)
+            .mapToObj(
+                i -> new SearchBookResponse.BookItem("isbn-" + i, "도서 " + i, null, null, null))
+            .toList();
+
+    return SearchBookResponse.of(total, start, items);
+  }
+
+  private double counter(String result) {
+    return meterRegistry.get("naver.search.prefetch").tag("result", result).counter().count();
+  }
+}
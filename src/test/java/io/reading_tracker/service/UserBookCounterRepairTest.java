@@ -0,0 +1,90 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.domain.userbook.UserBook;
+import io.reading_tracker.domain.userbook.UserBookCounter;
+import io.reading_tracker.repository.BookRepository;
+import io.reading_tracker.repository.UserBookCounterRepository;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.response.GetBookListResponse.Summary;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/** repairAll은 사용자마다 커밋하므로 테스트 트랜잭션을 쓰지 않는다 */
+@DataJpaTest
+@Import(UserBookCounterServiceImpl.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserBookCounterRepairTest {
+
+  @Autowired private UserBookCounterService userBookCounterService;
+  @Autowired private UserRepository userRepository;
+  @Autowired private BookRepository bookRepository;
+  @Autowired private UserBookRepository userBookRepository;
+  @Autowired private UserBookCounterRepository userBookCounterRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    deleteAll();
+  }
+
+  @AfterEach
+  void tearDown() {
+    deleteAll();
+  }
+
+  @Test
+  @DisplayName("어긋난 카운터는 repairAll로 user_book 집계와 일치시킨다")
+  void repairAll_fixesDriftedCounters() {
+    // given 실제와 다른 카운터, 맞는 카운터, 카운터가 없는 사용자가 있을 때
+    User drifted = userRepository.save(new User("drifted", "drifted@example.com"));
+    User missing = userRepository.save(new User("missing", "missing@example.com"));
+    User matching = userRepository.save(new User("matching", "matching@example.com"));
+
+    Book bookA = bookRepository.save(new Book("책 A", "저자 A", "출판사 A", "isbn-1"));
+    Book bookB = bookRepository.save(new Book("책 B", "저자 B", "출판사 B", "isbn-2"));
+
+    userBookRepository.save(new UserBook(drifted, bookA, State.IN_PROGRESS, 100, 10));
+    userBookRepository.save(new UserBook(drifted, bookB, State.ARCHIVED, 100, 10));
+    userBookRepository.save(new UserBook(missing, bookA, State.COMPLETED, 100, 100));
+    userBookRepository.save(new UserBook(matching, bookA, State.IN_PROGRESS, 100, 10));
+    userBookCounterRepository.save(
+        new UserBookCounter(drifted.getId(), Map.of(State.IN_PROGRESS, 5)));
+    userBookCounterRepository.save(
+        new UserBookCounter(matching.getId(), Map.of(State.IN_PROGRESS, 1)));
+
+    // when 카운터를 점검하면
+    int repaired = userBookCounterService.repairAll();
+
+    // then 어긋났거나 없던 두 사용자의 카운터만 집계값으로 맞춰진다
+    assertThat(repaired).isEqualTo(2);
+    assertThat(userBookCounterService.getSummary(drifted.getId())).isEqualTo(new Summary(1, 0, 1));
+    assertThat(userBookCounterService.getSummary(missing.getId())).isEqualTo(new Summary(0, 1, 0));
+    assertThat(userBookCounterService.getSummary(matching.getId())).isEqualTo(new Summary(1, 0, 0));
+    assertThat(userBookCounterRepository.findById(missing.getId())).isPresent();
+  }
+
+  /** deleteAll()은 soft delete라 유니크 제약에 걸리는 행이 남으므로 직접 지운다 */
+  private void deleteAll() {
+    jdbcTemplate.update("delete from user_book_counter");
+    jdbcTemplate.update("delete from user_book");
+    jdbcTemplate.update("delete from books");
+    jdbcTemplate.update("delete from users");
+  }
+}
@@ -0,0 +1,124 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.domain.book.Book;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.domain.userbook.UserBook;
+import io.reading_tracker.domain.userbook.UserBookCounter;
+import io.reading_tracker.repository.BookRepository;
+import io.reading_tracker.repository.UserBookCounterRepository;
+import io.reading_tracker.repository.UserBookRepository;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.request.UpdateUserBookRequest;
+import io.reading_tracker.response.AddUserBookResponse;
+import io.reading_tracker.response.GetBookListResponse.Summary;
+import io.reading_tracker.search.BookSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@Import({BookServiceImpl.class, UserBookCounterServiceImpl.class})
+@ActiveProfiles("test")
+@Transactional
+class UserBookCounterServiceTest {
+
+  @Autowired private BookService bookService;
+
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
+  @MockitoBean private BookSearchIndex bookSearchIndex;
+
+  @MockitoBean private ReadingStatsService readingStatsService;
+
+  @Autowired private UserBookCounterService userBookCounterService;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private BookRepository bookRepository;
+
+  @Autowired private UserBookRepository userBookRepository;
+
+  @Autowired private UserBookCounterRepository userBookCounterRepository;
+
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  @DisplayName("도서를 추가하고 상태를 바꾸면 카운터가 함께 갱신된다")
+  void addAndUpdate_keepsCounterInSync() {
+    // given 도서 두 권을 추가하고
+    User user = userRepository.save(new User("tester", "tester@example.com"));
+
+    AddUserBookResponse first =
+        bookService.addBookToUserLibrary(
+            user, new AddUserBookRequest("1234567890123", "책 A", "저자 A", "출판사 A", 300));
+    AddUserBookResponse second =
+        bookService.addBookToUserLibrary(
+            user, new AddUserBookRequest("1234567890124", "책 B", "저자 B", "출판사 B", 200));
+
+    // when 하나는 끝까지 읽고 하나는 보관하면
+    bookService.updateUserBookProgress(user, new UpdateUserBookRequest(first.id(), 300, null));
+    bookService.updateUserBookProgress(
+        user, new UpdateUserBookRequest(second.id(), null, State.ARCHIVED));
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // then 카운터가 상태 변경을 반영한다
+    UserBookCounter counter = userBookCounterRepository.findById(user.getId()).orElseThrow();
+    assertThat(counter.getInProgress()).isZero();
+    assertThat(counter.getCompleted()).isEqualTo(1);
+    assertThat(counter.getArchived()).isEqualTo(1);
+
+    assertThat(userBookCounterService.getSummary(user.getId())).isEqualTo(new Summary(0, 1, 1));
+  }
+
+  @Test
+  @DisplayName("카운터가 없는 사용자는 user_book을 집계해 요약을 만든다")
+  void getSummary_withoutCounter_aggregatesUserBooks() {
+    // given 카운터 없이 저장된 도서들이 있을 때
+    User user = userRepository.save(new User("tester", "tester@example.com"));
+    Book book = bookRepository.save(new Book("책 A", "저자 A", "출판사 A", "isbn-1"));
+    userBookRepository.save(new UserBook(user, book, State.COMPLETED, 100, 100));
+
+    // when 요약을 조회하면
+    Summary summary = userBookCounterService.getSummary(user.getId());
+
+    // then 집계 결과를 반환한다
+    assertThat(summary).isEqualTo(new Summary(0, 1, 0));
+  }
+
+  @Test
+  @DisplayName("카운터 없이 도서가 있던 사용자의 첫 변경은 user_book 집계로 카운터를 만든다")
+  void firstWrite_withExistingUserBooks_seedsFromUserBooks() {
+    // given 카운터 없이 읽는 중인 도서 두 권이 있을 때
+    User user = userRepository.save(new User("tester", "tester@example.com"));
+    Book bookA = bookRepository.save(new Book("책 A", "저자 A", "출판사 A", "isbn-1"));
+    Book bookB = bookRepository.save(new Book("책 B", "저자 B", "출판사 B", "isbn-2"));
+    userBookRepository.save(new UserBook(user, bookA, State.IN_PROGRESS, 100, 10));
+    UserBook reading =
+        userBookRepository.save(new UserBook(user, bookB, State.IN_PROGRESS, 100, 10));
+    entityManager.flush();
+
+    // when 한 권을 보관하면
+    bookService.updateUserBookProgress(
+        user, new UpdateUserBookRequest(reading.getId(), null, State.ARCHIVED));
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // then 기존 도서까지 센 카운터가 만들어진다
+    assertThat(userBookCounterRepository.findById(user.getId())).isPresent();
+    assertThat(userBookCounterService.getSummary(user.getId())).isEqualTo(new Summary(1, 0, 1));
+  }
+}
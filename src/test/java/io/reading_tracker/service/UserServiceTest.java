@@ -1,7 +1,9 @@
 package io.reading_tracker.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 
+import io.reading_tracker.cache.UserBookListGeneration;
 import io.reading_tracker.domain.user.User;
 import io.reading_tracker.exception.UserNotFoundException;
 import io.reading_tracker.repository.UserRepository;
@@ -16,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 @DataJpaTest
 @Import(UserServiceImpl.class)
@@ -27,6 +30,8 @@ class UserServiceTest {
 
   @Autowired private UserService userService;
 
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
   @Test
   @DisplayName("유효한 사용자 아이디로 사용자를 조회하면 사용자 정보가 반환된다")
   void getUserById_withValidUserId_returnUserInfo() {
@@ -72,6 +77,9 @@ class UserServiceTest {
 
     User updateUser = userRepository.findById(userId).orElseThrow();
     assertThat(updateUser.getNickname()).isEqualTo(targetNickname);
+
+    // then 프로필 ETag가 바뀌도록 세대를 올린다
+    verify(userBookListGeneration).bump(userId);
   }
 
   @Test
@@ -0,0 +1,216 @@
+package io.reading_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.reading_tracker.cache.ProgressWriteBehindBuffer;
+import io.reading_tracker.cache.UserBookListGeneration;
+import io.reading_tracker.config.WriteBehindConfig;
+import io.reading_tracker.domain.book.State;
+import io.reading_tracker.domain.user.User;
+import io.reading_tracker.exception.NotOwnerException;
+import io.reading_tracker.repository.UserRepository;
+import io.reading_tracker.request.AddUserBookRequest;
+import io.reading_tracker.request.UpdateUserBookRequest;
+import io.reading_tracker.response.GetBookListResponse;
+import io.reading_tracker.response.UpdateUserBookResponse;
+import io.reading_tracker.search.BookSearchIndex;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** 버퍼는 쓴 트랜잭션이 커밋된 뒤에 비우므로 테스트 트랜잭션을 쓰지 않는다 */
+@DataJpaTest
+@Import({
+  BookServiceImpl.class,
+  WriteBehindBookService.class,
+  ProgressWriteBehindBuffer.class,
+  UserBookCounterServiceImpl.class,
+  WriteBehindConfig.class
+})
+@TestPropertySource(properties = "user-book.write-behind.enabled=true")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WriteBehindBookServiceTest {
+
+  @Autowired private BookService bookService;
+  @Autowired private ProgressWriteBehindBuffer buffer;
+  @Autowired private UserRepository userRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @MockitoBean private UserBookListGeneration userBookListGeneration;
+
+  @MockitoBean private BookSearchIndex bookSearchIndex;
+
+  @MockitoBean private ReadingStatsService readingStatsService;
+
+  private User user;
+  private Long userBookId;
+
+  @BeforeEach
+  void setUp() {
+    deleteAll();
+
+    user = userRepository.save(new User("reader", "reader@example.com"));
+    userBookId =
+        bookService
+            .addBookToUserLibrary(
+                user, new AddUserBookRequest("9780000000001", "도서", "저자", "출판사", 300))
+            .id();
+
+    clearInvocations(userBookListGeneration);
+  }
+
+  @AfterEach
+  void tearDown() {
+    buffer.flush();
+    deleteAll();
+  }
+
+  @Test
+  @DisplayName("현재 페이지만 바꾸면 버퍼에 두고, 목록에는 바로 보이며, flush할 때 마지막 값만 쓴다")
+  void updateUserBookProgress_pageOnly_buffersUntilFlush() {
+    // given 읽는 중인 도서의 현재 페이지를 여러 번 바꾸면
+    bookService.updateUserBookProgress(user, new UpdateUserBookRequest(userBookId, 50, null));
+    UpdateUserBookResponse response =
+        bookService.updateUserBookProgress(user, new UpdateUserBookRequest(userBookId, 150, null));
+
+    // then 응답과 목록에는 마지막 값이 보이지만 DB에는 아직 쓰지 않는다
+    assertThat(response.progress()).isEqualTo(50);
+    assertThat(response.state()).isEqualTo(State.IN_PROGRESS);
+    GetBookListResponse.BookItem item =
+        bookService.getBookList(user.getId(), State.IN_PROGRESS).books().getFirst();
+    assertThat(item.currentPage()).isEqualTo(150);
+    assertThat(item.progress()).isEqualTo(50);
+    assertThat(currentPage()).isEqualTo(1);
+    verify(userBookListGeneration, never()).bump(user.getId());
+
+    // then 세대 대신 버퍼 버전이 올라 목록 ETag가 바뀐다
+    assertThat(buffer.version(user.getId())).isPositive();
+
+    // when flush하면
+    int written = buffer.flush();
+
+    // then 한 건만 쓰고 목록 세대를 올린다
+    assertThat(written).isEqualTo(1);
+    assertThat(currentPage()).isEqualTo(150);
+    assertThat(buffer.isEmpty()).isTrue();
+    assertThat(buffer.version(user.getId())).isZero();
+    verify(userBookListGeneration).bump(user.getId());
+  }
+
+  @Test
+  @DisplayName("상태가 바뀌는 수정은 버퍼의 값을 먼저 쓴 뒤 바로 쓴다")
+  void updateUserBookProgress_stateChange_flushesThenWritesSynchronously() {
+    // given 현재 페이지를 버퍼에 둔 뒤
+    bookService.updateUserBookProgress(user, new UpdateUserBookRequest(userBookId, 150, null));
+
+    // when 완독으로 바꾸면
+    UpdateUserBookResponse response =
+        bookService.updateUserBookProgress(
+            user, new UpdateUserBookRequest(userBookId, null, State.COMPLETED));
+
+    // then 바로 DB에 쓰고 버퍼는 비운다
+    assertThat(response.state()).isEqualTo(State.COMPLETED);
+    assertThat(currentPage()).isEqualTo(300);
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("마지막 페이지로 바꾸면 완독으로 바뀌므로 바로 쓴다")
+  void updateUserBookProgress_lastPage_writesSynchronously() {
+    // when 마지막 페이지로 바꾸면
+    UpdateUserBookResponse response =
+        bookService.updateUserBookProgress(user, new UpdateUserBookRequest(userBookId, 300, null));
+
+    // then 버퍼에 두지 않고 완독으로 바꾼다
+    assertThat(response.state()).isEqualTo(State.COMPLETED);
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("다른 사용자의 도서는 버퍼에 두지 않고 예외를 던진다")
+  void updateUserBookProgress_notOwner_throws() {
+    // given 다른 사용자가
+    User other = userRepository.save(new User("other", "other@example.com"));
+
+    // when then 현재 페이지를 바꾸면 예외를 던진다
+    assertThatThrownBy(
+            () ->
+                bookService.updateUserBookProgress(
+                    other, new UpdateUserBookRequest(userBookId, 150, null)))
+        .isInstanceOf(NotOwnerException.class);
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("바깥 트랜잭션 안에서 쓴 값은 그 트랜잭션이 롤백되면 버퍼에 남아 다음 주기에 다시 쓴다")
+  void flush_outerTransactionRolledBack_keepsValue() {
+    // given 현재 페이지를 버퍼에 둔 뒤
+    bookService.updateUserBookProgress(user, new UpdateUserBookRequest(userBookId, 150, null));
+
+    // when 바깥 트랜잭션 안에서 쓰고 그 트랜잭션이 롤백되면
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              buffer.flush(userBookId);
+              status.setRollbackOnly();
+            });
+
+    // then 버퍼에 남아 있다가 다음 flush에 쓴다
+    assertThat(currentPage()).isEqualTo(1);
+    assertThat(buffer.get(userBookId).currentPage()).isEqualTo(150);
+    assertThat(buffer.flush()).isEqualTo(1);
+    assertThat(currentPage()).isEqualTo(150);
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("버퍼에 둔 뒤 다른 노드가 DB를 바꿨으면 flush할 때 이전 값으로 덮어쓰지 않는다")
+  void flush_updatedAfterBuffered_skipsOlderValue() {
+    // given 현재 페이지를 버퍼에 둔 뒤 다른 노드가 더 나중에 현재 페이지를 바꾸면
+    bookService.updateUserBookProgress(user, new UpdateUserBookRequest(userBookId, 150, null));
+    jdbcTemplate.update(
+        "update user_book set current_page = ?, updated_at = ? where id = ?",
+        200,
+        Timestamp.valueOf(LocalDateTime.now().plusSeconds(1)),
+        userBookId);
+
+    // when flush하면
+    buffer.flush();
+
+    // then 나중에 바꾼 값이 남고 버퍼는 비운다
+    assertThat(currentPage()).isEqualTo(200);
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  private void deleteAll() {
+    jdbcTemplate.update("delete from user_book_counter");
+    jdbcTemplate.update("delete from user_book");
+    jdbcTemplate.update("delete from books");
+    jdbcTemplate.update("delete from users");
+  }
+
+  private int currentPage() {
+    return jdbcTemplate.queryForObject(
+        "select current_page from user_book where id = ?", Integer.class, userBookId);
+  }
+}
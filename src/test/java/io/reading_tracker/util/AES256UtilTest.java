@@ -2,6 +2,16 @@ package io.reading_tracker.util;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -58,4 +68,96 @@ public class AES256UtilTest {
     assertThat(decryptedText).isNotEqualTo(encryptedText).isNotBlank();
     assertThat(decryptedText).isEqualTo(targetText);
   }
+
+  @Test
+  @DisplayName("같은 평문도 암호화할 때마다 다른 암호문이 나와야 한다")
+  public void encrypt_samePlainText_producesDifferentCipherText() {
+    // given 같은 평문을
+    AES256Util aes256Util = new AES256Util();
+    ReflectionTestUtils.setField(aes256Util, "secretKey", VALID_KEY);
+    aes256Util.init();
+
+    String targetText = "This is a secret refresh token";
+
+    // when 두 번 암호화하면
+    String first = aes256Util.encrypt(targetText);
+    String second = aes256Util.encrypt(targetText);
+
+    // then 임의의 IV로 서로 다른 새 형식 암호문이 나온다
+    assertThat(first).startsWith("v2:").isNotEqualTo(second);
+    assertThat(aes256Util.decrypt(second)).isEqualTo(targetText);
+  }
+
+  @Test
+  @DisplayName("이전 형식(CBC)으로 저장된 암호문도 복호화할 수 있어야 한다")
+  public void decrypt_legacyCipherText_success() throws Exception {
+    // given 이전 형식으로 암호화된 값을
+    AES256Util aes256Util = new AES256Util();
+    ReflectionTestUtils.setField(aes256Util, "secretKey", VALID_KEY);
+    aes256Util.init();
+
+    byte[] keyBytes = VALID_KEY.getBytes(StandardCharsets.UTF_8);
+    Cipher legacyCipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+    legacyCipher.init(
+        Cipher.ENCRYPT_MODE,
+        new SecretKeySpec(keyBytes, "AES"),
+        new IvParameterSpec(keyBytes, 0, 16));
+    String legacyText =
+        Base64.getEncoder()
+            .encodeToString(
+                legacyCipher.doFinal("legacy refresh token".getBytes(StandardCharsets.UTF_8)));
+
+    // when 복호화하면
+    String decryptedText = aes256Util.decrypt(legacyText);
+
+    // then 원래의 평문과 일치해야 한다
+    assertThat(decryptedText).isEqualTo("legacy refresh token");
+  }
+
+  @Test
+  @DisplayName("변조된 암호문은 복호화에 실패해야 한다")
+  public void decrypt_tamperedCipherText_throwsError() {
+    // given 암호문 일부를 바꾸면
+    AES256Util aes256Util = new AES256Util();
+    ReflectionTestUtils.setField(aes256Util, "secretKey", VALID_KEY);
+    aes256Util.init();
+
+    byte[] encrypted =
+        Base64.getDecoder().decode(aes256Util.encrypt("This is a secret").substring(3));
+    encrypted[encrypted.length - 1] ^= 1;
+    String tamperedText = "v2:" + Base64.getEncoder().encodeToString(encrypted);
+
+    // when 복호화를 시도하면
+
+    // then 인증 태그 검증에 실패한다
+    assertThatThrownBy(() -> aes256Util.decrypt(tamperedText))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining("복호화 중 오류가 발생했습니다");
+  }
+
+  @Test
+  @DisplayName("가상 스레드에서 동시에 암복호화해도 결과가 섞이지 않아야 한다")
+  public void encryptAndDecrypt_concurrentVirtualThreads_success() throws Exception {
+    // given 초기화된 AES256Util로
+    AES256Util aes256Util = new AES256Util();
+    ReflectionTestUtils.setField(aes256Util, "secretKey", VALID_KEY);
+    aes256Util.init();
+
+    // when 가상 스레드 1000개에서 동시에 암복호화하면
+    List<Future<Boolean>> results = new ArrayList<>();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 1000; i++) {
+        String targetText = "refresh-token-" + i;
+        results.add(
+            executor.submit(
+                () -> aes256Util.decrypt(aes256Util.encrypt(targetText)).equals(targetText)));
+      }
+    }
+
+    // then 모두 원래의 평문으로 복호화된다
+    for (Future<Boolean> result : results) {
+      assertThat(result.get()).isTrue();
+    }
+  }
 }
@@ -0,0 +1,94 @@
+package io.reading_tracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class SearchQueryCanonicalizerTest {
+
+  private static final Logger log = LoggerFactory.getLogger(SearchQueryCanonicalizerTest.class);
+
+  @Test
+  @DisplayName("공백, 대소문자, 전각 문자, 의미 없는 문장 부호가 달라도 같은 키가 된다")
+  void cacheKey_equivalentQueries_sameKey() {
+    // given 표기만 다른 검색어들을
+    List<String> queries =
+        List.of("Clean Code", "clean  code", " CLEAN CODE. ", "Ｃｌｅａｎ Ｃｏｄｅ", "\"clean code\"");
+
+    // when 캐시 키로 바꾸면
+    Set<String> keys = new HashSet<>();
+    queries.forEach(query -> keys.add(SearchQueryCanonicalizer.cacheKey(query)));
+
+    // then 모두 같은 키가 된다
+    assertThat(keys).containsExactly("v1:clean code");
+  }
+
+  @Test
+  @DisplayName("C#, C++, 숫자 사이의 점처럼 의미가 있는 부호는 남긴다")
+  void canonicalize_keepsMeaningfulSymbols() {
+    assertThat(SearchQueryCanonicalizer.canonicalize("C# 프로그래밍")).isEqualTo("c# 프로그래밍");
+    assertThat(SearchQueryCanonicalizer.canonicalize("C++ 기초 플러스")).isEqualTo("c++ 기초 플러스");
+    assertThat(SearchQueryCanonicalizer.canonicalize("Web 2.0.")).isEqualTo("web 2.0");
+  }
+
+  @Test
+  @DisplayName("문장 부호만으로 된 검색어는 부호를 지우지 않는다")
+  void canonicalize_punctuationOnly_keepsPunctuation() {
+    assertThat(SearchQueryCanonicalizer.canonicalize("!!")).isEqualTo("!!");
+    assertThat(SearchQueryCanonicalizer.cacheKey("?"))
+        .isNotEqualTo(SearchQueryCanonicalizer.cacheKey("!"));
+  }
+
+  @Test
+  @DisplayName("검색 로그를 재생하면 정규화한 키의 캐시 적중률이 트림만 한 키보다 높다")
+  void replayQueryLog_canonicalKeysImproveHitRate() throws IOException {
+    // given 검색 로그를
+    List<String> queries = readQueryLog();
+
+    // when 트림만 한 키와 정규화한 키로 각각 재생하면
+    double trimmedHitRate = replay(queries, String::trim);
+    double canonicalHitRate = replay(queries, SearchQueryCanonicalizer::cacheKey);
+
+    log.info(
+        "검색 로그 {}건 캐시 적중률. 트림: {}, 정규화: {}",
+        queries.size(),
+        String.format("%.1f%%", trimmedHitRate * 100),
+        String.format("%.1f%%", canonicalHitRate * 100));
+
+    // then 정규화한 키의 적중률이 더 높다
+    assertThat(canonicalHitRate).isGreaterThan(trimmedHitRate + 0.2);
+  }
+
+  /** 처음 보는 키는 미스, 이후는 적중으로 보는 단순한 캐시 재생 */
+  private double replay(List<String> queries, UnaryOperator<String> toKey) {
+    Set<String> cached = new HashSet<>();
+    int hits = 0;
+
+    for (String query : queries) {
+      if (!cached.add(toKey.apply(query))) {
+        hits++;
+      }
+    }
+
+    return (double) hits / queries.size();
+  }
+
+  private List<String> readQueryLog() throws IOException {
+    try (InputStream in = getClass().getResourceAsStream("/search/query-log.txt")) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8)
+          .lines()
+          .filter(line -> !line.startsWith("#") && !line.isBlank())
+          .toList();
+    }
+  }
+}